@@ -0,0 +1,43 @@
+package pl.tul.discountmanagement.jcstress;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.II_Result;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.CopyOnWriteProductCatalog;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+import static pl.tul.discountmanagement.jcstress.CatalogTestData.PRODUCT_ID;
+
+/**
+ * Verifies that a product updated in {@link CopyOnWriteProductCatalog} with the patches compacted right away (the base
+ * copied, patched, published and the previous base closed) is never seen torn or missing by a reader racing
+ * with the compaction.
+ * The reader reads the product twice, the results are the versions it saw (see {@link CatalogTestData#versionOf}).
+ */
+@JCStressTest
+@Outcome(id = "1, 1", expect = ACCEPTABLE, desc = "Both reads before the update.")
+@Outcome(id = "1, 2", expect = ACCEPTABLE, desc = "The update between the reads.")
+@Outcome(id = "2, 2", expect = ACCEPTABLE, desc = "Both reads after the update.")
+@Outcome(expect = FORBIDDEN, desc = "A torn product, a missing product or a version going back.")
+@State
+public class CatalogCompactionPublicationTest {
+
+    // every patch is compacted right away
+    private static final int COMPACTION_THRESHOLD = 1;
+
+    private final CopyOnWriteProductCatalog catalog = CatalogTestData.catalog(COMPACTION_THRESHOLD);
+
+    @Actor
+    public void writer() {
+        catalog.upsert(CatalogTestData.product(2));
+    }
+
+    @Actor
+    public void reader(II_Result result) {
+        result.r1 = CatalogTestData.versionOf(catalog.get(PRODUCT_ID));
+        result.r2 = CatalogTestData.versionOf(catalog.get(PRODUCT_ID));
+    }
+}
@@ -0,0 +1,55 @@
+package pl.tul.discountmanagement.jcstress;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.II_Result;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.CatalogClosedException;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.CopyOnWriteProductCatalog;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.offheap.OffHeapProductCatalog;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+import static pl.tul.discountmanagement.jcstress.CatalogTestData.PRODUCT_ID;
+
+/**
+ * Verifies that {@link CopyOnWriteProductCatalog} over an {@link OffHeapProductCatalog} base closed while a reader
+ * reads it either returns the whole product or fails with {@link CatalogClosedException} - the read in progress
+ * completes before the memory is dropped, and the reads after the close never see the product again.
+ * The reader reads the product twice, the results are the versions it saw (see {@link CatalogTestData#versionOf}),
+ * or {@value #CLOSED} if the catalog was closed.
+ */
+@JCStressTest
+@Outcome(id = "1, 1", expect = ACCEPTABLE, desc = "Both reads before the close.")
+@Outcome(id = "1, -2", expect = ACCEPTABLE, desc = "The close between the reads.")
+@Outcome(id = "-2, -2", expect = ACCEPTABLE, desc = "Both reads after the close.")
+@Outcome(expect = FORBIDDEN, desc = "A torn product, a missing product or a product read after the close.")
+@State
+public class CatalogOffHeapClosePublicationTest {
+
+    // high enough for the base never to be compacted, so the version does not change while it is closed
+    private static final int COMPACTION_THRESHOLD = 1024;
+    private static final int CLOSED = -2;
+
+    private final CopyOnWriteProductCatalog catalog = CatalogTestData.offHeapCatalog(COMPACTION_THRESHOLD);
+
+    @Actor
+    public void closer() {
+        catalog.close();
+    }
+
+    @Actor
+    public void reader(II_Result result) {
+        result.r1 = readVersion();
+        result.r2 = readVersion();
+    }
+
+    private int readVersion() {
+        try {
+            return CatalogTestData.versionOf(catalog.get(PRODUCT_ID));
+        } catch (CatalogClosedException e) {
+            return CLOSED;
+        }
+    }
+}
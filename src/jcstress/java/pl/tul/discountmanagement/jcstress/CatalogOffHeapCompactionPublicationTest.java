@@ -0,0 +1,55 @@
+package pl.tul.discountmanagement.jcstress;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.II_Result;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.CatalogClosedException;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.CopyOnWriteProductCatalog;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.offheap.OffHeapProductCatalog;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+import static pl.tul.discountmanagement.jcstress.CatalogTestData.PRODUCT_ID;
+
+/**
+ * Verifies that a reader of {@link CopyOnWriteProductCatalog} over an {@link OffHeapProductCatalog} base, which picked
+ * the base just before it was compacted and closed, reads the product again from the new base instead of failing
+ * with {@link CatalogClosedException}, and never sees it torn or missing.
+ * The reader reads the product twice, the results are the versions it saw (see {@link CatalogTestData#versionOf}),
+ * or {@value #CLOSED} if the closed base was not read again.
+ */
+@JCStressTest
+@Outcome(id = "1, 1", expect = ACCEPTABLE, desc = "Both reads before the update.")
+@Outcome(id = "1, 2", expect = ACCEPTABLE, desc = "The update between the reads.")
+@Outcome(id = "2, 2", expect = ACCEPTABLE, desc = "Both reads after the update.")
+@Outcome(expect = FORBIDDEN, desc = "A closed base, a torn product, a missing product or a version going back.")
+@State
+public class CatalogOffHeapCompactionPublicationTest {
+
+    // every patch is compacted right away, closing the off-heap base
+    private static final int COMPACTION_THRESHOLD = 1;
+    private static final int CLOSED = -2;
+
+    private final CopyOnWriteProductCatalog catalog = CatalogTestData.offHeapCatalog(COMPACTION_THRESHOLD);
+
+    @Actor
+    public void writer() {
+        catalog.upsert(CatalogTestData.product(2));
+    }
+
+    @Actor
+    public void reader(II_Result result) {
+        result.r1 = readVersion();
+        result.r2 = readVersion();
+    }
+
+    private int readVersion() {
+        try {
+            return CatalogTestData.versionOf(catalog.get(PRODUCT_ID));
+        } catch (CatalogClosedException e) {
+            return CLOSED;
+        }
+    }
+}
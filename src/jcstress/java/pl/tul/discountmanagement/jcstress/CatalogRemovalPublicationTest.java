@@ -0,0 +1,42 @@
+package pl.tul.discountmanagement.jcstress;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.II_Result;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.CopyOnWriteProductCatalog;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+import static pl.tul.discountmanagement.jcstress.CatalogTestData.PRODUCT_ID;
+
+/**
+ * Verifies that a product removed from {@link CopyOnWriteProductCatalog} by a patch disappears at once - a reader never
+ * sees it again after seeing it missing.
+ * The reader reads the product twice, the results are the versions it saw (see {@link CatalogTestData#versionOf}).
+ */
+@JCStressTest
+@Outcome(id = "1, 1", expect = ACCEPTABLE, desc = "Both reads before the removal.")
+@Outcome(id = "1, 0", expect = ACCEPTABLE, desc = "The removal between the reads.")
+@Outcome(id = "0, 0", expect = ACCEPTABLE, desc = "Both reads after the removal.")
+@Outcome(expect = FORBIDDEN, desc = "A torn product or a removed product seen again.")
+@State
+public class CatalogRemovalPublicationTest {
+
+    // high enough for the patch never to be compacted
+    private static final int COMPACTION_THRESHOLD = 1024;
+
+    private final CopyOnWriteProductCatalog catalog = CatalogTestData.catalog(COMPACTION_THRESHOLD);
+
+    @Actor
+    public void writer() {
+        catalog.remove(PRODUCT_ID);
+    }
+
+    @Actor
+    public void reader(II_Result result) {
+        result.r1 = CatalogTestData.versionOf(catalog.get(PRODUCT_ID));
+        result.r2 = CatalogTestData.versionOf(catalog.get(PRODUCT_ID));
+    }
+}
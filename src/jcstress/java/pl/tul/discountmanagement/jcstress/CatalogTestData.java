@@ -0,0 +1,92 @@
+package pl.tul.discountmanagement.jcstress;
+
+import jakarta.annotation.Nullable;
+import pl.tul.discountmanagement.product.domain.model.Currency;
+import pl.tul.discountmanagement.product.domain.model.Product;
+import pl.tul.discountmanagement.product.domain.model.QuantityBasedDiscount;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.CopyOnWriteProductCatalog;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.columnar.ColumnarProductCatalog;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.offheap.OffHeapProductCatalog;
+
+import java.math.BigDecimal;
+import java.util.Set;
+import java.util.UUID;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Products and catalogs used by the jcstress tests. Every field of a product carries its version - the price, the name
+ * and the percentage rate of its single tier - so a product mixing the fields of two versions is easy to tell.
+ */
+final class CatalogTestData {
+
+    static final UUID PRODUCT_ID = UUID.fromString("7f5c3f0e-4f7e-4d8e-9a4b-2f1c6d3e8a10");
+    private static final Currency CURRENCY = new Currency(UUID.fromString("0b6e4c2a-1d3f-4e5a-8b7c-9d0e1f2a3b4c"), "EUR", 2);
+    private static final int INITIAL_CAPACITY = 16;
+    // versions of the single tier of the product, shared by all the products of the same version
+    private static final QuantityBasedDiscount[] TIERS = {
+            new QuantityBasedDiscount(UUID.fromString("1a1a1a1a-0000-4000-8000-000000000000"), 0, 1, null),
+            new QuantityBasedDiscount(UUID.fromString("1a1a1a1a-0000-4000-8000-000000000001"), 1, 1, null),
+            new QuantityBasedDiscount(UUID.fromString("1a1a1a1a-0000-4000-8000-000000000002"), 2, 1, null)
+    };
+
+    private CatalogTestData() {
+    }
+
+    /**
+     * Build the given version of the product.
+     *
+     * @param version the version, 1 or 2.
+     * @return the product.
+     */
+    static Product product(int version) {
+        return Product.builder()
+                .id(PRODUCT_ID)
+                .name(String.valueOf(version))
+                .price(BigDecimal.valueOf(version))
+                .currency(CURRENCY)
+                .quantityBasedDiscounts(Set.of(TIERS[version]))
+                .build();
+    }
+
+    /**
+     * Publish a heap catalog holding the first version of the product.
+     *
+     * @param compactionThreshold number of patches triggering their compaction.
+     * @return the catalog.
+     */
+    static CopyOnWriteProductCatalog catalog(int compactionThreshold) {
+        ColumnarProductCatalog base = new ColumnarProductCatalog(INITIAL_CAPACITY);
+        base.upsert(product(1));
+        return new CopyOnWriteProductCatalog(base, compactionThreshold);
+    }
+
+    /**
+     * Publish an off-heap catalog holding the first version of the product.
+     *
+     * @param compactionThreshold number of patches triggering their compaction.
+     * @return the catalog.
+     */
+    static CopyOnWriteProductCatalog offHeapCatalog(int compactionThreshold) {
+        OffHeapProductCatalog base = new OffHeapProductCatalog(INITIAL_CAPACITY);
+        base.upsert(product(1));
+        return new CopyOnWriteProductCatalog(base, compactionThreshold);
+    }
+
+    /**
+     * Return the version of the product.
+     *
+     * @param product the product.
+     * @return the version, 0 if the product is missing or -1 if it mixes the fields of different versions.
+     */
+    static int versionOf(@Nullable Product product) {
+        if (isNull(product)) {
+            return 0;
+        }
+        int version = product.price().intValueExact();
+        boolean consistent = String.valueOf(version).equals(product.name())
+                && product.quantityBasedDiscounts().size() == 1
+                && product.quantityBasedDiscounts().iterator().next().getPercentageRate() == version;
+        return consistent ? version : -1;
+    }
+}
@@ -0,0 +1,69 @@
+package pl.tul.discountmanagement.loadtest;
+
+import lombok.Getter;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import pl.tul.discountmanagement.loadtest.report.EndpointReport;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram, error and timeout count of a single endpoint, safe to be updated by concurrent response handlers.
+ * Latencies are recorded in microseconds with three significant digits.
+ */
+class EndpointStatistics {
+
+    private static final int SIGNIFICANT_VALUE_DIGITS = 3;
+    private static final double MICROSECONDS_PER_MILLISECOND = 1000.0;
+
+    @Getter
+    private final Histogram histogram = new ConcurrentHistogram(SIGNIFICANT_VALUE_DIGITS);
+    private final LongAdder errorCount = new LongAdder();
+    private final LongAdder timeoutCount = new LongAdder();
+
+    /**
+     * Record the latency of a completed request.
+     *
+     * @param latencyInNanoseconds latency measured from the intended start of the request.
+     * @param successful whether the request returned expected response.
+     */
+    void record(long latencyInNanoseconds, boolean successful) {
+        histogram.recordValue(Math.max(1L, TimeUnit.NANOSECONDS.toMicros(latencyInNanoseconds)));
+        if (!successful) {
+            errorCount.increment();
+        }
+    }
+
+    /**
+     * Record a request which did not complete until the end of the phase as a failed one.
+     *
+     * @param latencyInNanoseconds latency reached by the end of the phase, measured from the intended start of the request,
+     *                             at least the request timeout.
+     */
+    void recordTimeout(long latencyInNanoseconds) {
+        record(latencyInNanoseconds, false);
+        timeoutCount.increment();
+    }
+
+    /**
+     * Summarize the recorded requests.
+     *
+     * @param elapsedSeconds duration of the measured phase.
+     * @return summary of the recorded requests.
+     */
+    EndpointReport toReport(double elapsedSeconds) {
+        return new EndpointReport(histogram.getTotalCount(), errorCount.sum(), timeoutCount.sum(),
+                histogram.getTotalCount() / elapsedSeconds,
+                toMilliseconds(histogram.getValueAtPercentile(50.0)),
+                toMilliseconds(histogram.getValueAtPercentile(90.0)),
+                toMilliseconds(histogram.getValueAtPercentile(99.0)),
+                toMilliseconds(histogram.getValueAtPercentile(99.9)),
+                toMilliseconds(histogram.getMaxValue()),
+                histogram.getMean() / MICROSECONDS_PER_MILLISECOND);
+    }
+
+    private static double toMilliseconds(long valueInMicroseconds) {
+        return valueInMicroseconds / MICROSECONDS_PER_MILLISECOND;
+    }
+}
@@ -0,0 +1,45 @@
+package pl.tul.discountmanagement.loadtest;
+
+import java.net.URI;
+import java.util.UUID;
+
+import static pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.constant.ApiUrls.PRICE_PATH_URL;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.constant.ApiUrls.PRODUCT_ENDPOINT_V1;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.constant.ApiUrls.PRODUCT_QUANTITY_REQUEST_PARAMETER;
+
+/**
+ * Endpoints driven by the load test.
+ */
+public enum LoadTestEndpoint {
+
+    /**
+     * 'GET /v1/product/{productId}' endpoint.
+     */
+    PRODUCT {
+        @Override
+        public URI uri(URI baseUri, UUID productId, int productQuantity) {
+            return baseUri.resolve(PRODUCT_ENDPOINT_V1 + "/" + productId);
+        }
+    },
+
+    /**
+     * 'GET /v1/product/{productId}/price' endpoint.
+     */
+    PRICE {
+        @Override
+        public URI uri(URI baseUri, UUID productId, int productQuantity) {
+            return baseUri.resolve(PRODUCT_ENDPOINT_V1 + "/" + productId + "/" + PRICE_PATH_URL
+                    + "?" + PRODUCT_QUANTITY_REQUEST_PARAMETER + "=" + productQuantity);
+        }
+    };
+
+    /**
+     * Return the URI of the endpoint for given product and quantity.
+     *
+     * @param baseUri base URI of the application.
+     * @param productId the product identifier.
+     * @param productQuantity the product quantity, ignored by the endpoints not calculating the price.
+     * @return the URI of the endpoint.
+     */
+    public abstract URI uri(URI baseUri, UUID productId, int productQuantity);
+}
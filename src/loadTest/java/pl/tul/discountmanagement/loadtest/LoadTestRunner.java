@@ -0,0 +1,109 @@
+package pl.tul.discountmanagement.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import pl.tul.discountmanagement.DiscountManagementApplication;
+import pl.tul.discountmanagement.loadtest.config.LoadTestProperties;
+import pl.tul.discountmanagement.loadtest.report.EndpointReport;
+import pl.tul.discountmanagement.loadtest.report.LoadTestReport;
+import pl.tul.discountmanagement.loadtest.report.LoadTestReportWriter;
+import pl.tul.discountmanagement.shared.infrastructure.devmode.service.DevModeAuthService;
+import pl.tul.discountmanagement.util.generator.CatalogDataGenerator;
+import pl.tul.discountmanagement.util.generator.CatalogGeneratorSettings;
+import pl.tul.discountmanagement.util.generator.GeneratedCatalog;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.util.Objects.nonNull;
+import static pl.tul.discountmanagement.loadtest.config.LoadTestProperties.LOAD_TEST_PREFIX;
+import static pl.tul.discountmanagement.shared.infrastructure.constant.ApplicationProfiles.DEV_MODE_PROFILE;
+import static pl.tul.discountmanagement.shared.infrastructure.constant.ApplicationProfiles.LOAD_TEST_PROFILE;
+
+/**
+ * Entry point of the HTTP load test, executed via 'loadTest' Gradle task.
+ * The application is started in-process with the dev-mode mocked authorization server, which signs the access token used
+ * by the load generator. The database is populated with a synthetic catalog generated from a fixed seed, so the runs of
+ * different commits operate on the same data and issue the same sequence of requests.
+ */
+@Slf4j
+public final class LoadTestRunner {
+
+    private static final String BASE_URI_FORMAT = "http://127.0.0.1:%d";
+    private static final String CATALOG_EXISTS_QUERY = "SELECT count(*) FROM product WHERE id = ?";
+    private static final String CATALOG_GENERATED_MSG = "Catalog of {} products generated in {} ms";
+    private static final String CATALOG_REUSED_MSG = "Catalog generated from seed '{}' already exists, reusing it";
+    private static final String REPORT_WRITTEN_MSG = "Load test report written to '{}': {}";
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        SpringApplication application = new SpringApplication(DiscountManagementApplication.class);
+        application.setAdditionalProfiles(DEV_MODE_PROFILE, LOAD_TEST_PROFILE);
+        try (ConfigurableApplicationContext context = application.run(args)) {
+            LoadTestProperties properties = Binder.get(context.getEnvironment())
+                    .bind(LOAD_TEST_PREFIX, LoadTestProperties.class)
+                    .orElseGet(LoadTestProperties::new);
+            GeneratedCatalog catalog = prepareCatalog(context.getBean(DataSource.class), properties);
+            String accessToken = context.getBean(DevModeAuthService.class).getAccessTokenResponse().getAccessToken();
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            OpenModelLoadGenerator loadGenerator = new OpenModelLoadGenerator(properties, catalog,
+                    URI.create(BASE_URI_FORMAT.formatted(port)), accessToken);
+
+            Instant startedAt = Instant.now();
+            Map<LoadTestEndpoint, EndpointStatistics> statistics = loadGenerator.run();
+
+            writeResults(context.getBean(ObjectMapper.class), properties, startedAt, statistics);
+        }
+    }
+
+    private static GeneratedCatalog prepareCatalog(DataSource dataSource, LoadTestProperties properties) throws Exception {
+        CatalogGeneratorSettings settings = CatalogGeneratorSettings.builder()
+                .seed(properties.getSeed())
+                .productCount(properties.getProductCount())
+                .currencyCount(properties.getCurrencyCount())
+                .quantityTierCount(properties.getQuantityTierCount())
+                .build();
+        Long existingProducts = new JdbcTemplate(dataSource).queryForObject(CATALOG_EXISTS_QUERY, Long.class,
+                CatalogDataGenerator.productId(settings.getSeed(), 0));
+        if (nonNull(existingProducts) && existingProducts > 0) {
+            log.info(CATALOG_REUSED_MSG, settings.getSeed());
+            return new GeneratedCatalog(settings.getSeed(), settings.getProductCount(), settings.getCurrencyCount(),
+                    settings.getQuantityTierCount(), 0L, 0L);
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            GeneratedCatalog catalog = CatalogDataGenerator.generate(connection, settings);
+            log.info(CATALOG_GENERATED_MSG, catalog.productCount(), catalog.durationInMilliseconds());
+            return catalog;
+        }
+    }
+
+    private static void writeResults(ObjectMapper objectMapper, LoadTestProperties properties, Instant startedAt,
+                                     Map<LoadTestEndpoint, EndpointStatistics> statistics) throws Exception {
+        Path outputDirectory = Path.of(properties.getOutputDirectory());
+        double elapsedSeconds = properties.getDurationInSeconds();
+        Map<String, EndpointReport> endpoints = new LinkedHashMap<>();
+        long requestCount = 0L;
+        for (Map.Entry<LoadTestEndpoint, EndpointStatistics> entry : statistics.entrySet()) {
+            endpoints.put(entry.getKey().name(), entry.getValue().toReport(elapsedSeconds));
+            requestCount += entry.getValue().getHistogram().getTotalCount();
+            LoadTestReportWriter.writeHistogram(entry.getKey().name(), entry.getValue().getHistogram(), outputDirectory);
+        }
+        LoadTestReport report = new LoadTestReport(properties.getRevision(), startedAt, Runtime.version().toString(),
+                Runtime.getRuntime().availableProcessors(), properties.getSeed(), properties.getProductCount(),
+                properties.getArrivalRatePerSecond(), properties.getDurationInSeconds(), requestCount / elapsedSeconds, endpoints);
+        Path reportPath = LoadTestReportWriter.writeReport(objectMapper, report, outputDirectory);
+        log.info(REPORT_WRITTEN_MSG, reportPath, objectMapper.writeValueAsString(report));
+    }
+}
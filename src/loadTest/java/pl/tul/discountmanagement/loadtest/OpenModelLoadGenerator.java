@@ -0,0 +1,162 @@
+package pl.tul.discountmanagement.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import pl.tul.discountmanagement.loadtest.config.LoadTestProperties;
+import pl.tul.discountmanagement.util.generator.GeneratedCatalog;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static java.util.Objects.isNull;
+import static org.springframework.http.HttpHeaders.ACCEPT;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+/**
+ * Load generator following the open workload model: requests are started according to a fixed schedule derived from the
+ * arrival rate, no matter how long the previous requests take. The latency of each request is measured from its intended
+ * start time rather than from the moment it was actually sent, so stalls of the application (or of the generator itself)
+ * are reflected in the recorded latencies instead of silently lowering the request rate (coordinated omission).
+ * Requests still in flight when a phase ends are recorded as timed out with the latency they reached by then, so the slowest
+ * requests are not left out of the results.
+ */
+@Slf4j
+class OpenModelLoadGenerator {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final int HTTP_OK = 200;
+    private static final double NANOSECONDS_PER_SECOND = 1_000_000_000.0;
+    private static final String PHASE_STARTED_MSG = "Load test phase '{}' started: {} requests at {} requests per second";
+    private static final String PHASE_BEHIND_SCHEDULE_MSG = "Load generator fell behind the schedule by {} ms in phase '{}'";
+    private static final String PHASE_INCOMPLETE_MSG = "Load test phase '{}' finished with {} request(s) still in flight, recorded as timed out";
+
+    private final LoadTestProperties properties;
+    private final GeneratedCatalog catalog;
+    private final URI baseUri;
+    private final String authorizationHeader;
+    private final ExecutorService responseExecutor;
+    private final HttpClient httpClient;
+
+    OpenModelLoadGenerator(LoadTestProperties properties, GeneratedCatalog catalog, URI baseUri, String accessToken) {
+        this.properties = properties;
+        this.catalog = catalog;
+        this.baseUri = baseUri;
+        this.authorizationHeader = BEARER_PREFIX + accessToken;
+        this.responseExecutor = Executors.newCachedThreadPool();
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(responseExecutor)
+                .build();
+    }
+
+    /**
+     * Run the warm-up phase followed by the measured phase.
+     *
+     * @return statistics of the measured phase per endpoint.
+     * @throws InterruptedException when the load test is interrupted.
+     */
+    Map<LoadTestEndpoint, EndpointStatistics> run() throws InterruptedException {
+        try {
+            runPhase("warm-up", properties.getWarmUpDurationInSeconds(), properties.getSeed() + 1, createStatistics());
+            Map<LoadTestEndpoint, EndpointStatistics> statistics = createStatistics();
+            runPhase("measurement", properties.getDurationInSeconds(), properties.getSeed(), statistics);
+            return statistics;
+        } finally {
+            responseExecutor.shutdownNow();
+        }
+    }
+
+    private void runPhase(String phase, long durationInSeconds, long seed, Map<LoadTestEndpoint, EndpointStatistics> statistics)
+            throws InterruptedException {
+        int arrivalRate = properties.getArrivalRatePerSecond();
+        long requestCount = durationInSeconds * arrivalRate;
+        double intervalInNanoseconds = NANOSECONDS_PER_SECOND / arrivalRate;
+        SplittableRandom random = new SplittableRandom(seed);
+        CountDownLatch completedRequests = new CountDownLatch(Math.toIntExact(requestCount));
+        Map<Long, InFlightRequest> inFlightRequests = new ConcurrentHashMap<>();
+        long maxDelayInNanoseconds = 0L;
+        log.info(PHASE_STARTED_MSG, phase, requestCount, arrivalRate);
+        long phaseStart = System.nanoTime();
+        for (long i = 0; i < requestCount; i++) {
+            long intendedStart = phaseStart + (long) (i * intervalInNanoseconds);
+            long delay = waitUntil(intendedStart);
+            maxDelayInNanoseconds = Math.max(maxDelayInNanoseconds, delay);
+            LoadTestEndpoint endpoint = random.nextDouble() < properties.getPriceRequestRatio()
+                    ? LoadTestEndpoint.PRICE : LoadTestEndpoint.PRODUCT;
+            UUID productId = catalog.productId(random.nextInt(catalog.productCount()));
+            int productQuantity = 1 + random.nextInt(properties.getMaxProductQuantity());
+            long requestIndex = i;
+            InFlightRequest inFlightRequest = new InFlightRequest(intendedStart, statistics.get(endpoint));
+            inFlightRequests.put(requestIndex, inFlightRequest);
+            httpClient.sendAsync(createRequest(endpoint.uri(baseUri, productId, productQuantity)), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        // a request recorded as timed out at the end of the phase is not recorded again
+                        if (inFlightRequests.remove(requestIndex, inFlightRequest)) {
+                            inFlightRequest.statistics().record(System.nanoTime() - intendedStart,
+                                    isNull(error) && response.statusCode() == HTTP_OK);
+                        }
+                        completedRequests.countDown();
+                    });
+        }
+        if (!completedRequests.await(properties.getRequestTimeoutInMilliseconds(), TimeUnit.MILLISECONDS)) {
+            log.warn(PHASE_INCOMPLETE_MSG, phase, recordTimedOutRequests(inFlightRequests));
+        }
+        if (maxDelayInNanoseconds > intervalInNanoseconds) {
+            log.warn(PHASE_BEHIND_SCHEDULE_MSG, TimeUnit.NANOSECONDS.toMillis(maxDelayInNanoseconds), phase);
+        }
+    }
+
+    private static int recordTimedOutRequests(Map<Long, InFlightRequest> inFlightRequests) {
+        int timedOutRequests = 0;
+        long now = System.nanoTime();
+        for (Map.Entry<Long, InFlightRequest> entry : inFlightRequests.entrySet()) {
+            InFlightRequest inFlightRequest = entry.getValue();
+            if (inFlightRequests.remove(entry.getKey(), inFlightRequest)) {
+                inFlightRequest.statistics().recordTimeout(now - inFlightRequest.intendedStart());
+                timedOutRequests++;
+            }
+        }
+        return timedOutRequests;
+    }
+
+    private HttpRequest createRequest(URI uri) {
+        return HttpRequest.newBuilder(uri)
+                .header(AUTHORIZATION, authorizationHeader)
+                .header(ACCEPT, APPLICATION_JSON_VALUE)
+                .timeout(Duration.ofMillis(properties.getRequestTimeoutInMilliseconds()))
+                .GET()
+                .build();
+    }
+
+    private static long waitUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+        return -remaining;
+    }
+
+    private static Map<LoadTestEndpoint, EndpointStatistics> createStatistics() {
+        Map<LoadTestEndpoint, EndpointStatistics> statistics = new EnumMap<>(LoadTestEndpoint.class);
+        for (LoadTestEndpoint endpoint : LoadTestEndpoint.values()) {
+            statistics.put(endpoint, new EndpointStatistics());
+        }
+        return statistics;
+    }
+
+    private record InFlightRequest(long intendedStart, EndpointStatistics statistics) {
+    }
+}
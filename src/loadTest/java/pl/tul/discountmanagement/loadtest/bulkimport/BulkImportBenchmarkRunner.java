@@ -0,0 +1,149 @@
+package pl.tul.discountmanagement.loadtest.bulkimport;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import pl.tul.discountmanagement.DiscountManagementApplication;
+import pl.tul.discountmanagement.loadtest.config.BulkImportBenchmarkProperties;
+import pl.tul.discountmanagement.loadtest.report.BulkImportBenchmarkReport;
+import pl.tul.discountmanagement.loadtest.report.LoadTestReportWriter;
+import pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.response.BulkImportResponseV1;
+import pl.tul.discountmanagement.shared.infrastructure.devmode.service.DevModeAuthService;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.springframework.http.HttpHeaders.ACCEPT;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static pl.tul.discountmanagement.loadtest.config.BulkImportBenchmarkProperties.BULK_IMPORT_BENCHMARK_PREFIX;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.constant.ApiUrls.IMPORT_ENDPOINT_V1;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.constant.ApiUrls.PRODUCTS_PATH_URL;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.constant.ApiUrls.TEXT_CSV_VALUE;
+import static pl.tul.discountmanagement.shared.infrastructure.constant.ApplicationProfiles.DEV_MODE_PROFILE;
+import static pl.tul.discountmanagement.shared.infrastructure.constant.ApplicationProfiles.LOAD_TEST_PROFILE;
+
+/**
+ * Entry point of the bulk import benchmark, executed via 'bulkImportBenchmark' Gradle task.
+ * The application is started in-process like in the HTTP load test. Synthetic products, some of them with quoted
+ * descriptions spanning multiple lines, are written into a CSV file upfront, so that generating them is not measured.
+ * After a smaller warm-up import, the whole file is imported with a single request and the throughput is compared with
+ * the required one - the benchmark fails when it is not reached.
+ */
+@Slf4j
+public final class BulkImportBenchmarkRunner {
+
+    private static final String BASE_URI_FORMAT = "http://127.0.0.1:%d";
+    private static final String IMPORT_URI_FORMAT = "%s" + IMPORT_ENDPOINT_V1 + "/%s/" + PRODUCTS_PATH_URL;
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final int HTTP_OK = 200;
+    private static final long PRODUCT_ID_MARKER = 0x6275_6c6b_0000_0000L;
+    private static final String CURRENCY_QUERY = "SELECT id FROM currency ORDER BY id LIMIT 1";
+    private static final String CSV_HEADER = "id,name,description,price,currency_id,percentage_based_discount_id\n";
+    private static final String PRODUCT_RECORD_FORMAT = "%s,Product %d,Description of product %d,%d.%02d,%s,\n";
+    private static final String MULTI_LINE_PRODUCT_RECORD_FORMAT = "%s,Product %d,\"Description of product %d\nspanning \"\"two\"\" lines\",%d.%02d,%s,\n";
+    private static final String CSV_FILE_FORMAT = "products-%d.csv";
+    private static final String IMPORT_FAILED_MSG = "Import failed with status %d: %s";
+    private static final String ROWS_MISSING_MSG = "Imported %d row(s) instead of %d";
+    private static final String THROUGHPUT_NOT_REACHED_MSG = "Imported %.0f rows/s, while at least %.0f rows/s are required";
+    private static final String IMPORT_FINISHED_MSG = "Imported {} rows in {} ms ({} rows/s)";
+    private static final String REPORT_WRITTEN_MSG = "Bulk import benchmark report written to '{}': {}";
+
+    private BulkImportBenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        SpringApplication application = new SpringApplication(DiscountManagementApplication.class);
+        application.setAdditionalProfiles(DEV_MODE_PROFILE, LOAD_TEST_PROFILE);
+        try (ConfigurableApplicationContext context = application.run(args)) {
+            BulkImportBenchmarkProperties properties = Binder.get(context.getEnvironment())
+                    .bind(BULK_IMPORT_BENCHMARK_PREFIX, BulkImportBenchmarkProperties.class)
+                    .orElseGet(BulkImportBenchmarkProperties::new);
+            Path outputDirectory = Path.of(properties.getOutputDirectory()).toAbsolutePath();
+            Files.createDirectories(outputDirectory);
+            UUID currencyId = new JdbcTemplate(context.getBean(DataSource.class)).queryForObject(CURRENCY_QUERY, UUID.class);
+            Path warmUpFile = writeProducts(outputDirectory, properties, properties.getRowCount(), properties.getWarmUpRowCount(), currencyId);
+            Path measuredFile = writeProducts(outputDirectory, properties, 0, properties.getRowCount(), currencyId);
+
+            String accessToken = context.getBean(DevModeAuthService.class).getAccessTokenResponse().getAccessToken();
+            String baseUri = BASE_URI_FORMAT.formatted(((WebServerApplicationContext) context).getWebServer().getPort());
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .build();
+            ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+
+            importProducts(httpClient, objectMapper, baseUri, accessToken, warmUpFile, properties);
+            Instant startedAt = Instant.now();
+            long startTime = System.nanoTime();
+            BulkImportResponseV1 result = importProducts(httpClient, objectMapper, baseUri, accessToken, measuredFile, properties);
+            long durationInMilliseconds = Duration.ofNanos(System.nanoTime() - startTime).toMillis();
+
+            writeResults(objectMapper, properties, startedAt, result, durationInMilliseconds, outputDirectory);
+        }
+    }
+
+    private static Path writeProducts(Path outputDirectory, BulkImportBenchmarkProperties properties, int firstIndex, int rowCount,
+                                      UUID currencyId) throws IOException {
+        Path csvFile = outputDirectory.resolve(CSV_FILE_FORMAT.formatted(rowCount));
+        try (BufferedWriter writer = Files.newBufferedWriter(csvFile, StandardCharsets.UTF_8)) {
+            writer.write(CSV_HEADER);
+            for (int index = firstIndex; index < firstIndex + rowCount; index++) {
+                String recordFormat = index % properties.getMultiLineRecordInterval() == 0 ? MULTI_LINE_PRODUCT_RECORD_FORMAT
+                        : PRODUCT_RECORD_FORMAT;
+                UUID productId = new UUID(PRODUCT_ID_MARKER ^ properties.getSeed(), index);
+                writer.write(recordFormat.formatted(productId, index, index, 1 + index % 1000, index % 100, currencyId));
+            }
+        }
+        return csvFile;
+    }
+
+    private static BulkImportResponseV1 importProducts(HttpClient httpClient, ObjectMapper objectMapper, String baseUri,
+                                                       String accessToken, Path csvFile,
+                                                       BulkImportBenchmarkProperties properties) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(IMPORT_URI_FORMAT.formatted(baseUri, UUID.randomUUID())))
+                .header(AUTHORIZATION, BEARER_PREFIX + accessToken)
+                .header(CONTENT_TYPE, TEXT_CSV_VALUE)
+                .header(ACCEPT, APPLICATION_JSON_VALUE)
+                .timeout(Duration.ofSeconds(properties.getRequestTimeoutInSeconds()))
+                .PUT(HttpRequest.BodyPublishers.ofFile(csvFile))
+                .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != HTTP_OK) {
+            throw new IllegalStateException(IMPORT_FAILED_MSG.formatted(response.statusCode(), response.body()));
+        }
+        return objectMapper.readValue(response.body(), BulkImportResponseV1.class);
+    }
+
+    private static void writeResults(ObjectMapper objectMapper, BulkImportBenchmarkProperties properties, Instant startedAt,
+                                     BulkImportResponseV1 result, long durationInMilliseconds, Path outputDirectory) throws IOException {
+        if (result.getImportedRows() != properties.getRowCount()) {
+            throw new IllegalStateException(ROWS_MISSING_MSG.formatted(result.getImportedRows(), properties.getRowCount()));
+        }
+        double rowsPerSecond = result.getImportedRows() * 1000.0 / Math.max(durationInMilliseconds, 1L);
+        log.info(IMPORT_FINISHED_MSG, result.getImportedRows(), durationInMilliseconds, Math.round(rowsPerSecond));
+        BulkImportBenchmarkReport report = new BulkImportBenchmarkReport(properties.getRevision(), startedAt,
+                Runtime.version().toString(), Runtime.getRuntime().availableProcessors(), result.getImportedRows(),
+                result.getCommittedChunks(), durationInMilliseconds, rowsPerSecond, properties.getMinRowsPerSecond());
+        Path reportPath = LoadTestReportWriter.writeReport(objectMapper, report, outputDirectory);
+        log.info(REPORT_WRITTEN_MSG, reportPath, objectMapper.writeValueAsString(report));
+        if (rowsPerSecond < properties.getMinRowsPerSecond()) {
+            throw new IllegalStateException(THROUGHPUT_NOT_REACHED_MSG.formatted(rowsPerSecond, properties.getMinRowsPerSecond()));
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package pl.tul.discountmanagement.loadtest.config;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Properties of the bulk import benchmark.
+ * Properties are configured in the {@code application-load-test.yml} file under 'bulk-import-benchmark' entry
+ * and can be overridden with system properties, e.g. '-Pbulk-import-benchmark.row-count=5000000' passed to Gradle.
+ */
+@Getter
+@Setter
+public class BulkImportBenchmarkProperties {
+
+    public static final String BULK_IMPORT_BENCHMARK_PREFIX = "bulk-import-benchmark";
+
+    /**
+     * Seed of the generated product identifiers.
+     */
+    private long seed = 42L;
+    private int warmUpRowCount = 100_000;
+    private int rowCount = 1_000_000;
+    /**
+     * Every n-th generated product gets a quoted description spanning multiple lines.
+     */
+    private int multiLineRecordInterval = 100;
+    /**
+     * Minimal throughput of the measured import, the benchmark fails when it is not reached.
+     */
+    private double minRowsPerSecond = 100_000.0;
+    private long requestTimeoutInSeconds = 600L;
+    private String outputDirectory = "build/bulk-import-benchmark";
+    /**
+     * Revision of the tested code, recorded in the report so that the results of different commits can be compared.
+     */
+    private String revision = "unknown";
+}
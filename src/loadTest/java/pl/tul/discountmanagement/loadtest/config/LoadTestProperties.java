@@ -0,0 +1,41 @@
+package pl.tul.discountmanagement.loadtest.config;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Properties of the HTTP load test.
+ * Properties are configured in the {@code application-load-test.yml} file under 'load-test' entry
+ * and can be overridden with system properties, e.g. '-Pload-test.arrival-rate-per-second=500' passed to Gradle.
+ */
+@Getter
+@Setter
+public class LoadTestProperties {
+
+    public static final String LOAD_TEST_PREFIX = "load-test";
+
+    /**
+     * Seed of the generated catalog and of the request sequence.
+     */
+    private long seed = 42L;
+    private int productCount = 10_000;
+    private int currencyCount = 5;
+    private int quantityTierCount = 500;
+    /**
+     * Number of requests started per second, regardless of the response times (open workload model).
+     */
+    private int arrivalRatePerSecond = 200;
+    private long warmUpDurationInSeconds = 10L;
+    private long durationInSeconds = 30L;
+    /**
+     * Ratio of 'GET /v1/product/{productId}/price' requests, the remaining ones are 'GET /v1/product/{productId}' requests.
+     */
+    private double priceRequestRatio = 0.5;
+    private int maxProductQuantity = 20;
+    private long requestTimeoutInMilliseconds = 10_000L;
+    private String outputDirectory = "build/load-test";
+    /**
+     * Revision of the tested code, recorded in the report so that the results of different commits can be compared.
+     */
+    private String revision = "unknown";
+}
@@ -0,0 +1,47 @@
+package pl.tul.discountmanagement.loadtest.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import pl.tul.discountmanagement.loadtest.startup.StartupMode;
+
+import java.util.List;
+
+/**
+ * Properties of the startup benchmark.
+ * Paths of the application and of the class data sharing archive are passed by the 'startupBenchmark' Gradle task,
+ * the remaining properties can be overridden with system properties, e.g. '-Pstartup-benchmark.iterations=10' passed to Gradle.
+ */
+@Getter
+@Setter
+public class StartupBenchmarkProperties {
+
+    public static final String STARTUP_BENCHMARK_PREFIX = "startup-benchmark";
+
+    private String javaExecutable = "java";
+    /**
+     * Application jar extracted from the executable jar, so that it can be used together with the class data sharing archive.
+     */
+    private String applicationJar;
+    private String cdsArchive;
+    private List<StartupMode> modes = List.of(StartupMode.DEFAULT, StartupMode.CDS);
+    /**
+     * Number of measured application starts per mode. Modes are interleaved, so a drift of the machine state affects all of them.
+     */
+    private int iterations = 5;
+    private int port = 18090;
+    private long startupTimeoutInMilliseconds = 120_000L;
+    private long pollIntervalInMilliseconds = 10L;
+    private long seed = 42L;
+    private int productCount = 100;
+    /**
+     * Database used by the started applications. A Testcontainers instance of PostgreSQL is started when no URL is given.
+     */
+    private String dbUrl;
+    private String dbUsername = "postgres";
+    private String dbPassword = "postgres";
+    private String outputDirectory = "build/startup-benchmark";
+    /**
+     * Revision of the tested code, recorded in the report so that the results of different commits can be compared.
+     */
+    private String revision = "unknown";
+}
@@ -0,0 +1,21 @@
+package pl.tul.discountmanagement.loadtest.report;
+
+import java.time.Instant;
+
+/**
+ * Machine-readable result of a bulk import benchmark run.
+ *
+ * @param revision revision of the tested code.
+ * @param startedAt start of the run.
+ * @param javaVersion version of the Java runtime running the benchmark.
+ * @param availableProcessors number of processors available to the Java runtime.
+ * @param rowCount number of imported rows.
+ * @param committedChunks number of chunks the rows were committed in.
+ * @param durationInMilliseconds duration of the import request.
+ * @param rowsPerSecond achieved throughput.
+ * @param minRowsPerSecond required throughput.
+ */
+public record BulkImportBenchmarkReport(String revision, Instant startedAt, String javaVersion, int availableProcessors,
+                                        long rowCount, int committedChunks, long durationInMilliseconds, double rowsPerSecond,
+                                        double minRowsPerSecond) {
+}
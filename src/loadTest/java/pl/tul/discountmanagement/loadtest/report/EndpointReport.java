@@ -0,0 +1,23 @@
+package pl.tul.discountmanagement.loadtest.report;
+
+/**
+ * Latency and throughput of a single endpoint measured by the load test.
+ * Latencies are measured from the intended start of a request, hence they include the time a request waited
+ * because the load generator or the application fell behind the schedule (coordinated omission correction).
+ *
+ * @param requestCount number of recorded requests, including the timed out ones.
+ * @param errorCount number of requests which failed, timed out or did not return '200 OK' response.
+ * @param timeoutCount number of requests still in flight at the end of the phase, recorded with the latency they reached
+ *                     by then.
+ * @param throughputPerSecond number of recorded requests per second.
+ * @param p50InMilliseconds 50th percentile of the latency.
+ * @param p90InMilliseconds 90th percentile of the latency.
+ * @param p99InMilliseconds 99th percentile of the latency.
+ * @param p999InMilliseconds 99.9th percentile of the latency.
+ * @param maxInMilliseconds maximal latency.
+ * @param meanInMilliseconds mean latency.
+ */
+public record EndpointReport(long requestCount, long errorCount, long timeoutCount, double throughputPerSecond,
+                             double p50InMilliseconds, double p90InMilliseconds, double p99InMilliseconds,
+                             double p999InMilliseconds, double maxInMilliseconds, double meanInMilliseconds) {
+}
@@ -0,0 +1,23 @@
+package pl.tul.discountmanagement.loadtest.report;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Machine-readable result of a load test run.
+ *
+ * @param revision revision of the tested code.
+ * @param startedAt start of the run, including the warm-up phase.
+ * @param javaVersion version of the Java runtime.
+ * @param availableProcessors number of processors available to the Java runtime.
+ * @param seed seed of the generated catalog and of the request sequence.
+ * @param productCount number of products in the generated catalog.
+ * @param arrivalRatePerSecond target number of requests started per second.
+ * @param durationInSeconds duration of the measured phase.
+ * @param throughputPerSecond number of completed requests per second across all the endpoints.
+ * @param endpoints results per endpoint.
+ */
+public record LoadTestReport(String revision, Instant startedAt, String javaVersion, int availableProcessors,
+                             long seed, int productCount, int arrivalRatePerSecond, long durationInSeconds,
+                             double throughputPerSecond, Map<String, EndpointReport> endpoints) {
+}
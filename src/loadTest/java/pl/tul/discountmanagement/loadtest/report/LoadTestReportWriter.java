@@ -0,0 +1,89 @@
+package pl.tul.discountmanagement.loadtest.report;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Writer of the load test, startup benchmark and bulk import benchmark results.
+ * The report is written as JSON to 'results.json', while the full latency distribution of each endpoint is written in
+ * HdrHistogram percentile format to '{endpoint}.hgrm', which can be plotted or compared between runs.
+ */
+public final class LoadTestReportWriter {
+
+    private static final String REPORT_FILE_NAME = "results.json";
+    private static final String HISTOGRAM_FILE_FORMAT = "%s.hgrm";
+    private static final double MICROSECONDS_PER_MILLISECOND = 1000.0;
+
+    private LoadTestReportWriter() {
+    }
+
+    /**
+     * Write the report into given directory.
+     *
+     * @param objectMapper object mapper used to serialize the report.
+     * @param report the report.
+     * @param outputDirectory the output directory.
+     * @return path of the written report.
+     * @throws IOException when the report cannot be written.
+     */
+    public static Path writeReport(ObjectMapper objectMapper, LoadTestReport report, Path outputDirectory) throws IOException {
+        return writeJson(objectMapper, report, outputDirectory);
+    }
+
+    /**
+     * Write the startup benchmark report into given directory.
+     *
+     * @param objectMapper object mapper used to serialize the report.
+     * @param report the report.
+     * @param outputDirectory the output directory.
+     * @return path of the written report.
+     * @throws IOException when the report cannot be written.
+     */
+    public static Path writeReport(ObjectMapper objectMapper, StartupBenchmarkReport report, Path outputDirectory) throws IOException {
+        return writeJson(objectMapper, report, outputDirectory);
+    }
+
+    /**
+     * Write the bulk import benchmark report into given directory.
+     *
+     * @param objectMapper object mapper used to serialize the report.
+     * @param report the report.
+     * @param outputDirectory the output directory.
+     * @return path of the written report.
+     * @throws IOException when the report cannot be written.
+     */
+    public static Path writeReport(ObjectMapper objectMapper, BulkImportBenchmarkReport report, Path outputDirectory) throws IOException {
+        return writeJson(objectMapper, report, outputDirectory);
+    }
+
+    /**
+     * Write the latency distribution of an endpoint into given directory, with values expressed in milliseconds.
+     *
+     * @param endpoint name of the endpoint.
+     * @param histogram latency histogram recorded in microseconds.
+     * @param outputDirectory the output directory.
+     * @throws IOException when the distribution cannot be written.
+     */
+    public static void writeHistogram(String endpoint, Histogram histogram, Path outputDirectory) throws IOException {
+        Files.createDirectories(outputDirectory);
+        Path histogramPath = outputDirectory.resolve(HISTOGRAM_FILE_FORMAT.formatted(endpoint.toLowerCase(Locale.ROOT)));
+        try (PrintStream printStream = new PrintStream(Files.newOutputStream(histogramPath), false, StandardCharsets.UTF_8)) {
+            histogram.outputPercentileDistribution(printStream, MICROSECONDS_PER_MILLISECOND);
+        }
+    }
+
+    private static Path writeJson(ObjectMapper objectMapper, Object report, Path outputDirectory) throws IOException {
+        Files.createDirectories(outputDirectory);
+        Path reportPath = outputDirectory.resolve(REPORT_FILE_NAME);
+        objectMapper.writer().with(SerializationFeature.INDENT_OUTPUT).writeValue(reportPath.toFile(), report);
+        return reportPath;
+    }
+}
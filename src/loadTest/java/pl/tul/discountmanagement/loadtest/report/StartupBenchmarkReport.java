@@ -0,0 +1,18 @@
+package pl.tul.discountmanagement.loadtest.report;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Machine-readable result of a startup benchmark run.
+ *
+ * @param revision revision of the tested code.
+ * @param startedAt start of the run.
+ * @param javaVersion version of the Java runtime running the benchmark.
+ * @param availableProcessors number of processors available to the Java runtime.
+ * @param iterations number of measured application starts per mode.
+ * @param modes results per startup mode.
+ */
+public record StartupBenchmarkReport(String revision, Instant startedAt, String javaVersion, int availableProcessors,
+                                     int iterations, Map<String, StartupModeReport> modes) {
+}
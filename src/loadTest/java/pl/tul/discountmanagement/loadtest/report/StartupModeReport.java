@@ -0,0 +1,17 @@
+package pl.tul.discountmanagement.loadtest.report;
+
+import java.util.List;
+
+/**
+ * Time to the first successful request measured by the startup benchmark for a single startup mode.
+ * Each sample is measured from spawning the JVM process until the first '200 OK' price calculation response,
+ * hence it includes the JVM startup, the application context refresh and serving the first request.
+ *
+ * @param samplesInMilliseconds measured times, in the order of the application starts.
+ * @param minInMilliseconds minimal time.
+ * @param medianInMilliseconds median time.
+ * @param maxInMilliseconds maximal time.
+ */
+public record StartupModeReport(List<Long> samplesInMilliseconds, long minInMilliseconds, long medianInMilliseconds,
+                                long maxInMilliseconds) {
+}
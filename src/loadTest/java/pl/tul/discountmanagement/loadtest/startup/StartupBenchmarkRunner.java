@@ -0,0 +1,274 @@
+package pl.tul.discountmanagement.loadtest.startup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.StandardEnvironment;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+import pl.tul.discountmanagement.DiscountManagementApplication;
+import pl.tul.discountmanagement.loadtest.LoadTestEndpoint;
+import pl.tul.discountmanagement.loadtest.config.StartupBenchmarkProperties;
+import pl.tul.discountmanagement.loadtest.report.LoadTestReportWriter;
+import pl.tul.discountmanagement.loadtest.report.StartupBenchmarkReport;
+import pl.tul.discountmanagement.loadtest.report.StartupModeReport;
+import pl.tul.discountmanagement.shared.infrastructure.devmode.response.DevModeAccessTokenResponse;
+import pl.tul.discountmanagement.util.generator.CatalogDataGenerator;
+import pl.tul.discountmanagement.util.generator.CatalogGeneratorSettings;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.nonNull;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+import static org.springframework.http.HttpHeaders.ACCEPT;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static pl.tul.discountmanagement.loadtest.config.StartupBenchmarkProperties.STARTUP_BENCHMARK_PREFIX;
+import static pl.tul.discountmanagement.shared.infrastructure.constant.ApplicationProfiles.DEV_MODE_PROFILE;
+import static pl.tul.discountmanagement.shared.infrastructure.devmode.controller.DevModeAuthController.AUTH_URL;
+
+/**
+ * Entry point of the startup benchmark, executed via 'startupBenchmark' Gradle task.
+ * The extracted application jar is started as a separate JVM process in the `dev` profile for each of the configured
+ * {@link StartupMode}s, and the time from spawning the process until the first successful price calculation response
+ * (including fetching the token from the dev-mode mocked authorization server) is measured. Before the measured runs,
+ * a preparation run migrates the database schema and populates it with a small synthetic catalog, so the measured runs
+ * only verify the schema version, like the serving instances do.
+ */
+@Slf4j
+public final class StartupBenchmarkRunner {
+
+    private static final String POSTGRES_IMAGE = "postgres:16.4";
+    private static final String DATABASE_NAME = "startup-benchmark";
+    private static final String BASE_URI_FORMAT = "http://127.0.0.1:%d";
+    private static final String TOKEN_PATH = "/token";
+    private static final String JWKS_PATH = "/jwks";
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final int HTTP_OK = 200;
+    private static final int PRODUCT_QUANTITY = 1;
+    private static final long STOP_TIMEOUT_IN_SECONDS = 30L;
+    private static final String PREPARATION_LOG_FILE = "preparation.log";
+    private static final String MIGRATION_ENABLED_ARGUMENT = "--spring.liquibase.enabled=true";
+    private static final String RUN_LOG_FILE_FORMAT = "%s-%d.log";
+    private static final String CATALOG_EXISTS_QUERY = "SELECT count(*) FROM product WHERE id = ?";
+    private static final String CDS_ARCHIVE_MISSING_MSG = "Class data sharing archive '%s' does not exist, run the 'cdsArchive' task first";
+    private static final String APPLICATION_EXITED_MSG = "Application exited with code %d before serving the first request, see '%s'";
+    private static final String APPLICATION_TIMED_OUT_MSG = "Application did not serve the first request within %d ms, see '%s'";
+    private static final String RUN_FINISHED_MSG = "Startup mode '{}', iteration {}: first successful request after {} ms";
+    private static final String REPORT_WRITTEN_MSG = "Startup benchmark report written to '{}': {}";
+
+    private StartupBenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        StartupBenchmarkProperties properties = Binder.get(new StandardEnvironment())
+                .bind(STARTUP_BENCHMARK_PREFIX, StartupBenchmarkProperties.class)
+                .orElseGet(StartupBenchmarkProperties::new);
+        validateCdsArchive(properties);
+        Path outputDirectory = Path.of(properties.getOutputDirectory()).toAbsolutePath();
+        Files.createDirectories(outputDirectory);
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        ObjectMapper objectMapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        try (PostgreSQLContainer<?> database = isBlank(properties.getDbUrl()) ? startDatabase(properties) : null) {
+            Instant startedAt = Instant.now();
+            UUID productId = prepareCatalog(properties, httpClient, objectMapper, outputDirectory);
+            Map<StartupMode, List<Long>> samples = new EnumMap<>(StartupMode.class);
+            for (int iteration = 1; iteration <= properties.getIterations(); iteration++) {
+                for (StartupMode mode : properties.getModes()) {
+                    long timeToFirstRequest = measure(properties, mode, iteration, productId, httpClient, objectMapper, outputDirectory);
+                    samples.computeIfAbsent(mode, key -> new ArrayList<>()).add(timeToFirstRequest);
+                    log.info(RUN_FINISHED_MSG, mode, iteration, timeToFirstRequest);
+                }
+            }
+            writeResults(objectMapper, properties, startedAt, samples, outputDirectory);
+        }
+    }
+
+    private static void validateCdsArchive(StartupBenchmarkProperties properties) {
+        boolean cdsUsed = properties.getModes().contains(StartupMode.CDS) || properties.getModes().contains(StartupMode.AOT_CDS);
+        if (cdsUsed && (isBlank(properties.getCdsArchive()) || !Files.exists(Path.of(properties.getCdsArchive())))) {
+            throw new IllegalStateException(CDS_ARCHIVE_MISSING_MSG.formatted(properties.getCdsArchive()));
+        }
+    }
+
+    private static PostgreSQLContainer<?> startDatabase(StartupBenchmarkProperties properties) {
+        PostgreSQLContainer<?> database = new PostgreSQLContainer<>(DockerImageName.parse(POSTGRES_IMAGE))
+                .withDatabaseName(DATABASE_NAME)
+                .withUsername(properties.getDbUsername())
+                .withPassword(properties.getDbPassword());
+        database.start();
+        properties.setDbUrl(database.getJdbcUrl());
+        return database;
+    }
+
+    private static UUID prepareCatalog(StartupBenchmarkProperties properties, HttpClient httpClient, ObjectMapper objectMapper,
+                                       Path outputDirectory) throws Exception {
+        Path logFile = outputDirectory.resolve(PREPARATION_LOG_FILE);
+        Process process = start(properties, StartupMode.DEFAULT, outputDirectory, logFile, MIGRATION_ENABLED_ARGUMENT);
+        try {
+            // the schema is migrated during the application startup, so it exists once the application serves requests
+            awaitAccessToken(properties, httpClient, objectMapper, process, logFile, System.nanoTime());
+        } finally {
+            stop(process);
+        }
+        CatalogGeneratorSettings settings = CatalogGeneratorSettings.builder()
+                .seed(properties.getSeed())
+                .productCount(properties.getProductCount())
+                .build();
+        UUID productId = CatalogDataGenerator.productId(settings.getSeed(), 0);
+        try (Connection connection = DriverManager.getConnection(properties.getDbUrl(), properties.getDbUsername(),
+                properties.getDbPassword())) {
+            if (!productExists(connection, productId)) {
+                CatalogDataGenerator.generate(connection, settings);
+            }
+        }
+        return productId;
+    }
+
+    private static boolean productExists(Connection connection, UUID productId) throws Exception {
+        try (PreparedStatement statement = connection.prepareStatement(CATALOG_EXISTS_QUERY)) {
+            statement.setObject(1, productId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getLong(1) > 0;
+            }
+        }
+    }
+
+    private static long measure(StartupBenchmarkProperties properties, StartupMode mode, int iteration, UUID productId,
+                                HttpClient httpClient, ObjectMapper objectMapper, Path outputDirectory) throws Exception {
+        Path logFile = outputDirectory.resolve(RUN_LOG_FILE_FORMAT.formatted(mode.name().toLowerCase(Locale.ROOT), iteration));
+        long startTime = System.nanoTime();
+        Process process = start(properties, mode, outputDirectory, logFile);
+        try {
+            String accessToken = awaitAccessToken(properties, httpClient, objectMapper, process, logFile, startTime);
+            HttpRequest priceRequest = HttpRequest.newBuilder(LoadTestEndpoint.PRICE.uri(baseUri(properties), productId, PRODUCT_QUANTITY))
+                    .header(AUTHORIZATION, BEARER_PREFIX + accessToken)
+                    .header(ACCEPT, APPLICATION_JSON_VALUE)
+                    .GET()
+                    .build();
+            awaitSuccessfulResponse(properties, httpClient, priceRequest, process, logFile, startTime);
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        } finally {
+            stop(process);
+        }
+    }
+
+    private static Process start(StartupBenchmarkProperties properties, StartupMode mode, Path outputDirectory, Path logFile,
+                                 String... additionalArguments) throws IOException {
+        URI baseUri = baseUri(properties);
+        List<String> command = new ArrayList<>();
+        command.add(properties.getJavaExecutable());
+        command.addAll(mode.jvmArguments(properties));
+        command.addAll(List.of(
+                "-cp", properties.getApplicationJar(),
+                DiscountManagementApplication.class.getName(),
+                "--spring.profiles.active=" + DEV_MODE_PROFILE,
+                "--server.port=" + properties.getPort(),
+                "--spring.datasource.url=" + properties.getDbUrl(),
+                "--spring.datasource.username=" + properties.getDbUsername(),
+                "--spring.datasource.password=" + properties.getDbPassword(),
+                // the dev profile uses the primary database as a replica, so it has to point to the benchmark database as well
+                "--replica-routing.replicas[0].url=" + properties.getDbUrl(),
+                "--replica-routing.replicas[0].username=" + properties.getDbUsername(),
+                "--replica-routing.replicas[0].password=" + properties.getDbPassword(),
+                "--spring.security.oauth2.resourceserver.jwt.issuer-uri=" + baseUri,
+                "--spring.security.oauth2.resourceserver.jwt.jwk-set-uri=" + baseUri + AUTH_URL + JWKS_PATH));
+        command.addAll(List.of(additionalArguments));
+        return new ProcessBuilder(command)
+                .directory(outputDirectory.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start();
+    }
+
+    private static String awaitAccessToken(StartupBenchmarkProperties properties, HttpClient httpClient, ObjectMapper objectMapper,
+                                           Process process, Path logFile, long startTime) throws Exception {
+        HttpRequest tokenRequest = HttpRequest.newBuilder(URI.create(baseUri(properties) + AUTH_URL + TOKEN_PATH))
+                .header(ACCEPT, APPLICATION_JSON_VALUE)
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+        HttpResponse<String> response = awaitSuccessfulResponse(properties, httpClient, tokenRequest, process, logFile, startTime);
+        return objectMapper.readValue(response.body(), DevModeAccessTokenResponse.class).getAccessToken();
+    }
+
+    private static HttpResponse<String> awaitSuccessfulResponse(StartupBenchmarkProperties properties, HttpClient httpClient,
+                                                                HttpRequest request, Process process, Path logFile,
+                                                                long startTime) throws Exception {
+        long deadline = startTime + TimeUnit.MILLISECONDS.toNanos(properties.getStartupTimeoutInMilliseconds());
+        while (true) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException(APPLICATION_EXITED_MSG.formatted(process.exitValue(), logFile));
+            }
+            if (System.nanoTime() - deadline > 0) {
+                throw new IllegalStateException(APPLICATION_TIMED_OUT_MSG.formatted(properties.getStartupTimeoutInMilliseconds(), logFile));
+            }
+            HttpResponse<String> response = sendQuietly(httpClient, request);
+            if (nonNull(response) && response.statusCode() == HTTP_OK) {
+                return response;
+            }
+            Thread.sleep(properties.getPollIntervalInMilliseconds());
+        }
+    }
+
+    private static HttpResponse<String> sendQuietly(HttpClient httpClient, HttpRequest request) throws InterruptedException {
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            // the connection is refused until the embedded web server is started
+            return null;
+        }
+    }
+
+    private static void stop(Process process) throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(STOP_TIMEOUT_IN_SECONDS, TimeUnit.SECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+    }
+
+    private static URI baseUri(StartupBenchmarkProperties properties) {
+        return URI.create(BASE_URI_FORMAT.formatted(properties.getPort()));
+    }
+
+    private static void writeResults(ObjectMapper objectMapper, StartupBenchmarkProperties properties, Instant startedAt,
+                                     Map<StartupMode, List<Long>> samples, Path outputDirectory) throws IOException {
+        Map<String, StartupModeReport> modes = new LinkedHashMap<>();
+        for (Map.Entry<StartupMode, List<Long>> entry : samples.entrySet()) {
+            List<Long> sortedSamples = entry.getValue().stream().sorted().toList();
+            modes.put(entry.getKey().name(), new StartupModeReport(entry.getValue(), sortedSamples.get(0),
+                    sortedSamples.get(sortedSamples.size() / 2), sortedSamples.get(sortedSamples.size() - 1)));
+        }
+        StartupBenchmarkReport report = new StartupBenchmarkReport(properties.getRevision(), startedAt, Runtime.version().toString(),
+                Runtime.getRuntime().availableProcessors(), properties.getIterations(), modes);
+        Path reportPath = LoadTestReportWriter.writeReport(objectMapper, report, outputDirectory);
+        log.info(REPORT_WRITTEN_MSG, reportPath, objectMapper.writeValueAsString(report));
+    }
+}
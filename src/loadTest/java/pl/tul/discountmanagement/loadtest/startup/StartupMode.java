@@ -0,0 +1,56 @@
+package pl.tul.discountmanagement.loadtest.startup;
+
+import pl.tul.discountmanagement.loadtest.config.StartupBenchmarkProperties;
+
+import java.util.List;
+
+/**
+ * JVM configurations compared by the startup benchmark.
+ */
+public enum StartupMode {
+
+    /**
+     * Plain JVM startup, with the bean definitions resolved by reflection and classes loaded from the jars.
+     */
+    DEFAULT {
+        @Override
+        List<String> jvmArguments(StartupBenchmarkProperties properties) {
+            return List.of();
+        }
+    },
+
+    /**
+     * Classes loaded from the class data sharing archive produced by the training run.
+     */
+    CDS {
+        @Override
+        List<String> jvmArguments(StartupBenchmarkProperties properties) {
+            return List.of(SHARED_ARCHIVE_FILE_ARGUMENT + properties.getCdsArchive());
+        }
+    },
+
+    /**
+     * Bean definitions generated ahead-of-time, requires the application to be built with '-Paot'.
+     */
+    AOT {
+        @Override
+        List<String> jvmArguments(StartupBenchmarkProperties properties) {
+            return List.of(AOT_ENABLED_ARGUMENT);
+        }
+    },
+
+    /**
+     * Bean definitions generated ahead-of-time and classes loaded from the class data sharing archive.
+     */
+    AOT_CDS {
+        @Override
+        List<String> jvmArguments(StartupBenchmarkProperties properties) {
+            return List.of(AOT_ENABLED_ARGUMENT, SHARED_ARCHIVE_FILE_ARGUMENT + properties.getCdsArchive());
+        }
+    };
+
+    private static final String SHARED_ARCHIVE_FILE_ARGUMENT = "-XX:SharedArchiveFile=";
+    private static final String AOT_ENABLED_ARGUMENT = "-Dspring.aot.enabled=true";
+
+    abstract List<String> jvmArguments(StartupBenchmarkProperties properties);
+}
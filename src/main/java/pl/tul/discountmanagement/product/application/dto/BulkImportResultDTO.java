@@ -0,0 +1,25 @@
+package pl.tul.discountmanagement.product.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import pl.tul.discountmanagement.product.domain.model.BulkImportTarget;
+
+import java.util.UUID;
+
+/**
+ * The DTO class for a bulk import result.
+ */
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+@Builder
+public class BulkImportResultDTO {
+
+    private final UUID importId;
+    private final BulkImportTarget target;
+    private final long importedRows;
+    private final long skippedRows;
+    private final int committedChunks;
+}
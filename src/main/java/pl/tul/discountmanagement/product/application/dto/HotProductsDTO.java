@@ -0,0 +1,23 @@
+package pl.tul.discountmanagement.product.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The DTO class for the most frequently requested products and quantities, most frequent first.
+ * Both lists are empty when no hot products were recorded.
+ */
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+@Builder
+public class HotProductsDTO {
+
+    private final List<UUID> productIds;
+    private final List<Integer> productQuantities;
+}
@@ -0,0 +1,28 @@
+package pl.tul.discountmanagement.product.application.dto;
+
+import jakarta.annotation.Nullable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * The DTO class for a product change with the current product snapshot.
+ * The snapshot is absent when the product has been deleted.
+ */
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+@Builder
+public class ProductChangeDTO {
+
+    private final long sequenceNumber;
+    private final UUID productId;
+    private final Instant changedAt;
+    private final boolean deleted;
+    @Nullable
+    private final ProductDTO product;
+}
@@ -0,0 +1,22 @@
+package pl.tul.discountmanagement.product.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * The DTO class for a page of the product change feed.
+ */
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+@Builder
+public class ProductChangesDTO {
+
+    private final List<ProductChangeDTO> changes;
+    private final long lastSequenceNumber;
+    private final boolean hasMore;
+}
@@ -0,0 +1,44 @@
+package pl.tul.discountmanagement.product.application.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder event emitted for each product price calculation.
+ * The event duration covers the whole use case, including the product lookup.
+ */
+@Name(CalculateProductPriceEvent.NAME)
+@Label("Calculate Product Price")
+@Description("Calculation of a product price for a given quantity")
+@Category({"Discount Management", "Pricing"})
+@StackTrace(false)
+public class CalculateProductPriceEvent extends Event {
+
+    public static final String NAME = "pl.tul.discountmanagement.CalculateProductPrice";
+
+    @Label("Product Id")
+    public String productId;
+
+    @Label("Product Quantity")
+    public int productQuantity;
+
+    @Label("Found")
+    @Description("Whether the product was found")
+    public boolean found;
+
+    @Label("Tier Count")
+    @Description("Number of quantity-based discounts assigned to the product")
+    public int tierCount;
+
+    @Label("Percentage-Based Rate")
+    @Description("Applied percentage-based discount rate, zero when not applied")
+    public int percentageBasedRate;
+
+    @Label("Quantity-Based Rate")
+    @Description("Applied quantity-based discount rate, zero when not applied")
+    public int quantityBasedRate;
+}
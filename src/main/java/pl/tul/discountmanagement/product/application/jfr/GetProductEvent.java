@@ -0,0 +1,36 @@
+package pl.tul.discountmanagement.product.application.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder event emitted for each product lookup made by the get product use case.
+ */
+@Name(GetProductEvent.NAME)
+@Label("Get Product")
+@Description("Lookup of a product together with its discounts")
+@Category({"Discount Management", "Pricing"})
+@StackTrace(false)
+public class GetProductEvent extends Event {
+
+    public static final String NAME = "pl.tul.discountmanagement.GetProduct";
+
+    @Label("Product Id")
+    public String productId;
+
+    @Label("Found")
+    @Description("Whether the product was found")
+    public boolean found;
+
+    @Label("Tier Count")
+    @Description("Number of quantity-based discounts assigned to the product")
+    public int tierCount;
+
+    @Label("Percentage-Based Rate")
+    @Description("Rate of the percentage-based discount assigned to the product, zero when not assigned")
+    public int percentageBasedRate;
+}
@@ -0,0 +1,26 @@
+package pl.tul.discountmanagement.product.application.port.in;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.UUID;
+import pl.tul.discountmanagement.product.application.dto.BulkImportResultDTO;
+import pl.tul.discountmanagement.product.domain.model.BulkImportTarget;
+
+/**
+ * Use case for bulk upserting products, discounts and tier assignments.
+ */
+public interface BulkImportUseCase {
+
+    /**
+     * Upsert records read from given CSV content in chunks, each chunk committed in a separate transaction.
+     * The import is resumable - rows committed by a previous attempt with the same import identifier are skipped.
+     *
+     * @param importId given import identifier.
+     * @param target the kind of the imported records.
+     * @param csvContent RFC 4180 CSV content with a header line, quoted fields may contain line breaks.
+     * @param chunkSize number of rows committed in a single transaction.
+     * @return the result of the import.
+     * @throws IOException when the CSV content cannot be read.
+     */
+    BulkImportResultDTO importRecords(UUID importId, BulkImportTarget target, Reader csvContent, int chunkSize) throws IOException;
+}
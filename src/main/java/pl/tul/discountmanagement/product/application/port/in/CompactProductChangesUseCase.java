@@ -0,0 +1,19 @@
+package pl.tul.discountmanagement.product.application.port.in;
+
+import java.time.Duration;
+
+/**
+ * Use case for compacting the product change feed.
+ */
+public interface CompactProductChangesUseCase {
+
+    /**
+     * Remove change feed entries superseded by a newer entry of the same product, as well as entries of deleted
+     * products older than given retention.
+     *
+     * @param deletedProductRetention retention of the entries of deleted products.
+     * @param batchSize maximal number of entries removed in a single statement.
+     * @return the number of removed entries.
+     */
+    int compactProductChanges(Duration deletedProductRetention, int batchSize);
+}
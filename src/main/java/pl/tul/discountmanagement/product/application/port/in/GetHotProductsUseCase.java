@@ -0,0 +1,17 @@
+package pl.tul.discountmanagement.product.application.port.in;
+
+import pl.tul.discountmanagement.product.application.dto.HotProductsDTO;
+
+/**
+ * Use case for retrieving the most frequently requested products and quantities, e.g. to warm the application up with them.
+ */
+public interface GetHotProductsUseCase {
+
+    /**
+     * Return the hot products and quantities recorded last, e.g. by the previous application run.
+     *
+     * @param limit maximal number of returned products.
+     * @return the hot products and quantities, most frequent first.
+     */
+    HotProductsDTO getHotProducts(int limit);
+}
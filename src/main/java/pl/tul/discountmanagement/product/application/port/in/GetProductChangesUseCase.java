@@ -0,0 +1,19 @@
+package pl.tul.discountmanagement.product.application.port.in;
+
+import pl.tul.discountmanagement.product.application.dto.ProductChangesDTO;
+
+/**
+ * Use case for reading the product change feed incrementally.
+ */
+public interface GetProductChangesUseCase {
+
+    /**
+     * Return changes recorded after given sequence number, in the order of their sequence numbers, together with
+     * the current snapshots of the changed products. Multiple changes of the same product are reported once.
+     *
+     * @param sinceSequenceNumber the sequence number of the last change already processed by the consumer.
+     * @param limit maximal number of change feed entries to be read.
+     * @return a page of the product change feed.
+     */
+    ProductChangesDTO getProductChanges(long sinceSequenceNumber, int limit);
+}
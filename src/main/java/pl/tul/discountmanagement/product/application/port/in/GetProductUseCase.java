@@ -1,5 +1,6 @@
 package pl.tul.discountmanagement.product.application.port.in;
 
+import java.util.List;
 import java.util.UUID;
 import pl.tul.discountmanagement.product.application.dto.ProductDTO;
 import pl.tul.discountmanagement.product.domain.exception.ProductNotFoundException;
@@ -17,4 +18,20 @@ public interface GetProductUseCase {
      * @throws ProductNotFoundException when product is not found for given identifier.
      */
     ProductDTO getProductById(UUID productId) throws ProductNotFoundException;
+
+    /**
+     * Return identifiers of the first products of the catalog, ordered by identifier.
+     *
+     * @param limit maximal number of returned identifiers.
+     * @return the product identifiers.
+     */
+    List<UUID> getProductIds(int limit);
+
+    /**
+     * Return boolean indicating whether reading the product details or price is served without querying the database.
+     *
+     * @param productId given product identifier.
+     * @return boolean indicating whether reading the product is served without querying the database.
+     */
+    boolean isProductReadWithoutDatabase(UUID productId);
 }
@@ -0,0 +1,15 @@
+package pl.tul.discountmanagement.product.application.port.in;
+
+/**
+ * Use case for publishing committed product changes to the product change feed.
+ */
+public interface PublishProductChangesUseCase {
+
+    /**
+     * Publish committed changes not yet published to the feed, in the order of their commits.
+     *
+     * @param batchSize maximal number of changes published at once.
+     * @return the number of published changes.
+     */
+    int publishProductChanges(int batchSize);
+}
@@ -0,0 +1,31 @@
+package pl.tul.discountmanagement.product.application.port.out.audit;
+
+import jakarta.annotation.Nullable;
+import pl.tul.discountmanagement.product.domain.model.PercentageBasedDiscount;
+import pl.tul.discountmanagement.product.domain.model.QuantityBasedDiscount;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Port for auditing calculated product prices.
+ * Implementations are invoked on the request path, so they must be cheap and must not block.
+ */
+public interface PriceAuditPort {
+
+    /**
+     * Record a calculated product price.
+     *
+     * @param productId the product identifier.
+     * @param productQuantity the product quantity.
+     * @param percentageBasedDiscount the applied percentage-based discount, null if none was applied.
+     * @param quantityBasedDiscount the applied quantity-based discount, null if none was applied.
+     * @param totalPrice the calculated total price.
+     * @param itemPrice the calculated item price.
+     * @param currencyCode the code of the price currency.
+     */
+    void recordPriceCalculation(UUID productId, int productQuantity,
+                                @Nullable PercentageBasedDiscount percentageBasedDiscount,
+                                @Nullable QuantityBasedDiscount quantityBasedDiscount,
+                                BigDecimal totalPrice, BigDecimal itemPrice, String currencyCode);
+}
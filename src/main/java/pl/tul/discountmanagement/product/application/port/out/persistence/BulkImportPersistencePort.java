@@ -0,0 +1,29 @@
+package pl.tul.discountmanagement.product.application.port.out.persistence;
+
+import java.util.UUID;
+import pl.tul.discountmanagement.product.domain.model.BulkImportTarget;
+
+/**
+ * Port for bulk import persistence operations.
+ */
+public interface BulkImportPersistencePort {
+
+    /**
+     * Find the number of rows already committed by a given import.
+     *
+     * @param importId the import identifier.
+     * @param target the kind of the imported records.
+     * @return the number of committed rows, zero for a new import.
+     */
+    long findCommittedRows(UUID importId, BulkImportTarget target);
+
+    /**
+     * Upsert a chunk of CSV records and record the import progress within a single transaction.
+     *
+     * @param importId the import identifier.
+     * @param target the kind of the imported records.
+     * @param csvChunk CSV records without the header line.
+     * @param committedRows the number of rows committed by the import once the chunk is committed.
+     */
+    void importChunk(UUID importId, BulkImportTarget target, String csvChunk, long committedRows);
+}
@@ -0,0 +1,66 @@
+package pl.tul.discountmanagement.product.application.port.out.persistence;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import pl.tul.discountmanagement.product.domain.model.Product;
+import pl.tul.discountmanagement.product.domain.model.ProductChange;
+
+/**
+ * Port for product change feed persistence operations.
+ */
+public interface ProductChangePersistencePort {
+
+    /**
+     * Find changes published after given sequence number.
+     *
+     * @param sinceSequenceNumber the exclusive lower bound of the sequence number.
+     * @param limit maximal number of changes to be returned.
+     * @return the changes ordered by sequence number.
+     */
+    List<ProductChange> findChangesSince(long sinceSequenceNumber, int limit);
+
+    /**
+     * Find the sequence number of the last published change. The changes published afterwards get greater sequence numbers,
+     * and all the changes up to the returned one were committed before the call.
+     *
+     * @return the sequence number or zero when no change has been published yet.
+     */
+    long findLastSequenceNumber();
+
+    /**
+     * Find the current snapshots of the changed products, read from the database within the transaction of the caller,
+     * so that they are consistent with the changes read in the same transaction.
+     *
+     * @param productIds the identifiers of the changed products.
+     * @return the found products, identifiers without a matching product (deleted products) are skipped.
+     */
+    List<Product> findChangedProducts(Collection<UUID> productIds);
+
+    /**
+     * Publish committed changes by assigning them the subsequent sequence numbers of the feed.
+     * Changes are published by a single publisher at a time, so the sequence numbers follow the commit order of the changes.
+     *
+     * @param batchSize maximal number of changes to be published.
+     * @return the number of published changes, zero when the changes are being published by another publisher.
+     */
+    int publishChanges(int batchSize);
+
+    /**
+     * Delete changes superseded by a newer change of the same product.
+     *
+     * @param batchSize maximal number of changes to be deleted.
+     * @return the number of deleted changes.
+     */
+    int deleteSupersededChanges(int batchSize);
+
+    /**
+     * Delete changes of products which no longer exist, recorded before given instant.
+     *
+     * @param changedBefore the exclusive upper bound of the change time.
+     * @param batchSize maximal number of changes to be deleted.
+     * @return the number of deleted changes.
+     */
+    int deleteChangesOfDeletedProducts(Instant changedBefore, int batchSize);
+}
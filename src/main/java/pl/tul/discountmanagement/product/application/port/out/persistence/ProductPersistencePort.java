@@ -1,5 +1,7 @@
 package pl.tul.discountmanagement.product.application.port.out.persistence;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import pl.tul.discountmanagement.product.domain.model.Product;
@@ -16,4 +18,28 @@ public interface ProductPersistencePort {
      * @return an Optional containing the product if found, or empty otherwise.
      */
     Optional<Product> findById(UUID productId);
+
+    /**
+     * Find products by their unique identifiers.
+     *
+     * @param productIds the product identifiers.
+     * @return the found products, identifiers without a matching product are skipped.
+     */
+    List<Product> findAllByIds(Collection<UUID> productIds);
+
+    /**
+     * Find identifiers of the first products of the catalog, ordered by identifier.
+     *
+     * @param limit maximal number of returned identifiers.
+     * @return the product identifiers.
+     */
+    List<UUID> findProductIds(int limit);
+
+    /**
+     * Return boolean indicating whether reading the product is served without querying the database.
+     *
+     * @param productId the product identifier.
+     * @return boolean indicating whether reading the product is served without querying the database.
+     */
+    boolean isReadWithoutDatabase(UUID productId);
 }
@@ -0,0 +1,18 @@
+package pl.tul.discountmanagement.product.application.port.out.tracking;
+
+import pl.tul.discountmanagement.product.domain.model.HotProducts;
+
+import java.util.Optional;
+
+/**
+ * Port for reading the hot products recorded by the product lookup tracking, e.g. by the previous application run.
+ */
+public interface HotProductsPort {
+
+    /**
+     * Return the hot products recorded last.
+     *
+     * @return the hot products, or empty when none were recorded.
+     */
+    Optional<HotProducts> findRecordedHotProducts();
+}
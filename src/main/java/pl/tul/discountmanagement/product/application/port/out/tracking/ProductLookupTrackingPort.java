@@ -0,0 +1,25 @@
+package pl.tul.discountmanagement.product.application.port.out.tracking;
+
+import java.util.UUID;
+
+/**
+ * Port for tracking product lookups, e.g. to find frequently requested products and quantities.
+ * Implementations are invoked on the request path, so they must be cheap and must not block.
+ */
+public interface ProductLookupTrackingPort {
+
+    /**
+     * Record a lookup of a product.
+     *
+     * @param productId the product identifier.
+     */
+    void recordProductLookup(UUID productId);
+
+    /**
+     * Record a price calculation of a product.
+     *
+     * @param productId the product identifier.
+     * @param productQuantity the product quantity.
+     */
+    void recordPriceCalculation(UUID productId, int productQuantity);
+}
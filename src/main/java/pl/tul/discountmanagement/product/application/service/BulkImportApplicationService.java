@@ -0,0 +1,104 @@
+package pl.tul.discountmanagement.product.application.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import pl.tul.discountmanagement.product.application.dto.BulkImportResultDTO;
+import pl.tul.discountmanagement.product.application.port.in.BulkImportUseCase;
+import pl.tul.discountmanagement.product.application.port.out.persistence.BulkImportPersistencePort;
+import pl.tul.discountmanagement.product.domain.model.BulkImportTarget;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.UUID;
+
+/**
+ * Application service implementing bulk import use case.
+ * Splits the CSV content into chunks of records, which are upserted and committed one by one. Rows are counted as CSV
+ * records rather than lines, so a record with a quoted multi-line field is neither split nor miscounted on resume.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BulkImportApplicationService implements BulkImportUseCase {
+
+    private static final char LINE_SEPARATOR = '\n';
+    private static final String IMPORT_RESUMED_MSG = "Resuming '{}' import with id '{}', skipping '{}' committed row(s).";
+    private static final String CHUNK_COMMITTED_MSG = "Committed chunk of '{}' row(s) of '{}' import with id '{}', '{}' row(s) committed in total.";
+    private static final String IMPORT_FINISHED_MSG = "Finished '{}' import with id '{}', '{}' row(s) imported in '{}' chunk(s) and '{}' ms.";
+
+    private final BulkImportPersistencePort bulkImportPersistencePort;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BulkImportResultDTO importRecords(UUID importId, BulkImportTarget target, Reader csvContent, int chunkSize) throws IOException {
+        long startTime = System.currentTimeMillis();
+        CsvRecordReader recordReader = new CsvRecordReader(csvContent);
+        long committedRows = bulkImportPersistencePort.findCommittedRows(importId, target);
+        long skippedRows = skipHeaderAndCommittedRows(recordReader, committedRows);
+        if (skippedRows > 0) {
+            log.info(IMPORT_RESUMED_MSG, target, importId, skippedRows);
+        }
+        long importedRows = 0;
+        int committedChunks = 0;
+        StringBuilder chunk = new StringBuilder();
+        int chunkRows = 0;
+        int recordStart = 0;
+        while (recordReader.readRecord(chunk)) {
+            chunkRows++;
+            if (isBlank(chunk, recordStart)) {
+                chunk.setLength(recordStart);
+            } else {
+                chunk.append(LINE_SEPARATOR);
+            }
+            if (chunkRows == chunkSize) {
+                committedRows += chunkRows;
+                commitChunk(importId, target, chunk, chunkRows, committedRows);
+                importedRows += chunkRows;
+                committedChunks++;
+                chunk.setLength(0);
+                chunkRows = 0;
+            }
+            recordStart = chunk.length();
+        }
+        if (chunkRows > 0) {
+            committedRows += chunkRows;
+            commitChunk(importId, target, chunk, chunkRows, committedRows);
+            importedRows += chunkRows;
+            committedChunks++;
+        }
+        log.info(IMPORT_FINISHED_MSG, target, importId, importedRows, committedChunks, System.currentTimeMillis() - startTime);
+        return BulkImportResultDTO.builder()
+                .importId(importId)
+                .target(target)
+                .importedRows(importedRows)
+                .skippedRows(skippedRows)
+                .committedChunks(committedChunks)
+                .build();
+    }
+
+    private long skipHeaderAndCommittedRows(CsvRecordReader recordReader, long committedRows) throws IOException {
+        recordReader.readRecord(null);
+        long skippedRows = 0;
+        while (skippedRows < committedRows && recordReader.readRecord(null)) {
+            skippedRows++;
+        }
+        return skippedRows;
+    }
+
+    private boolean isBlank(StringBuilder chunk, int recordStart) {
+        for (int i = recordStart; i < chunk.length(); i++) {
+            if (!Character.isWhitespace(chunk.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void commitChunk(UUID importId, BulkImportTarget target, StringBuilder chunk, int chunkRows, long committedRows) {
+        bulkImportPersistencePort.importChunk(importId, target, chunk.toString(), committedRows);
+        log.debug(CHUNK_COMMITTED_MSG, chunkRows, target, importId, committedRows);
+    }
+}
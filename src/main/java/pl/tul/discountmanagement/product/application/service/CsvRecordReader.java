@@ -0,0 +1,74 @@
+package pl.tul.discountmanagement.product.application.service;
+
+import jakarta.annotation.Nullable;
+
+import java.io.IOException;
+import java.io.Reader;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * Reader splitting CSV content into records according to RFC 4180.
+ * A line break enclosed in a quoted field belongs to the field, so a record may span multiple lines. Records are returned
+ * verbatim (fields are neither unquoted nor unescaped), only the line terminator ('\n' or "\r\n") is removed.
+ */
+final class CsvRecordReader {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final char QUOTE = '"';
+    private static final char LINE_FEED = '\n';
+    private static final char CARRIAGE_RETURN = '\r';
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int limit;
+
+    CsvRecordReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Read the next record.
+     *
+     * @param record builder the record is appended to, or null when the record is to be skipped.
+     * @return true if a record was read, false at the end of the content.
+     * @throws IOException when the content cannot be read.
+     */
+    boolean readRecord(@Nullable StringBuilder record) throws IOException {
+        int recordStart = nonNull(record) ? record.length() : 0;
+        boolean quoted = false;
+        boolean read = false;
+        while (position < limit || fillBuffer()) {
+            int start = position;
+            while (position < limit) {
+                char character = buffer[position++];
+                if (character == QUOTE) {
+                    // an escaped quote ("") toggles the state twice, leaving it unchanged
+                    quoted = !quoted;
+                } else if (character == LINE_FEED && !quoted) {
+                    if (nonNull(record)) {
+                        record.append(buffer, start, position - 1 - start);
+                        int length = record.length();
+                        if (length > recordStart && record.charAt(length - 1) == CARRIAGE_RETURN) {
+                            record.setLength(length - 1);
+                        }
+                    }
+                    return true;
+                }
+            }
+            read = true;
+            if (nonNull(record)) {
+                record.append(buffer, start, position - start);
+            }
+        }
+        return read;
+    }
+
+    private boolean fillBuffer() throws IOException {
+        int readCharacters = reader.read(buffer, 0, buffer.length);
+        position = 0;
+        limit = Math.max(readCharacters, 0);
+        return readCharacters > 0;
+    }
+}
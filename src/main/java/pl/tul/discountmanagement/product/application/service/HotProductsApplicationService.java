@@ -0,0 +1,30 @@
+package pl.tul.discountmanagement.product.application.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import pl.tul.discountmanagement.product.application.dto.HotProductsDTO;
+import pl.tul.discountmanagement.product.application.port.in.GetHotProductsUseCase;
+import pl.tul.discountmanagement.product.application.port.out.tracking.HotProductsPort;
+
+import java.util.List;
+
+/**
+ * Application service providing the hot products recorded by the product lookup tracking.
+ */
+@Service
+@RequiredArgsConstructor
+public class HotProductsApplicationService implements GetHotProductsUseCase {
+
+    private final HotProductsPort hotProductsPort;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public HotProductsDTO getHotProducts(int limit) {
+        return hotProductsPort.findRecordedHotProducts()
+                .map(hotProducts -> new HotProductsDTO(hotProducts.productIds().stream().limit(limit).toList(),
+                        hotProducts.productQuantities().stream().filter(productQuantity -> productQuantity > 0).toList()))
+                .orElseGet(() -> new HotProductsDTO(List.of(), List.of()));
+    }
+}
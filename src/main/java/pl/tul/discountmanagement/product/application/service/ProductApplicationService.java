@@ -7,17 +7,21 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import pl.tul.discountmanagement.product.application.dto.ProductDTO;
 import pl.tul.discountmanagement.product.application.dto.ProductPriceDTO;
+import pl.tul.discountmanagement.product.application.jfr.CalculateProductPriceEvent;
+import pl.tul.discountmanagement.product.application.jfr.GetProductEvent;
 import pl.tul.discountmanagement.product.application.mapper.ProductDTOMapper;
 import pl.tul.discountmanagement.product.application.port.in.CalculateProductPriceUseCase;
 import pl.tul.discountmanagement.product.application.port.in.GetProductUseCase;
+import pl.tul.discountmanagement.product.application.port.out.audit.PriceAuditPort;
 import pl.tul.discountmanagement.product.application.port.out.persistence.ProductPersistencePort;
+import pl.tul.discountmanagement.product.application.port.out.tracking.ProductLookupTrackingPort;
 import pl.tul.discountmanagement.product.domain.exception.ProductNotFoundException;
 import pl.tul.discountmanagement.product.domain.model.Product;
 import pl.tul.discountmanagement.product.domain.model.QuantityBasedDiscount;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.util.Comparator;
+import java.util.List;
 import java.util.UUID;
 
 import static java.util.Objects.isNull;
@@ -33,26 +37,39 @@ import static java.util.Objects.nonNull;
 public class ProductApplicationService implements GetProductUseCase, CalculateProductPriceUseCase {
 
     private static final int ONE_HUNDRED = 100;
-    private static final String PRICE_FORMAT = "%s %s";
     private static final String PRODUCT_FOUND_MSG = "Found product with id '{}'.";
     private static final String PRODUCT_NOT_FOUND_MSG = "Product with id '{}' not found.";
-    private static final String PRODUCT_PRICE_CALCULATED_MSG = "Product price calculated for product with id '{}' and quantity '{}', total price is '{}' and item price is '{}'.";
     private static final String PRODUCT_QUANTITY_ERROR_MSG = "Product quantity must be greater than 0.";
-    private static final String MATCHING_PERCENTAGE_BASED_DISCOUNT_MSG = "Found matching percentage based discount for product with id '{}' with rate of '{}'%.";
-    private static final String MATCHING_QUANTITY_BASED_DISCOUNT_MSG = "Found matching quantity based discount for product with id '{}' with rate of '{}'%.";
     private static final String DISCOUNTS_SUM_EQUALS_TO_OR_MORE_THAN_100_PERCENT_MSG = "Product discounts sum to equals to or more than 100%, returning price of zero.";
 
     private final ProductPersistencePort productPersistencePort;
     private final ProductDTOMapper productDTOMapper;
+    private final ProductLookupTrackingPort productLookupTrackingPort;
+    private final PriceAuditPort priceAuditPort;
 
     /**
      * {@inheritDoc}
      */
     @Override
-    @Transactional(readOnly = true)
     public ProductDTO getProductById(UUID productId) throws ProductNotFoundException {
-        Product product = getProduct(productId);
-        return productDTOMapper.domainToDTO(product);
+        productLookupTrackingPort.recordProductLookup(productId);
+        GetProductEvent event = new GetProductEvent();
+        event.begin();
+        try {
+            Product product = getProduct(productId);
+            log.info(PRODUCT_FOUND_MSG, productId);
+            event.found = true;
+            event.tierCount = getTierCount(product);
+            if (nonNull(product.percentageBasedDiscount())) {
+                event.percentageBasedRate = product.percentageBasedDiscount().getPercentageRate();
+            }
+            return productDTOMapper.domainToDTO(product);
+        } finally {
+            if (event.shouldCommit()) {
+                event.productId = String.valueOf(productId);
+                event.commit();
+            }
+        }
     }
 
     /**
@@ -60,38 +77,65 @@ public class ProductApplicationService implements GetProductUseCase, CalculatePr
      */
     @Override
     @Transactional(readOnly = true)
+    public List<UUID> getProductIds(int limit) {
+        return productPersistencePort.findProductIds(limit);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isProductReadWithoutDatabase(UUID productId) {
+        return productPersistencePort.isReadWithoutDatabase(productId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
     public ProductPriceDTO calculateProductPrice(UUID productId, int productQuantity) throws ProductNotFoundException {
         throwIfInvalidProductQuantity(productQuantity);
-        Product product = getProduct(productId);
-        int discountRate = 0;
-        var percentageBasedDiscount = product.percentageBasedDiscount();
-        if (nonNull(percentageBasedDiscount)) {
-            log.info(MATCHING_PERCENTAGE_BASED_DISCOUNT_MSG, productId, percentageBasedDiscount.getPercentageRate());
-            discountRate += percentageBasedDiscount.getPercentageRate();
+        productLookupTrackingPort.recordPriceCalculation(productId, productQuantity);
+        CalculateProductPriceEvent event = new CalculateProductPriceEvent();
+        event.begin();
+        try {
+            Product product = getProduct(productId);
+            event.found = true;
+            event.tierCount = getTierCount(product);
+            int discountRate = 0;
+            var percentageBasedDiscount = product.percentageBasedDiscount();
+            if (nonNull(percentageBasedDiscount)) {
+                discountRate += percentageBasedDiscount.getPercentageRate();
+                event.percentageBasedRate = percentageBasedDiscount.getPercentageRate();
+            }
+            QuantityBasedDiscount matchingQuantityBasedDiscount = getMatchingQuantityBasedDiscount(product, productQuantity);
+            if (nonNull(matchingQuantityBasedDiscount)) {
+                discountRate += matchingQuantityBasedDiscount.getPercentageRate();
+                event.quantityBasedRate = matchingQuantityBasedDiscount.getPercentageRate();
+            }
+            BigDecimal totalPrice = calculateDiscountedTotalPrice(product, productQuantity, discountRate);
+            int fractionDigits = product.currency().fractionDigits();
+            BigDecimal itemPrice = totalPrice.divide(BigDecimal.valueOf(productQuantity), RoundingMode.HALF_UP)
+                    .setScale(fractionDigits, RoundingMode.HALF_UP);
+            priceAuditPort.recordPriceCalculation(productId, productQuantity, percentageBasedDiscount,
+                    matchingQuantityBasedDiscount, totalPrice, itemPrice, product.currency().currencyCode());
+            return productDTOMapper.toPriceDTO(product, percentageBasedDiscount, matchingQuantityBasedDiscount,
+                    productQuantity, totalPrice, itemPrice);
+        } finally {
+            if (event.shouldCommit()) {
+                event.productId = String.valueOf(productId);
+                event.productQuantity = productQuantity;
+                event.commit();
+            }
         }
-        QuantityBasedDiscount matchingQuantityBasedDiscount = getMatchingQuantityBasedDiscount(product, productQuantity);
-        if (nonNull(matchingQuantityBasedDiscount)) {
-            log.info(MATCHING_QUANTITY_BASED_DISCOUNT_MSG, productId, matchingQuantityBasedDiscount.getPercentageRate());
-            discountRate += matchingQuantityBasedDiscount.getPercentageRate();
-        }
-        BigDecimal totalPrice = calculateDiscountedTotalPrice(product, productQuantity, discountRate);
-        int fractionDigits = product.currency().fractionDigits();
-        BigDecimal itemPrice = totalPrice.divide(BigDecimal.valueOf(productQuantity), RoundingMode.HALF_UP)
-                .setScale(fractionDigits, RoundingMode.HALF_UP);
-        log.info(PRODUCT_PRICE_CALCULATED_MSG, productId, productQuantity,
-                formatPrice(totalPrice, product), formatPrice(itemPrice, product));
-        return productDTOMapper.toPriceDTO(product, percentageBasedDiscount, matchingQuantityBasedDiscount,
-                productQuantity, totalPrice, itemPrice);
     }
 
     private Product getProduct(UUID productId) throws ProductNotFoundException {
-        Product product = productPersistencePort.findById(productId)
+        return productPersistencePort.findById(productId)
                 .orElseThrow(() -> {
                     log.error(PRODUCT_NOT_FOUND_MSG, productId);
                     return new ProductNotFoundException(productId);
                 });
-        log.info(PRODUCT_FOUND_MSG, productId);
-        return product;
     }
 
     @Nullable
@@ -99,12 +143,21 @@ public class ProductApplicationService implements GetProductUseCase, CalculatePr
         if (isNull(product.quantityBasedDiscounts())) {
             return null;
         }
-        return product.quantityBasedDiscounts()
-                .stream()
-                .filter(quantityBasedDiscount -> quantityBasedDiscount.getLowerItemsThreshold() <= productQuantity &&
-                        (isNull(quantityBasedDiscount.getUpperItemsThreshold()) || quantityBasedDiscount.getUpperItemsThreshold() >= productQuantity))
-                .max(Comparator.comparingInt(QuantityBasedDiscount::getPercentageRate))
-                .orElse(null);
+        QuantityBasedDiscount matchingQuantityBasedDiscount = null;
+        for (QuantityBasedDiscount quantityBasedDiscount : product.quantityBasedDiscounts()) {
+            Integer upperItemsThreshold = quantityBasedDiscount.getUpperItemsThreshold();
+            boolean matching = quantityBasedDiscount.getLowerItemsThreshold() <= productQuantity &&
+                    (isNull(upperItemsThreshold) || upperItemsThreshold >= productQuantity);
+            if (matching && (isNull(matchingQuantityBasedDiscount) ||
+                    quantityBasedDiscount.getPercentageRate() > matchingQuantityBasedDiscount.getPercentageRate())) {
+                matchingQuantityBasedDiscount = quantityBasedDiscount;
+            }
+        }
+        return matchingQuantityBasedDiscount;
+    }
+
+    private int getTierCount(Product product) {
+        return isNull(product.quantityBasedDiscounts()) ? 0 : product.quantityBasedDiscounts().size();
     }
 
     private BigDecimal calculateDiscountedTotalPrice(Product product, int productQuantity, int discountRate) {
@@ -123,10 +176,6 @@ public class ProductApplicationService implements GetProductUseCase, CalculatePr
         return discountedPrice.setScale(fractionDigits, RoundingMode.HALF_UP);
     }
 
-    private String formatPrice(BigDecimal price, Product product) {
-        return PRICE_FORMAT.formatted(price, product.currency().currencyCode());
-    }
-
     private void throwIfInvalidProductQuantity(int productQuantity) {
         if (productQuantity > 0) {
             return;
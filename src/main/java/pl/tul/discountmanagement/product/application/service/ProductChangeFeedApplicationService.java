@@ -0,0 +1,111 @@
+package pl.tul.discountmanagement.product.application.service;
+
+import jakarta.annotation.Nullable;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import pl.tul.discountmanagement.product.application.dto.ProductChangeDTO;
+import pl.tul.discountmanagement.product.application.dto.ProductChangesDTO;
+import pl.tul.discountmanagement.product.application.mapper.ProductDTOMapper;
+import pl.tul.discountmanagement.product.application.port.in.CompactProductChangesUseCase;
+import pl.tul.discountmanagement.product.application.port.in.GetProductChangesUseCase;
+import pl.tul.discountmanagement.product.application.port.in.PublishProductChangesUseCase;
+import pl.tul.discountmanagement.product.application.port.out.persistence.ProductChangePersistencePort;
+import pl.tul.discountmanagement.product.domain.model.Product;
+import pl.tul.discountmanagement.product.domain.model.ProductChange;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Application service implementing product change feed use cases.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProductChangeFeedApplicationService implements GetProductChangesUseCase, PublishProductChangesUseCase,
+        CompactProductChangesUseCase {
+
+    private static final String PRODUCT_CHANGES_READ_MSG = "Read '{}' product change(s) of '{}' product(s) since sequence number '{}'.";
+    private static final String PRODUCT_CHANGES_PUBLISHED_MSG = "Published '{}' product change(s).";
+    private static final String PRODUCT_CHANGES_COMPACTED_MSG = "Compacted product change feed, '{}' superseded and '{}' deleted product change(s) removed.";
+
+    private final ProductChangePersistencePort productChangePersistencePort;
+    private final ProductDTOMapper productDTOMapper;
+
+    /**
+     * {@inheritDoc}
+     * Changes and snapshots are read from the database within a single repeatable read transaction, so the snapshots are
+     * not older than the returned changes - the in-memory catalog may not have caught up with them yet.
+     */
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public ProductChangesDTO getProductChanges(long sinceSequenceNumber, int limit) {
+        List<ProductChange> changes = productChangePersistencePort.findChangesSince(sinceSequenceNumber, limit);
+        Map<UUID, ProductChange> latestChanges = new LinkedHashMap<>();
+        changes.forEach(change -> latestChanges.put(change.productId(), change));
+        Map<UUID, Product> products = productChangePersistencePort.findChangedProducts(latestChanges.keySet())
+                .stream()
+                .collect(Collectors.toMap(Product::id, Function.identity()));
+        List<ProductChangeDTO> changeDTOs = latestChanges.values()
+                .stream()
+                .sorted(Comparator.comparingLong(ProductChange::sequenceNumber))
+                .map(change -> toChangeDTO(change, products.get(change.productId())))
+                .toList();
+        long lastSequenceNumber = changes.isEmpty() ? sinceSequenceNumber : changes.get(changes.size() - 1).sequenceNumber();
+        log.debug(PRODUCT_CHANGES_READ_MSG, changes.size(), changeDTOs.size(), sinceSequenceNumber);
+        return ProductChangesDTO.builder()
+                .changes(changeDTOs)
+                .lastSequenceNumber(lastSequenceNumber)
+                .hasMore(changes.size() == limit)
+                .build();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public int publishProductChanges(int batchSize) {
+        int publishedChanges = productChangePersistencePort.publishChanges(batchSize);
+        if (publishedChanges > 0) {
+            log.debug(PRODUCT_CHANGES_PUBLISHED_MSG, publishedChanges);
+        }
+        return publishedChanges;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public int compactProductChanges(Duration deletedProductRetention, int batchSize) {
+        int supersededChanges = productChangePersistencePort.deleteSupersededChanges(batchSize);
+        Instant changedBefore = Instant.now().minus(deletedProductRetention);
+        int deletedProductChanges = productChangePersistencePort.deleteChangesOfDeletedProducts(changedBefore, batchSize);
+        log.info(PRODUCT_CHANGES_COMPACTED_MSG, supersededChanges, deletedProductChanges);
+        return supersededChanges + deletedProductChanges;
+    }
+
+    private ProductChangeDTO toChangeDTO(ProductChange change, @Nullable Product product) {
+        return ProductChangeDTO.builder()
+                .sequenceNumber(change.sequenceNumber())
+                .productId(change.productId())
+                .changedAt(change.changedAt())
+                .deleted(isNull(product))
+                .product(nonNull(product) ? productDTOMapper.domainToDTO(product) : null)
+                .build();
+    }
+}
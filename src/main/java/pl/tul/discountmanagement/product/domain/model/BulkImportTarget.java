@@ -0,0 +1,11 @@
+package pl.tul.discountmanagement.product.domain.model;
+
+/**
+ * Kind of records handled by a bulk import.
+ */
+public enum BulkImportTarget {
+    PRODUCT,
+    PERCENTAGE_BASED_DISCOUNT,
+    QUANTITY_BASED_DISCOUNT,
+    TIER_ASSIGNMENT
+}
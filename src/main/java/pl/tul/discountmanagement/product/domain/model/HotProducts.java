@@ -0,0 +1,11 @@
+package pl.tul.discountmanagement.product.domain.model;
+
+import java.util.List;
+import java.util.UUID;
+import lombok.Builder;
+
+/**
+ * Domain value object representing the most frequently requested products and quantities, most frequent first.
+ */
+@Builder
+public record HotProducts(List<UUID> productIds, List<Integer> productQuantities) {}
@@ -0,0 +1,11 @@
+package pl.tul.discountmanagement.product.domain.model;
+
+import java.time.Instant;
+import java.util.UUID;
+import lombok.Builder;
+
+/**
+ * Domain value object representing a single entry of the product change feed.
+ */
+@Builder
+public record ProductChange(long sequenceNumber, UUID productId, Instant changedAt) {}
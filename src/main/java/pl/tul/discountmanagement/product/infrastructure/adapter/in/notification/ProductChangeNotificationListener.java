@@ -0,0 +1,182 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.in.notification;
+
+import jakarta.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import pl.tul.discountmanagement.product.infrastructure.adapter.in.notification.config.ProductChangeNotificationProperties;
+import pl.tul.discountmanagement.product.infrastructure.adapter.in.notification.event.ProductChangeNotificationEvent;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+
+import static java.util.Objects.nonNull;
+import static org.apache.commons.lang3.BooleanUtils.TRUE;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.in.notification.config.ProductChangeNotificationProperties.ENABLED_PROPERTY;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.in.notification.config.ProductChangeNotificationProperties.PRODUCT_CHANGE_NOTIFICATION_PREFIX;
+
+/**
+ * Listens to the 'product_changes' PostgreSQL notification channel on a dedicated connection, which is not taken from
+ * the connection pool, and publishes each received notification as {@link ProductChangeNotificationEvent}.
+ * When the connection is lost, it is re-established with exponential backoff. Since notifications sent in the meantime
+ * are lost, a full flush event is published after every reconnection.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = PRODUCT_CHANGE_NOTIFICATION_PREFIX, name = ENABLED_PROPERTY, havingValue = TRUE)
+public class ProductChangeNotificationListener implements SmartLifecycle {
+
+    public static final String PRODUCT_CHANGES_CHANNEL = "product_changes";
+
+    private static final String LISTEN_STATEMENT = "LISTEN " + PRODUCT_CHANGES_CHANNEL;
+    private static final String LISTENER_THREAD_NAME = "product-change-listener";
+    private static final String USER_PROPERTY = "user";
+    private static final String PASSWORD_PROPERTY = "password";
+    private static final String TCP_KEEP_ALIVE_PROPERTY = "tcpKeepAlive";
+    private static final String APPLICATION_NAME_PROPERTY = "ApplicationName";
+    private static final String LISTENING_MSG = "Listening to '{}' notifications.";
+    private static final String NOTIFICATION_RECEIVED_MSG = "Received '{}' notification: '{}'.";
+    private static final String CONNECTION_LOST_MSG = "Connection listening to '{}' notifications lost, reconnecting in '{}' ms.";
+    private static final String RECONNECTED_MSG = "Reconnected to '{}' notifications, flushing local product caches.";
+    private static final String CONNECTION_INVALID_MSG = "Connection listening to '%s' notifications is no longer valid.";
+
+    private final DataSourceProperties dataSourceProperties;
+    private final ProductChangeNotificationProperties notificationProperties;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final Object connectionLock = new Object();
+    private volatile boolean running;
+    @Nullable
+    private Connection connection;
+    @Nullable
+    private Thread listenerThread;
+
+    public ProductChangeNotificationListener(DataSourceProperties dataSourceProperties,
+                                             ProductChangeNotificationProperties notificationProperties,
+                                             ApplicationEventPublisher applicationEventPublisher) {
+        this.dataSourceProperties = dataSourceProperties;
+        this.notificationProperties = notificationProperties;
+        this.applicationEventPublisher = applicationEventPublisher;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        listenerThread = new Thread(this::listen, LISTENER_THREAD_NAME);
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        closeConnection();
+        if (nonNull(listenerThread)) {
+            listenerThread.interrupt();
+            try {
+                listenerThread.join(notificationProperties.getPollTimeoutInMilliseconds() * 2L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        long backoff = notificationProperties.getReconnectInitialBackoffInMilliseconds();
+        boolean reconnecting = false;
+        while (running) {
+            try {
+                PGConnection pgConnection = openConnection();
+                log.info(LISTENING_MSG, PRODUCT_CHANGES_CHANNEL);
+                if (reconnecting) {
+                    log.info(RECONNECTED_MSG, PRODUCT_CHANGES_CHANNEL);
+                    applicationEventPublisher.publishEvent(ProductChangeNotificationEvent.fullFlush());
+                }
+                backoff = notificationProperties.getReconnectInitialBackoffInMilliseconds();
+                reconnecting = true;
+                receiveNotifications(pgConnection);
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn(CONNECTION_LOST_MSG, PRODUCT_CHANGES_CHANNEL, backoff, e);
+                closeConnection();
+                if (!sleep(backoff)) {
+                    return;
+                }
+                backoff = Math.min(backoff * 2, notificationProperties.getReconnectMaxBackoffInMilliseconds());
+            }
+        }
+    }
+
+    private PGConnection openConnection() throws SQLException {
+        Properties connectionProperties = new Properties();
+        connectionProperties.setProperty(USER_PROPERTY, dataSourceProperties.determineUsername());
+        connectionProperties.setProperty(PASSWORD_PROPERTY, dataSourceProperties.determinePassword());
+        connectionProperties.setProperty(TCP_KEEP_ALIVE_PROPERTY, Boolean.TRUE.toString());
+        connectionProperties.setProperty(APPLICATION_NAME_PROPERTY, LISTENER_THREAD_NAME);
+        Connection newConnection = DriverManager.getConnection(dataSourceProperties.determineUrl(), connectionProperties);
+        synchronized (connectionLock) {
+            connection = newConnection;
+        }
+        try (Statement statement = newConnection.createStatement()) {
+            statement.execute(LISTEN_STATEMENT);
+        }
+        return newConnection.unwrap(PGConnection.class);
+    }
+
+    private void receiveNotifications(PGConnection pgConnection) throws SQLException {
+        while (running) {
+            PGNotification[] notifications = pgConnection.getNotifications(notificationProperties.getPollTimeoutInMilliseconds());
+            if (nonNull(notifications)) {
+                for (PGNotification notification : notifications) {
+                    log.debug(NOTIFICATION_RECEIVED_MSG, notification.getName(), notification.getParameter());
+                    applicationEventPublisher.publishEvent(ProductChangeNotificationEvent.fromPayload(notification.getParameter()));
+                }
+            } else if (!isConnectionValid()) {
+                throw new SQLException(CONNECTION_INVALID_MSG.formatted(PRODUCT_CHANGES_CHANNEL));
+            }
+        }
+    }
+
+    private boolean isConnectionValid() throws SQLException {
+        synchronized (connectionLock) {
+            return nonNull(connection) && connection.isValid(notificationProperties.getConnectionValidationTimeoutInSeconds());
+        }
+    }
+
+    private void closeConnection() {
+        synchronized (connectionLock) {
+            if (nonNull(connection)) {
+                try {
+                    connection.close();
+                } catch (SQLException ignored) {
+                    // the connection is discarded anyway
+                }
+                connection = null;
+            }
+        }
+    }
+
+    private boolean sleep(long milliseconds) {
+        try {
+            Thread.sleep(milliseconds);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.in.notification.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import static pl.tul.discountmanagement.product.infrastructure.adapter.in.notification.config.ProductChangeNotificationProperties.PRODUCT_CHANGE_NOTIFICATION_PREFIX;
+
+/**
+ * Properties of the PostgreSQL LISTEN/NOTIFY based product change notifications.
+ * Properties are configured in the {@code application.yml} files under 'product-change-notification' entry.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = PRODUCT_CHANGE_NOTIFICATION_PREFIX)
+@Configuration
+public class ProductChangeNotificationProperties {
+
+    public static final String PRODUCT_CHANGE_NOTIFICATION_PREFIX = "product-change-notification";
+    public static final String ENABLED_PROPERTY = "enabled";
+
+    /**
+     * Whether the notifications are listened to. Disabled unless set, like the listener itself.
+     */
+    private boolean enabled = false;
+    private int pollTimeoutInMilliseconds = 1000;
+    private int connectionValidationTimeoutInSeconds = 2;
+    private long reconnectInitialBackoffInMilliseconds = 500L;
+    private long reconnectMaxBackoffInMilliseconds = 30000L;
+}
@@ -0,0 +1,66 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.in.notification.event;
+
+import jakarta.annotation.Nullable;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+/**
+ * Event published when products were modified in the database, possibly by another application instance.
+ * Local caches holding product data are expected to drop the affected entries.
+ *
+ * @param sourceTable  the name of the modified table or null when the change is unknown, i.e. after a notification gap.
+ * @param productIds   the identifiers of the affected products.
+ * @param allProducts  whether all the products have to be considered as changed.
+ */
+public record ProductChangeNotificationEvent(@Nullable String sourceTable, Set<UUID> productIds, boolean allProducts) {
+
+    private static final String TABLE_SEPARATOR = ":";
+    private static final String ID_SEPARATOR = ",";
+    private static final String ALL_PRODUCTS = "*";
+
+    /**
+     * Create an event requiring all the local caches to be flushed.
+     *
+     * @return the full flush event.
+     */
+    public static ProductChangeNotificationEvent fullFlush() {
+        return new ProductChangeNotificationEvent(null, Set.of(), true);
+    }
+
+    /**
+     * Parse the payload of a 'product_changes' notification.
+     * The payload has the '&lt;table name&gt;:&lt;comma separated product ids&gt;' format, where '*' stands for all the products.
+     * Malformed payloads are treated as a change of all the products.
+     *
+     * @param payload the notification payload.
+     * @return the parsed event.
+     */
+    public static ProductChangeNotificationEvent fromPayload(String payload) {
+        int separatorIndex = payload.indexOf(TABLE_SEPARATOR);
+        if (separatorIndex <= 0) {
+            return fullFlush();
+        }
+        String sourceTable = payload.substring(0, separatorIndex);
+        String ids = payload.substring(separatorIndex + 1);
+        if (ALL_PRODUCTS.equals(ids)) {
+            return new ProductChangeNotificationEvent(sourceTable, Set.of(), true);
+        }
+        if (isBlank(ids)) {
+            return new ProductChangeNotificationEvent(sourceTable, Set.of(), false);
+        }
+        try {
+            Set<UUID> productIds = Arrays.stream(ids.split(ID_SEPARATOR))
+                    .map(String::trim)
+                    .map(UUID::fromString)
+                    .collect(Collectors.toUnmodifiableSet());
+            return new ProductChangeNotificationEvent(sourceTable, productIds, false);
+        } catch (IllegalArgumentException e) {
+            return new ProductChangeNotificationEvent(sourceTable, Set.of(), true);
+        }
+    }
+}
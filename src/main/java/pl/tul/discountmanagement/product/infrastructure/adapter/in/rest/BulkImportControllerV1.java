@@ -0,0 +1,96 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.in.rest;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import pl.tul.discountmanagement.product.application.dto.BulkImportResultDTO;
+import pl.tul.discountmanagement.product.application.port.in.BulkImportUseCase;
+import pl.tul.discountmanagement.product.domain.model.BulkImportTarget;
+import pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.config.BulkImportProperties;
+import pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.mapper.ProductResponseMapper;
+import pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.response.BulkImportResponseV1;
+import pl.tul.discountmanagement.shared.infrastructure.ratelimit.RateLimited;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.constant.ApiUrls.IMPORT_ENDPOINT_V1;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.constant.ApiUrls.PERCENTAGE_BASED_DISCOUNTS_PATH_URL;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.constant.ApiUrls.PRODUCTS_PATH_URL;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.constant.ApiUrls.QUANTITY_BASED_DISCOUNTS_PATH_URL;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.constant.ApiUrls.TEXT_CSV_VALUE;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.constant.ApiUrls.TIER_ASSIGNMENTS_PATH_URL;
+import static pl.tul.discountmanagement.shared.infrastructure.security.constant.Permissions.WRITE_PRODUCT_PERMISSION;
+import static pl.tul.discountmanagement.shared.infrastructure.security.constant.Permissions.WRITE_PRODUCT_PERMISSION_EXPRESSION;
+
+/**
+ * REST controller class exposing endpoints for bulk upserting products, discounts and tier assignments.
+ * Records are sent as CSV content with a header line, which is streamed into the database in chunks.
+ * Sending the same content again with the same import id resumes an interrupted import.
+ * API V1
+ */
+@RestController
+@RequestMapping(IMPORT_ENDPOINT_V1)
+@RequiredArgsConstructor
+public class BulkImportControllerV1 {
+
+    private final BulkImportUseCase bulkImportUseCase;
+    private final BulkImportProperties bulkImportProperties;
+    private final ProductResponseMapper productResponseMapper;
+
+    /**
+     * Handler for upserting products with columns 'id,name,description,price,currency_id,percentage_based_discount_id'.
+     */
+    @PutMapping(value = "/{importId}/" + PRODUCTS_PATH_URL, consumes = TEXT_CSV_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize(WRITE_PRODUCT_PERMISSION_EXPRESSION)
+    @RateLimited(permission = WRITE_PRODUCT_PERMISSION)
+    public ResponseEntity<BulkImportResponseV1> importProducts(@PathVariable("importId") UUID importId, InputStream csvContent) throws IOException {
+        return importRecords(importId, BulkImportTarget.PRODUCT, csvContent);
+    }
+
+    /**
+     * Handler for upserting percentage-based discounts with columns 'id,percentage_rate'.
+     */
+    @PutMapping(value = "/{importId}/" + PERCENTAGE_BASED_DISCOUNTS_PATH_URL, consumes = TEXT_CSV_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize(WRITE_PRODUCT_PERMISSION_EXPRESSION)
+    @RateLimited(permission = WRITE_PRODUCT_PERMISSION)
+    public ResponseEntity<BulkImportResponseV1> importPercentageBasedDiscounts(@PathVariable("importId") UUID importId, InputStream csvContent) throws IOException {
+        return importRecords(importId, BulkImportTarget.PERCENTAGE_BASED_DISCOUNT, csvContent);
+    }
+
+    /**
+     * Handler for upserting quantity-based discounts with columns 'id,percentage_rate,lower_items_threshold,upper_items_threshold'.
+     */
+    @PutMapping(value = "/{importId}/" + QUANTITY_BASED_DISCOUNTS_PATH_URL, consumes = TEXT_CSV_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize(WRITE_PRODUCT_PERMISSION_EXPRESSION)
+    @RateLimited(permission = WRITE_PRODUCT_PERMISSION)
+    public ResponseEntity<BulkImportResponseV1> importQuantityBasedDiscounts(@PathVariable("importId") UUID importId, InputStream csvContent) throws IOException {
+        return importRecords(importId, BulkImportTarget.QUANTITY_BASED_DISCOUNT, csvContent);
+    }
+
+    /**
+     * Handler for assigning quantity-based discounts to products with columns 'product_id,quantity_based_discount_id'.
+     */
+    @PutMapping(value = "/{importId}/" + TIER_ASSIGNMENTS_PATH_URL, consumes = TEXT_CSV_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize(WRITE_PRODUCT_PERMISSION_EXPRESSION)
+    @RateLimited(permission = WRITE_PRODUCT_PERMISSION)
+    public ResponseEntity<BulkImportResponseV1> importTierAssignments(@PathVariable("importId") UUID importId, InputStream csvContent) throws IOException {
+        return importRecords(importId, BulkImportTarget.TIER_ASSIGNMENT, csvContent);
+    }
+
+    private ResponseEntity<BulkImportResponseV1> importRecords(UUID importId, BulkImportTarget target, InputStream csvContent) throws IOException {
+        try (Reader reader = new InputStreamReader(csvContent, StandardCharsets.UTF_8)) {
+            BulkImportResultDTO result = bulkImportUseCase.importRecords(importId, target, reader, bulkImportProperties.getChunkSize());
+            return ResponseEntity.ok(productResponseMapper.importResultDTOtoResponseV1(result));
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package pl.tul.discountmanagement.product.infrastructure.adapter.in.rest;
 
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,21 +15,32 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
+import pl.tul.discountmanagement.product.application.dto.ProductChangesDTO;
 import pl.tul.discountmanagement.product.application.dto.ProductDTO;
 import pl.tul.discountmanagement.product.application.dto.ProductPriceDTO;
 import pl.tul.discountmanagement.product.application.port.in.CalculateProductPriceUseCase;
+import pl.tul.discountmanagement.product.application.port.in.GetProductChangesUseCase;
 import pl.tul.discountmanagement.product.application.port.in.GetProductUseCase;
 import pl.tul.discountmanagement.product.domain.exception.ProductNotFoundException;
+import pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.response.ProductChangesResponseV1;
 import pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.response.ProductPriceResponseV1;
 import pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.response.ProductResponseV1;
 import pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.mapper.ProductResponseMapper;
+import pl.tul.discountmanagement.shared.infrastructure.ratelimit.RateLimited;
 
 import java.util.UUID;
 
+import static pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.constant.ApiUrls.CHANGES_PATH_URL;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.constant.ApiUrls.DEFAULT_CHANGES_LIMIT;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.constant.ApiUrls.LIMIT_REQUEST_PARAMETER;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.constant.ApiUrls.MAX_CHANGES_LIMIT;
 import static pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.constant.ApiUrls.PRICE_PATH_URL;
 import static pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.constant.ApiUrls.PRODUCT_ENDPOINT_V1;
 import static pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.constant.ApiUrls.PRODUCT_QUANTITY_REQUEST_PARAMETER;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.constant.ApiUrls.SINCE_REQUEST_PARAMETER;
+import static pl.tul.discountmanagement.shared.infrastructure.security.constant.Permissions.READ_PRICE_PERMISSION;
 import static pl.tul.discountmanagement.shared.infrastructure.security.constant.Permissions.READ_PRICE_PERMISSION_EXPRESSION;
+import static pl.tul.discountmanagement.shared.infrastructure.security.constant.Permissions.READ_PRODUCT_PERMISSION;
 import static pl.tul.discountmanagement.shared.infrastructure.security.constant.Permissions.READ_PRODUCT_PERMISSION_EXPRESSION;
 
 /**
@@ -44,6 +56,7 @@ public class ProductControllerV1 {
 
     private final GetProductUseCase getProductUseCase;
     private final CalculateProductPriceUseCase calculateProductPriceUseCase;
+    private final GetProductChangesUseCase getProductChangesUseCase;
     private final ProductResponseMapper productResponseMapper;
 
     /**
@@ -51,6 +64,7 @@ public class ProductControllerV1 {
      */
     @GetMapping(value = "/{productId}", produces = MediaType.APPLICATION_JSON_VALUE)
     @PreAuthorize(READ_PRODUCT_PERMISSION_EXPRESSION)
+    @RateLimited(permission = READ_PRODUCT_PERMISSION)
     public ResponseEntity<ProductResponseV1> getProductById(@PathVariable("productId") UUID productId) {
         try {
             ProductDTO productDTO = getProductUseCase.getProductById(productId);
@@ -61,11 +75,24 @@ public class ProductControllerV1 {
         }
     }
 
+    /**
+     * Handler for reading the product change feed since given sequence number.
+     */
+    @GetMapping(value = "/" + CHANGES_PATH_URL, produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize(READ_PRODUCT_PERMISSION_EXPRESSION)
+    @RateLimited(permission = READ_PRODUCT_PERMISSION)
+    public ResponseEntity<ProductChangesResponseV1> getProductChanges(@RequestParam(SINCE_REQUEST_PARAMETER) @Min(0) long since,
+                                                                      @RequestParam(value = LIMIT_REQUEST_PARAMETER, defaultValue = DEFAULT_CHANGES_LIMIT) @Min(1) @Max(MAX_CHANGES_LIMIT) int limit) {
+        ProductChangesDTO productChangesDTO = getProductChangesUseCase.getProductChanges(since, limit);
+        return ResponseEntity.ok(productResponseMapper.changesDTOtoChangesResponseV1(productChangesDTO));
+    }
+
     /**
      * Handler for reading product price details for given product id and product quantity.
      */
     @GetMapping(value = "/{productId}/" + PRICE_PATH_URL, produces = MediaType.APPLICATION_JSON_VALUE)
     @PreAuthorize(READ_PRICE_PERMISSION_EXPRESSION)
+    @RateLimited(permission = READ_PRICE_PERMISSION)
     public ResponseEntity<ProductPriceResponseV1> calculatePrice(@PathVariable("productId") UUID productId, @RequestParam(PRODUCT_QUANTITY_REQUEST_PARAMETER) @Min(1) int productQuantity) {
         try {
             ProductPriceDTO productPriceDTO = calculateProductPriceUseCase.calculateProductPrice(productId, productQuantity);
@@ -0,0 +1,23 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import static pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.config.BulkImportProperties.BULK_IMPORT_PREFIX;
+
+/**
+ * Properties of the bulk import.
+ * Properties are configured in the {@code application.yml} files under 'bulk-import' entry.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = BULK_IMPORT_PREFIX)
+@Configuration
+public class BulkImportProperties {
+
+    public static final String BULK_IMPORT_PREFIX = "bulk-import";
+
+    private int chunkSize = 50000;
+}
@@ -0,0 +1,46 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import pl.tul.discountmanagement.product.application.port.in.GetProductUseCase;
+import pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.limit.ProductConcurrencyLimitInterceptor;
+import pl.tul.discountmanagement.shared.infrastructure.limit.AimdConcurrencyLimiter;
+
+import static org.apache.commons.lang3.BooleanUtils.TRUE;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.config.ConcurrencyLimitProperties.CONCURRENCY_LIMIT_PREFIX;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.config.ConcurrencyLimitProperties.ENABLED_PROPERTY;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.constant.ApiUrls.PRICE_PATH_URL;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.constant.ApiUrls.PRODUCT_ENDPOINT_V1;
+
+/**
+ * Configuration applying the adaptive concurrency limit to the product details, product price and product change feed
+ * endpoints - the ones reading from the database on the request path.
+ * Configuration is applied if and only if 'concurrency-limit.enabled' property is set to 'true'.
+ */
+@ConditionalOnProperty(prefix = CONCURRENCY_LIMIT_PREFIX, name = ENABLED_PROPERTY, havingValue = TRUE)
+@Configuration
+public class ConcurrencyLimitConfig implements WebMvcConfigurer {
+
+    private static final String LIMITER_NAME = "product";
+    private static final String PRODUCT_PATH_PATTERN = PRODUCT_ENDPOINT_V1 + "/*";
+    private static final String PRICE_PATH_PATTERN = PRODUCT_ENDPOINT_V1 + "/*/" + PRICE_PATH_URL;
+
+    private final ProductConcurrencyLimitInterceptor interceptor;
+
+    public ConcurrencyLimitConfig(ConcurrencyLimitProperties properties, GetProductUseCase getProductUseCase,
+                                  MeterRegistry meterRegistry) {
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(LIMITER_NAME, properties.getInitialLimit(),
+                properties.getMinLimit(), properties.getMaxLimit(), properties.getBackoffRatio(),
+                properties.getTimeoutInMilliseconds(), meterRegistry);
+        this.interceptor = new ProductConcurrencyLimitInterceptor(limiter, getProductUseCase, properties.getRetryAfterInSeconds());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(interceptor)
+                .addPathPatterns(PRODUCT_PATH_PATTERN, PRICE_PATH_PATTERN);
+    }
+}
@@ -0,0 +1,36 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import static pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.config.ConcurrencyLimitProperties.CONCURRENCY_LIMIT_PREFIX;
+
+/**
+ * Properties of the adaptive concurrency limit of the product endpoints.
+ * Properties are configured in the {@code application.yml} files under 'concurrency-limit' entry.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = CONCURRENCY_LIMIT_PREFIX)
+@Configuration
+public class ConcurrencyLimitProperties {
+
+    public static final String CONCURRENCY_LIMIT_PREFIX = "concurrency-limit";
+    public static final String ENABLED_PROPERTY = "enabled";
+
+    private boolean enabled = true;
+    private int initialLimit = 20;
+    private int minLimit = 4;
+    private int maxLimit = 200;
+    /**
+     * Ratio the limit is multiplied by when a request fails due to overload or is slower than the timeout.
+     */
+    private double backoffRatio = 0.9;
+    /**
+     * Duration after which a request is considered a sign of overload.
+     */
+    private long timeoutInMilliseconds = 1000L;
+    private long retryAfterInSeconds = 1L;
+}
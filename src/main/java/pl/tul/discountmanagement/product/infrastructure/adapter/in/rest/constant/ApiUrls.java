@@ -12,4 +12,15 @@ public final class ApiUrls {
     public static final String PRODUCT_ENDPOINT_V1 = API_PREFIX_V1 + "/product";
     public static final String PRICE_PATH_URL = "price";
     public static final String PRODUCT_QUANTITY_REQUEST_PARAMETER = "productQuantity";
+    public static final String CHANGES_PATH_URL = "changes";
+    public static final String SINCE_REQUEST_PARAMETER = "since";
+    public static final String LIMIT_REQUEST_PARAMETER = "limit";
+    public static final String DEFAULT_CHANGES_LIMIT = "100";
+    public static final int MAX_CHANGES_LIMIT = 1000;
+    public static final String IMPORT_ENDPOINT_V1 = API_PREFIX_V1 + "/import";
+    public static final String PRODUCTS_PATH_URL = "products";
+    public static final String PERCENTAGE_BASED_DISCOUNTS_PATH_URL = "percentage-based-discounts";
+    public static final String QUANTITY_BASED_DISCOUNTS_PATH_URL = "quantity-based-discounts";
+    public static final String TIER_ASSIGNMENTS_PATH_URL = "tier-assignments";
+    public static final String TEXT_CSV_VALUE = "text/csv";
 }
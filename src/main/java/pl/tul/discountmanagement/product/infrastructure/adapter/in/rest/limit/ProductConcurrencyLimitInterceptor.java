@@ -0,0 +1,74 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.limit;
+
+import jakarta.annotation.Nullable;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import pl.tul.discountmanagement.product.application.port.in.GetProductUseCase;
+import pl.tul.discountmanagement.shared.infrastructure.limit.AimdConcurrencyLimiter;
+import pl.tul.discountmanagement.shared.infrastructure.limit.ConcurrencyLimitExceededException;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * {@link HandlerInterceptor} applying the adaptive concurrency limit to the product endpoints, which read from the database.
+ * The limit is applied before the transaction is started, so requests over the limit are shed with the '503 Service Unavailable'
+ * response instead of queueing on the connection pool. Reads of products served without querying the database (e.g. from
+ * the loaded in-memory catalog) bypass the limit. Responses with a server error status (e.g. expired deadlines) are reported to the limiter as overload.
+ */
+@RequiredArgsConstructor
+public class ProductConcurrencyLimitInterceptor implements HandlerInterceptor {
+
+    private static final String START_TIME_ATTRIBUTE = ProductConcurrencyLimitInterceptor.class.getName() + ".startTime";
+    private static final String PRODUCT_ID_VARIABLE = "productId";
+
+    private final AimdConcurrencyLimiter limiter;
+    private final GetProductUseCase getProductUseCase;
+    private final long retryAfterInSeconds;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        UUID productId = getProductId(request);
+        if (nonNull(productId) && getProductUseCase.isProductReadWithoutDatabase(productId)) {
+            return true;
+        }
+        if (!limiter.tryAcquire()) {
+            throw new ConcurrencyLimitExceededException(retryAfterInSeconds);
+        }
+        request.setAttribute(START_TIME_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                @Nullable Exception ex) {
+        if (!(request.getAttribute(START_TIME_ATTRIBUTE) instanceof Long startTime)) {
+            return;
+        }
+        boolean dropped = nonNull(ex) || HttpStatusCode.valueOf(response.getStatus()).is5xxServerError();
+        limiter.release(System.nanoTime() - startTime, dropped);
+    }
+
+    @Nullable
+    private UUID getProductId(HttpServletRequest request) {
+        if (!(request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE) instanceof Map<?, ?> uriVariables)) {
+            return null;
+        }
+        Object productId = uriVariables.get(PRODUCT_ID_VARIABLE);
+        if (isNull(productId)) {
+            return null;
+        }
+        try {
+            return UUID.fromString(productId.toString());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -3,11 +3,17 @@ package pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.mapper;
 import org.mapstruct.Mapper;
 import org.mapstruct.MappingConstants;
 import org.mapstruct.SubclassMapping;
+import pl.tul.discountmanagement.product.application.dto.BulkImportResultDTO;
 import pl.tul.discountmanagement.product.application.dto.PercentageBasedDiscountDTO;
+import pl.tul.discountmanagement.product.application.dto.ProductChangeDTO;
+import pl.tul.discountmanagement.product.application.dto.ProductChangesDTO;
 import pl.tul.discountmanagement.product.application.dto.ProductDTO;
 import pl.tul.discountmanagement.product.application.dto.ProductPriceDTO;
 import pl.tul.discountmanagement.product.application.dto.QuantityBasedDiscountDTO;
+import pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.response.BulkImportResponseV1;
 import pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.response.PercentageBasedDiscountResponseV1;
+import pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.response.ProductChangeResponseV1;
+import pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.response.ProductChangesResponseV1;
 import pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.response.ProductPriceResponseV1;
 import pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.response.ProductResponseV1;
 import pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.response.QuantityBasedDiscountResponseV1;
@@ -22,6 +28,12 @@ public interface ProductResponseMapper {
 
     ProductPriceResponseV1 priceDTOtoPriceResponseV1(ProductPriceDTO productPriceDTO);
 
+    ProductChangesResponseV1 changesDTOtoChangesResponseV1(ProductChangesDTO productChangesDTO);
+
+    ProductChangeResponseV1 changeDTOtoChangeResponseV1(ProductChangeDTO productChangeDTO);
+
+    BulkImportResponseV1 importResultDTOtoResponseV1(BulkImportResultDTO bulkImportResultDTO);
+
     @SubclassMapping(source = QuantityBasedDiscountDTO.class, target = QuantityBasedDiscountResponseV1.class)
     PercentageBasedDiscountResponseV1 discountDTOtoResponse(PercentageBasedDiscountDTO discountDTO);
 }
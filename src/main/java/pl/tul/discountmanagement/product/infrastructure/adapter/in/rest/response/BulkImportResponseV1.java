@@ -0,0 +1,24 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * The response model representing a bulk import result.
+ * API V1
+ */
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class BulkImportResponseV1 {
+    private UUID importId;
+    private String target;
+    private long importedRows;
+    private long skippedRows;
+    private int committedChunks;
+}
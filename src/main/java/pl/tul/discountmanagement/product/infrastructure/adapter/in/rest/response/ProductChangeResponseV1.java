@@ -0,0 +1,25 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * The response model representing a product change with the current product snapshot.
+ * API V1
+ */
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class ProductChangeResponseV1 {
+    private long sequenceNumber;
+    private UUID productId;
+    private Instant changedAt;
+    private boolean deleted;
+    private ProductResponseV1 product;
+}
@@ -0,0 +1,23 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * The response model representing a page of the product change feed.
+ * The last sequence number is meant to be passed as the 'since' parameter of the subsequent request.
+ * API V1
+ */
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class ProductChangesResponseV1 {
+    private List<ProductChangeResponseV1> changes;
+    private long lastSequenceNumber;
+    private boolean hasMore;
+}
@@ -0,0 +1,36 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.in.scheduling;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import pl.tul.discountmanagement.product.application.port.in.CompactProductChangesUseCase;
+import pl.tul.discountmanagement.product.infrastructure.adapter.in.scheduling.config.ProductChangeCompactionProperties;
+
+import java.time.Duration;
+
+import static org.apache.commons.lang3.BooleanUtils.TRUE;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.in.scheduling.config.ProductChangeCompactionProperties.ENABLED_PROPERTY;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.in.scheduling.config.ProductChangeCompactionProperties.INTERVAL_PLACEHOLDER;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.in.scheduling.config.ProductChangeCompactionProperties.PRODUCT_CHANGE_COMPACTION_PREFIX;
+
+/**
+ * Periodically compacts the product change feed, keeping only the latest change of each product.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = PRODUCT_CHANGE_COMPACTION_PREFIX, name = ENABLED_PROPERTY, havingValue = TRUE)
+public class ProductChangeCompactionScheduler {
+
+    private final CompactProductChangesUseCase compactProductChangesUseCase;
+    private final ProductChangeCompactionProperties compactionProperties;
+
+    /**
+     * Compact the product change feed.
+     */
+    @Scheduled(fixedDelayString = INTERVAL_PLACEHOLDER, initialDelayString = INTERVAL_PLACEHOLDER)
+    public void compactProductChanges() {
+        compactProductChangesUseCase.compactProductChanges(
+                Duration.ofHours(compactionProperties.getDeletedProductRetentionInHours()), compactionProperties.getBatchSize());
+    }
+}
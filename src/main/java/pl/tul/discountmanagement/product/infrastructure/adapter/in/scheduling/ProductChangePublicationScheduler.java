@@ -0,0 +1,38 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.in.scheduling;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import pl.tul.discountmanagement.product.application.port.in.PublishProductChangesUseCase;
+import pl.tul.discountmanagement.product.infrastructure.adapter.in.scheduling.config.ProductChangePublicationProperties;
+
+import static org.apache.commons.lang3.BooleanUtils.TRUE;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.in.scheduling.config.ProductChangePublicationProperties.ENABLED_PROPERTY;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.in.scheduling.config.ProductChangePublicationProperties.INTERVAL_PLACEHOLDER;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.in.scheduling.config.ProductChangePublicationProperties.PRODUCT_CHANGE_PUBLICATION_PREFIX;
+
+/**
+ * Periodically publishes committed product changes to the product change feed.
+ * A full batch is followed by the next one right away, so a backlog left by a bulk import is drained without waiting.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = PRODUCT_CHANGE_PUBLICATION_PREFIX, name = ENABLED_PROPERTY, havingValue = TRUE)
+public class ProductChangePublicationScheduler {
+
+    private final PublishProductChangesUseCase publishProductChangesUseCase;
+    private final ProductChangePublicationProperties publicationProperties;
+
+    /**
+     * Publish the committed product changes.
+     */
+    @Scheduled(fixedDelayString = INTERVAL_PLACEHOLDER)
+    public void publishProductChanges() {
+        int batchSize = publicationProperties.getBatchSize();
+        int publishedChanges;
+        do {
+            publishedChanges = publishProductChangesUseCase.publishProductChanges(batchSize);
+        } while (publishedChanges == batchSize);
+    }
+}
@@ -0,0 +1,28 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.in.scheduling.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import static pl.tul.discountmanagement.product.infrastructure.adapter.in.scheduling.config.ProductChangeCompactionProperties.PRODUCT_CHANGE_COMPACTION_PREFIX;
+
+/**
+ * Properties of the product change feed compaction.
+ * Properties are configured in the {@code application.yml} files under 'product-change-compaction' entry.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = PRODUCT_CHANGE_COMPACTION_PREFIX)
+@Configuration
+public class ProductChangeCompactionProperties {
+
+    public static final String PRODUCT_CHANGE_COMPACTION_PREFIX = "product-change-compaction";
+    public static final String ENABLED_PROPERTY = "enabled";
+    public static final String INTERVAL_PLACEHOLDER = "${" + PRODUCT_CHANGE_COMPACTION_PREFIX + ".interval-in-milliseconds:600000}";
+
+    private boolean enabled = true;
+    private long intervalInMilliseconds = 600000L;
+    private int batchSize = 10000;
+    private long deletedProductRetentionInHours = 168L;
+}
@@ -0,0 +1,27 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.in.scheduling.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import static pl.tul.discountmanagement.product.infrastructure.adapter.in.scheduling.config.ProductChangePublicationProperties.PRODUCT_CHANGE_PUBLICATION_PREFIX;
+
+/**
+ * Properties of the product change feed publication.
+ * Properties are configured in the {@code application.yml} files under 'product-change-publication' entry.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = PRODUCT_CHANGE_PUBLICATION_PREFIX)
+@Configuration
+public class ProductChangePublicationProperties {
+
+    public static final String PRODUCT_CHANGE_PUBLICATION_PREFIX = "product-change-publication";
+    public static final String ENABLED_PROPERTY = "enabled";
+    public static final String INTERVAL_PLACEHOLDER = "${" + PRODUCT_CHANGE_PUBLICATION_PREFIX + ".interval-in-milliseconds:200}";
+
+    private boolean enabled = true;
+    private long intervalInMilliseconds = 200L;
+    private int batchSize = 10000;
+}
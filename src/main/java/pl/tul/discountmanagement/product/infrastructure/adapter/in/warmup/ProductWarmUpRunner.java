@@ -0,0 +1,130 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.in.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import pl.tul.discountmanagement.product.application.dto.HotProductsDTO;
+import pl.tul.discountmanagement.product.application.dto.ProductDTO;
+import pl.tul.discountmanagement.product.application.dto.ProductPriceDTO;
+import pl.tul.discountmanagement.product.application.port.in.CalculateProductPriceUseCase;
+import pl.tul.discountmanagement.product.application.port.in.GetHotProductsUseCase;
+import pl.tul.discountmanagement.product.application.port.in.GetProductUseCase;
+import pl.tul.discountmanagement.product.domain.exception.ProductNotFoundException;
+import pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.mapper.ProductResponseMapper;
+import pl.tul.discountmanagement.product.infrastructure.adapter.in.warmup.config.ProductWarmUpProperties;
+import pl.tul.discountmanagement.shared.infrastructure.tracking.LookupTrackingContext;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.apache.commons.lang3.BooleanUtils.TRUE;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.in.warmup.config.ProductWarmUpProperties.ENABLED_PROPERTY;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.in.warmup.config.ProductWarmUpProperties.PRODUCT_WARM_UP_PREFIX;
+
+/**
+ * Warms the application up before it starts accepting traffic. The hottest products recorded by the previous application run
+ * (or the first products of the catalog when no such record exists) are loaded, priced and serialized in several rounds,
+ * which fills the second-level caches of the product reference data and gets the hot code paths JIT-compiled.
+ * The warm-up lookups are excluded from the hot products tracking, so they do not inflate the counts of the warmed up products.
+ * Spring Boot reports the readiness state as accepting traffic only after all the application runners are finished, so the
+ * readiness probe fails until the warm-up is finished or its time budget expires.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = PRODUCT_WARM_UP_PREFIX, name = ENABLED_PROPERTY, havingValue = TRUE)
+public class ProductWarmUpRunner implements ApplicationRunner {
+
+    private static final String WARM_UP_THREAD_NAME = "product-warm-up";
+    private static final String WARM_UP_STARTED_MSG = "Warming up with '{}' product(s) and quantities '{}', source: '{}'.";
+    private static final String WARM_UP_FINISHED_MSG = "Warm-up finished after '{}' request(s) in '{}' ms.";
+    private static final String WARM_UP_BUDGET_EXPIRED_MSG = "Warm-up time budget of '{}' ms expired, accepting traffic.";
+    private static final String WARM_UP_FAILED_MSG = "Warm-up failed, accepting traffic.";
+    private static final String HOT_PRODUCTS_SOURCE = "hot products snapshot";
+    private static final String CATALOG_SOURCE = "catalog";
+
+    private final GetProductUseCase getProductUseCase;
+    private final CalculateProductPriceUseCase calculateProductPriceUseCase;
+    private final ProductResponseMapper productResponseMapper;
+    private final GetHotProductsUseCase getHotProductsUseCase;
+    private final ObjectMapper objectMapper;
+    private final ProductWarmUpProperties warmUpProperties;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long startTime = System.currentTimeMillis();
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, WARM_UP_THREAD_NAME));
+        Future<Integer> warmUp = executor.submit(this::warmUp);
+        try {
+            int requestCount = warmUp.get(warmUpProperties.getTimeBudgetInMilliseconds(), TimeUnit.MILLISECONDS);
+            log.info(WARM_UP_FINISHED_MSG, requestCount, System.currentTimeMillis() - startTime);
+        } catch (TimeoutException e) {
+            warmUp.cancel(true);
+            log.warn(WARM_UP_BUDGET_EXPIRED_MSG, warmUpProperties.getTimeBudgetInMilliseconds());
+        } catch (ExecutionException e) {
+            log.error(WARM_UP_FAILED_MSG, e.getCause());
+        } catch (InterruptedException e) {
+            warmUp.cancel(true);
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int warmUp() throws Exception {
+        LookupTrackingContext.suppress();
+        try {
+            return warmUpProducts();
+        } finally {
+            LookupTrackingContext.clear();
+        }
+    }
+
+    private int warmUpProducts() throws Exception {
+        HotProductsDTO hotProducts = getHotProductsUseCase.getHotProducts(warmUpProperties.getProductCount());
+        List<UUID> productIds = hotProducts.getProductIds();
+        String source = HOT_PRODUCTS_SOURCE;
+        if (productIds.isEmpty()) {
+            productIds = getProductUseCase.getProductIds(warmUpProperties.getProductCount());
+            source = CATALOG_SOURCE;
+        }
+        List<Integer> productQuantities = hotProducts.getProductQuantities().isEmpty()
+                ? warmUpProperties.getProductQuantities() : hotProducts.getProductQuantities();
+        log.info(WARM_UP_STARTED_MSG, productIds.size(), productQuantities, source);
+        int requestCount = 0;
+        for (int round = 0; round < warmUpProperties.getRounds(); round++) {
+            for (UUID productId : productIds) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return requestCount;
+                }
+                requestCount += warmUpProduct(productId, productQuantities);
+            }
+        }
+        return requestCount;
+    }
+
+    private int warmUpProduct(UUID productId, List<Integer> productQuantities) throws Exception {
+        try {
+            ProductDTO productDTO = getProductUseCase.getProductById(productId);
+            objectMapper.writeValueAsBytes(productResponseMapper.DTOtoResponseV1(productDTO));
+            for (Integer productQuantity : productQuantities) {
+                ProductPriceDTO productPriceDTO = calculateProductPriceUseCase.calculateProductPrice(productId, productQuantity);
+                objectMapper.writeValueAsBytes(productResponseMapper.priceDTOtoPriceResponseV1(productPriceDTO));
+            }
+            return 1 + productQuantities.size();
+        } catch (ProductNotFoundException e) {
+            // products recorded as hot by the previous run may have been deleted since
+            return 1;
+        }
+    }
+}
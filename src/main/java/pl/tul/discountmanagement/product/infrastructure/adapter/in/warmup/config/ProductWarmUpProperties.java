@@ -0,0 +1,33 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.in.warmup.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+import static pl.tul.discountmanagement.product.infrastructure.adapter.in.warmup.config.ProductWarmUpProperties.PRODUCT_WARM_UP_PREFIX;
+
+/**
+ * Properties of the product warm-up executed on application startup.
+ * Properties are configured in the {@code application.yml} files under 'product-warm-up' entry.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = PRODUCT_WARM_UP_PREFIX)
+@Configuration
+public class ProductWarmUpProperties {
+
+    public static final String PRODUCT_WARM_UP_PREFIX = "product-warm-up";
+    public static final String ENABLED_PROPERTY = "enabled";
+
+    private boolean enabled = true;
+    private int productCount = 200;
+    private int rounds = 3;
+    private long timeBudgetInMilliseconds = 30000L;
+    /**
+     * Product quantities used for price calculations when no hot quantities were recorded by the previous application run.
+     */
+    private List<Integer> productQuantities = List.of(1, 3, 5, 10);
+}
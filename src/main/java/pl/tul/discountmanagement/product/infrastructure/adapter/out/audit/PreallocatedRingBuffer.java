@@ -0,0 +1,129 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.out.audit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * Bounded lock-free ring buffer of preallocated mutable elements for many producers and a single consumer.
+ * Instead of handing over new objects, a producer claims a slot with {@link #tryClaim()}, fills the element of the slot
+ * in place and publishes it with {@link #publish(long)}. The consumer reads the oldest published element with {@link #peek()}
+ * and hands the slot back to the producers with {@link #release()}. Each slot carries a sequence number telling whether
+ * it is free for the producer of the given position or holds an element published for the consumer,
+ * so neither side allocates nor waits.
+ *
+ * @param <E> type of the elements.
+ */
+class PreallocatedRingBuffer<E> {
+
+    static final long NO_SLOT = -1L;
+    private static final String INVALID_CAPACITY_MSG = "Capacity must be positive, was: %d";
+
+    private final int capacity;
+    private final int mask;
+    private final E[] elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private long head;
+
+    /**
+     * Create a ring buffer.
+     *
+     * @param requestedCapacity minimal capacity, rounded up to a power of two.
+     * @param elementFactory    factory of the preallocated elements.
+     */
+    @SuppressWarnings("unchecked")
+    PreallocatedRingBuffer(int requestedCapacity, Supplier<E> elementFactory) {
+        if (requestedCapacity <= 0) {
+            throw new IllegalArgumentException(INVALID_CAPACITY_MSG.formatted(requestedCapacity));
+        }
+        capacity = requestedCapacity == 1 ? 1 : Integer.highestOneBit(requestedCapacity - 1) << 1;
+        mask = capacity - 1;
+        elements = (E[]) new Object[capacity];
+        sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            elements[i] = elementFactory.get();
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Claim a slot for writing, may be called by many threads concurrently.
+     *
+     * @return position of the claimed slot or {@link #NO_SLOT} if the buffer is full.
+     */
+    long tryClaim() {
+        long position = tail.get();
+        while (true) {
+            long difference = sequences.get((int) position & mask) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    return position;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                // the slot still holds an element from the previous lap
+                return NO_SLOT;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Return the element of the claimed slot.
+     *
+     * @param position position returned by {@link #tryClaim()}.
+     * @return the element to be filled.
+     */
+    E get(long position) {
+        return elements[(int) position & mask];
+    }
+
+    /**
+     * Publish the filled element of the claimed slot to the consumer.
+     *
+     * @param position position returned by {@link #tryClaim()}.
+     */
+    void publish(long position) {
+        sequences.set((int) position & mask, position + 1);
+    }
+
+    /**
+     * Return the oldest published element without releasing its slot, must be called by a single thread only.
+     *
+     * @return the oldest published element or null if there is none.
+     */
+    E peek() {
+        int index = (int) head & mask;
+        return sequences.get(index) == head + 1 ? elements[index] : null;
+    }
+
+    /**
+     * Release the slot of the element returned by {@link #peek()} for the producers of the next lap,
+     * must be called by the consumer thread only.
+     */
+    void release() {
+        sequences.set((int) head & mask, head + capacity);
+        head++;
+    }
+
+    /**
+     * Tell whether every claimed slot was released, so no producer is going to publish an element anymore, must be called
+     * by the consumer thread only.
+     *
+     * @return true if every claimed slot was released.
+     */
+    boolean isDrained() {
+        return head == tail.get();
+    }
+
+    /**
+     * Return the capacity of the buffer.
+     *
+     * @return the capacity of the buffer.
+     */
+    int getCapacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,230 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.out.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import pl.tul.discountmanagement.product.application.port.out.audit.PriceAuditPort;
+import pl.tul.discountmanagement.product.domain.model.PercentageBasedDiscount;
+import pl.tul.discountmanagement.product.domain.model.QuantityBasedDiscount;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.audit.config.PriceAuditProperties;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Adapter implementing the price audit port with an asynchronous, allocation-free audit event pipeline.
+ * The request thread fills a preallocated {@link PriceAuditRecord} of a {@link PreallocatedRingBuffer} in place,
+ * and a dedicated background thread serializes the records as compact pipe-separated lines into a rolling local file:
+ * {@code timestamp|productId|quantity|percentageBasedDiscountId|quantityBasedDiscountId|totalPrice|itemPrice|currency},
+ * with '-' standing for a discount which was not applied.
+ * Events are recorded only while the 'price-audit' logger is enabled for the INFO level, otherwise recording costs
+ * a single level check. When the writer falls behind and the buffer is full, events are dropped and counted
+ * in the 'price.audit.dropped' metric instead of slowing the requests down. The adapter is stopped only after the web
+ * server finished its graceful shutdown - events recorded after the stop cannot be written anymore, so they are counted
+ * as dropped and reported with a warning. The writer thread exits only once every claimed slot was released, and a request
+ * which claimed a slot just as the adapter was stopping publishes it empty and counts the event as dropped, so no event
+ * is lost uncounted.
+ */
+@Slf4j
+@Component
+public class PriceAuditAdapter implements PriceAuditPort, SmartLifecycle {
+
+    public static final String PRICE_AUDIT_LOGGER = "price-audit";
+    private static final Logger AUDIT_LOGGER = LoggerFactory.getLogger(PRICE_AUDIT_LOGGER);
+    private static final String WRITER_THREAD_NAME = "price-audit-writer";
+    private static final String DROPPED_METRIC = "price.audit.dropped";
+    private static final long STOP_TIMEOUT_IN_MILLISECONDS = 5000L;
+    private static final long BYTES_IN_MEGABYTE = 1024L * 1024L;
+    private static final char FIELD_SEPARATOR = '|';
+    private static final char NOT_APPLIED = '-';
+    private static final String WRITE_FAILED_MSG = "Writing price audit record failed.";
+    private static final String CLOSE_FAILED_MSG = "Closing price audit file failed.";
+    private static final String RECORDED_AFTER_STOP_MSG = "Price audit is stopped, dropping the events recorded after the stop.";
+
+    private final boolean enabled;
+    private final PreallocatedRingBuffer<PriceAuditRecord> buffer;
+    private final RollingAuditFileWriter fileWriter;
+    private final long idlePollIntervalInNanoseconds;
+    private final Counter droppedCounter;
+    // used by the writer thread only
+    private final StringBuilder line = new StringBuilder();
+    private final AtomicBoolean droppedAfterStop = new AtomicBoolean();
+    private volatile boolean running;
+    private volatile boolean stopped;
+    @Nullable
+    private Thread writerThread;
+
+    public PriceAuditAdapter(PriceAuditProperties priceAuditProperties, MeterRegistry meterRegistry) {
+        this.enabled = priceAuditProperties.isEnabled();
+        this.buffer = new PreallocatedRingBuffer<>(priceAuditProperties.getBufferCapacity(), PriceAuditRecord::new);
+        this.fileWriter = new RollingAuditFileWriter(Path.of(priceAuditProperties.getFilePath()),
+                priceAuditProperties.getMaxFileSizeInMegabytes() * BYTES_IN_MEGABYTE, priceAuditProperties.getMaxHistory());
+        this.idlePollIntervalInNanoseconds = TimeUnit.MILLISECONDS.toNanos(priceAuditProperties.getIdlePollIntervalInMilliseconds());
+        this.droppedCounter = meterRegistry.counter(DROPPED_METRIC);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordPriceCalculation(UUID productId, int productQuantity,
+                                       @Nullable PercentageBasedDiscount percentageBasedDiscount,
+                                       @Nullable QuantityBasedDiscount quantityBasedDiscount,
+                                       BigDecimal totalPrice, BigDecimal itemPrice, String currencyCode) {
+        if (!AUDIT_LOGGER.isInfoEnabled()) {
+            return;
+        }
+        if (!running) {
+            if (stopped) {
+                dropAfterStop();
+            }
+            return;
+        }
+        long position = buffer.tryClaim();
+        if (position == PreallocatedRingBuffer.NO_SLOT) {
+            droppedCounter.increment();
+            return;
+        }
+        if (!running) {
+            // the writer may have exited already, the empty record only hands the slot back
+            buffer.publish(position);
+            dropAfterStop();
+            return;
+        }
+        PriceAuditRecord auditRecord = buffer.get(position);
+        auditRecord.timestampInMilliseconds = System.currentTimeMillis();
+        auditRecord.productId = productId;
+        auditRecord.productQuantity = productQuantity;
+        auditRecord.percentageBasedDiscountId = nonNull(percentageBasedDiscount) ? percentageBasedDiscount.getId() : null;
+        auditRecord.quantityBasedDiscountId = nonNull(quantityBasedDiscount) ? quantityBasedDiscount.getId() : null;
+        auditRecord.totalPrice = totalPrice;
+        auditRecord.itemPrice = itemPrice;
+        auditRecord.currencyCode = currencyCode;
+        buffer.publish(position);
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        stopped = false;
+        running = true;
+        writerThread = new Thread(this::drain, WRITER_THREAD_NAME);
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        stopped = running;
+        running = false;
+        if (nonNull(writerThread)) {
+            LockSupport.unpark(writerThread);
+            try {
+                writerThread.join(STOP_TIMEOUT_IN_MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            writerThread = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // stopped after the in-flight requests are completed by the graceful shutdown, but before the web server itself
+        return WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 1;
+    }
+
+    private void dropAfterStop() {
+        droppedCounter.increment();
+        if (droppedAfterStop.compareAndSet(false, true)) {
+            log.warn(RECORDED_AFTER_STOP_MSG);
+        }
+    }
+
+    private void drain() {
+        try {
+            while (true) {
+                PriceAuditRecord auditRecord = buffer.peek();
+                if (isNull(auditRecord)) {
+                    flush();
+                    // requests which claimed a slot before seeing the stop still publish it
+                    if (!running && buffer.isDrained()) {
+                        return;
+                    }
+                    LockSupport.parkNanos(idlePollIntervalInNanoseconds);
+                    continue;
+                }
+                if (nonNull(auditRecord.productId)) {
+                    write(auditRecord);
+                }
+                auditRecord.clear();
+                buffer.release();
+            }
+        } finally {
+            close();
+        }
+    }
+
+    private void write(PriceAuditRecord auditRecord) {
+        line.setLength(0);
+        line.append(auditRecord.timestampInMilliseconds).append(FIELD_SEPARATOR)
+                .append(auditRecord.productId).append(FIELD_SEPARATOR)
+                .append(auditRecord.productQuantity).append(FIELD_SEPARATOR);
+        appendDiscountId(auditRecord.percentageBasedDiscountId);
+        appendDiscountId(auditRecord.quantityBasedDiscountId);
+        line.append(auditRecord.totalPrice.toPlainString()).append(FIELD_SEPARATOR)
+                .append(auditRecord.itemPrice.toPlainString()).append(FIELD_SEPARATOR)
+                .append(auditRecord.currencyCode);
+        try {
+            fileWriter.writeLine(line);
+        } catch (IOException e) {
+            log.warn(WRITE_FAILED_MSG, e);
+        }
+    }
+
+    private void appendDiscountId(@Nullable UUID discountId) {
+        if (isNull(discountId)) {
+            line.append(NOT_APPLIED);
+        } else {
+            line.append(discountId);
+        }
+        line.append(FIELD_SEPARATOR);
+    }
+
+    private void flush() {
+        try {
+            fileWriter.flush();
+        } catch (IOException e) {
+            log.warn(WRITE_FAILED_MSG, e);
+        }
+    }
+
+    private void close() {
+        try {
+            fileWriter.close();
+        } catch (IOException e) {
+            log.warn(CLOSE_FAILED_MSG, e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.out.audit;
+
+import jakarta.annotation.Nullable;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Mutable price calculation audit record.
+ * Records are preallocated by {@link PreallocatedRingBuffer} and reused, so recording an event does not allocate -
+ * the record only keeps references to the objects already created by the price calculation.
+ */
+class PriceAuditRecord {
+
+    long timestampInMilliseconds;
+    @Nullable
+    UUID productId;
+    int productQuantity;
+    @Nullable
+    UUID percentageBasedDiscountId;
+    @Nullable
+    UUID quantityBasedDiscountId;
+    @Nullable
+    BigDecimal totalPrice;
+    @Nullable
+    BigDecimal itemPrice;
+    @Nullable
+    String currencyCode;
+
+    /**
+     * Drop the references, so the written record does not keep the objects reachable.
+     */
+    void clear() {
+        productId = null;
+        percentageBasedDiscountId = null;
+        quantityBasedDiscountId = null;
+        totalPrice = null;
+        itemPrice = null;
+        currencyCode = null;
+    }
+}
@@ -0,0 +1,114 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.out.audit;
+
+import jakarta.annotation.Nullable;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * Appends lines to a local file and rolls the file over once it exceeds the maximal size.
+ * The rolled over files are suffixed with their index - '.1' being the most recent one - and only the configured number
+ * of them is kept. Not thread-safe, meant to be used by a single writer thread.
+ */
+class RollingAuditFileWriter implements Closeable {
+
+    private static final String ROLLED_FILE_FORMAT = "%s.%d";
+
+    private final Path filePath;
+    private final long maxFileSizeInBytes;
+    private final int maxHistory;
+    @Nullable
+    private BufferedWriter writer;
+    private long fileSizeInBytes;
+
+    /**
+     * Create a writer.
+     *
+     * @param filePath           path of the current file.
+     * @param maxFileSizeInBytes size after which the file is rolled over.
+     * @param maxHistory         number of rolled over files kept.
+     */
+    RollingAuditFileWriter(Path filePath, long maxFileSizeInBytes, int maxHistory) {
+        this.filePath = filePath;
+        this.maxFileSizeInBytes = maxFileSizeInBytes;
+        this.maxHistory = maxHistory;
+    }
+
+    /**
+     * Append a line, the line separator is added by the writer. Lines are expected to be ASCII only.
+     *
+     * @param line the line.
+     * @throws IOException when writing the file fails.
+     */
+    void writeLine(CharSequence line) throws IOException {
+        if (fileSizeInBytes > 0 && fileSizeInBytes >= maxFileSizeInBytes) {
+            rollOver();
+        }
+        BufferedWriter currentWriter = getWriter();
+        currentWriter.append(line);
+        currentWriter.newLine();
+        fileSizeInBytes += line.length() + System.lineSeparator().length();
+    }
+
+    /**
+     * Flush the written lines to the file.
+     *
+     * @throws IOException when writing the file fails.
+     */
+    void flush() throws IOException {
+        if (nonNull(writer)) {
+            writer.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (nonNull(writer)) {
+            writer.close();
+            writer = null;
+        }
+    }
+
+    private BufferedWriter getWriter() throws IOException {
+        if (nonNull(writer)) {
+            return writer;
+        }
+        Path parent = filePath.toAbsolutePath().getParent();
+        if (nonNull(parent)) {
+            Files.createDirectories(parent);
+        }
+        writer = Files.newBufferedWriter(filePath, StandardCharsets.US_ASCII, StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND);
+        fileSizeInBytes = Files.size(filePath);
+        return writer;
+    }
+
+    private void rollOver() throws IOException {
+        close();
+        if (maxHistory <= 0) {
+            Files.deleteIfExists(filePath);
+        } else {
+            Files.deleteIfExists(getRolledFilePath(maxHistory));
+            for (int index = maxHistory - 1; index >= 1; index--) {
+                Path rolledFilePath = getRolledFilePath(index);
+                if (Files.exists(rolledFilePath)) {
+                    Files.move(rolledFilePath, getRolledFilePath(index + 1), StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            Files.move(filePath, getRolledFilePath(1), StandardCopyOption.REPLACE_EXISTING);
+        }
+        fileSizeInBytes = 0;
+    }
+
+    private Path getRolledFilePath(int index) {
+        return filePath.resolveSibling(ROLLED_FILE_FORMAT.formatted(filePath.getFileName(), index));
+    }
+}
@@ -0,0 +1,39 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.out.audit.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import static pl.tul.discountmanagement.product.infrastructure.adapter.out.audit.config.PriceAuditProperties.PRICE_AUDIT_PREFIX;
+
+/**
+ * Properties of the price calculation audit.
+ * Properties are configured in the {@code application.yml} files under 'price-audit' entry.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = PRICE_AUDIT_PREFIX)
+@Configuration
+public class PriceAuditProperties {
+
+    public static final String PRICE_AUDIT_PREFIX = "price-audit";
+
+    /**
+     * Whether the audit writer is started at all. When started, events are recorded only while the 'price-audit'
+     * logger is enabled for the INFO level, so the audit can be switched at runtime via the logger level.
+     */
+    private boolean enabled = true;
+    /**
+     * Number of preallocated audit records, rounded up to a power of two.
+     * Events arriving while all the records wait to be written are dropped.
+     */
+    private int bufferCapacity = 4096;
+    private String filePath = "logs/price-audit.log";
+    private long maxFileSizeInMegabytes = 10L;
+    /**
+     * Number of rolled over files kept next to the current file.
+     */
+    private int maxHistory = 5;
+    private long idlePollIntervalInMilliseconds = 5L;
+}
@@ -0,0 +1,13 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog;
+
+/**
+ * Exception thrown when a product is read from a {@link ProductCatalog} which was already replaced and closed.
+ */
+public class CatalogClosedException extends IllegalStateException {
+
+    private static final String CATALOG_CLOSED_MSG = "Product catalog is closed.";
+
+    public CatalogClosedException() {
+        super(CATALOG_CLOSED_MSG);
+    }
+}
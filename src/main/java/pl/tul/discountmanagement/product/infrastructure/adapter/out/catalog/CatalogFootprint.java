@@ -0,0 +1,70 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog;
+
+/**
+ * Estimated memory footprint of a {@link ProductCatalog}, counting the capacity of its arrays and buffers rather than just
+ * the used part of them. Object headers and the objects of the small dictionaries are left out or roughly estimated,
+ * as they are negligible.
+ *
+ * @param productCount                   number of products.
+ * @param currencyCount                  number of currencies in the currency dictionary.
+ * @param percentageBasedDiscountCount   number of percentage-based discounts in the dictionary.
+ * @param quantityBasedDiscountCount     number of quantity-based discounts in the tier dictionary.
+ * @param tierSetCount                   number of distinct tier sets.
+ * @param indexBytes                     bytes of the product identifiers and their hash table.
+ * @param rowBytes                       bytes of the remaining product columns or records.
+ * @param textBytes                      bytes of the text arena holding names and descriptions.
+ * @param releasedTextBytes              bytes of the text arena no longer referenced, part of the text bytes.
+ * @param dictionaryBytes                bytes of the dictionaries and tier sets.
+ * @param patchCount                     number of products patched since the base catalog was built.
+ * @param patchBytes                     bytes of the patched products.
+ * @param offHeapBytes                   bytes kept off the heap, part of the total bytes.
+ * @param totalBytes                     bytes of the whole catalog.
+ * @param bytesPerMillionProducts        bytes of the whole catalog per million products.
+ */
+public record CatalogFootprint(int productCount, int currencyCount, int percentageBasedDiscountCount, int quantityBasedDiscountCount,
+                               int tierSetCount, long indexBytes, long rowBytes, long textBytes, long releasedTextBytes,
+                               long dictionaryBytes, int patchCount, long patchBytes, long offHeapBytes, long totalBytes,
+                               long bytesPerMillionProducts) {
+
+    private static final long MILLION = 1_000_000L;
+
+    public static CatalogFootprint of(int productCount, int currencyCount, int percentageBasedDiscountCount,
+                                      int quantityBasedDiscountCount, int tierSetCount, long indexBytes, long rowBytes,
+                                      long textBytes, long releasedTextBytes, long dictionaryBytes, long offHeapBytes) {
+        return of(productCount, currencyCount, percentageBasedDiscountCount, quantityBasedDiscountCount, tierSetCount,
+                indexBytes, rowBytes, textBytes, releasedTextBytes, dictionaryBytes, 0, 0L, offHeapBytes);
+    }
+
+    /**
+     * Return the footprint of this catalog with the given patches on top of it.
+     *
+     * @param patchedProductCount number of products with the patches applied.
+     * @param patchCount          number of patched products.
+     * @param patchBytes          bytes of the patched products.
+     * @return the footprint.
+     */
+    public CatalogFootprint withPatches(int patchedProductCount, int patchCount, long patchBytes) {
+        return of(patchedProductCount, currencyCount, percentageBasedDiscountCount, quantityBasedDiscountCount, tierSetCount,
+                indexBytes, rowBytes, textBytes, releasedTextBytes, dictionaryBytes, patchCount, patchBytes, offHeapBytes);
+    }
+
+    private static CatalogFootprint of(int productCount, int currencyCount, int percentageBasedDiscountCount,
+                                       int quantityBasedDiscountCount, int tierSetCount, long indexBytes, long rowBytes,
+                                       long textBytes, long releasedTextBytes, long dictionaryBytes, int patchCount,
+                                       long patchBytes, long offHeapBytes) {
+        long totalBytes = indexBytes + rowBytes + textBytes + dictionaryBytes + patchBytes;
+        long bytesPerMillionProducts = productCount == 0 ? 0L : totalBytes * MILLION / productCount;
+        return new CatalogFootprint(productCount, currencyCount, percentageBasedDiscountCount, quantityBasedDiscountCount,
+                tierSetCount, indexBytes, rowBytes, textBytes, releasedTextBytes, dictionaryBytes, patchCount, patchBytes,
+                offHeapBytes, totalBytes, bytesPerMillionProducts);
+    }
+
+    /**
+     * Return the number of bytes kept on the heap.
+     *
+     * @return the number of bytes.
+     */
+    public long heapBytes() {
+        return totalBytes - offHeapBytes;
+    }
+}
@@ -0,0 +1,38 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog;
+
+import jakarta.annotation.Nullable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.columnar.CatalogFootprint;
+
+import static org.apache.commons.lang3.BooleanUtils.TRUE;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.config.InMemoryCatalogProperties.ENABLED_PROPERTY;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.config.InMemoryCatalogProperties.IN_MEMORY_CATALOG_PREFIX;
+
+/**
+ * Actuator endpoint exposing the estimated heap footprint of the in-memory catalog under '/actuator/catalogfootprint'.
+ */
+@Component
+@Endpoint(id = CatalogFootprintEndpoint.ENDPOINT_ID)
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = IN_MEMORY_CATALOG_PREFIX, name = ENABLED_PROPERTY, havingValue = TRUE)
+public class CatalogFootprintEndpoint {
+
+    public static final String ENDPOINT_ID = "catalogfootprint";
+
+    private final InMemoryCatalogPersistenceAdapter inMemoryCatalogPersistenceAdapter;
+
+    /**
+     * Return the estimated heap footprint of the in-memory catalog.
+     *
+     * @return the footprint or null (answered with 404) if the catalog is not loaded yet.
+     */
+    @Nullable
+    @ReadOperation
+    public CatalogFootprint catalogFootprint() {
+        return inMemoryCatalogPersistenceAdapter.getFootprint().orElse(null);
+    }
+}
@@ -0,0 +1,161 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog;
+
+import jakarta.annotation.Nullable;
+import pl.tul.discountmanagement.product.domain.model.Product;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * {@link ProductCatalog} published copy-on-write, so that any number of threads read it without locks while a writer
+ * applies changes to it.
+ * A version of the catalog is a pair of a base catalog, never modified once published, and a concurrent map of patches -
+ * the products upserted or removed since the base was built - published through a single volatile reference.
+ * Upserting or removing a product puts an immutable patch with the product, fully built beforehand, into the patch map
+ * of the current version, so a reader sees either the previous or the new version of the whole product, never for example
+ * a new price with old tiers, and a change costs the same regardless of the number of patches. Once the patches reach
+ * the compaction threshold, the base is copied, the patches are applied to the copy, the copy is published as the new base
+ * with an empty patch map, and the previous base is closed - readers which picked the previous version just before,
+ * read the product again from the new one. The threshold grows with the catalog, so that the base is copied once per
+ * a number of changes proportional to its size and the copying costs a constant amount per change - a heap base is copied
+ * whole, while an off-heap base copies its hash index and shares the record chunks and text pages with the copy, so only
+ * the chunks the patches touch are copied. Writes are serialized.
+ * A heap base is read without any lock, as its optimistic reads never fail validation once it is not written to,
+ * while an off-heap base also pins its memory for the duration of the read with an increment of a counter striped
+ * per thread, so that closing the base waits for the reads in progress.
+ */
+public class CopyOnWriteProductCatalog implements ProductCatalog {
+
+    // rough heap footprint of a patched product with its strings, price, tier set and map entry
+    private static final long PATCH_BYTES = 512L;
+    // the compaction threshold grows to a patch per that many products, keeping the patches a small part of the catalog
+    private static final int PRODUCTS_PER_PATCH = 64;
+    private static final Patch REMOVED = new Patch(null);
+    private static final String INVALID_COMPACTION_THRESHOLD_MSG = "Compaction threshold must be positive, was: %d";
+
+    private final int compactionThreshold;
+    private volatile Version version;
+    private volatile int size;
+
+    /**
+     * Publish the base catalog with no patches.
+     *
+     * @param base                the base catalog, not modified by anything else afterwards.
+     * @param compactionThreshold minimal number of patches triggering their compaction into a new base, the actual
+     *                            threshold of a large catalog is a patch per {@value #PRODUCTS_PER_PATCH} products.
+     * @throws IllegalArgumentException if the compaction threshold is not positive.
+     */
+    public CopyOnWriteProductCatalog(ProductCatalog base, int compactionThreshold) {
+        if (compactionThreshold <= 0) {
+            throw new IllegalArgumentException(INVALID_COMPACTION_THRESHOLD_MSG.formatted(compactionThreshold));
+        }
+        this.compactionThreshold = compactionThreshold;
+        this.version = new Version(base, new ConcurrentHashMap<>());
+        this.size = base.size();
+    }
+
+    @Override
+    @Nullable
+    public Product get(UUID productId) {
+        while (true) {
+            Version currentVersion = version;
+            Patch patch = currentVersion.patches().get(productId);
+            if (nonNull(patch)) {
+                return patch.product();
+            }
+            try {
+                return currentVersion.base().get(productId);
+            } catch (CatalogClosedException e) {
+                if (currentVersion == version) {
+                    throw e;
+                }
+                // the base was compacted into a new one after this version was picked
+            }
+        }
+    }
+
+    @Override
+    public synchronized void upsert(Product product) {
+        publish(product.id(), new Patch(product), isNull(get(product.id())) ? 1 : 0);
+    }
+
+    @Override
+    public synchronized boolean remove(UUID productId) {
+        if (isNull(get(productId))) {
+            return false;
+        }
+        publish(productId, REMOVED, -1);
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public CatalogFootprint getFootprint() {
+        Version currentVersion = version;
+        int patchCount = currentVersion.patches().size();
+        return currentVersion.base().getFootprint().withPatches(size, patchCount, PATCH_BYTES * patchCount);
+    }
+
+    @Override
+    public synchronized void forEach(Consumer<Product> action) {
+        Version currentVersion = version;
+        currentVersion.base().forEach(product -> {
+            if (!currentVersion.patches().containsKey(product.id())) {
+                action.accept(product);
+            }
+        });
+        currentVersion.patches().values().forEach(patch -> {
+            if (nonNull(patch.product())) {
+                action.accept(patch.product());
+            }
+        });
+    }
+
+    @Override
+    public synchronized CopyOnWriteProductCatalog copy() {
+        return new CopyOnWriteProductCatalog(applyPatches(version), compactionThreshold);
+    }
+
+    @Override
+    public synchronized void close() {
+        version.base().close();
+    }
+
+    private void publish(UUID productId, Patch patch, int sizeDelta) {
+        Version currentVersion = version;
+        // the patch is immutable and safely published by the concurrent map
+        currentVersion.patches().put(productId, patch);
+        size += sizeDelta;
+        if (currentVersion.patches().size() < Math.max(compactionThreshold, size / PRODUCTS_PER_PATCH)) {
+            return;
+        }
+        // readers keep reading the previous version, including its patch map, until the new one is published
+        version = new Version(applyPatches(currentVersion), new ConcurrentHashMap<>());
+        currentVersion.base().close();
+    }
+
+    private static ProductCatalog applyPatches(Version version) {
+        ProductCatalog catalog = version.base().copy();
+        version.patches().forEach((productId, patch) -> {
+            if (isNull(patch.product())) {
+                catalog.remove(productId);
+            } else {
+                catalog.upsert(patch.product());
+            }
+        });
+        return catalog;
+    }
+
+    private record Version(ProductCatalog base, Map<UUID, Patch> patches) {}
+
+    private record Patch(@Nullable Product product) {}
+}
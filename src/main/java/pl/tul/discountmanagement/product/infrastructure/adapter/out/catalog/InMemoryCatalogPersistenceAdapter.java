@@ -0,0 +1,452 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import pl.tul.discountmanagement.product.application.port.out.persistence.ProductChangePersistencePort;
+import pl.tul.discountmanagement.product.application.port.out.persistence.ProductPersistencePort;
+import pl.tul.discountmanagement.product.domain.model.Product;
+import pl.tul.discountmanagement.product.domain.model.ProductChange;
+import pl.tul.discountmanagement.product.infrastructure.adapter.in.notification.config.ProductChangeNotificationProperties;
+import pl.tul.discountmanagement.product.infrastructure.adapter.in.notification.event.ProductChangeNotificationEvent;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.columnar.ColumnarProductCatalog;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.config.InMemoryCatalogProperties;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.offheap.OffHeapProductCatalog;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.snapshot.CatalogSnapshotWriter;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.snapshot.MappedCatalogSnapshot;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.persistence.ProductPersistenceAdapter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.apache.commons.lang3.BooleanUtils.TRUE;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.config.InMemoryCatalogProperties.ENABLED_PROPERTY;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.config.InMemoryCatalogProperties.IN_MEMORY_CATALOG_PREFIX;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.config.InMemoryCatalogProperties.SNAPSHOT_INTERVAL_PLACEHOLDER;
+
+/**
+ * Adapter serving products from the {@link ProductCatalog} held in memory, instead of reading them from the database.
+ * The catalog is kept either on the heap ({@link ColumnarProductCatalog}) or off the heap ({@link OffHeapProductCatalog}),
+ * depending on the 'in-memory-catalog.storage' property.
+ * On startup, the whole catalog is loaded in the background in batches of product identifiers (keyset pagination), and until
+ * it is loaded, products are read through {@link ProductPersistenceAdapter}. When the catalog snapshot is enabled and a valid
+ * snapshot younger than 'in-memory-catalog.snapshot-max-age-in-hours' exists, the catalog is loaded from the snapshot instead
+ * and published right away, and then reconciled with the database by applying the product change feed entries published
+ * after the snapshot - until then the products changed meanwhile are served in their snapshot version. A missing, outdated
+ * or corrupted snapshot falls back to the load from the database. Afterwards, the catalog follows
+ * the {@link ProductChangeNotificationEvent}s - changed products are read again and patched into the catalog, which is
+ * published copy-on-write (see {@link CopyOnWriteProductCatalog}), so the reads never wait for the updates. Changes affecting
+ * all the products (or a lost notification connection) rebuild the catalog aside and swap it in, so the memory holds two
+ * catalogs for the duration of the rebuild, and the replaced catalog is closed (its off-heap memory released) once the reads
+ * in progress complete - reads which still picked the replaced catalog are repeated with the current one. Loads and refreshes
+ * run one by one on a single updater thread, in the order of the events, and are retried while the database is unavailable -
+ * meanwhile products keep being served from the catalog.
+ * When 'in-memory-catalog.snapshot-enabled' property is set to 'true', the catalog is periodically written to a snapshot file
+ * (see {@link CatalogSnapshotWriter}) together with the position of the product change feed it reflects. The updater first
+ * catches up with the feed - the changes published since the last load or catch-up are applied to the catalog, which also
+ * covers the notifications lost meanwhile - and takes a copy of the catalog, which is then written on the scheduler thread,
+ * so the updates are delayed just by the copying.
+ * The number of products and the estimated heap and off-heap footprint of the catalog are exposed as the 'catalog.products',
+ * 'catalog.heap.bytes' and 'catalog.offheap.bytes' metrics, and in detail by {@link CatalogFootprintEndpoint}.
+ * Class is injected into Spring application context if and only if 'in-memory-catalog.enabled' property is set to 'true'.
+ * It requires the product change notifications, without them the catalog would never follow the changes - the startup
+ * fails if 'product-change-notification.enabled' property is not set to 'true'.
+ */
+@Slf4j
+@Primary
+@Component
+@ConditionalOnProperty(prefix = IN_MEMORY_CATALOG_PREFIX, name = ENABLED_PROPERTY, havingValue = TRUE)
+public class InMemoryCatalogPersistenceAdapter implements ProductPersistencePort, SmartLifecycle {
+
+    private static final String UPDATER_THREAD_NAME = "in-memory-catalog-updater";
+    private static final String PRODUCTS_METRIC = "catalog.products";
+    private static final String HEAP_BYTES_METRIC = "catalog.heap.bytes";
+    private static final String OFF_HEAP_BYTES_METRIC = "catalog.offheap.bytes";
+    private static final String BYTES_UNIT = "bytes";
+    private static final long STOP_TIMEOUT_IN_MILLISECONDS = 5000L;
+    private static final String CATALOG_LOADED_MSG = "Loaded {} products into the {} in-memory catalog in {} ms, taking {} bytes ({} bytes per million products).";
+    private static final String NOTIFICATIONS_DISABLED_MSG = "In-memory catalog requires product change notifications, set '%s.%s' property to 'true'.";
+    private static final String DATABASE_READ_FAILED_MSG = "Failed to read products for the in-memory catalog, retrying in {} ms: {}";
+    private static final String SNAPSHOT_WRITTEN_MSG = "Wrote {} products of the in-memory catalog at change {} to snapshot '{}' in {} ms.";
+    private static final String SNAPSHOT_FAILED_MSG = "Failed to write the in-memory catalog snapshot '{}': {}";
+    private static final String SNAPSHOT_LOADED_MSG = "Loaded {} products into the {} in-memory catalog from snapshot '{}' at change {} in {} ms, reconciling with the database.";
+    private static final String SNAPSHOT_RECONCILED_MSG = "Reconciled the in-memory catalog loaded from the snapshot with the database up to change {}.";
+    private static final String SNAPSHOT_MISSING_MSG = "In-memory catalog snapshot '{}' does not exist, loading the catalog from the database.";
+    private static final String SNAPSHOT_OUTDATED_MSG = "In-memory catalog snapshot '{}' created at {} is older than {} hours, loading the catalog from the database.";
+    private static final String SNAPSHOT_INVALID_MSG = "Ignoring in-memory catalog snapshot '{}', loading the catalog from the database: {}";
+    private static final long UNKNOWN_SEQUENCE_NUMBER = -1L;
+
+    private final ProductPersistenceAdapter productPersistenceAdapter;
+    private final ProductChangePersistencePort productChangePersistencePort;
+    private final InMemoryCatalogProperties inMemoryCatalogProperties;
+    private final AtomicBoolean loadPending = new AtomicBoolean();
+    @Nullable
+    private volatile ProductCatalog catalog;
+    @Nullable
+    private volatile ExecutorService updater;
+    // sequence number of the last product change feed entry reflected by the catalog, accessed only by the updater thread
+    private long changeSequenceNumber = UNKNOWN_SEQUENCE_NUMBER;
+
+    public InMemoryCatalogPersistenceAdapter(ProductPersistenceAdapter productPersistenceAdapter,
+                                             ProductChangePersistencePort productChangePersistencePort,
+                                             InMemoryCatalogProperties inMemoryCatalogProperties,
+                                             ProductChangeNotificationProperties productChangeNotificationProperties,
+                                             MeterRegistry meterRegistry) {
+        if (!productChangeNotificationProperties.isEnabled()) {
+            throw new IllegalStateException(NOTIFICATIONS_DISABLED_MSG.formatted(
+                    ProductChangeNotificationProperties.PRODUCT_CHANGE_NOTIFICATION_PREFIX, ProductChangeNotificationProperties.ENABLED_PROPERTY));
+        }
+        this.productPersistenceAdapter = productPersistenceAdapter;
+        this.productChangePersistencePort = productChangePersistencePort;
+        this.inMemoryCatalogProperties = inMemoryCatalogProperties;
+        Gauge.builder(PRODUCTS_METRIC, this, adapter -> adapter.getFootprint().map(CatalogFootprint::productCount).orElse(0))
+                .register(meterRegistry);
+        Gauge.builder(HEAP_BYTES_METRIC, this, adapter -> adapter.getFootprint().map(CatalogFootprint::heapBytes).orElse(0L))
+                .baseUnit(BYTES_UNIT)
+                .register(meterRegistry);
+        Gauge.builder(OFF_HEAP_BYTES_METRIC, this, adapter -> adapter.getFootprint().map(CatalogFootprint::offHeapBytes).orElse(0L))
+                .baseUnit(BYTES_UNIT)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Optional<Product> findById(UUID productId) {
+        if (isNull(catalog)) {
+            return productPersistenceAdapter.findById(productId);
+        }
+        return Optional.ofNullable(readFromCatalog(productId));
+    }
+
+    @Override
+    public List<Product> findAllByIds(Collection<UUID> productIds) {
+        if (isNull(catalog)) {
+            return productPersistenceAdapter.findAllByIds(productIds);
+        }
+        return productIds.stream()
+                .distinct()
+                .map(this::readFromCatalog)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public List<UUID> findProductIds(int limit) {
+        return productPersistenceAdapter.findProductIds(limit);
+    }
+
+    @Override
+    public boolean isReadWithoutDatabase(UUID productId) {
+        return nonNull(catalog);
+    }
+
+    /**
+     * Return the estimated memory footprint of the catalog.
+     *
+     * @return the footprint or empty if the catalog is not loaded yet.
+     */
+    public Optional<CatalogFootprint> getFootprint() {
+        return Optional.ofNullable(catalog).map(ProductCatalog::getFootprint);
+    }
+
+    /**
+     * Bring the catalog up to date with the given change.
+     *
+     * @param event the product change event.
+     */
+    @EventListener
+    public void onProductChange(ProductChangeNotificationEvent event) {
+        if (isNull(event.sourceTable()) || event.allProducts()) {
+            submitLoad();
+            return;
+        }
+        Set<UUID> productIds = Set.copyOf(event.productIds());
+        submit(() -> refresh(productIds));
+    }
+
+    /**
+     * Write the snapshot of the catalog, brought up to date with the product change feed, to the configured file.
+     */
+    @Scheduled(fixedDelayString = SNAPSHOT_INTERVAL_PLACEHOLDER, initialDelayString = SNAPSHOT_INTERVAL_PLACEHOLDER)
+    public void writeCatalogSnapshot() {
+        ExecutorService currentUpdater = updater;
+        if (!inMemoryCatalogProperties.isSnapshotEnabled() || isNull(currentUpdater)) {
+            return;
+        }
+        Path snapshotPath = Path.of(inMemoryCatalogProperties.getSnapshotPath());
+        CatalogSnapshot snapshot;
+        try {
+            snapshot = CompletableFuture.supplyAsync(this::catchUpAndCopy, currentUpdater).join();
+        } catch (CompletionException | RejectedExecutionException e) {
+            log.warn(SNAPSHOT_FAILED_MSG, snapshotPath, e.getMessage());
+            return;
+        }
+        if (isNull(snapshot)) {
+            return;
+        }
+        long startedAt = System.nanoTime();
+        try {
+            CatalogSnapshotWriter.write(snapshotPath, snapshot.catalog(), snapshot.changeSequenceNumber(), snapshot.createdAt());
+            log.info(SNAPSHOT_WRITTEN_MSG, snapshot.catalog().size(), snapshot.changeSequenceNumber(), snapshotPath,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        } catch (IOException | RuntimeException e) {
+            log.warn(SNAPSHOT_FAILED_MSG, snapshotPath, e.getMessage());
+        } finally {
+            snapshot.catalog().close();
+        }
+    }
+
+    @Override
+    public void start() {
+        updater = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, UPDATER_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        submit(this::loadFromSnapshotOrDatabase);
+    }
+
+    @Override
+    public void stop() {
+        ExecutorService currentUpdater = updater;
+        if (isNull(currentUpdater)) {
+            return;
+        }
+        updater = null;
+        currentUpdater.shutdownNow();
+        try {
+            currentUpdater.awaitTermination(STOP_TIMEOUT_IN_MILLISECONDS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return nonNull(updater);
+    }
+
+    private void submitLoad() {
+        // a load already waiting in the queue covers the changes reported since it was submitted
+        if (loadPending.compareAndSet(false, true)) {
+            submit(() -> {
+                loadPending.set(false);
+                load();
+            });
+        }
+    }
+
+    private void submit(Runnable task) {
+        ExecutorService currentUpdater = updater;
+        if (nonNull(currentUpdater)) {
+            currentUpdater.execute(task);
+        }
+    }
+
+    @Nullable
+    private Product readFromCatalog(UUID productId) {
+        while (true) {
+            try {
+                return catalog.get(productId);
+            } catch (CatalogClosedException e) {
+                // the catalog was replaced and closed after it was picked, the current one is already swapped in
+            }
+        }
+    }
+
+    private ProductCatalog createCatalog() {
+        int initialCapacity = inMemoryCatalogProperties.getInitialCapacity();
+        return switch (inMemoryCatalogProperties.getStorage()) {
+            case HEAP -> new ColumnarProductCatalog(initialCapacity);
+            case OFF_HEAP -> new OffHeapProductCatalog(initialCapacity);
+        };
+    }
+
+    private void loadFromSnapshotOrDatabase() {
+        if (!inMemoryCatalogProperties.isSnapshotEnabled() || !loadFromSnapshot()) {
+            load();
+        }
+    }
+
+    private boolean loadFromSnapshot() {
+        long startedAt = System.nanoTime();
+        Path snapshotPath = Path.of(inMemoryCatalogProperties.getSnapshotPath());
+        if (!Files.exists(snapshotPath)) {
+            log.info(SNAPSHOT_MISSING_MSG, snapshotPath);
+            return false;
+        }
+        ProductCatalog newCatalog = createCatalog();
+        long snapshotSequenceNumber;
+        try (MappedCatalogSnapshot snapshot = MappedCatalogSnapshot.open(snapshotPath)) {
+            // the feed drops the changes of deleted products after a while, an older snapshot could keep serving them
+            Duration maxAge = Duration.ofHours(inMemoryCatalogProperties.getSnapshotMaxAgeInHours());
+            if (snapshot.getCreatedAt().isBefore(Instant.now().minus(maxAge))) {
+                log.info(SNAPSHOT_OUTDATED_MSG, snapshotPath, snapshot.getCreatedAt(), maxAge.toHours());
+                newCatalog.close();
+                return false;
+            }
+            snapshot.forEach(newCatalog::upsert);
+            snapshotSequenceNumber = snapshot.getChangeSequenceNumber();
+        } catch (IOException | RuntimeException e) {
+            log.warn(SNAPSHOT_INVALID_MSG, snapshotPath, e.getMessage());
+            newCatalog.close();
+            return false;
+        }
+        ProductCatalog currentCatalog = new CopyOnWriteProductCatalog(newCatalog, inMemoryCatalogProperties.getPatchCompactionThreshold());
+        catalog = currentCatalog;
+        changeSequenceNumber = snapshotSequenceNumber;
+        CatalogFootprint footprint = newCatalog.getFootprint();
+        log.info(SNAPSHOT_LOADED_MSG, footprint.productCount(), inMemoryCatalogProperties.getStorage(), snapshotPath,
+                snapshotSequenceNumber, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        try {
+            catchUpWithChangeFeed(currentCatalog, true);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return true;
+        }
+        log.info(SNAPSHOT_RECONCILED_MSG, changeSequenceNumber);
+        return true;
+    }
+
+    private void load() {
+        long startedAt = System.nanoTime();
+        ProductCatalog newCatalog = createCatalog();
+        long loadedSequenceNumber;
+        try {
+            // the changes published afterwards are applied by the next catch-up with the feed, the earlier ones are loaded
+            loadedSequenceNumber = readRetrying(productChangePersistencePort::findLastSequenceNumber);
+            UUID lastProductId = null;
+            while (true) {
+                UUID afterProductId = lastProductId;
+                List<UUID> productIds = readRetrying(() -> productPersistenceAdapter.findProductIdsAfter(afterProductId,
+                        inMemoryCatalogProperties.getLoadBatchSize()));
+                if (productIds.isEmpty()) {
+                    break;
+                }
+                readRetrying(() -> productPersistenceAdapter.findAllByIds(productIds)).forEach(newCatalog::upsert);
+                lastProductId = productIds.get(productIds.size() - 1);
+            }
+        } catch (InterruptedException e) {
+            newCatalog.close();
+            Thread.currentThread().interrupt();
+            return;
+        }
+        ProductCatalog replacedCatalog = catalog;
+        catalog = new CopyOnWriteProductCatalog(newCatalog, inMemoryCatalogProperties.getPatchCompactionThreshold());
+        changeSequenceNumber = loadedSequenceNumber;
+        if (nonNull(replacedCatalog)) {
+            replacedCatalog.close();
+        }
+        CatalogFootprint footprint = newCatalog.getFootprint();
+        log.info(CATALOG_LOADED_MSG, footprint.productCount(), inMemoryCatalogProperties.getStorage(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt), footprint.totalBytes(), footprint.bytesPerMillionProducts());
+    }
+
+    private void refresh(Set<UUID> productIds) {
+        ProductCatalog currentCatalog = catalog;
+        if (isNull(currentCatalog)) {
+            return;
+        }
+        List<Product> products;
+        try {
+            products = readRetrying(() -> productPersistenceAdapter.findAllByIds(productIds));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        apply(currentCatalog, productIds, products);
+    }
+
+    @Nullable
+    private CatalogSnapshot catchUpAndCopy() {
+        ProductCatalog currentCatalog = catalog;
+        if (isNull(currentCatalog) || changeSequenceNumber == UNKNOWN_SEQUENCE_NUMBER) {
+            return null;
+        }
+        Instant createdAt = Instant.now();
+        try {
+            // a failed read fails just this snapshot, instead of holding the scheduler thread until the database is back
+            catchUpWithChangeFeed(currentCatalog, false);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        return new CatalogSnapshot(currentCatalog.copy(), changeSequenceNumber, createdAt);
+    }
+
+    private void catchUpWithChangeFeed(ProductCatalog currentCatalog, boolean retrying) throws InterruptedException {
+        while (true) {
+            long sinceSequenceNumber = changeSequenceNumber;
+            List<ProductChange> changes = read(() -> productChangePersistencePort.findChangesSince(sinceSequenceNumber,
+                    inMemoryCatalogProperties.getLoadBatchSize()), retrying);
+            if (changes.isEmpty()) {
+                return;
+            }
+            Set<UUID> productIds = new HashSet<>();
+            changes.forEach(change -> productIds.add(change.productId()));
+            // the products are read after the changes, so they are at least as recent as the last of the changes
+            apply(currentCatalog, productIds, read(() -> productChangePersistencePort.findChangedProducts(productIds), retrying));
+            changeSequenceNumber = changes.get(changes.size() - 1).sequenceNumber();
+        }
+    }
+
+    private void apply(ProductCatalog currentCatalog, Set<UUID> productIds, List<Product> products) {
+        Set<UUID> removedProductIds = new HashSet<>(productIds);
+        for (Product product : products) {
+            currentCatalog.upsert(product);
+            removedProductIds.remove(product.id());
+        }
+        removedProductIds.forEach(currentCatalog::remove);
+    }
+
+    private <T> T read(Supplier<T> databaseRead, boolean retrying) throws InterruptedException {
+        return retrying ? readRetrying(databaseRead) : databaseRead.get();
+    }
+
+    private <T> T readRetrying(Supplier<T> databaseRead) throws InterruptedException {
+        while (true) {
+            try {
+                return databaseRead.get();
+            } catch (RuntimeException e) {
+                log.warn(DATABASE_READ_FAILED_MSG, inMemoryCatalogProperties.getRetryDelayInMilliseconds(), e.getMessage());
+                Thread.sleep(inMemoryCatalogProperties.getRetryDelayInMilliseconds());
+            }
+        }
+    }
+
+    /**
+     * Copy of the catalog taken for the snapshot.
+     *
+     * @param catalog              the copy, closed once written.
+     * @param changeSequenceNumber sequence number of the last product change feed entry reflected by the copy.
+     * @param createdAt            the moment the catch-up with the feed started.
+     */
+    private record CatalogSnapshot(ProductCatalog catalog, long changeSequenceNumber, Instant createdAt) {
+    }
+}
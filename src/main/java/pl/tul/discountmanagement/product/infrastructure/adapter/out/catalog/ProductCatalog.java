@@ -0,0 +1,77 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog;
+
+import jakarta.annotation.Nullable;
+import pl.tul.discountmanagement.product.domain.model.Product;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Product catalog held in memory in a compact layout, materializing a {@link Product} only when it is read.
+ * Implementations are thread-safe.
+ */
+public interface ProductCatalog {
+
+    /**
+     * Materialize the product.
+     *
+     * @param productId the product identifier.
+     * @return the product or null if it is not in the catalog.
+     * @throws CatalogClosedException when the catalog is already closed.
+     */
+    @Nullable
+    Product get(UUID productId);
+
+    /**
+     * Insert the product into the catalog or replace the product with the same identifier.
+     * The currency and the discounts replace their previous versions with the same identifiers for all products.
+     *
+     * @param product the product.
+     */
+    void upsert(Product product);
+
+    /**
+     * Remove the product from the catalog.
+     *
+     * @param productId the product identifier.
+     * @return whether the product was in the catalog.
+     */
+    boolean remove(UUID productId);
+
+    /**
+     * Return the number of products in the catalog.
+     *
+     * @return the number of products.
+     */
+    int size();
+
+    /**
+     * Estimate the memory taken by the catalog.
+     *
+     * @return the footprint.
+     */
+    CatalogFootprint getFootprint();
+
+    /**
+     * Materialize every product of the catalog, in no particular order. The writes to the catalog wait until the iteration
+     * is complete, so iterate a {@link #copy()} of a catalog being written to.
+     *
+     * @param action the action receiving the products.
+     * @throws CatalogClosedException when the catalog is already closed.
+     */
+    void forEach(Consumer<Product> action);
+
+    /**
+     * Create an independent copy of the catalog, which can be modified without affecting this one. A catalog holding
+     * too much memory of the removed and replaced products is rebuilt from its current products instead, which reclaims it.
+     *
+     * @return the copy.
+     */
+    ProductCatalog copy();
+
+    /**
+     * Release the memory of the catalog once the reads in progress complete. Reads started afterwards may fail with
+     * {@link CatalogClosedException}.
+     */
+    void close();
+}
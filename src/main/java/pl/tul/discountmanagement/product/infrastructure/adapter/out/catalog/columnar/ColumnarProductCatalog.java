@@ -0,0 +1,440 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.columnar;
+
+import jakarta.annotation.Nullable;
+import pl.tul.discountmanagement.product.domain.model.Currency;
+import pl.tul.discountmanagement.product.domain.model.PercentageBasedDiscount;
+import pl.tul.discountmanagement.product.domain.model.Product;
+import pl.tul.discountmanagement.product.domain.model.QuantityBasedDiscount;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.CatalogFootprint;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.ProductCatalog;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Product catalog kept in a compact columnar layout, so that multi-million product catalogs fit in the heap.
+ * Instead of a graph of {@link Product}, {@link Currency} and discount objects per product, every product is a row
+ * of primitive columns:
+ * <ul>
+ *     <li>the identifier as a pair of longs in a {@link UuidIndex}, whose entry is the row,</li>
+ *     <li>the price as an unscaled long and a byte scale (prices exceeding a long are kept aside),</li>
+ *     <li>the currency as a short index of the currency dictionary,</li>
+ *     <li>the percentage-based discount as an int index of the percentage-based discount dictionary,</li>
+ *     <li>the quantity-based discounts as an int index of the deduplicated tier sets, whose members index the tier dictionary,</li>
+ *     <li>the name and the description as a long reference of a {@link TextArena}.</li>
+ * </ul>
+ * The discounts are shared by many products, so the dictionaries and tier sets stay small regardless of the number
+ * of products. A {@link Product} is materialized only when it is read, see {@link #get(UUID)}.
+ * Reads are lock-free optimistic reads of a {@link StampedLock}, validated after the product is materialized and
+ * retried under the read lock if a write interfered; writes take the write lock. The columns live on the heap and are
+ * reclaimed by the garbage collector, so closing the catalog does nothing.
+ * The rows and texts of removed or replaced products are not reused. Once they take a quarter of the rows or of the text
+ * bytes, {@link #copy()} rebuilds the catalog from its current products instead of copying the columns as they are.
+ */
+public class ColumnarProductCatalog implements ProductCatalog {
+
+    private static final int NONE = -1;
+    private static final int NO_UPPER_ITEMS_THRESHOLD = -1;
+    // marks a row whose price is kept in the oversized prices map
+    private static final byte OVERSIZED_PRICE_SCALE = Byte.MIN_VALUE;
+    private static final int DICTIONARY_INITIAL_CAPACITY = 64;
+    // a copy rebuilds the catalog once more than 1/MAX_GARBAGE_DIVISOR of its rows or text bytes are garbage
+    private static final int MAX_GARBAGE_DIVISOR = 4;
+    private static final String TOO_MANY_CURRENCIES_MSG = "Catalog holds at most %d currencies.";
+
+    private final StampedLock lock = new StampedLock();
+    private final TextArena textArena;
+
+    // product rows
+    private final UuidIndex productIndex;
+    private long[] unscaledPrices;
+    private byte[] priceScales;
+    private short[] currencyIndexes;
+    private int[] percentageBasedDiscountIndexes;
+    private int[] tierSetIndexes;
+    private long[] textReferences;
+    private final Map<Integer, BigDecimal> oversizedPrices = new HashMap<>();
+
+    // currency dictionary, small enough to be scanned
+    private Currency[] currencies = new Currency[8];
+    private int currencyCount;
+
+    // percentage-based discount dictionary
+    private final UuidIndex percentageBasedDiscountIndex;
+    private byte[] percentageBasedDiscountRates = new byte[DICTIONARY_INITIAL_CAPACITY];
+
+    // quantity-based discount (tier) dictionary
+    private final UuidIndex tierIndex;
+    private byte[] tierRates = new byte[DICTIONARY_INITIAL_CAPACITY];
+    private int[] tierLowerItemsThresholds = new int[DICTIONARY_INITIAL_CAPACITY];
+    private int[] tierUpperItemsThresholds = new int[DICTIONARY_INITIAL_CAPACITY];
+
+    // tier sets - a set starts at its offset in the members array with the number of its tiers, followed by the tiers
+    private int[] tierSetOffsets = new int[DICTIONARY_INITIAL_CAPACITY];
+    private int tierSetCount;
+    private int[] tierSetMembers = new int[DICTIONARY_INITIAL_CAPACITY * 4];
+    private int tierSetMembersLength;
+    // open-addressing table of tier sets (increased by one) by their content, used to deduplicate them
+    private int[] tierSetTable = new int[DICTIONARY_INITIAL_CAPACITY * 2];
+
+    /**
+     * Create an empty catalog.
+     *
+     * @param initialCapacity the number of products the catalog holds without growing.
+     */
+    public ColumnarProductCatalog(int initialCapacity) {
+        this.textArena = new TextArena();
+        this.percentageBasedDiscountIndex = new UuidIndex(DICTIONARY_INITIAL_CAPACITY);
+        this.tierIndex = new UuidIndex(DICTIONARY_INITIAL_CAPACITY);
+        this.productIndex = new UuidIndex(initialCapacity);
+        int capacity = productIndex.getCapacity();
+        this.unscaledPrices = new long[capacity];
+        this.priceScales = new byte[capacity];
+        this.currencyIndexes = new short[capacity];
+        this.percentageBasedDiscountIndexes = new int[capacity];
+        this.tierSetIndexes = new int[capacity];
+        this.textReferences = new long[capacity];
+    }
+
+    // called with the read lock of the source held
+    private ColumnarProductCatalog(ColumnarProductCatalog source) {
+        this.textArena = source.textArena.copy();
+        this.productIndex = source.productIndex.copy();
+        this.unscaledPrices = source.unscaledPrices.clone();
+        this.priceScales = source.priceScales.clone();
+        this.currencyIndexes = source.currencyIndexes.clone();
+        this.percentageBasedDiscountIndexes = source.percentageBasedDiscountIndexes.clone();
+        this.tierSetIndexes = source.tierSetIndexes.clone();
+        this.textReferences = source.textReferences.clone();
+        this.oversizedPrices.putAll(source.oversizedPrices);
+        this.currencies = source.currencies.clone();
+        this.currencyCount = source.currencyCount;
+        this.percentageBasedDiscountIndex = source.percentageBasedDiscountIndex.copy();
+        this.percentageBasedDiscountRates = source.percentageBasedDiscountRates.clone();
+        this.tierIndex = source.tierIndex.copy();
+        this.tierRates = source.tierRates.clone();
+        this.tierLowerItemsThresholds = source.tierLowerItemsThresholds.clone();
+        this.tierUpperItemsThresholds = source.tierUpperItemsThresholds.clone();
+        this.tierSetOffsets = source.tierSetOffsets.clone();
+        this.tierSetCount = source.tierSetCount;
+        this.tierSetMembers = source.tierSetMembers.clone();
+        this.tierSetMembersLength = source.tierSetMembersLength;
+        this.tierSetTable = source.tierSetTable.clone();
+    }
+
+    @Override
+    @Nullable
+    public Product get(UUID productId) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            try {
+                Product product = read(productId);
+                if (lock.validate(stamp)) {
+                    return product;
+                }
+            } catch (RuntimeException e) {
+                // a write resized the columns under the optimistic read, the product is read again under the read lock
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return read(productId);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public void upsert(Product product) {
+        long stamp = lock.writeLock();
+        try {
+            UUID productId = product.id();
+            int existingRow = productIndex.indexOf(productId.getMostSignificantBits(), productId.getLeastSignificantBits());
+            int row = existingRow;
+            if (existingRow == UuidIndex.NOT_FOUND) {
+                row = productIndex.add(productId.getMostSignificantBits(), productId.getLeastSignificantBits());
+                ensureRowCapacity(productIndex.getCapacity());
+            } else {
+                textArena.release(textReferences[row]);
+                oversizedPrices.remove(row);
+            }
+            writePrice(row, product.price());
+            currencyIndexes[row] = (short) currencyIndexOf(product.currency());
+            percentageBasedDiscountIndexes[row] = isNull(product.percentageBasedDiscount())
+                    ? NONE : percentageBasedDiscountIndexOf(product.percentageBasedDiscount());
+            tierSetIndexes[row] = isNull(product.quantityBasedDiscounts()) ? NONE : tierSetIndexOf(product.quantityBasedDiscounts());
+            textReferences[row] = textArena.append(product.name(), product.description());
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean remove(UUID productId) {
+        long stamp = lock.writeLock();
+        try {
+            int row = productIndex.remove(productId.getMostSignificantBits(), productId.getLeastSignificantBits());
+            if (row == UuidIndex.NOT_FOUND) {
+                return false;
+            }
+            textArena.release(textReferences[row]);
+            oversizedPrices.remove(row);
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return productIndex.size();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public CatalogFootprint getFootprint() {
+        long stamp = lock.readLock();
+        try {
+            long rowBytes = (long) unscaledPrices.length * (Long.BYTES + Byte.BYTES + Short.BYTES + Integer.BYTES + Integer.BYTES + Long.BYTES);
+            long dictionaryBytes = (long) Long.BYTES * currencies.length
+                    + percentageBasedDiscountIndex.getHeapBytes() + percentageBasedDiscountRates.length
+                    + tierIndex.getHeapBytes() + tierRates.length
+                    + (long) Integer.BYTES * (tierLowerItemsThresholds.length + tierUpperItemsThresholds.length)
+                    + (long) Integer.BYTES * (tierSetOffsets.length + tierSetMembers.length + tierSetTable.length);
+            return CatalogFootprint.of(productIndex.size(), currencyCount, percentageBasedDiscountIndex.size(), tierIndex.size(),
+                    tierSetCount, productIndex.getHeapBytes(), rowBytes, textArena.getHeapBytes(), textArena.getReleasedBytes(),
+                    dictionaryBytes, 0L);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public void forEach(Consumer<Product> action) {
+        long stamp = lock.readLock();
+        try {
+            productIndex.forEachEntry(row -> action.accept(read(
+                    new UUID(productIndex.getMostSignificantBits(row), productIndex.getLeastSignificantBits(row)), row)));
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public ColumnarProductCatalog copy() {
+        long stamp = lock.readLock();
+        try {
+            return isFragmented() ? rebuild() : new ColumnarProductCatalog(this);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public void close() {
+        // the columns are reclaimed by the garbage collector
+    }
+
+    private boolean isFragmented() {
+        long deadRows = productIndex.getEntryCount() - productIndex.size();
+        return deadRows * MAX_GARBAGE_DIVISOR > productIndex.getEntryCount()
+                || textArena.getReleasedBytes() * MAX_GARBAGE_DIVISOR > textArena.getAppendedBytes();
+    }
+
+    // called with the read lock held
+    private ColumnarProductCatalog rebuild() {
+        ColumnarProductCatalog rebuiltCatalog = new ColumnarProductCatalog(productIndex.size());
+        productIndex.forEachEntry(row -> rebuiltCatalog.upsert(read(
+                new UUID(productIndex.getMostSignificantBits(row), productIndex.getLeastSignificantBits(row)), row)));
+        return rebuiltCatalog;
+    }
+
+    @Nullable
+    private Product read(UUID productId) {
+        int row = productIndex.indexOf(productId.getMostSignificantBits(), productId.getLeastSignificantBits());
+        return row == UuidIndex.NOT_FOUND ? null : read(productId, row);
+    }
+
+    private Product read(UUID productId, int row) {
+        long textReference = textReferences[row];
+        int percentageBasedDiscountIndex = percentageBasedDiscountIndexes[row];
+        int tierSetIndex = tierSetIndexes[row];
+        return Product.builder()
+                .id(productId)
+                .name(textArena.readFirst(textReference))
+                .description(textArena.readSecond(textReference))
+                .price(readPrice(row))
+                .currency(currencies[currencyIndexes[row]])
+                .percentageBasedDiscount(percentageBasedDiscountIndex == NONE ? null : readPercentageBasedDiscount(percentageBasedDiscountIndex))
+                .quantityBasedDiscounts(tierSetIndex == NONE ? null : readTierSet(tierSetIndex))
+                .build();
+    }
+
+    private BigDecimal readPrice(int row) {
+        byte scale = priceScales[row];
+        return scale == OVERSIZED_PRICE_SCALE ? oversizedPrices.get(row) : BigDecimal.valueOf(unscaledPrices[row], scale);
+    }
+
+    private void writePrice(int row, BigDecimal price) {
+        BigInteger unscaledPrice = price.unscaledValue();
+        if (unscaledPrice.bitLength() < Long.SIZE && price.scale() > OVERSIZED_PRICE_SCALE && price.scale() <= Byte.MAX_VALUE) {
+            unscaledPrices[row] = unscaledPrice.longValue();
+            priceScales[row] = (byte) price.scale();
+        } else {
+            unscaledPrices[row] = 0L;
+            priceScales[row] = OVERSIZED_PRICE_SCALE;
+            oversizedPrices.put(row, price);
+        }
+    }
+
+    private PercentageBasedDiscount readPercentageBasedDiscount(int index) {
+        return new PercentageBasedDiscount(new UUID(percentageBasedDiscountIndex.getMostSignificantBits(index),
+                percentageBasedDiscountIndex.getLeastSignificantBits(index)), percentageBasedDiscountRates[index]);
+    }
+
+    private Set<QuantityBasedDiscount> readTierSet(int tierSetIndex) {
+        int offset = tierSetOffsets[tierSetIndex];
+        int tierCount = tierSetMembers[offset];
+        Set<QuantityBasedDiscount> tiers = new LinkedHashSet<>(tierCount * 2);
+        for (int i = 1; i <= tierCount; i++) {
+            int tier = tierSetMembers[offset + i];
+            int upperItemsThreshold = tierUpperItemsThresholds[tier];
+            tiers.add(new QuantityBasedDiscount(new UUID(tierIndex.getMostSignificantBits(tier), tierIndex.getLeastSignificantBits(tier)),
+                    tierRates[tier], tierLowerItemsThresholds[tier],
+                    upperItemsThreshold == NO_UPPER_ITEMS_THRESHOLD ? null : upperItemsThreshold));
+        }
+        return tiers;
+    }
+
+    private int currencyIndexOf(Currency currency) {
+        for (int i = 0; i < currencyCount; i++) {
+            if (currencies[i].id().equals(currency.id())) {
+                currencies[i] = currency;
+                return i;
+            }
+        }
+        if (currencyCount == Short.MAX_VALUE) {
+            throw new IllegalStateException(TOO_MANY_CURRENCIES_MSG.formatted((int) Short.MAX_VALUE));
+        }
+        if (currencyCount == currencies.length) {
+            currencies = Arrays.copyOf(currencies, currencies.length * 2);
+        }
+        currencies[currencyCount] = currency;
+        return currencyCount++;
+    }
+
+    private int percentageBasedDiscountIndexOf(PercentageBasedDiscount percentageBasedDiscount) {
+        UUID id = percentageBasedDiscount.getId();
+        int index = percentageBasedDiscountIndex.add(id.getMostSignificantBits(), id.getLeastSignificantBits());
+        if (percentageBasedDiscountRates.length < percentageBasedDiscountIndex.getCapacity()) {
+            percentageBasedDiscountRates = Arrays.copyOf(percentageBasedDiscountRates, percentageBasedDiscountIndex.getCapacity());
+        }
+        percentageBasedDiscountRates[index] = (byte) percentageBasedDiscount.getPercentageRate();
+        return index;
+    }
+
+    private int tierIndexOf(QuantityBasedDiscount tier) {
+        UUID id = tier.getId();
+        int index = tierIndex.add(id.getMostSignificantBits(), id.getLeastSignificantBits());
+        int capacity = tierIndex.getCapacity();
+        if (tierRates.length < capacity) {
+            tierRates = Arrays.copyOf(tierRates, capacity);
+            tierLowerItemsThresholds = Arrays.copyOf(tierLowerItemsThresholds, capacity);
+            tierUpperItemsThresholds = Arrays.copyOf(tierUpperItemsThresholds, capacity);
+        }
+        tierRates[index] = (byte) tier.getPercentageRate();
+        tierLowerItemsThresholds[index] = tier.getLowerItemsThreshold();
+        tierUpperItemsThresholds[index] = isNull(tier.getUpperItemsThreshold()) ? NO_UPPER_ITEMS_THRESHOLD : tier.getUpperItemsThreshold();
+        return index;
+    }
+
+    private int tierSetIndexOf(Set<QuantityBasedDiscount> tiers) {
+        int[] tierIndexes = new int[tiers.size()];
+        int i = 0;
+        for (QuantityBasedDiscount tier : tiers) {
+            tierIndexes[i++] = tierIndexOf(tier);
+        }
+        int hash = Arrays.hashCode(tierIndexes);
+        int mask = tierSetTable.length - 1;
+        int slot = mix(hash) & mask;
+        while (tierSetTable[slot] != 0) {
+            int tierSet = tierSetTable[slot] - 1;
+            if (tierSetEquals(tierSet, tierIndexes)) {
+                return tierSet;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return addTierSet(tierIndexes);
+    }
+
+    private boolean tierSetEquals(int tierSet, int[] tierIndexes) {
+        int offset = tierSetOffsets[tierSet];
+        return tierSetMembers[offset] == tierIndexes.length
+                && Arrays.equals(tierSetMembers, offset + 1, offset + 1 + tierIndexes.length, tierIndexes, 0, tierIndexes.length);
+    }
+
+    private int addTierSet(int[] tierIndexes) {
+        if (tierSetCount == tierSetOffsets.length) {
+            tierSetOffsets = Arrays.copyOf(tierSetOffsets, tierSetOffsets.length * 2);
+        }
+        int requiredLength = tierSetMembersLength + 1 + tierIndexes.length;
+        if (requiredLength > tierSetMembers.length) {
+            tierSetMembers = Arrays.copyOf(tierSetMembers, Math.max(requiredLength, tierSetMembers.length * 2));
+        }
+        int tierSet = tierSetCount++;
+        tierSetOffsets[tierSet] = tierSetMembersLength;
+        tierSetMembers[tierSetMembersLength] = tierIndexes.length;
+        System.arraycopy(tierIndexes, 0, tierSetMembers, tierSetMembersLength + 1, tierIndexes.length);
+        tierSetMembersLength = requiredLength;
+        if (tierSetCount * 2 > tierSetTable.length) {
+            tierSetTable = new int[tierSetTable.length * 2];
+            for (int existingTierSet = 0; existingTierSet < tierSetCount; existingTierSet++) {
+                insertTierSet(existingTierSet);
+            }
+        } else {
+            insertTierSet(tierSet);
+        }
+        return tierSet;
+    }
+
+    private void insertTierSet(int tierSet) {
+        int offset = tierSetOffsets[tierSet];
+        int hash = Arrays.hashCode(Arrays.copyOfRange(tierSetMembers, offset + 1, offset + 1 + tierSetMembers[offset]));
+        int mask = tierSetTable.length - 1;
+        int slot = mix(hash) & mask;
+        while (tierSetTable[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        tierSetTable[slot] = tierSet + 1;
+    }
+
+    private void ensureRowCapacity(int capacity) {
+        if (unscaledPrices.length >= capacity) {
+            return;
+        }
+        unscaledPrices = Arrays.copyOf(unscaledPrices, capacity);
+        priceScales = Arrays.copyOf(priceScales, capacity);
+        currencyIndexes = Arrays.copyOf(currencyIndexes, capacity);
+        percentageBasedDiscountIndexes = Arrays.copyOf(percentageBasedDiscountIndexes, capacity);
+        tierSetIndexes = Arrays.copyOf(tierSetIndexes, capacity);
+        textReferences = Arrays.copyOf(textReferences, capacity);
+    }
+
+    private static int mix(int hash) {
+        return hash ^ (hash >>> 16) * 0x45d9f3b;
+    }
+}
@@ -0,0 +1,198 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.columnar;
+
+import jakarta.annotation.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Append-only arena of text pairs (product name and description), encoded in UTF-8 into large shared byte pages instead
+ * of a pair of {@link String} objects per product. A pair is addressed by a single long reference holding its page
+ * and offset. Each text of the pair is prefixed with its length in bytes, -1 standing for a null text.
+ * Released pairs are not reclaimed, they are only counted, see {@link #getReleasedBytes()} - the owner compacts the arena
+ * by building a new one. Written bytes never change, so copies of the arena share all the pages but the one being filled.
+ * Not thread-safe - guarded by the owner.
+ */
+public class TextArena {
+
+    private static final int MIN_PAGE_SIZE = 1 << 12;
+    private static final int MAX_PAGE_SIZE = 1 << 20;
+    private static final int NULL_LENGTH = -1;
+    private static final int LENGTH_BYTES = Integer.BYTES;
+
+    private byte[][] pages = new byte[1][];
+    private int pageCount;
+    private int pagePosition;
+    private long appendedBytes;
+    private long releasedBytes;
+
+    /**
+     * Create an empty arena.
+     */
+    public TextArena() {
+    }
+
+    private TextArena(TextArena source) {
+        this.pages = source.pages.clone();
+        this.pageCount = source.pageCount;
+        this.pagePosition = source.pagePosition;
+        this.appendedBytes = source.appendedBytes;
+        this.releasedBytes = source.releasedBytes;
+        if (pageCount > 0) {
+            pages[pageCount - 1] = pages[pageCount - 1].clone();
+        }
+    }
+
+    /**
+     * Create an independent copy of the arena.
+     *
+     * @return the copy.
+     */
+    public TextArena copy() {
+        return new TextArena(this);
+    }
+
+    /**
+     * Append the text pair to the arena.
+     *
+     * @param first  the first text.
+     * @param second the second text.
+     * @return the reference of the pair.
+     */
+    public long append(@Nullable String first, @Nullable String second) {
+        byte[] firstBytes = isNull(first) ? null : first.getBytes(StandardCharsets.UTF_8);
+        byte[] secondBytes = isNull(second) ? null : second.getBytes(StandardCharsets.UTF_8);
+        int length = 2 * LENGTH_BYTES + lengthOf(firstBytes) + lengthOf(secondBytes);
+        byte[] page = allocate(length);
+        int offset = pagePosition;
+        int position = write(page, offset, firstBytes);
+        write(page, position, secondBytes);
+        pagePosition += length;
+        appendedBytes += length;
+        return ((long) (pageCount - 1) << 32) | offset;
+    }
+
+    /**
+     * Read the first text of the pair.
+     *
+     * @param reference the reference of the pair.
+     * @return the first text.
+     */
+    @Nullable
+    public String readFirst(long reference) {
+        return read(pages[pageOf(reference)], offsetOf(reference));
+    }
+
+    /**
+     * Read the second text of the pair.
+     *
+     * @param reference the reference of the pair.
+     * @return the second text.
+     */
+    @Nullable
+    public String readSecond(long reference) {
+        byte[] page = pages[pageOf(reference)];
+        int offset = offsetOf(reference);
+        return read(page, offset + LENGTH_BYTES + Math.max(0, readLength(page, offset)));
+    }
+
+    /**
+     * Mark the pair as no longer referenced.
+     *
+     * @param reference the reference of the pair.
+     */
+    public void release(long reference) {
+        byte[] page = pages[pageOf(reference)];
+        int offset = offsetOf(reference);
+        int firstLength = Math.max(0, readLength(page, offset));
+        int secondLength = Math.max(0, readLength(page, offset + LENGTH_BYTES + firstLength));
+        releasedBytes += 2L * LENGTH_BYTES + firstLength + secondLength;
+    }
+
+    /**
+     * Return the number of bytes of heap taken by the pages.
+     *
+     * @return the number of bytes.
+     */
+    public long getHeapBytes() {
+        long heapBytes = (long) Long.BYTES * pages.length;
+        for (int i = 0; i < pageCount; i++) {
+            heapBytes += pages[i].length;
+        }
+        return heapBytes;
+    }
+
+    /**
+     * Return the number of bytes taken by all the appended pairs, including the released ones.
+     *
+     * @return the number of bytes.
+     */
+    public long getAppendedBytes() {
+        return appendedBytes;
+    }
+
+    /**
+     * Return the number of bytes taken by the released pairs.
+     *
+     * @return the number of bytes.
+     */
+    public long getReleasedBytes() {
+        return releasedBytes;
+    }
+
+    private byte[] allocate(int length) {
+        if (pageCount > 0 && pagePosition + length <= pages[pageCount - 1].length) {
+            return pages[pageCount - 1];
+        }
+        if (pageCount == pages.length) {
+            pages = Arrays.copyOf(pages, pages.length * 2);
+        }
+        // pages grow up to the maximal size, so small catalogs stay small, and a pair longer than a page gets a page of its own
+        int pageSize = pageCount == 0 ? MIN_PAGE_SIZE : Math.min(MAX_PAGE_SIZE, 2 * pages[pageCount - 1].length);
+        byte[] page = new byte[Math.max(pageSize, length)];
+        pages[pageCount++] = page;
+        pagePosition = 0;
+        return page;
+    }
+
+    private static int write(byte[] page, int offset, @Nullable byte[] text) {
+        if (isNull(text)) {
+            writeLength(page, offset, NULL_LENGTH);
+            return offset + LENGTH_BYTES;
+        }
+        writeLength(page, offset, text.length);
+        System.arraycopy(text, 0, page, offset + LENGTH_BYTES, text.length);
+        return offset + LENGTH_BYTES + text.length;
+    }
+
+    @Nullable
+    private static String read(byte[] page, int offset) {
+        int length = readLength(page, offset);
+        return length == NULL_LENGTH ? null : new String(page, offset + LENGTH_BYTES, length, StandardCharsets.UTF_8);
+    }
+
+    private static void writeLength(byte[] page, int offset, int length) {
+        page[offset] = (byte) (length >>> 24);
+        page[offset + 1] = (byte) (length >>> 16);
+        page[offset + 2] = (byte) (length >>> 8);
+        page[offset + 3] = (byte) length;
+    }
+
+    private static int readLength(byte[] page, int offset) {
+        return (page[offset] << 24) | ((page[offset + 1] & 0xFF) << 16) | ((page[offset + 2] & 0xFF) << 8) | (page[offset + 3] & 0xFF);
+    }
+
+    private static int lengthOf(@Nullable byte[] text) {
+        return isNull(text) ? 0 : text.length;
+    }
+
+    private static int pageOf(long reference) {
+        return (int) (reference >>> 32);
+    }
+
+    private static int offsetOf(long reference) {
+        return (int) reference;
+    }
+}
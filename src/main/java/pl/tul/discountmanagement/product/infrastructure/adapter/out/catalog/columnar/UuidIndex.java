@@ -0,0 +1,246 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.columnar;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Primitive hash index of UUIDs, each stored as a pair of longs.
+ * Every added UUID gets a dense entry number (0, 1, 2, ...), which the owner uses as the row of its own columns, and the index
+ * itself is an open-addressing table of the entry numbers with linear probing - there are no boxed keys and no entry
+ * objects, just 16 bytes per UUID for the id columns and 8 to 16 bytes per UUID for the table (kept at most half full).
+ * Removed UUIDs leave their entries behind, so the rows of the other entries never move - the owner reclaims them
+ * by building a new index once too many entries are dead, see {@link #getEntryCount()}.
+ * Not thread-safe - guarded by the owner.
+ */
+public class UuidIndex {
+
+    public static final int NOT_FOUND = -1;
+    private static final int MIN_CAPACITY = 8;
+    // the table stores the entry number increased by one, so that the zero-filled table is empty
+    private static final int EMPTY_SLOT = 0;
+
+    private long[] mostSignificantBits;
+    private long[] leastSignificantBits;
+    private int[] table;
+    private int entryCount;
+    private int size;
+
+    /**
+     * Create an empty index.
+     *
+     * @param initialCapacity the number of UUIDs the index holds without growing.
+     */
+    public UuidIndex(int initialCapacity) {
+        int capacity = Math.max(MIN_CAPACITY, initialCapacity);
+        this.mostSignificantBits = new long[capacity];
+        this.leastSignificantBits = new long[capacity];
+        this.table = new int[tableSizeFor(capacity)];
+    }
+
+    private UuidIndex(UuidIndex source) {
+        this.mostSignificantBits = source.mostSignificantBits.clone();
+        this.leastSignificantBits = source.leastSignificantBits.clone();
+        this.table = source.table.clone();
+        this.entryCount = source.entryCount;
+        this.size = source.size;
+    }
+
+    /**
+     * Create an independent copy of the index.
+     *
+     * @return the copy.
+     */
+    public UuidIndex copy() {
+        return new UuidIndex(this);
+    }
+
+    /**
+     * Return the entry of the UUID.
+     *
+     * @param mostSignificantBits  most significant bits of the UUID.
+     * @param leastSignificantBits least significant bits of the UUID.
+     * @return the entry or {@link #NOT_FOUND} if the UUID is not in the index.
+     */
+    public int indexOf(long mostSignificantBits, long leastSignificantBits) {
+        int slot = findSlot(mostSignificantBits, leastSignificantBits);
+        return slot < 0 ? NOT_FOUND : table[slot] - 1;
+    }
+
+    /**
+     * Add the UUID to the index, unless it is already there.
+     *
+     * @param mostSignificantBits  most significant bits of the UUID.
+     * @param leastSignificantBits least significant bits of the UUID.
+     * @return the entry of the UUID.
+     */
+    public int add(long mostSignificantBits, long leastSignificantBits) {
+        int existingEntry = indexOf(mostSignificantBits, leastSignificantBits);
+        if (existingEntry != NOT_FOUND) {
+            return existingEntry;
+        }
+        if (entryCount == this.mostSignificantBits.length) {
+            int newCapacity = entryCount + (entryCount >> 1);
+            this.mostSignificantBits = Arrays.copyOf(this.mostSignificantBits, newCapacity);
+            this.leastSignificantBits = Arrays.copyOf(this.leastSignificantBits, newCapacity);
+        }
+        if ((size + 1) * 2 > table.length) {
+            rehash(table.length * 2);
+        }
+        int entry = entryCount++;
+        this.mostSignificantBits[entry] = mostSignificantBits;
+        this.leastSignificantBits[entry] = leastSignificantBits;
+        insert(table, entry);
+        size++;
+        return entry;
+    }
+
+    /**
+     * Remove the UUID from the index. Its entry is left behind and never reused.
+     *
+     * @param mostSignificantBits  most significant bits of the UUID.
+     * @param leastSignificantBits least significant bits of the UUID.
+     * @return the removed entry or {@link #NOT_FOUND} if the UUID was not in the index.
+     */
+    public int remove(long mostSignificantBits, long leastSignificantBits) {
+        int slot = findSlot(mostSignificantBits, leastSignificantBits);
+        if (slot < 0) {
+            return NOT_FOUND;
+        }
+        int removedEntry = table[slot] - 1;
+        int mask = table.length - 1;
+        // backward-shift deletion: move the following entries of the probe sequence into the gap, so no tombstones are needed
+        int gap = slot;
+        int next = (slot + 1) & mask;
+        while (table[next] != EMPTY_SLOT) {
+            int entry = table[next] - 1;
+            int home = hash(this.mostSignificantBits[entry], this.leastSignificantBits[entry]) & mask;
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                table[gap] = table[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        table[gap] = EMPTY_SLOT;
+        size--;
+        return removedEntry;
+    }
+
+    /**
+     * Return the most significant bits of the UUID of the entry.
+     *
+     * @param entry the entry.
+     * @return the most significant bits.
+     */
+    public long getMostSignificantBits(int entry) {
+        return mostSignificantBits[entry];
+    }
+
+    /**
+     * Return the least significant bits of the UUID of the entry.
+     *
+     * @param entry the entry.
+     * @return the least significant bits.
+     */
+    public long getLeastSignificantBits(int entry) {
+        return leastSignificantBits[entry];
+    }
+
+    /**
+     * Return the number of entries the id columns hold without growing - the owner keeps its columns at least that long.
+     *
+     * @return the capacity.
+     */
+    public int getCapacity() {
+        return mostSignificantBits.length;
+    }
+
+    /**
+     * Return the number of entries ever added, including the ones of the removed UUIDs.
+     *
+     * @return the number of entries.
+     */
+    public int getEntryCount() {
+        return entryCount;
+    }
+
+    /**
+     * Pass the entries of the UUIDs in the index, in no particular order, to the consumer.
+     *
+     * @param entryConsumer consumer of the entries.
+     */
+    public void forEachEntry(IntConsumer entryConsumer) {
+        for (int slotValue : table) {
+            if (slotValue != EMPTY_SLOT) {
+                entryConsumer.accept(slotValue - 1);
+            }
+        }
+    }
+
+    /**
+     * Return the number of UUIDs in the index.
+     *
+     * @return the number of UUIDs.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Return the number of bytes of heap taken by the id columns and the table.
+     *
+     * @return the number of bytes.
+     */
+    public long getHeapBytes() {
+        return 2L * Long.BYTES * mostSignificantBits.length + (long) Integer.BYTES * table.length;
+    }
+
+    private int findSlot(long mostSignificantBits, long leastSignificantBits) {
+        int[] currentTable = table;
+        int mask = currentTable.length - 1;
+        int slot = hash(mostSignificantBits, leastSignificantBits) & mask;
+        // the probe count is bounded, so a read racing with a resize (see the owner) always terminates
+        for (int probe = 0; probe < currentTable.length; probe++) {
+            int entry = currentTable[slot] - 1;
+            if (entry < 0) {
+                return -1;
+            }
+            if (this.mostSignificantBits[entry] == mostSignificantBits && this.leastSignificantBits[entry] == leastSignificantBits) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void rehash(int newTableSize) {
+        int[] newTable = new int[newTableSize];
+        for (int slotValue : table) {
+            if (slotValue != EMPTY_SLOT) {
+                insert(newTable, slotValue - 1);
+            }
+        }
+        table = newTable;
+    }
+
+    private void insert(int[] targetTable, int entry) {
+        int mask = targetTable.length - 1;
+        int slot = hash(mostSignificantBits[entry], leastSignificantBits[entry]) & mask;
+        while (targetTable[slot] != EMPTY_SLOT) {
+            slot = (slot + 1) & mask;
+        }
+        targetTable[slot] = entry + 1;
+    }
+
+    private static int tableSizeFor(int capacity) {
+        return Integer.highestOneBit(capacity * 2 - 1) << 1;
+    }
+
+    private static int hash(long mostSignificantBits, long leastSignificantBits) {
+        // random UUIDs are well distributed already, the mixing protects the table against sequential ones
+        long hash = mostSignificantBits * 31 + leastSignificantBits;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return (int) hash;
+    }
+}
@@ -0,0 +1,76 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.config;
+
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import static pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.config.InMemoryCatalogProperties.IN_MEMORY_CATALOG_PREFIX;
+
+/**
+ * Properties of serving products from the columnar in-memory catalog.
+ * Properties are configured in the {@code application.yml} files under 'in-memory-catalog' entry
+ * and validated on startup, so that a misconfigured batch or threshold fails fast instead of breaking the catalog load.
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = IN_MEMORY_CATALOG_PREFIX)
+@Configuration
+public class InMemoryCatalogProperties {
+
+    public static final String IN_MEMORY_CATALOG_PREFIX = "in-memory-catalog";
+    public static final String ENABLED_PROPERTY = "enabled";
+    public static final String ENABLED_PLACEHOLDER = "${" + IN_MEMORY_CATALOG_PREFIX + "." + ENABLED_PROPERTY + ":false}";
+    public static final String SNAPSHOT_INTERVAL_PLACEHOLDER = "${" + IN_MEMORY_CATALOG_PREFIX + ".snapshot-interval-in-milliseconds:300000}";
+
+    private boolean enabled = false;
+    /**
+     * Where the catalog is kept - on the heap in primitive columns, or off the heap in direct buffers.
+     */
+    private Storage storage = Storage.HEAP;
+    /**
+     * Number of products the catalog holds without growing, set it close to the catalog size to avoid copying
+     * the columns while loading.
+     */
+    private int initialCapacity = 1024;
+    /**
+     * Number of products read from the database at once when loading the catalog.
+     */
+    @Positive
+    private int loadBatchSize = 1000;
+    /**
+     * Minimal number of products changed since the catalog was loaded, kept as patches on top of it, after which the catalog
+     * is copied with the patches applied. The threshold of a larger catalog grows to a patch per 64 of its products.
+     */
+    @Positive
+    private int patchCompactionThreshold = 1024;
+    /**
+     * Delay before a load or refresh of the catalog failed due to the database is retried.
+     */
+    private long retryDelayInMilliseconds = 5000L;
+    /**
+     * Whether the catalog is periodically written to the snapshot file. The snapshot records the position of the product
+     * change feed it reflects, so it requires the changes to be published ('product-change-publication' entry).
+     */
+    private boolean snapshotEnabled = false;
+    private long snapshotIntervalInMilliseconds = 300_000L;
+    private String snapshotPath = "catalog.snapshot";
+    /**
+     * Maximal age of the snapshot the catalog is loaded from on startup, an older one is ignored. Keep it below
+     * 'product-change-compaction.deleted-product-retention-in-hours' - the changes of the products deleted earlier are no
+     * longer in the feed, so the products would stay in a catalog loaded from an older snapshot.
+     */
+    @Positive
+    private long snapshotMaxAgeInHours = 24L;
+
+    /**
+     * Storage of the in-memory catalog.
+     */
+    public enum Storage {
+        HEAP,
+        OFF_HEAP
+    }
+}
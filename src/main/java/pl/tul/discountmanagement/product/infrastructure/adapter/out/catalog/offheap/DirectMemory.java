@@ -0,0 +1,95 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.offheap;
+
+import jakarta.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Allocation and freeing of direct (off-heap) buffers.
+ * A direct buffer is normally freed by its cleaner only once the garbage collector finds it unreachable - buffers promoted
+ * to the old generation may stay unreachable for a long time, and an allocation reaching the direct memory limit falls
+ * back to {@link System#gc()}, a full stop-the-world collection with G1 unless {@code -XX:+ExplicitGCInvokesConcurrent}
+ * is set. Therefore, the owners free their buffers explicitly as soon as no reader can access them any more, by running
+ * the cleaner through {@code sun.misc.Unsafe#invokeCleaner}. Java 17 offers no supported alternative - the foreign memory
+ * API is the incubating {@code jdk.incubator.foreign} module there. {@code Unsafe} is looked up reflectively (it is
+ * exported by the {@code jdk.unsupported} module), so no internal API is referenced at compile time, and when it is not
+ * available the freed buffers are left to the garbage collector as before.
+ * A freed buffer must never be accessed again - its memory may already be reused, so an access reads garbage or crashes
+ * the JVM.
+ */
+@Slf4j
+final class DirectMemory {
+
+    private static final String UNSAFE_CLASS_NAME = "sun.misc.Unsafe";
+    private static final String UNSAFE_FIELD_NAME = "theUnsafe";
+    private static final String INVOKE_CLEANER_METHOD_NAME = "invokeCleaner";
+    private static final String CLEANER_UNAVAILABLE_MSG = "Direct buffers cannot be freed explicitly, leaving them to the garbage collector: {}";
+    private static final String FREE_FAILED_MSG = "Failed to free a direct buffer.";
+    @Nullable
+    private static final MethodHandle INVOKE_CLEANER = findInvokeCleaner();
+
+    private DirectMemory() {
+    }
+
+    /**
+     * Allocate a zero-filled direct buffer in the native byte order.
+     *
+     * @param capacity capacity of the buffer in bytes.
+     * @return the buffer.
+     */
+    static ByteBuffer allocate(int capacity) {
+        return ByteBuffer.allocateDirect(capacity).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Allocate a direct buffer with the content of the given one.
+     *
+     * @param source the copied buffer.
+     * @return the copy.
+     */
+    static ByteBuffer copy(ByteBuffer source) {
+        ByteBuffer copy = allocate(source.capacity());
+        copy.put(0, source, 0, source.capacity());
+        return copy;
+    }
+
+    /**
+     * Free the memory of the buffer allocated by {@link #allocate(int)} right away. The caller guarantees that the buffer
+     * is not accessed afterwards.
+     *
+     * @param buffer the buffer, ignored if null.
+     */
+    static void free(@Nullable ByteBuffer buffer) {
+        if (isNull(buffer) || isNull(INVOKE_CLEANER)) {
+            return;
+        }
+        try {
+            INVOKE_CLEANER.invokeExact(buffer);
+        } catch (Throwable e) {
+            throw new IllegalStateException(FREE_FAILED_MSG, e);
+        }
+    }
+
+    @Nullable
+    private static MethodHandle findInvokeCleaner() {
+        try {
+            Class<?> unsafeClass = Class.forName(UNSAFE_CLASS_NAME);
+            Field unsafeField = unsafeClass.getDeclaredField(UNSAFE_FIELD_NAME);
+            unsafeField.setAccessible(true);
+            return MethodHandles.lookup()
+                    .findVirtual(unsafeClass, INVOKE_CLEANER_METHOD_NAME, MethodType.methodType(void.class, ByteBuffer.class))
+                    .bindTo(unsafeField.get(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.warn(CLEANER_UNAVAILABLE_MSG, e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,580 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.offheap;
+
+import jakarta.annotation.Nullable;
+import pl.tul.discountmanagement.product.domain.model.Currency;
+import pl.tul.discountmanagement.product.domain.model.PercentageBasedDiscount;
+import pl.tul.discountmanagement.product.domain.model.Product;
+import pl.tul.discountmanagement.product.domain.model.QuantityBasedDiscount;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.CatalogClosedException;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.CatalogFootprint;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.ProductCatalog;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Product catalog kept off the heap, in direct buffers, so that a multi-gigabyte catalog neither lengthens garbage
+ * collection pauses nor has to be accounted for in the heap size. Every product is a fixed-size record:
+ * <pre>
+ *  0  long   most significant bits of the identifier
+ *  8  long   least significant bits of the identifier
+ * 16  long   unscaled price (prices exceeding a long are kept aside on the heap)
+ * 24  long   reference of the name and description in the {@link OffHeapTextArena}
+ * 32  int    index of the percentage-based discount, -1 for none
+ * 36  int    index of the tier set, -1 for none
+ * 40  short  index of the currency
+ * 42  byte   price scale
+ * </pre>
+ * The records are allocated in fixed chunks, so they never move, and are found through an off-heap open-addressing hash
+ * index of record numbers with linear probing, keyed by the identifiers stored in the records. The currencies,
+ * discounts and tier sets are shared by many products, so they are kept on the heap as small dictionaries of ready
+ * (immutable) objects - reading a product creates just the product, its price, name and description.
+ * Writes hold the write lock of a {@link StampedLock}. Reads are optimistic: a read pins the published memory in its
+ * {@link ReaderPins} stripe, reads the product under an optimistic stamp and validates the stamp, so it writes nothing
+ * shared with the reads on other stripes and takes no lock. Only a read overlapping a write falls back to the read lock,
+ * after dropping its pin. The buffers unpublished by a write (the previous hash index, or a record chunk or text page
+ * copied before it is written) and the buffers of a closed catalog are freed once the readers pinned before are complete,
+ * without waiting for the garbage collector, see {@link DirectMemory}.
+ * {@link #copy()} copies the hash index and the heap dictionaries, but shares the record chunks and text pages with the
+ * copy, each chunk and page with the count of its owners - whichever catalog writes to a shared chunk or appends to a shared
+ * page copies it first, so a copy followed by a few changes costs the index and the chunks and pages the changes touch.
+ * The records and texts of removed or replaced products are not reused. Once they take a quarter of the records or of
+ * the text bytes, {@link #copy()} rebuilds the catalog from its current products instead of sharing the buffers.
+ */
+public class OffHeapProductCatalog implements ProductCatalog {
+
+    private static final int RECORD_SIZE = 48;
+    private static final int ID_MSB_OFFSET = 0;
+    private static final int ID_LSB_OFFSET = 8;
+    private static final int UNSCALED_PRICE_OFFSET = 16;
+    private static final int TEXT_REFERENCE_OFFSET = 24;
+    private static final int PERCENTAGE_BASED_DISCOUNT_OFFSET = 32;
+    private static final int TIER_SET_OFFSET = 36;
+    private static final int CURRENCY_OFFSET = 40;
+    private static final int PRICE_SCALE_OFFSET = 42;
+    private static final int CHUNK_SHIFT = 18;
+    private static final int RECORDS_PER_CHUNK = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = RECORDS_PER_CHUNK - 1;
+    private static final int SLOT_SIZE = Integer.BYTES;
+    private static final int MIN_TABLE_SLOTS = 16;
+    private static final int MAX_TABLE_SLOTS = 1 << 28;
+    private static final int NONE = -1;
+    private static final int NOT_FOUND = -1;
+    // marks a record whose price is kept in the oversized prices map
+    private static final byte OVERSIZED_PRICE_SCALE = Byte.MIN_VALUE;
+    // rough heap footprint of a dictionary entry: the object, its identifier and the map entry
+    private static final long DICTIONARY_ENTRY_BYTES = 128L;
+    // a copy rebuilds the catalog once more than 1/MAX_GARBAGE_DIVISOR of its records or text bytes are garbage
+    private static final int MAX_GARBAGE_DIVISOR = 4;
+    private static final String CATALOG_FULL_MSG = "Off-heap catalog holds at most %d products.";
+
+    private final StampedLock lock = new StampedLock();
+    private final ReaderPins readerPins = new ReaderPins();
+    private final RetiredBuffers retiredBuffers = new RetiredBuffers();
+    private final OffHeapTextArena textArena;
+    private ByteBuffer[] recordChunks = new ByteBuffer[1];
+    private AtomicInteger[] recordChunkOwners = new AtomicInteger[1];
+    private int recordCount;
+    // slots hold the record number increased by one, so that the zero-filled table is empty, freed once closed
+    private ByteBuffer table;
+    private int tableSlots;
+    private int size;
+    private volatile boolean closed;
+    // read optimistically, so a concurrent map, as a plain one may loop on a concurrent resize
+    private final Map<Integer, BigDecimal> oversizedPrices = new ConcurrentHashMap<>();
+
+    private final Map<UUID, Integer> currencyIndexes = new HashMap<>();
+    private final List<Currency> currencies = new ArrayList<>();
+    private final Map<UUID, Integer> percentageBasedDiscountIndexes = new HashMap<>();
+    private final List<PercentageBasedDiscount> percentageBasedDiscounts = new ArrayList<>();
+    private final Map<UUID, Integer> tierIndexes = new HashMap<>();
+    private final List<QuantityBasedDiscount> tiers = new ArrayList<>();
+    private final Map<List<UUID>, Integer> tierSetIndexes = new HashMap<>();
+    private final List<int[]> tierSetMembers = new ArrayList<>();
+    private final List<Set<QuantityBasedDiscount>> tierSets = new ArrayList<>();
+    // tier sets containing each tier, so that a changed tier replaces only its own tier sets
+    private final List<List<Integer>> tierSetsOfTiers = new ArrayList<>();
+
+    /**
+     * Create an empty catalog.
+     *
+     * @param initialCapacity the number of products the hash index holds without growing.
+     */
+    public OffHeapProductCatalog(int initialCapacity) {
+        this.tableSlots = Math.max(MIN_TABLE_SLOTS, Integer.highestOneBit(Math.max(1, initialCapacity) * 2 - 1) << 1);
+        this.table = DirectMemory.allocate(tableSlots * SLOT_SIZE);
+        this.textArena = new OffHeapTextArena(retiredBuffers);
+    }
+
+    // called with the read lock of the source held
+    private OffHeapProductCatalog(OffHeapProductCatalog source) {
+        this.tableSlots = source.tableSlots;
+        this.table = DirectMemory.copy(source.table);
+        this.textArena = source.textArena.share(retiredBuffers);
+        this.recordChunks = Arrays.copyOf(source.recordChunks, source.recordChunks.length);
+        this.recordChunkOwners = Arrays.copyOf(source.recordChunkOwners, source.recordChunkOwners.length);
+        for (AtomicInteger owners : recordChunkOwners) {
+            if (!isNull(owners)) {
+                owners.incrementAndGet();
+            }
+        }
+        this.recordCount = source.recordCount;
+        this.size = source.size;
+        this.oversizedPrices.putAll(source.oversizedPrices);
+        this.currencyIndexes.putAll(source.currencyIndexes);
+        this.currencies.addAll(source.currencies);
+        this.percentageBasedDiscountIndexes.putAll(source.percentageBasedDiscountIndexes);
+        this.percentageBasedDiscounts.addAll(source.percentageBasedDiscounts);
+        this.tierIndexes.putAll(source.tierIndexes);
+        this.tiers.addAll(source.tiers);
+        this.tierSetIndexes.putAll(source.tierSetIndexes);
+        this.tierSetMembers.addAll(source.tierSetMembers);
+        this.tierSets.addAll(source.tierSets);
+        source.tierSetsOfTiers.forEach(tierSetsOfTier -> this.tierSetsOfTiers.add(new ArrayList<>(tierSetsOfTier)));
+    }
+
+    @Override
+    @Nullable
+    public Product get(UUID productId) {
+        int pin = readerPins.pin();
+        try {
+            long stamp = lock.tryOptimisticRead();
+            if (stamp != 0L) {
+                try {
+                    Product product = find(productId);
+                    if (lock.validate(stamp)) {
+                        return product;
+                    }
+                } catch (RuntimeException e) {
+                    if (lock.validate(stamp)) {
+                        throw e;
+                    }
+                    // the read saw a write in progress, the pinned memory was still valid to read
+                }
+            }
+        } finally {
+            // a writer holding the write lock may be waiting for the pin
+            readerPins.unpin(pin);
+        }
+        long stamp = lock.readLock();
+        try {
+            return find(productId);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public void upsert(Product product) {
+        long stamp = lock.writeLock();
+        try {
+            if (closed) {
+                throw new CatalogClosedException();
+            }
+            UUID productId = product.id();
+            long mostSignificantBits = productId.getMostSignificantBits();
+            long leastSignificantBits = productId.getLeastSignificantBits();
+            int slot = findSlot(mostSignificantBits, leastSignificantBits);
+            int record;
+            if (slot == NOT_FOUND) {
+                record = addRecord(mostSignificantBits, leastSignificantBits);
+            } else {
+                record = table.getInt(slot * SLOT_SIZE) - 1;
+                textArena.release(chunkOf(record).getLong(offsetOf(record) + TEXT_REFERENCE_OFFSET));
+                oversizedPrices.remove(record);
+            }
+            write(record, product);
+        } finally {
+            retiredBuffers.release(readerPins);
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean remove(UUID productId) {
+        long stamp = lock.writeLock();
+        try {
+            if (closed) {
+                throw new CatalogClosedException();
+            }
+            int slot = findSlot(productId.getMostSignificantBits(), productId.getLeastSignificantBits());
+            if (slot == NOT_FOUND) {
+                return false;
+            }
+            int record = table.getInt(slot * SLOT_SIZE) - 1;
+            textArena.release(chunkOf(record).getLong(offsetOf(record) + TEXT_REFERENCE_OFFSET));
+            oversizedPrices.remove(record);
+            removeSlot(slot);
+            size--;
+            return true;
+        } finally {
+            retiredBuffers.release(readerPins);
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public CatalogFootprint getFootprint() {
+        long stamp = lock.readLock();
+        try {
+            long indexBytes = (long) tableSlots * SLOT_SIZE;
+            long recordBytes = 0L;
+            for (ByteBuffer recordChunk : recordChunks) {
+                recordBytes += isNull(recordChunk) ? 0L : recordChunk.capacity();
+            }
+            long textBytes = textArena.getBytes();
+            long dictionaryBytes = DICTIONARY_ENTRY_BYTES * (currencies.size() + percentageBasedDiscounts.size() + tiers.size()
+                    + tierSets.size());
+            return CatalogFootprint.of(size, currencies.size(), percentageBasedDiscounts.size(), tiers.size(), tierSets.size(),
+                    indexBytes, recordBytes, textBytes, textArena.getReleasedBytes(), dictionaryBytes,
+                    indexBytes + recordBytes + textBytes);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public void forEach(Consumer<Product> action) {
+        long stamp = lock.readLock();
+        try {
+            if (closed) {
+                throw new CatalogClosedException();
+            }
+            readAll(action);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public OffHeapProductCatalog copy() {
+        long stamp = lock.readLock();
+        try {
+            if (closed) {
+                throw new CatalogClosedException();
+            }
+            return isFragmented() ? rebuild() : new OffHeapProductCatalog(this);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public void close() {
+        // the write lock waits for the locked reads in progress and the pins for the optimistic ones,
+        // later reads see the catalog closed
+        long stamp = lock.writeLock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            readerPins.awaitReaders();
+            DirectMemory.free(table);
+            table = null;
+            for (int i = 0; i < recordChunks.length; i++) {
+                if (!isNull(recordChunks[i])) {
+                    RetiredBuffers.release(recordChunks[i], recordChunkOwners[i]);
+                }
+            }
+            Arrays.fill(recordChunks, null);
+            Arrays.fill(recordChunkOwners, null);
+            textArena.release();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private boolean isFragmented() {
+        long deadRecords = recordCount - size;
+        return deadRecords * MAX_GARBAGE_DIVISOR > recordCount
+                || textArena.getReleasedBytes() * MAX_GARBAGE_DIVISOR > textArena.getAppendedBytes();
+    }
+
+    // called with the read lock held
+    private OffHeapProductCatalog rebuild() {
+        OffHeapProductCatalog rebuiltCatalog = new OffHeapProductCatalog(size);
+        try {
+            readAll(rebuiltCatalog::upsert);
+        } catch (RuntimeException e) {
+            rebuiltCatalog.close();
+            throw e;
+        }
+        return rebuiltCatalog;
+    }
+
+    @Nullable
+    private Product find(UUID productId) {
+        if (closed) {
+            throw new CatalogClosedException();
+        }
+        int slot = findSlot(productId.getMostSignificantBits(), productId.getLeastSignificantBits());
+        return slot == NOT_FOUND ? null : read(productId, table.getInt(slot * SLOT_SIZE) - 1);
+    }
+
+    // called with the read lock held
+    private void readAll(Consumer<Product> action) {
+        for (int slot = 0; slot < tableSlots; slot++) {
+            int record = table.getInt(slot * SLOT_SIZE) - 1;
+            if (record >= 0) {
+                ByteBuffer chunk = chunkOf(record);
+                int offset = offsetOf(record);
+                action.accept(read(new UUID(chunk.getLong(offset + ID_MSB_OFFSET), chunk.getLong(offset + ID_LSB_OFFSET)), record));
+            }
+        }
+    }
+
+    private Product read(UUID productId, int record) {
+        ByteBuffer chunk = chunkOf(record);
+        int offset = offsetOf(record);
+        long textReference = chunk.getLong(offset + TEXT_REFERENCE_OFFSET);
+        int percentageBasedDiscountIndex = chunk.getInt(offset + PERCENTAGE_BASED_DISCOUNT_OFFSET);
+        int tierSetIndex = chunk.getInt(offset + TIER_SET_OFFSET);
+        byte priceScale = chunk.get(offset + PRICE_SCALE_OFFSET);
+        return Product.builder()
+                .id(productId)
+                .name(textArena.readFirst(textReference))
+                .description(textArena.readSecond(textReference))
+                .price(priceScale == OVERSIZED_PRICE_SCALE
+                        ? oversizedPrices.get(record) : BigDecimal.valueOf(chunk.getLong(offset + UNSCALED_PRICE_OFFSET), priceScale))
+                .currency(currencies.get(chunk.getShort(offset + CURRENCY_OFFSET)))
+                .percentageBasedDiscount(percentageBasedDiscountIndex == NONE ? null : percentageBasedDiscounts.get(percentageBasedDiscountIndex))
+                .quantityBasedDiscounts(tierSetIndex == NONE ? null : tierSets.get(tierSetIndex))
+                .build();
+    }
+
+    private void write(int record, Product product) {
+        ByteBuffer chunk = writableChunkOf(record);
+        int offset = offsetOf(record);
+        BigDecimal price = product.price();
+        BigInteger unscaledPrice = price.unscaledValue();
+        if (unscaledPrice.bitLength() < Long.SIZE && price.scale() > OVERSIZED_PRICE_SCALE && price.scale() <= Byte.MAX_VALUE) {
+            chunk.putLong(offset + UNSCALED_PRICE_OFFSET, unscaledPrice.longValue());
+            chunk.put(offset + PRICE_SCALE_OFFSET, (byte) price.scale());
+        } else {
+            chunk.putLong(offset + UNSCALED_PRICE_OFFSET, 0L);
+            chunk.put(offset + PRICE_SCALE_OFFSET, OVERSIZED_PRICE_SCALE);
+            oversizedPrices.put(record, price);
+        }
+        chunk.putLong(offset + TEXT_REFERENCE_OFFSET, textArena.append(product.name(), product.description()));
+        chunk.putShort(offset + CURRENCY_OFFSET, (short) currencyIndexOf(product.currency()));
+        chunk.putInt(offset + PERCENTAGE_BASED_DISCOUNT_OFFSET, isNull(product.percentageBasedDiscount())
+                ? NONE : percentageBasedDiscountIndexOf(product.percentageBasedDiscount()));
+        chunk.putInt(offset + TIER_SET_OFFSET, isNull(product.quantityBasedDiscounts())
+                ? NONE : tierSetIndexOf(product.quantityBasedDiscounts()));
+    }
+
+    private int addRecord(long mostSignificantBits, long leastSignificantBits) {
+        if ((size + 1) * 2 > tableSlots) {
+            if (tableSlots == MAX_TABLE_SLOTS) {
+                throw new IllegalStateException(CATALOG_FULL_MSG.formatted(MAX_TABLE_SLOTS / 2));
+            }
+            rehash(tableSlots * 2);
+        }
+        int record = recordCount++;
+        int chunkIndex = record >>> CHUNK_SHIFT;
+        if (chunkIndex == recordChunks.length) {
+            recordChunks = Arrays.copyOf(recordChunks, recordChunks.length * 2);
+            recordChunkOwners = Arrays.copyOf(recordChunkOwners, recordChunkOwners.length * 2);
+        }
+        if (isNull(recordChunks[chunkIndex])) {
+            recordChunkOwners[chunkIndex] = new AtomicInteger(1);
+            recordChunks[chunkIndex] = DirectMemory.allocate(RECORDS_PER_CHUNK * RECORD_SIZE);
+        }
+        ByteBuffer chunk = writableChunkOf(record);
+        int offset = offsetOf(record);
+        chunk.putLong(offset + ID_MSB_OFFSET, mostSignificantBits);
+        chunk.putLong(offset + ID_LSB_OFFSET, leastSignificantBits);
+        insert(table, tableSlots, record);
+        size++;
+        return record;
+    }
+
+    private int findSlot(long mostSignificantBits, long leastSignificantBits) {
+        int mask = tableSlots - 1;
+        int slot = hash(mostSignificantBits, leastSignificantBits) & mask;
+        for (int probe = 0; probe < tableSlots; probe++) {
+            int record = table.getInt(slot * SLOT_SIZE) - 1;
+            if (record < 0) {
+                return NOT_FOUND;
+            }
+            ByteBuffer chunk = chunkOf(record);
+            int offset = offsetOf(record);
+            if (chunk.getLong(offset + ID_MSB_OFFSET) == mostSignificantBits && chunk.getLong(offset + ID_LSB_OFFSET) == leastSignificantBits) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return NOT_FOUND;
+    }
+
+    private void removeSlot(int slot) {
+        int mask = tableSlots - 1;
+        // backward-shift deletion: move the following records of the probe sequence into the gap, so no tombstones are needed
+        int gap = slot;
+        int next = (slot + 1) & mask;
+        while (table.getInt(next * SLOT_SIZE) != 0) {
+            int home = homeSlot(table.getInt(next * SLOT_SIZE) - 1, mask);
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                table.putInt(gap * SLOT_SIZE, table.getInt(next * SLOT_SIZE));
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        table.putInt(gap * SLOT_SIZE, 0);
+    }
+
+    private void rehash(int newTableSlots) {
+        ByteBuffer newTable = DirectMemory.allocate(newTableSlots * SLOT_SIZE);
+        for (int slot = 0; slot < tableSlots; slot++) {
+            int slotValue = table.getInt(slot * SLOT_SIZE);
+            if (slotValue != 0) {
+                insert(newTable, newTableSlots, slotValue - 1);
+            }
+        }
+        // freed once the reads pinned before, which may still probe the previous table, are complete
+        retiredBuffers.add(table, new AtomicInteger(1));
+        table = newTable;
+        tableSlots = newTableSlots;
+    }
+
+    private void insert(ByteBuffer targetTable, int targetTableSlots, int record) {
+        int mask = targetTableSlots - 1;
+        int slot = homeSlot(record, mask);
+        while (targetTable.getInt(slot * SLOT_SIZE) != 0) {
+            slot = (slot + 1) & mask;
+        }
+        targetTable.putInt(slot * SLOT_SIZE, record + 1);
+    }
+
+    private int homeSlot(int record, int mask) {
+        ByteBuffer chunk = chunkOf(record);
+        int offset = offsetOf(record);
+        return hash(chunk.getLong(offset + ID_MSB_OFFSET), chunk.getLong(offset + ID_LSB_OFFSET)) & mask;
+    }
+
+    private ByteBuffer chunkOf(int record) {
+        return recordChunks[record >>> CHUNK_SHIFT];
+    }
+
+    private ByteBuffer writableChunkOf(int record) {
+        int chunkIndex = record >>> CHUNK_SHIFT;
+        if (recordChunkOwners[chunkIndex].get() == 1) {
+            return recordChunks[chunkIndex];
+        }
+        // the chunk is shared with a copy of the catalog, whose readers keep reading the shared one
+        ByteBuffer chunk = DirectMemory.copy(recordChunks[chunkIndex]);
+        retiredBuffers.add(recordChunks[chunkIndex], recordChunkOwners[chunkIndex]);
+        recordChunkOwners[chunkIndex] = new AtomicInteger(1);
+        recordChunks[chunkIndex] = chunk;
+        return chunk;
+    }
+
+    private int currencyIndexOf(Currency currency) {
+        Integer index = currencyIndexes.get(currency.id());
+        if (isNull(index)) {
+            index = currencies.size();
+            currencyIndexes.put(currency.id(), index);
+            currencies.add(currency);
+        } else {
+            currencies.set(index, currency);
+        }
+        return index;
+    }
+
+    private int percentageBasedDiscountIndexOf(PercentageBasedDiscount percentageBasedDiscount) {
+        Integer index = percentageBasedDiscountIndexes.get(percentageBasedDiscount.getId());
+        if (isNull(index)) {
+            index = percentageBasedDiscounts.size();
+            percentageBasedDiscountIndexes.put(percentageBasedDiscount.getId(), index);
+            percentageBasedDiscounts.add(percentageBasedDiscount);
+        } else {
+            percentageBasedDiscounts.set(index, percentageBasedDiscount);
+        }
+        return index;
+    }
+
+    private int tierSetIndexOf(Set<QuantityBasedDiscount> quantityBasedDiscounts) {
+        List<UUID> tierIds = new ArrayList<>(quantityBasedDiscounts.size());
+        int[] members = new int[quantityBasedDiscounts.size()];
+        int i = 0;
+        for (QuantityBasedDiscount tier : quantityBasedDiscounts) {
+            tierIds.add(tier.getId());
+            members[i++] = tierIndexOf(tier);
+        }
+        Integer index = tierSetIndexes.get(tierIds);
+        if (isNull(index)) {
+            index = tierSets.size();
+            tierSetIndexes.put(tierIds, index);
+            tierSetMembers.add(members);
+            tierSets.add(materializeTierSet(members));
+            for (int member : members) {
+                tierSetsOfTiers.get(member).add(index);
+            }
+        }
+        return index;
+    }
+
+    private int tierIndexOf(QuantityBasedDiscount tier) {
+        Integer index = tierIndexes.get(tier.getId());
+        if (isNull(index)) {
+            index = tiers.size();
+            tierIndexes.put(tier.getId(), index);
+            tiers.add(tier);
+            tierSetsOfTiers.add(new ArrayList<>());
+        } else if (!tiers.get(index).equals(tier)) {
+            tiers.set(index, tier);
+            // the tier sets are shared immutable objects, the ones holding the previous version of the tier are replaced
+            for (int tierSet : tierSetsOfTiers.get(index)) {
+                tierSets.set(tierSet, materializeTierSet(tierSetMembers.get(tierSet)));
+            }
+        }
+        return index;
+    }
+
+    private Set<QuantityBasedDiscount> materializeTierSet(int[] members) {
+        Set<QuantityBasedDiscount> tierSet = new LinkedHashSet<>();
+        for (int member : members) {
+            tierSet.add(tiers.get(member));
+        }
+        return Collections.unmodifiableSet(tierSet);
+    }
+
+    private static int offsetOf(int record) {
+        return (record & CHUNK_MASK) * RECORD_SIZE;
+    }
+
+    private static int hash(long mostSignificantBits, long leastSignificantBits) {
+        long hash = mostSignificantBits * 31 + leastSignificantBits;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return (int) hash;
+    }
+}
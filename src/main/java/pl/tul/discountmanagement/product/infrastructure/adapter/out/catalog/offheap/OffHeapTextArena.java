@@ -0,0 +1,237 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.offheap;
+
+import jakarta.annotation.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Append-only arena of text pairs (product name and description), encoded in UTF-8 into direct buffer pages.
+ * Same layout as the heap {@code TextArena} of the columnar catalog: a pair is addressed by a single long reference
+ * holding its page and offset, and each text of the pair is prefixed with its length in bytes, -1 standing for a null text.
+ * Texts are decoded through a per-thread scratch array, so reading a text creates just the {@link String}.
+ * Pages are shared between an arena and its copies, each page with the count of its owners. An arena appends to a shared
+ * page only once it has copied the page, and hands the replaced page over to the {@link RetiredBuffers} of its owner.
+ * Not thread-safe - guarded by the owner, though the texts may be read optimistically while a pair is being appended,
+ * so a read of a torn length fails instead of reading past the page.
+ */
+class OffHeapTextArena {
+
+    private static final int PAGE_SIZE = 1 << 24;
+    private static final int NULL_LENGTH = -1;
+    private static final int LENGTH_BYTES = Integer.BYTES;
+    private static final int INITIAL_SCRATCH_SIZE = 256;
+    private static final ThreadLocal<byte[]> SCRATCH = ThreadLocal.withInitial(() -> new byte[INITIAL_SCRATCH_SIZE]);
+    private static final String INVALID_TEXT_LENGTH_MSG = "Invalid text length %d at offset %d of a page of %d bytes.";
+
+    private final RetiredBuffers retiredBuffers;
+    private ByteBuffer[] pages = new ByteBuffer[1];
+    private AtomicInteger[] pageOwners = new AtomicInteger[1];
+    private int pageCount;
+    private int pagePosition;
+    private long appendedBytes;
+    private long releasedBytes;
+
+    /**
+     * Create an empty arena.
+     *
+     * @param retiredBuffers the buffers retired by the owner, receiving the pages replaced by their copies.
+     */
+    OffHeapTextArena(RetiredBuffers retiredBuffers) {
+        this.retiredBuffers = retiredBuffers;
+    }
+
+    /**
+     * Create a copy of the arena sharing its pages. The pages stay shared until one of the arenas appends to its last page,
+     * which copies that page first, so a copy costs no more than one page regardless of the size of the arena.
+     *
+     * @param copyRetiredBuffers the buffers retired by the owner of the copy.
+     * @return the copy.
+     */
+    OffHeapTextArena share(RetiredBuffers copyRetiredBuffers) {
+        OffHeapTextArena copy = new OffHeapTextArena(copyRetiredBuffers);
+        copy.pages = Arrays.copyOf(pages, pages.length);
+        copy.pageOwners = Arrays.copyOf(pageOwners, pageOwners.length);
+        for (int i = 0; i < pageCount; i++) {
+            pageOwners[i].incrementAndGet();
+        }
+        copy.pageCount = pageCount;
+        copy.pagePosition = pagePosition;
+        copy.appendedBytes = appendedBytes;
+        copy.releasedBytes = releasedBytes;
+        return copy;
+    }
+
+    /**
+     * Append the text pair to the arena.
+     *
+     * @param first  the first text.
+     * @param second the second text.
+     * @return the reference of the pair.
+     */
+    long append(@Nullable String first, @Nullable String second) {
+        byte[] firstBytes = isNull(first) ? null : first.getBytes(StandardCharsets.UTF_8);
+        byte[] secondBytes = isNull(second) ? null : second.getBytes(StandardCharsets.UTF_8);
+        int length = 2 * LENGTH_BYTES + lengthOf(firstBytes) + lengthOf(secondBytes);
+        ByteBuffer page = allocate(length);
+        int offset = pagePosition;
+        int position = write(page, offset, firstBytes);
+        write(page, position, secondBytes);
+        pagePosition += length;
+        appendedBytes += length;
+        return ((long) (pageCount - 1) << 32) | offset;
+    }
+
+    /**
+     * Read the first text of the pair.
+     *
+     * @param reference the reference of the pair.
+     * @return the first text.
+     */
+    @Nullable
+    String readFirst(long reference) {
+        return read(pages[pageOf(reference)], offsetOf(reference));
+    }
+
+    /**
+     * Read the second text of the pair.
+     *
+     * @param reference the reference of the pair.
+     * @return the second text.
+     */
+    @Nullable
+    String readSecond(long reference) {
+        ByteBuffer page = pages[pageOf(reference)];
+        int offset = offsetOf(reference);
+        return read(page, offset + LENGTH_BYTES + Math.max(0, page.getInt(offset)));
+    }
+
+    /**
+     * Mark the pair as no longer referenced.
+     *
+     * @param reference the reference of the pair.
+     */
+    void release(long reference) {
+        ByteBuffer page = pages[pageOf(reference)];
+        int offset = offsetOf(reference);
+        int firstLength = Math.max(0, page.getInt(offset));
+        int secondLength = Math.max(0, page.getInt(offset + LENGTH_BYTES + firstLength));
+        releasedBytes += 2L * LENGTH_BYTES + firstLength + secondLength;
+    }
+
+    /**
+     * Return the number of bytes taken by the pages.
+     *
+     * @return the number of bytes.
+     */
+    long getBytes() {
+        long bytes = 0L;
+        for (int i = 0; i < pageCount; i++) {
+            bytes += pages[i].capacity();
+        }
+        return bytes;
+    }
+
+    /**
+     * Return the number of bytes taken by all the appended pairs, including the released ones.
+     *
+     * @return the number of bytes.
+     */
+    long getAppendedBytes() {
+        return appendedBytes;
+    }
+
+    /**
+     * Return the number of bytes taken by the released pairs.
+     *
+     * @return the number of bytes.
+     */
+    long getReleasedBytes() {
+        return releasedBytes;
+    }
+
+    /**
+     * Release all the pages, freeing the ones not shared with another arena. None of them may be read afterwards.
+     */
+    void release() {
+        for (int i = 0; i < pageCount; i++) {
+            RetiredBuffers.release(pages[i], pageOwners[i]);
+        }
+        Arrays.fill(pages, null);
+        Arrays.fill(pageOwners, null);
+        pageCount = 0;
+    }
+
+    private ByteBuffer allocate(int length) {
+        if (pageCount > 0 && pagePosition + length <= pages[pageCount - 1].capacity()) {
+            return writableLastPage();
+        }
+        if (pageCount == pages.length) {
+            pages = Arrays.copyOf(pages, pages.length * 2);
+            pageOwners = Arrays.copyOf(pageOwners, pageOwners.length * 2);
+        }
+        // a pair longer than a page gets a page of its own
+        ByteBuffer page = DirectMemory.allocate(Math.max(PAGE_SIZE, length));
+        pageOwners[pageCount] = new AtomicInteger(1);
+        pages[pageCount++] = page;
+        pagePosition = 0;
+        return page;
+    }
+
+    private ByteBuffer writableLastPage() {
+        int last = pageCount - 1;
+        if (pageOwners[last].get() == 1) {
+            return pages[last];
+        }
+        // the other owners may append to their own copies at the same position, and their readers keep the shared page
+        ByteBuffer page = DirectMemory.copy(pages[last]);
+        retiredBuffers.add(pages[last], pageOwners[last]);
+        pageOwners[last] = new AtomicInteger(1);
+        pages[last] = page;
+        return page;
+    }
+
+    private static int write(ByteBuffer page, int offset, @Nullable byte[] text) {
+        if (isNull(text)) {
+            page.putInt(offset, NULL_LENGTH);
+            return offset + LENGTH_BYTES;
+        }
+        page.putInt(offset, text.length);
+        page.put(offset + LENGTH_BYTES, text);
+        return offset + LENGTH_BYTES + text.length;
+    }
+
+    @Nullable
+    private static String read(ByteBuffer page, int offset) {
+        int length = page.getInt(offset);
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        if (length < 0 || length > page.capacity() - offset - LENGTH_BYTES) {
+            throw new IllegalStateException(INVALID_TEXT_LENGTH_MSG.formatted(length, offset, page.capacity()));
+        }
+        byte[] scratch = SCRATCH.get();
+        if (scratch.length < length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+            SCRATCH.set(scratch);
+        }
+        page.get(offset + LENGTH_BYTES, scratch, 0, length);
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private static int lengthOf(@Nullable byte[] text) {
+        return isNull(text) ? 0 : text.length;
+    }
+
+    private static int pageOf(long reference) {
+        return (int) (reference >>> 32);
+    }
+
+    private static int offsetOf(long reference) {
+        return (int) reference;
+    }
+}
@@ -0,0 +1,81 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.offheap;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Pins taken by the lock-free readers of off-heap memory, so that a writer frees the memory it has unpublished only once
+ * none of the readers which could still see it is in progress.
+ * A reader increments the counter of the current epoch in its stripe - the stripe is picked by the thread and the counters
+ * are padded apart, so concurrent readers on different stripes neither update the same word nor share a cache line.
+ * A writer flips the epoch and waits for the counters of the previous epoch to drain, which takes just as long as the reads
+ * already in progress - the readers pinned afterwards count towards the new epoch and already see the memory unpublished.
+ * Writers are serialized by the owner.
+ */
+final class ReaderPins {
+
+    // counters are 16 longs (128 bytes) apart, so that no two of them share a cache line or an adjacent line pair
+    private static final int PADDING_SHIFT = 4;
+    private static final int EPOCHS = 2;
+
+    private final int stripeMask;
+    private final AtomicLongArray counters;
+    private volatile int epoch;
+
+    ReaderPins() {
+        int stripes = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors()) * 2 - 1) << 1;
+        this.stripeMask = stripes - 1;
+        this.counters = new AtomicLongArray((EPOCHS * stripes) << PADDING_SHIFT);
+    }
+
+    /**
+     * Pin the memory published at the moment of the call for the current thread. The pinned memory is read only after
+     * this method returns.
+     *
+     * @return the pin, passed to {@link #unpin(int)} once the read is complete.
+     */
+    int pin() {
+        int stripe = stripeOf(Thread.currentThread());
+        while (true) {
+            int currentEpoch = epoch;
+            int pin = indexOf(currentEpoch, stripe);
+            counters.getAndIncrement(pin);
+            // a writer which flipped the epoch meanwhile may have missed the increment, the pin is taken again
+            if (epoch == currentEpoch) {
+                return pin;
+            }
+            counters.getAndDecrement(pin);
+        }
+    }
+
+    /**
+     * Release the pin.
+     *
+     * @param pin the pin returned by {@link #pin()}.
+     */
+    void unpin(int pin) {
+        counters.getAndDecrement(pin);
+    }
+
+    /**
+     * Wait until the reads which might have seen the memory unpublished before the call are complete.
+     */
+    void awaitReaders() {
+        int previousEpoch = epoch;
+        epoch = previousEpoch ^ 1;
+        for (int stripe = 0; stripe <= stripeMask; stripe++) {
+            int pin = indexOf(previousEpoch, stripe);
+            while (counters.get(pin) != 0) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    private int indexOf(int pinEpoch, int stripe) {
+        return (pinEpoch * (stripeMask + 1) + stripe) << PADDING_SHIFT;
+    }
+
+    private int stripeOf(Thread thread) {
+        long hash = thread.getId() * 0x9e3779b97f4a7c15L;
+        return (int) (hash >>> 32) & stripeMask;
+    }
+}
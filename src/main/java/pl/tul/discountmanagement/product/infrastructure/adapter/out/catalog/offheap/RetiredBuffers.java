@@ -0,0 +1,58 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.offheap;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Direct buffers unpublished by a write, released once none of the readers which could still see them is in progress.
+ * A buffer may be shared by several catalogs, so each one comes with the count of its owners - releasing the buffer
+ * decrements the count, and the last owner frees it, see {@link DirectMemory}.
+ * Not thread-safe - guarded by the owner.
+ */
+final class RetiredBuffers {
+
+    private final List<ByteBuffer> buffers = new ArrayList<>();
+    private final List<AtomicInteger> owners = new ArrayList<>();
+
+    /**
+     * Retire the buffer, which must no longer be reachable by the readers pinned afterwards.
+     *
+     * @param buffer       the buffer.
+     * @param bufferOwners the count of the owners of the buffer.
+     */
+    void add(ByteBuffer buffer, AtomicInteger bufferOwners) {
+        buffers.add(buffer);
+        owners.add(bufferOwners);
+    }
+
+    /**
+     * Wait for the readers which could still see the retired buffers, then release the buffers.
+     *
+     * @param readerPins the pins of the readers of the buffers.
+     */
+    void release(ReaderPins readerPins) {
+        if (buffers.isEmpty()) {
+            return;
+        }
+        readerPins.awaitReaders();
+        for (int i = 0; i < buffers.size(); i++) {
+            release(buffers.get(i), owners.get(i));
+        }
+        buffers.clear();
+        owners.clear();
+    }
+
+    /**
+     * Release the buffer no reader can access any more, freeing it if this was its last owner.
+     *
+     * @param buffer       the buffer.
+     * @param bufferOwners the count of the owners of the buffer.
+     */
+    static void release(ByteBuffer buffer, AtomicInteger bufferOwners) {
+        if (bufferOwners.decrementAndGet() == 0) {
+            DirectMemory.free(buffer);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.snapshot;
+
+/**
+ * Layout of the binary catalog snapshot file. All numbers are big-endian.
+ * <pre>
+ * header (64 bytes):
+ *   int  magic                  'DMCS'
+ *   int  format version
+ *   long created at             epoch milliseconds
+ *   long change sequence number the last product change feed entry reflected by the snapshot
+ *   long product count
+ *   int  section count
+ *   int  currency count
+ *   long directory offset
+ *   long directory length
+ *   long directory checksum     CRC32 of the preceding bytes of the header and of the directory
+ * sections (following the header, one after another):
+ *   product records
+ * directory (at the end of the file):
+ *   currencies (referenced from the product records by their position):
+ *     uuid id, string code, int fraction digits
+ *   sections (24 bytes each):
+ *     long offset, int length, int product count, long checksum (CRC32 of the section)
+ * product record:
+ *   uuid id, string name, string description, int price scale, bytes price unscaled value, int currency position,
+ *   byte has percentage-based discount [uuid id, int rate],
+ *   int quantity-based discount count (-1 if none) [uuid id, int rate, int lower threshold, byte has upper threshold, int upper threshold]
+ * </pre>
+ * Strings and byte arrays are prefixed with their length, -1 marks a null string. The sections are written as the catalog
+ * is iterated, so the writer holds a single section in memory, and each section is mapped and verified on its own,
+ * so the file is not limited to the 2 GB of a single mapped buffer. Version has to be bumped on every change of the layout -
+ * files of other versions are ignored and the catalog is loaded from the database instead.
+ */
+final class CatalogSnapshotFormat {
+
+    static final int MAGIC = 0x444D4353;
+    static final int FORMAT_VERSION = 2;
+    static final int HEADER_SIZE = 64;
+    static final int MAGIC_OFFSET = 0;
+    static final int VERSION_OFFSET = 4;
+    static final int CREATED_AT_OFFSET = 8;
+    static final int CHANGE_SEQUENCE_NUMBER_OFFSET = 16;
+    static final int PRODUCT_COUNT_OFFSET = 24;
+    static final int SECTION_COUNT_OFFSET = 32;
+    static final int CURRENCY_COUNT_OFFSET = 36;
+    static final int DIRECTORY_OFFSET_OFFSET = 40;
+    static final int DIRECTORY_LENGTH_OFFSET = 48;
+    static final int DIRECTORY_CHECKSUM_OFFSET = 56;
+    static final int SECTION_ENTRY_SIZE = 24;
+    // a section is closed once its records reach that size, keeping the writer's buffer and each mapped region small
+    static final int SECTION_SIZE = 16 << 20;
+    static final int NULL_LENGTH = -1;
+
+    private CatalogSnapshotFormat() {
+    }
+}
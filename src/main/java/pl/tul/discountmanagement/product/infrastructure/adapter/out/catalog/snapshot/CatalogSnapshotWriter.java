@@ -0,0 +1,218 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.snapshot;
+
+import jakarta.annotation.Nullable;
+import pl.tul.discountmanagement.product.domain.model.Currency;
+import pl.tul.discountmanagement.product.domain.model.PercentageBasedDiscount;
+import pl.tul.discountmanagement.product.domain.model.Product;
+import pl.tul.discountmanagement.product.domain.model.QuantityBasedDiscount;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.ProductCatalog;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.CRC32;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.snapshot.CatalogSnapshotFormat.FORMAT_VERSION;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.snapshot.CatalogSnapshotFormat.HEADER_SIZE;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.snapshot.CatalogSnapshotFormat.MAGIC;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.snapshot.CatalogSnapshotFormat.NULL_LENGTH;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.snapshot.CatalogSnapshotFormat.SECTION_SIZE;
+
+/**
+ * Writer of the binary catalog snapshot file, see {@link CatalogSnapshotFormat} for the layout.
+ * The products are written section by section as the catalog is iterated, so writing a catalog of any size takes
+ * a single section of memory. The snapshot is written to a temporary file first and then moved in place, so readers never
+ * observe a partial file.
+ */
+public final class CatalogSnapshotWriter {
+
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+    private CatalogSnapshotWriter() {
+    }
+
+    /**
+     * Write the snapshot of the products of given catalog to given file.
+     *
+     * @param snapshotPath         path of the snapshot file.
+     * @param catalog              the catalog, not written to during the call.
+     * @param changeSequenceNumber sequence number of the last product change feed entry reflected by the catalog.
+     * @param createdAt            the moment the products were last known to be fresh.
+     * @throws IOException when writing the file fails.
+     */
+    public static void write(Path snapshotPath, ProductCatalog catalog, long changeSequenceNumber, Instant createdAt) throws IOException {
+        Path parent = snapshotPath.getParent();
+        if (nonNull(parent)) {
+            Files.createDirectories(parent);
+        }
+        Path temporaryPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + TEMPORARY_FILE_SUFFIX);
+        try (FileChannel channel = FileChannel.open(temporaryPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            SectionWriter sectionWriter = new SectionWriter(channel);
+            try {
+                catalog.forEach(sectionWriter::append);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            sectionWriter.writeSection();
+            sectionWriter.writeDirectoryAndHeader(changeSequenceNumber, createdAt);
+            channel.force(true);
+        }
+        Files.move(temporaryPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void writeProduct(DataOutputStream output, Product product, int currencyPosition) throws IOException {
+        writeUuid(output, product.id());
+        writeString(output, product.name());
+        writeString(output, product.description());
+        output.writeInt(product.price().scale());
+        byte[] unscaledPrice = product.price().unscaledValue().toByteArray();
+        output.writeInt(unscaledPrice.length);
+        output.write(unscaledPrice);
+        output.writeInt(currencyPosition);
+        PercentageBasedDiscount percentageBasedDiscount = product.percentageBasedDiscount();
+        output.writeBoolean(nonNull(percentageBasedDiscount));
+        if (nonNull(percentageBasedDiscount)) {
+            writeUuid(output, percentageBasedDiscount.getId());
+            output.writeInt(percentageBasedDiscount.getPercentageRate());
+        }
+        if (isNull(product.quantityBasedDiscounts())) {
+            output.writeInt(NULL_LENGTH);
+            return;
+        }
+        output.writeInt(product.quantityBasedDiscounts().size());
+        for (QuantityBasedDiscount quantityBasedDiscount : product.quantityBasedDiscounts()) {
+            writeUuid(output, quantityBasedDiscount.getId());
+            output.writeInt(quantityBasedDiscount.getPercentageRate());
+            output.writeInt(quantityBasedDiscount.getLowerItemsThreshold());
+            Integer upperItemsThreshold = quantityBasedDiscount.getUpperItemsThreshold();
+            output.writeBoolean(nonNull(upperItemsThreshold));
+            output.writeInt(nonNull(upperItemsThreshold) ? upperItemsThreshold : 0);
+        }
+    }
+
+    private static void writeUuid(DataOutputStream output, UUID uuid) throws IOException {
+        output.writeLong(uuid.getMostSignificantBits());
+        output.writeLong(uuid.getLeastSignificantBits());
+    }
+
+    private static void writeString(DataOutputStream output, @Nullable String value) throws IOException {
+        if (isNull(value)) {
+            output.writeInt(NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        long currentPosition = position;
+        while (buffer.hasRemaining()) {
+            currentPosition += channel.write(buffer, currentPosition);
+        }
+    }
+
+    /**
+     * Writer of the sections of a single snapshot, collecting the currencies and the section entries of the directory.
+     */
+    private static final class SectionWriter {
+
+        private final FileChannel channel;
+        private final ByteArrayOutputStream section = new ByteArrayOutputStream();
+        private final DataOutputStream sectionOutput = new DataOutputStream(section);
+        private final ByteArrayOutputStream currencies = new ByteArrayOutputStream();
+        private final DataOutputStream currenciesOutput = new DataOutputStream(currencies);
+        private final ByteArrayOutputStream sectionEntries = new ByteArrayOutputStream();
+        private final DataOutputStream sectionEntriesOutput = new DataOutputStream(sectionEntries);
+        private final Map<UUID, Integer> currencyPositions = new HashMap<>();
+        private long position = HEADER_SIZE;
+        private int sectionProductCount;
+        private int sectionCount;
+        private long productCount;
+
+        private SectionWriter(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        private void append(Product product) {
+            try {
+                writeProduct(sectionOutput, product, currencyPositionOf(product.currency()));
+                sectionProductCount++;
+                productCount++;
+                if (section.size() >= SECTION_SIZE) {
+                    writeSection();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private int currencyPositionOf(Currency currency) throws IOException {
+            Integer currencyPosition = currencyPositions.get(currency.id());
+            if (isNull(currencyPosition)) {
+                currencyPosition = currencyPositions.size();
+                currencyPositions.put(currency.id(), currencyPosition);
+                writeUuid(currenciesOutput, currency.id());
+                writeString(currenciesOutput, currency.currencyCode());
+                currenciesOutput.writeInt(currency.fractionDigits());
+            }
+            return currencyPosition;
+        }
+
+        private void writeSection() throws IOException {
+            if (sectionProductCount == 0) {
+                return;
+            }
+            ByteBuffer sectionBuffer = ByteBuffer.wrap(section.toByteArray());
+            CRC32 checksum = new CRC32();
+            checksum.update(sectionBuffer.duplicate());
+            writeFully(channel, sectionBuffer, position);
+            sectionEntriesOutput.writeLong(position);
+            sectionEntriesOutput.writeInt(section.size());
+            sectionEntriesOutput.writeInt(sectionProductCount);
+            sectionEntriesOutput.writeLong(checksum.getValue());
+            position += section.size();
+            sectionCount++;
+            section.reset();
+            sectionProductCount = 0;
+        }
+
+        private void writeDirectoryAndHeader(long changeSequenceNumber, Instant createdAt) throws IOException {
+            ByteBuffer directory = ByteBuffer.allocate(currencies.size() + sectionEntries.size())
+                    .put(currencies.toByteArray())
+                    .put(sectionEntries.toByteArray())
+                    .flip();
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                    .putInt(MAGIC)
+                    .putInt(FORMAT_VERSION)
+                    .putLong(createdAt.toEpochMilli())
+                    .putLong(changeSequenceNumber)
+                    .putLong(productCount)
+                    .putInt(sectionCount)
+                    .putInt(currencyPositions.size())
+                    .putLong(position)
+                    .putLong(directory.remaining());
+            CRC32 checksum = new CRC32();
+            checksum.update(header.array(), 0, header.position());
+            checksum.update(directory.duplicate());
+            header.putLong(checksum.getValue()).flip();
+            writeFully(channel, directory, position);
+            writeFully(channel, header, 0L);
+        }
+    }
+}
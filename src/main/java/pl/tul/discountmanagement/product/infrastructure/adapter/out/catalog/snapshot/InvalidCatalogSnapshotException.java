@@ -0,0 +1,13 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.snapshot;
+
+import java.io.IOException;
+
+/**
+ * {@link IOException} indicating that the catalog snapshot file is corrupted or has an incompatible format version.
+ */
+public class InvalidCatalogSnapshotException extends IOException {
+
+    public InvalidCatalogSnapshotException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,318 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.snapshot;
+
+import jakarta.annotation.Nullable;
+import pl.tul.discountmanagement.product.domain.model.Currency;
+import pl.tul.discountmanagement.product.domain.model.PercentageBasedDiscount;
+import pl.tul.discountmanagement.product.domain.model.Product;
+import pl.tul.discountmanagement.product.domain.model.QuantityBasedDiscount;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+import static java.util.Objects.isNull;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.snapshot.CatalogSnapshotFormat.CHANGE_SEQUENCE_NUMBER_OFFSET;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.snapshot.CatalogSnapshotFormat.CREATED_AT_OFFSET;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.snapshot.CatalogSnapshotFormat.CURRENCY_COUNT_OFFSET;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.snapshot.CatalogSnapshotFormat.DIRECTORY_CHECKSUM_OFFSET;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.snapshot.CatalogSnapshotFormat.DIRECTORY_LENGTH_OFFSET;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.snapshot.CatalogSnapshotFormat.DIRECTORY_OFFSET_OFFSET;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.snapshot.CatalogSnapshotFormat.FORMAT_VERSION;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.snapshot.CatalogSnapshotFormat.HEADER_SIZE;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.snapshot.CatalogSnapshotFormat.MAGIC;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.snapshot.CatalogSnapshotFormat.MAGIC_OFFSET;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.snapshot.CatalogSnapshotFormat.NULL_LENGTH;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.snapshot.CatalogSnapshotFormat.PRODUCT_COUNT_OFFSET;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.snapshot.CatalogSnapshotFormat.SECTION_COUNT_OFFSET;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.snapshot.CatalogSnapshotFormat.SECTION_ENTRY_SIZE;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.snapshot.CatalogSnapshotFormat.VERSION_OFFSET;
+
+/**
+ * Catalog snapshot file mapped into memory with {@link FileChannel#map}, see {@link CatalogSnapshotFormat} for the layout.
+ * Opening the snapshot reads just the header and the directory at the end of the file, verifies their checksum and maps
+ * every section as a region of its own - mapping loads no pages, and the file is not limited to the 2 GB of a single
+ * mapped buffer. The checksum of a section is verified lazily, right before the products of the section are first
+ * decoded, so the pages of the file are loaded by the operating system one section at a time, and a corrupted section
+ * is reported before any of its products is used.
+ * Closing the snapshot drops its references to the mapped regions. There is no supported way to unmap a buffer explicitly
+ * on Java 17, so the mappings are released by the cleaners of the buffers once they are garbage collected.
+ * Not thread-safe - a snapshot is read by a single thread.
+ */
+public final class MappedCatalogSnapshot implements Closeable {
+
+    private static final String TOO_SHORT_MSG = "Catalog snapshot '%s' is too short: %d bytes.";
+    private static final String INVALID_MAGIC_MSG = "File '%s' is not a catalog snapshot.";
+    private static final String INCOMPATIBLE_VERSION_MSG = "Catalog snapshot '%s' has format version %d, supported version is %d.";
+    private static final String INVALID_LENGTH_MSG = "Catalog snapshot '%s' is truncated or has invalid section lengths.";
+    private static final String DIRECTORY_CHECKSUM_MISMATCH_MSG = "Catalog snapshot '%s' directory checksum mismatch, the file is corrupted.";
+    private static final String SECTION_CHECKSUM_MISMATCH_MSG = "Catalog snapshot '%s' section %d checksum mismatch, the file is corrupted.";
+    private static final String INVALID_SECTION_MSG = "Catalog snapshot '%s' section %d does not match its product count.";
+    private static final String CLOSED_MSG = "Catalog snapshot is closed.";
+
+    private final Path snapshotPath;
+    private final Instant createdAt;
+    private final long changeSequenceNumber;
+    private final long productCount;
+    private final Currency[] currencies;
+    private final int[] sectionProductCounts;
+    private final long[] sectionChecksums;
+    @Nullable
+    private MappedByteBuffer[] sections;
+
+    private MappedCatalogSnapshot(Path snapshotPath, ByteBuffer header, Currency[] currencies, int[] sectionProductCounts,
+                                  long[] sectionChecksums, MappedByteBuffer[] sections) {
+        this.snapshotPath = snapshotPath;
+        this.createdAt = Instant.ofEpochMilli(header.getLong(CREATED_AT_OFFSET));
+        this.changeSequenceNumber = header.getLong(CHANGE_SEQUENCE_NUMBER_OFFSET);
+        this.productCount = header.getLong(PRODUCT_COUNT_OFFSET);
+        this.currencies = currencies;
+        this.sectionProductCounts = sectionProductCounts;
+        this.sectionChecksums = sectionChecksums;
+        this.sections = sections;
+    }
+
+    /**
+     * Map the snapshot file into memory and verify its format version and the checksum of its directory.
+     *
+     * @param snapshotPath path of the snapshot file.
+     * @return the mapped snapshot.
+     * @throws InvalidCatalogSnapshotException when the file is corrupted or has an incompatible format version.
+     * @throws IOException                     when reading the file fails.
+     */
+    public static MappedCatalogSnapshot open(Path snapshotPath) throws IOException {
+        try (FileChannel channel = FileChannel.open(snapshotPath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE) {
+                throw new InvalidCatalogSnapshotException(TOO_SHORT_MSG.formatted(snapshotPath, size));
+            }
+            ByteBuffer header = read(snapshotPath, channel, 0L, HEADER_SIZE);
+            if (header.getInt(MAGIC_OFFSET) != MAGIC) {
+                throw new InvalidCatalogSnapshotException(INVALID_MAGIC_MSG.formatted(snapshotPath));
+            }
+            int version = header.getInt(VERSION_OFFSET);
+            if (version != FORMAT_VERSION) {
+                throw new InvalidCatalogSnapshotException(INCOMPATIBLE_VERSION_MSG.formatted(snapshotPath, version, FORMAT_VERSION));
+            }
+            long directoryOffset = header.getLong(DIRECTORY_OFFSET_OFFSET);
+            long directoryLength = header.getLong(DIRECTORY_LENGTH_OFFSET);
+            int sectionCount = header.getInt(SECTION_COUNT_OFFSET);
+            int currencyCount = header.getInt(CURRENCY_COUNT_OFFSET);
+            if (directoryOffset < HEADER_SIZE || directoryLength > Integer.MAX_VALUE || directoryOffset + directoryLength != size
+                    || sectionCount < 0 || currencyCount < 0 || (long) sectionCount * SECTION_ENTRY_SIZE > directoryLength) {
+                throw new InvalidCatalogSnapshotException(INVALID_LENGTH_MSG.formatted(snapshotPath));
+            }
+            ByteBuffer directory = read(snapshotPath, channel, directoryOffset, (int) directoryLength);
+            CRC32 checksum = new CRC32();
+            checksum.update(header.array(), 0, DIRECTORY_CHECKSUM_OFFSET);
+            checksum.update(directory.duplicate());
+            if (checksum.getValue() != header.getLong(DIRECTORY_CHECKSUM_OFFSET)) {
+                throw new InvalidCatalogSnapshotException(DIRECTORY_CHECKSUM_MISMATCH_MSG.formatted(snapshotPath));
+            }
+            RecordReader reader = new RecordReader(directory, 0);
+            Currency[] currencies = new Currency[currencyCount];
+            for (int i = 0; i < currencyCount; i++) {
+                currencies[i] = new Currency(reader.readUuid(), reader.readString(), reader.readInt());
+            }
+            int[] sectionProductCounts = new int[sectionCount];
+            long[] sectionChecksums = new long[sectionCount];
+            MappedByteBuffer[] sections = new MappedByteBuffer[sectionCount];
+            long sectionOffset = HEADER_SIZE;
+            long productCount = 0L;
+            for (int i = 0; i < sectionCount; i++) {
+                long offset = reader.readLong();
+                int length = reader.readInt();
+                sectionProductCounts[i] = reader.readInt();
+                sectionChecksums[i] = reader.readLong();
+                if (offset != sectionOffset || length <= 0 || sectionProductCounts[i] <= 0) {
+                    throw new InvalidCatalogSnapshotException(INVALID_LENGTH_MSG.formatted(snapshotPath));
+                }
+                // the mappings stay valid after the channel is closed
+                sections[i] = channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+                sectionOffset += length;
+                productCount += sectionProductCounts[i];
+            }
+            if (sectionOffset != directoryOffset || productCount != header.getLong(PRODUCT_COUNT_OFFSET)) {
+                throw new InvalidCatalogSnapshotException(INVALID_LENGTH_MSG.formatted(snapshotPath));
+            }
+            return new MappedCatalogSnapshot(snapshotPath, header, currencies, sectionProductCounts, sectionChecksums, sections);
+        }
+    }
+
+    /**
+     * Decode all the products of the snapshot, section by section, verifying the checksum of each section before
+     * its products are passed to the action.
+     *
+     * @param action the action receiving the products.
+     * @throws InvalidCatalogSnapshotException when a section is corrupted - the products of the preceding sections have
+     *                                         already been passed to the action.
+     * @throws IllegalStateException           when the snapshot is closed.
+     */
+    public void forEach(Consumer<Product> action) throws InvalidCatalogSnapshotException {
+        MappedByteBuffer[] currentSections = sections;
+        if (isNull(currentSections)) {
+            throw new IllegalStateException(CLOSED_MSG);
+        }
+        for (int i = 0; i < currentSections.length; i++) {
+            MappedByteBuffer section = currentSections[i];
+            CRC32 checksum = new CRC32();
+            checksum.update(section.duplicate());
+            if (checksum.getValue() != sectionChecksums[i]) {
+                throw new InvalidCatalogSnapshotException(SECTION_CHECKSUM_MISMATCH_MSG.formatted(snapshotPath, i));
+            }
+            RecordReader reader = new RecordReader(section, 0);
+            for (int product = 0; product < sectionProductCounts[i]; product++) {
+                action.accept(readProduct(reader));
+            }
+            if (reader.position != section.capacity()) {
+                throw new InvalidCatalogSnapshotException(INVALID_SECTION_MSG.formatted(snapshotPath, i));
+            }
+        }
+    }
+
+    /**
+     * Return the number of products in the snapshot.
+     *
+     * @return the number of products.
+     */
+    public long size() {
+        return productCount;
+    }
+
+    /**
+     * Return the number of the sections of the snapshot, each mapped as a separate region.
+     *
+     * @return the number of sections.
+     */
+    public int getSectionCount() {
+        return sectionProductCounts.length;
+    }
+
+    /**
+     * Return the moment the products of the snapshot were last known to be fresh.
+     *
+     * @return the moment.
+     */
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * Return the sequence number of the last product change feed entry reflected by the snapshot - the products changed
+     * by the later entries may be outdated.
+     *
+     * @return the sequence number.
+     */
+    public long getChangeSequenceNumber() {
+        return changeSequenceNumber;
+    }
+
+    /**
+     * Release the mapped regions. The products can no longer be read from a closed snapshot.
+     */
+    @Override
+    public void close() {
+        sections = null;
+    }
+
+    private Product readProduct(RecordReader reader) {
+        UUID id = reader.readUuid();
+        String name = reader.readString();
+        String description = reader.readString();
+        int priceScale = reader.readInt();
+        BigDecimal price = new BigDecimal(new BigInteger(reader.readBytes()), priceScale);
+        Currency currency = currencies[reader.readInt()];
+        PercentageBasedDiscount percentageBasedDiscount = null;
+        if (reader.readBoolean()) {
+            percentageBasedDiscount = new PercentageBasedDiscount(reader.readUuid(), reader.readInt());
+        }
+        Set<QuantityBasedDiscount> quantityBasedDiscounts = null;
+        int quantityBasedDiscountCount = reader.readInt();
+        if (quantityBasedDiscountCount != NULL_LENGTH) {
+            quantityBasedDiscounts = new HashSet<>();
+            for (int i = 0; i < quantityBasedDiscountCount; i++) {
+                UUID discountId = reader.readUuid();
+                int percentageRate = reader.readInt();
+                int lowerItemsThreshold = reader.readInt();
+                boolean hasUpperItemsThreshold = reader.readBoolean();
+                int upperItemsThreshold = reader.readInt();
+                quantityBasedDiscounts.add(new QuantityBasedDiscount(discountId, percentageRate, lowerItemsThreshold,
+                        hasUpperItemsThreshold ? upperItemsThreshold : null));
+            }
+        }
+        return new Product(id, name, description, price, currency, percentageBasedDiscount, quantityBasedDiscounts);
+    }
+
+    private static ByteBuffer read(Path snapshotPath, FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new InvalidCatalogSnapshotException(INVALID_LENGTH_MSG.formatted(snapshotPath));
+            }
+        }
+        return buffer.flip();
+    }
+
+    /**
+     * Sequential reader of the records of a section or of the directory, keeping its own position.
+     */
+    private static final class RecordReader {
+
+        private final ByteBuffer buffer;
+        private int position;
+
+        private RecordReader(ByteBuffer buffer, int position) {
+            this.buffer = buffer;
+            this.position = position;
+        }
+
+        private int readInt() {
+            int value = buffer.getInt(position);
+            position += Integer.BYTES;
+            return value;
+        }
+
+        private long readLong() {
+            long value = buffer.getLong(position);
+            position += Long.BYTES;
+            return value;
+        }
+
+        private boolean readBoolean() {
+            return buffer.get(position++) != 0;
+        }
+
+        private UUID readUuid() {
+            return new UUID(readLong(), readLong());
+        }
+
+        private byte[] readBytes() {
+            byte[] bytes = new byte[readInt()];
+            buffer.get(position, bytes);
+            position += bytes.length;
+            return bytes;
+        }
+
+        @Nullable
+        private String readString() {
+            int length = buffer.getInt(position);
+            if (length == NULL_LENGTH) {
+                position += Integer.BYTES;
+                return null;
+            }
+            return new String(readBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
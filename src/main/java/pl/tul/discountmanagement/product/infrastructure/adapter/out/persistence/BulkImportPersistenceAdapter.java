@@ -0,0 +1,119 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.out.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import pl.tul.discountmanagement.product.application.port.out.persistence.BulkImportPersistencePort;
+import pl.tul.discountmanagement.product.domain.model.BulkImportTarget;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Adapter implementing the bulk import persistence port using PostgreSQL 'COPY FROM STDIN'.
+ * Each chunk is copied into a temporary staging table and upserted into the target table with a single
+ * 'INSERT ... ON CONFLICT' statement. When a chunk contains the same key multiple times, the last occurrence wins.
+ */
+@Component
+@RequiredArgsConstructor
+public class BulkImportPersistenceAdapter implements BulkImportPersistencePort {
+
+    private static final String FIND_COMMITTED_ROWS_QUERY = "SELECT committed_rows FROM bulk_import_progress WHERE import_id = ? AND target = ?";
+    private static final String UPSERT_PROGRESS_STATEMENT = """
+            INSERT INTO bulk_import_progress (import_id, target, committed_rows, updated_at) VALUES (?, ?, ?, now())
+            ON CONFLICT (import_id, target) DO UPDATE SET committed_rows = EXCLUDED.committed_rows, updated_at = EXCLUDED.updated_at""";
+    private static final Map<BulkImportTarget, ImportStatements> IMPORT_STATEMENTS = Map.of(
+            BulkImportTarget.PRODUCT, new ImportStatements(
+                    "product_import_staging",
+                    List.of("id", "name", "description", "price", "currency_id", "percentage_based_discount_id"),
+                    "ON CONFLICT (id) DO UPDATE SET name = EXCLUDED.name, description = EXCLUDED.description, price = EXCLUDED.price, "
+                            + "currency_id = EXCLUDED.currency_id, percentage_based_discount_id = EXCLUDED.percentage_based_discount_id "
+                            + "WHERE (product.name, product.description, product.price, product.currency_id, product.percentage_based_discount_id) "
+                            + "IS DISTINCT FROM (EXCLUDED.name, EXCLUDED.description, EXCLUDED.price, EXCLUDED.currency_id, EXCLUDED.percentage_based_discount_id)",
+                    "product", "id"),
+            BulkImportTarget.PERCENTAGE_BASED_DISCOUNT, new ImportStatements(
+                    "percentage_based_discount_import_staging",
+                    List.of("id", "percentage_rate"),
+                    "ON CONFLICT (id) DO UPDATE SET percentage_rate = EXCLUDED.percentage_rate "
+                            + "WHERE percentage_based_discount.percentage_rate IS DISTINCT FROM EXCLUDED.percentage_rate",
+                    "percentage_based_discount", "id"),
+            BulkImportTarget.QUANTITY_BASED_DISCOUNT, new ImportStatements(
+                    "quantity_based_discount_import_staging",
+                    List.of("id", "percentage_rate", "lower_items_threshold", "upper_items_threshold"),
+                    "ON CONFLICT (id) DO UPDATE SET percentage_rate = EXCLUDED.percentage_rate, "
+                            + "lower_items_threshold = EXCLUDED.lower_items_threshold, upper_items_threshold = EXCLUDED.upper_items_threshold "
+                            + "WHERE (quantity_based_discount.percentage_rate, quantity_based_discount.lower_items_threshold, quantity_based_discount.upper_items_threshold) "
+                            + "IS DISTINCT FROM (EXCLUDED.percentage_rate, EXCLUDED.lower_items_threshold, EXCLUDED.upper_items_threshold)",
+                    "quantity_based_discount", "id"),
+            BulkImportTarget.TIER_ASSIGNMENT, new ImportStatements(
+                    "product_quantity_based_discount_import_staging",
+                    List.of("product_id", "quantity_based_discount_id"),
+                    "ON CONFLICT (product_id, quantity_based_discount_id) DO NOTHING",
+                    "product_quantity_based_discount", "product_id, quantity_based_discount_id")
+    );
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public long findCommittedRows(UUID importId, BulkImportTarget target) {
+        List<Long> committedRows = jdbcTemplate.queryForList(FIND_COMMITTED_ROWS_QUERY, Long.class, importId, target.name());
+        return committedRows.isEmpty() ? 0L : committedRows.get(0);
+    }
+
+    @Override
+    @Transactional
+    public void importChunk(UUID importId, BulkImportTarget target, String csvChunk, long committedRows) {
+        ImportStatements statements = IMPORT_STATEMENTS.get(target);
+        jdbcTemplate.execute(statements.createStagingTableStatement());
+        copyIntoStagingTable(statements, csvChunk);
+        jdbcTemplate.update(statements.upsertStatement());
+        jdbcTemplate.update(UPSERT_PROGRESS_STATEMENT, importId, target.name(), committedRows);
+    }
+
+    private void copyIntoStagingTable(ImportStatements statements, String csvChunk) {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            connection.unwrap(PGConnection.class)
+                    .getCopyAPI()
+                    .copyIn(statements.copyStatement(), new StringReader(csvChunk));
+        } catch (SQLException | IOException e) {
+            throw new DataAccessResourceFailureException("Failed to copy chunk into '%s' table.".formatted(statements.stagingTable()), e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    /**
+     * Statements used to import records into a single target table.
+     * The staging table is created once per connection and its rows are removed at the end of each transaction.
+     */
+    private record ImportStatements(String stagingTable, List<String> columns, String conflictClause, String targetTable,
+                                    String keyColumns) {
+
+        String createStagingTableStatement() {
+            return "CREATE TEMPORARY TABLE IF NOT EXISTS %s (LIKE %s INCLUDING DEFAULTS, row_number bigserial) ON COMMIT DELETE ROWS"
+                    .formatted(stagingTable, targetTable);
+        }
+
+        String copyStatement() {
+            return "COPY %s (%s) FROM STDIN WITH (FORMAT csv)".formatted(stagingTable, String.join(", ", columns));
+        }
+
+        String upsertStatement() {
+            String columnList = String.join(", ", columns);
+            return "INSERT INTO %s (%s) SELECT DISTINCT ON (%s) %s FROM %s ORDER BY %s, row_number DESC %s"
+                    .formatted(targetTable, columnList, keyColumns, columnList, stagingTable, keyColumns, conflictClause);
+        }
+    }
+}
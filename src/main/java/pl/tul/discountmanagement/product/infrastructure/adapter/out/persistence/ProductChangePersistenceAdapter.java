@@ -0,0 +1,71 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.out.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import pl.tul.discountmanagement.product.application.port.out.persistence.ProductChangePersistencePort;
+import pl.tul.discountmanagement.product.domain.model.Product;
+import pl.tul.discountmanagement.product.domain.model.ProductChange;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.persistence.mapper.ProductChangeJpaEntityMapper;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.persistence.mapper.ProductJpaEntityMapper;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.persistence.repository.ProductChangeJpaRepository;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.persistence.repository.ProductJpaRepository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Adapter implementing the product change persistence port using Spring Data JPA.
+ * The snapshots of the changed products are always read from the database, never from the in-memory catalog
+ * or the second-level cache, which follow the database only eventually.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductChangePersistenceAdapter implements ProductChangePersistencePort {
+
+    private final ProductChangeJpaRepository productChangeJpaRepository;
+    private final ProductChangeJpaEntityMapper productChangeJpaEntityMapper;
+    private final ProductJpaRepository productJpaRepository;
+    private final ProductJpaEntityMapper productJpaEntityMapper;
+
+    @Override
+    public List<ProductChange> findChangesSince(long sinceSequenceNumber, int limit) {
+        return productChangeJpaRepository.findChangesSince(sinceSequenceNumber, limit)
+                .stream()
+                .map(productChangeJpaEntityMapper::entityToDomain)
+                .toList();
+    }
+
+    @Override
+    public long findLastSequenceNumber() {
+        return productChangeJpaRepository.findLastFeedPosition();
+    }
+
+    @Override
+    public List<Product> findChangedProducts(Collection<UUID> productIds) {
+        return productJpaRepository.findAllByIdBypassingCache(productIds)
+                .stream()
+                .map(productJpaEntityMapper::entityToDomain)
+                .toList();
+    }
+
+    @Override
+    public int publishChanges(int batchSize) {
+        // the lock is released with the caller's transaction, once the published changes become visible
+        if (!productChangeJpaRepository.tryLockPublication()) {
+            return 0;
+        }
+        return productChangeJpaRepository.publishChanges(batchSize);
+    }
+
+    @Override
+    public int deleteSupersededChanges(int batchSize) {
+        return productChangeJpaRepository.deleteSupersededChanges(batchSize);
+    }
+
+    @Override
+    public int deleteChangesOfDeletedProducts(Instant changedBefore, int batchSize) {
+        return productChangeJpaRepository.deleteChangesOfDeletedProducts(changedBefore, batchSize);
+    }
+}
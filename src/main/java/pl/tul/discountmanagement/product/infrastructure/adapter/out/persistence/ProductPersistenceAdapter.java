@@ -1,17 +1,33 @@
 package pl.tul.discountmanagement.product.infrastructure.adapter.out.persistence;
 
+import jakarta.annotation.Nullable;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 import pl.tul.discountmanagement.product.application.port.out.persistence.ProductPersistencePort;
 import pl.tul.discountmanagement.product.domain.model.Product;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.persistence.entity.ProductJpaEntity;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.persistence.jfr.FindProductEvent;
 import pl.tul.discountmanagement.product.infrastructure.adapter.out.persistence.mapper.ProductJpaEntityMapper;
 import pl.tul.discountmanagement.product.infrastructure.adapter.out.persistence.repository.ProductJpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.out.persistence.entity.ProductJpaEntity.QUANTITY_BASED_DISCOUNTS_ROLE;
+
 /**
  * Adapter implementing the product persistence port using Spring Data JPA.
+ * Product reads start their own read-only transactions (or join the ongoing ones), so a read failing due to an unavailable
+ * database surfaces from the port rather than from the transaction started by the caller.
  */
 @Component
 @RequiredArgsConstructor
@@ -19,10 +35,66 @@ public class ProductPersistenceAdapter implements ProductPersistencePort {
 
     private final ProductJpaRepository productJpaRepository;
     private final ProductJpaEntityMapper productJpaEntityMapper;
+    private final EntityManagerFactory entityManagerFactory;
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Product> findById(UUID productId) {
-        return productJpaRepository.findById(productId)
-                .map(productJpaEntityMapper::entityToDomain);
+        FindProductEvent event = new FindProductEvent();
+        if (event.isEnabled()) {
+            Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+            event.productCached = cache.containsEntity(ProductJpaEntity.class, productId);
+            event.discountsCollectionCached = cache.containsCollection(QUANTITY_BASED_DISCOUNTS_ROLE, productId);
+        }
+        event.begin();
+        try {
+            Optional<Product> product = productJpaRepository.findById(productId)
+                    .map(productJpaEntityMapper::entityToDomain);
+            event.found = product.isPresent();
+            if (event.found && nonNull(product.get().quantityBasedDiscounts())) {
+                event.tierCount = product.get().quantityBasedDiscounts().size();
+            }
+            return product;
+        } finally {
+            if (event.shouldCommit()) {
+                event.productId = String.valueOf(productId);
+                event.commit();
+            }
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Product> findAllByIds(Collection<UUID> productIds) {
+        return productJpaRepository.findAllById(productIds)
+                .stream()
+                .map(productJpaEntityMapper::entityToDomain)
+                .toList();
+    }
+
+    @Override
+    public List<UUID> findProductIds(int limit) {
+        return productJpaRepository.findIds(PageRequest.of(0, limit));
+    }
+
+    @Override
+    public boolean isReadWithoutDatabase(UUID productId) {
+        // even a product kept in the second-level cache is read from the database once its reference data is evicted
+        return false;
+    }
+
+    /**
+     * Find identifiers of the products following the given one, ordered by identifier - a page of the keyset pagination
+     * over the whole catalog.
+     *
+     * @param afterProductId the last identifier of the previous page, null for the first page.
+     * @param limit          maximal number of returned identifiers.
+     * @return the product identifiers.
+     */
+    @Transactional(readOnly = true)
+    public List<UUID> findProductIdsAfter(@Nullable UUID afterProductId, int limit) {
+        PageRequest pageRequest = PageRequest.of(0, limit);
+        return isNull(afterProductId) ? productJpaRepository.findIds(pageRequest)
+                : productJpaRepository.findIdsAfter(afterProductId, pageRequest);
     }
 }
@@ -0,0 +1,73 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.out.persistence.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import pl.tul.discountmanagement.product.infrastructure.adapter.in.notification.event.ProductChangeNotificationEvent;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.persistence.entity.CurrencyJpaEntity;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.persistence.entity.PercentageBasedDiscountJpaEntity;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.persistence.entity.ProductJpaEntity;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.persistence.entity.QuantityBasedDiscountJpaEntity;
+
+import java.util.Map;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.out.persistence.entity.ProductJpaEntity.QUANTITY_BASED_DISCOUNTS_ROLE;
+
+/**
+ * Evicts the second-level cache entries affected by product changes made by any application instance.
+ */
+@Slf4j
+@Component
+public class ProductSecondLevelCacheInvalidator {
+
+    private static final Map<String, Class<?>> REFERENCE_ENTITIES = Map.of(
+            "currency", CurrencyJpaEntity.class,
+            "percentage_based_discount", PercentageBasedDiscountJpaEntity.class,
+            "quantity_based_discount", QuantityBasedDiscountJpaEntity.class
+    );
+    private static final String FULL_FLUSH_MSG = "Evicting all the second-level cache regions.";
+    private static final String EVICTION_MSG = "Evicting second-level cache entries of '{}' product(s) changed in '{}' table.";
+
+    private final Cache cache;
+
+    public ProductSecondLevelCacheInvalidator(EntityManagerFactory entityManagerFactory) {
+        this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+
+    /**
+     * Evict the second-level cache entries affected by the given change.
+     * Runs before the other listeners of the event, so that the products they read again are not served from the evicted entries.
+     *
+     * @param event the product change event.
+     */
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onProductChange(ProductChangeNotificationEvent event) {
+        if (isNull(event.sourceTable())) {
+            log.info(FULL_FLUSH_MSG);
+            cache.evictAllRegions();
+            return;
+        }
+        log.debug(EVICTION_MSG, event.allProducts() ? "all" : event.productIds().size(), event.sourceTable());
+        Class<?> referenceEntity = REFERENCE_ENTITIES.get(event.sourceTable());
+        if (nonNull(referenceEntity)) {
+            cache.evictEntityData(referenceEntity);
+        }
+        if (event.allProducts()) {
+            cache.evictEntityData(ProductJpaEntity.class);
+            cache.evictCollectionData(QUANTITY_BASED_DISCOUNTS_ROLE);
+        } else {
+            event.productIds().forEach(productId -> {
+                cache.evictEntityData(ProductJpaEntity.class, productId);
+                cache.evictCollectionData(QUANTITY_BASED_DISCOUNTS_ROLE, productId);
+            });
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package pl.tul.discountmanagement.product.infrastructure.adapter.out.persistence.entity;
 
 import jakarta.annotation.Nullable;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -13,6 +14,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
 
@@ -28,7 +31,12 @@ import java.util.UUID;
 @AllArgsConstructor
 @Builder
 @Entity(name = "currency")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CurrencyJpaEntity.CACHE_REGION)
 public class CurrencyJpaEntity {
+
+    public static final String CACHE_REGION = "currency";
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
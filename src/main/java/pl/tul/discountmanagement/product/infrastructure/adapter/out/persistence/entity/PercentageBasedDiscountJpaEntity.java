@@ -1,6 +1,7 @@
 package pl.tul.discountmanagement.product.infrastructure.adapter.out.persistence.entity;
 
 import jakarta.annotation.Nullable;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -12,6 +13,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.validator.constraints.Range;
 
 import java.util.Set;
@@ -26,8 +29,12 @@ import java.util.UUID;
 @NoArgsConstructor
 @Builder
 @Entity(name = "percentage_based_discount")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = PercentageBasedDiscountJpaEntity.CACHE_REGION)
 public class PercentageBasedDiscountJpaEntity {
 
+    public static final String CACHE_REGION = "percentage-based-discount";
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
@@ -0,0 +1,42 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.out.persistence.entity;
+
+import jakarta.annotation.Nullable;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.Immutable;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * The Entity class for the product change feed item.
+ * Items are appended by database triggers and published to the feed by assigning them the feed position, hence the entity
+ * is immutable.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Immutable
+@Entity(name = "product_change")
+public class ProductChangeJpaEntity {
+
+    @Id
+    private Long sequenceNumber;
+
+    @Column(nullable = false)
+    private UUID productId;
+
+    @Column(nullable = false)
+    private Instant changedAt;
+
+    @Nullable
+    private Long feedPosition;
+}
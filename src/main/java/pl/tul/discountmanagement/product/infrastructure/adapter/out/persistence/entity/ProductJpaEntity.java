@@ -1,6 +1,7 @@
 package pl.tul.discountmanagement.product.infrastructure.adapter.out.persistence.entity;
 
 import jakarta.annotation.Nullable;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -17,6 +18,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
 import java.util.LinkedHashSet;
@@ -34,11 +37,16 @@ import static pl.tul.discountmanagement.product.infrastructure.adapter.out.persi
 @AllArgsConstructor
 @Builder
 @Entity(name = "product")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = ProductJpaEntity.CACHE_REGION)
 public class ProductJpaEntity {
 
+    public static final String CACHE_REGION = "product";
     public static final String CURRENCY = "currency";
     public static final String PERCENTAGE_BASED_DISCOUNT = "percentageBasedDiscount";
     public static final String QUANTITY_BASED_DISCOUNTS = "quantityBasedDiscounts";
+    public static final String QUANTITY_BASED_DISCOUNTS_CACHE_REGION = "product-quantity-based-discounts";
+    public static final String QUANTITY_BASED_DISCOUNTS_ROLE = ProductJpaEntity.class.getName() + "." + QUANTITY_BASED_DISCOUNTS;
 
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
@@ -63,6 +71,7 @@ public class ProductJpaEntity {
     private PercentageBasedDiscountJpaEntity percentageBasedDiscount;
 
     @ManyToMany(fetch = FetchType.EAGER)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = QUANTITY_BASED_DISCOUNTS_CACHE_REGION)
     @JoinTable(
             name = "product_quantity_based_discount",
             joinColumns = { @JoinColumn(name = "product_id") },
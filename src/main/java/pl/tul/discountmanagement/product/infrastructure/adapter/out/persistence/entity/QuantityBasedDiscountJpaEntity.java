@@ -1,6 +1,7 @@
 package pl.tul.discountmanagement.product.infrastructure.adapter.out.persistence.entity;
 
 import jakarta.annotation.Nullable;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -14,6 +15,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.Check;
 import org.hibernate.validator.constraints.Range;
 
@@ -34,8 +37,11 @@ import java.util.UUID;
         columnNames = {"lower_threshold", "upper_treshold", "percentage_rate"}
 ))
 @Check(constraints = "upper_threshold IS NULL OR (lower_threshold < upper_threshold)")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = QuantityBasedDiscountJpaEntity.CACHE_REGION)
 public class QuantityBasedDiscountJpaEntity {
 
+    public static final String CACHE_REGION = "quantity-based-discount";
     public static final String PERCENTAGE_RATE = "percentageRate";
 
     @Id
@@ -0,0 +1,79 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.out.persistence.fallback;
+
+import jakarta.annotation.Nullable;
+import pl.tul.discountmanagement.product.domain.model.Product;
+
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded in-memory store of the last products successfully read from the database, served while the database is unavailable.
+ * Products are immutable, so the store keeps the very instances returned by the reads. When the store is full, arbitrary
+ * products are evicted to make room - the products read recently are the ones likely to be requested again.
+ */
+class LastKnownProductStore {
+
+    private final Map<UUID, LastKnownProduct> products = new ConcurrentHashMap<>();
+    private final int maxProducts;
+
+    LastKnownProductStore(int maxProducts) {
+        this.maxProducts = maxProducts;
+    }
+
+    /**
+     * Store the product read from the database.
+     *
+     * @param product the product.
+     */
+    void put(Product product) {
+        if (products.size() >= maxProducts && !products.containsKey(product.id())) {
+            Iterator<LastKnownProduct> iterator = products.values().iterator();
+            while (products.size() >= maxProducts && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+        products.put(product.id(), new LastKnownProduct(product, Instant.now()));
+    }
+
+    /**
+     * Remove the product which no longer exists in the database.
+     *
+     * @param productId the product identifier.
+     */
+    void remove(UUID productId) {
+        products.remove(productId);
+    }
+
+    /**
+     * Return the last known product.
+     *
+     * @param productId the product identifier.
+     * @return the last known product or null if the product was not read recently.
+     */
+    @Nullable
+    LastKnownProduct get(UUID productId) {
+        return products.get(productId);
+    }
+
+    /**
+     * Return the number of the stored products.
+     *
+     * @return the number of the stored products.
+     */
+    int size() {
+        return products.size();
+    }
+
+    /**
+     * Product together with the moment it was read from the database.
+     *
+     * @param product the product.
+     * @param readAt  the moment the product was read.
+     */
+    record LastKnownProduct(Product product, Instant readAt) {
+    }
+}
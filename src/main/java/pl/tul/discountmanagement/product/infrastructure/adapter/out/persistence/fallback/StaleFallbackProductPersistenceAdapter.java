@@ -0,0 +1,159 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.out.persistence.fallback;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Primary;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import pl.tul.discountmanagement.product.application.port.out.persistence.ProductPersistencePort;
+import pl.tul.discountmanagement.product.domain.model.Product;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.config.InMemoryCatalogProperties;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.persistence.ProductPersistenceAdapter;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.persistence.fallback.config.StaleFallbackProperties;
+import pl.tul.discountmanagement.shared.infrastructure.circuit.CircuitBreaker;
+import pl.tul.discountmanagement.shared.infrastructure.circuit.CircuitBreakerOpenException;
+import pl.tul.discountmanagement.shared.infrastructure.deadline.Deadline;
+import pl.tul.discountmanagement.shared.infrastructure.deadline.DeadlineContext;
+import pl.tul.discountmanagement.shared.infrastructure.deadline.DeadlineExceededException;
+import pl.tul.discountmanagement.shared.infrastructure.stale.StaleResponseContext;
+
+import java.sql.SQLTransientConnectionException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * Adapter decorating {@link ProductPersistenceAdapter} with serving the last known products while the database is unavailable.
+ * Every product read successfully is kept in {@link LastKnownProductStore}. When a product read fails because the database
+ * is unreachable or does not answer in time, the last known product is served instead and the request is marked as stale,
+ * see {@link StaleResponseContext}. Reads are guarded by a {@link CircuitBreaker}, so while the database is down
+ * the products are served from the store without waiting for the database at all, and a single probe read checks
+ * periodically whether the database is back. Reads failed because the deadline of the request expired are not counted
+ * by the breaker - a client sending a tiny timeout must not open it for everyone. Stale serves are counted in the 'product.stale.served' metric, tagged with
+ * the reason, and the number of the last known products is exposed as the 'product.last.known' metric.
+ * Class is injected into Spring application context if and only if 'stale-fallback.enabled' property is set to 'true'
+ * and 'in-memory-catalog.enabled' property is not - the in-memory catalog keeps serving products while the database
+ * is unavailable on its own.
+ */
+@Slf4j
+@Primary
+@Component
+@ConditionalOnExpression(StaleFallbackProductPersistenceAdapter.ENABLED_CONDITION)
+public class StaleFallbackProductPersistenceAdapter implements ProductPersistencePort {
+
+    static final String ENABLED_CONDITION = StaleFallbackProperties.ENABLED_PLACEHOLDER + " and !" + InMemoryCatalogProperties.ENABLED_PLACEHOLDER;
+
+    private static final String BREAKER_NAME = "product-persistence";
+    private static final String STALE_SERVED_METRIC = "product.stale.served";
+    private static final String LAST_KNOWN_METRIC = "product.last.known";
+    private static final String REASON_TAG = "reason";
+    private static final String FAILURE_REASON = "failure";
+    private static final String CIRCUIT_OPEN_REASON = "circuit-open";
+    private static final String PRODUCT_READ_FAILED_MSG = "Failed to read product with id '{}' from the database: {}";
+
+    private final ProductPersistenceAdapter productPersistenceAdapter;
+    private final LastKnownProductStore lastKnownProducts;
+    private final CircuitBreaker circuitBreaker;
+    private final Counter failureStaleServedCounter;
+    private final Counter circuitOpenStaleServedCounter;
+
+    public StaleFallbackProductPersistenceAdapter(ProductPersistenceAdapter productPersistenceAdapter,
+                                                  StaleFallbackProperties staleFallbackProperties, MeterRegistry meterRegistry) {
+        this.productPersistenceAdapter = productPersistenceAdapter;
+        this.lastKnownProducts = new LastKnownProductStore(staleFallbackProperties.getMaxProducts());
+        this.circuitBreaker = new CircuitBreaker(BREAKER_NAME, staleFallbackProperties.getFailureThreshold(),
+                staleFallbackProperties.getOpenDurationInMilliseconds(), meterRegistry);
+        this.failureStaleServedCounter = meterRegistry.counter(STALE_SERVED_METRIC, REASON_TAG, FAILURE_REASON);
+        this.circuitOpenStaleServedCounter = meterRegistry.counter(STALE_SERVED_METRIC, REASON_TAG, CIRCUIT_OPEN_REASON);
+        Gauge.builder(LAST_KNOWN_METRIC, lastKnownProducts, LastKnownProductStore::size)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Optional<Product> findById(UUID productId) {
+        if (!circuitBreaker.tryAcquirePermission(System.nanoTime())) {
+            return Optional.of(serveLastKnownProductOrThrow(productId, circuitOpenStaleServedCounter,
+                    new CircuitBreakerOpenException(Math.max(1L, circuitBreaker.getRetryAfterInSeconds(System.nanoTime())))));
+        }
+        Optional<Product> product;
+        try {
+            product = productPersistenceAdapter.findById(productId);
+        } catch (RuntimeException e) {
+            if (isCallerDeadlineExceeded(e)) {
+                // the caller gave up, which says nothing about the database
+                circuitBreaker.onIgnored(System.nanoTime());
+                throw e;
+            }
+            if (!isDatabaseUnavailable(e)) {
+                // the database answered, the failure is not a reason to open the breaker
+                circuitBreaker.onSuccess();
+                throw e;
+            }
+            circuitBreaker.onFailure(System.nanoTime());
+            log.warn(PRODUCT_READ_FAILED_MSG, productId, e.getMessage());
+            return Optional.of(serveLastKnownProductOrThrow(productId, failureStaleServedCounter, e));
+        }
+        circuitBreaker.onSuccess();
+        product.ifPresentOrElse(lastKnownProducts::put, () -> lastKnownProducts.remove(productId));
+        return product;
+    }
+
+    @Override
+    public List<Product> findAllByIds(Collection<UUID> productIds) {
+        List<Product> products = productPersistenceAdapter.findAllByIds(productIds);
+        products.forEach(lastKnownProducts::put);
+        return products;
+    }
+
+    @Override
+    public List<UUID> findProductIds(int limit) {
+        return productPersistenceAdapter.findProductIds(limit);
+    }
+
+    @Override
+    public boolean isReadWithoutDatabase(UUID productId) {
+        // an open breaker serves the products without the database until it lets the probe read through
+        return circuitBreaker.getRetryAfterInSeconds(System.nanoTime()) > 0;
+    }
+
+    private Product serveLastKnownProductOrThrow(UUID productId, Counter staleServedCounter, RuntimeException noFallbackException) {
+        LastKnownProductStore.LastKnownProduct lastKnownProduct = lastKnownProducts.get(productId);
+        if (nonNull(lastKnownProduct)) {
+            staleServedCounter.increment();
+            StaleResponseContext.markStale(lastKnownProduct.readAt());
+            return lastKnownProduct.product();
+        }
+        throw noFallbackException;
+    }
+
+    private static boolean isCallerDeadlineExceeded(RuntimeException e) {
+        DeadlineExceededException deadlineExceededException = ExceptionUtils.throwableOfType(e, DeadlineExceededException.class);
+        if (nonNull(deadlineExceededException)) {
+            // a pool which failed to connect to the database within the deadline reports the connection failure as the cause,
+            // otherwise the pool was just busy or the deadline had expired before the connection was requested
+            return !(deadlineExceededException.getCause() instanceof SQLTransientConnectionException timeoutException
+                    && nonNull(timeoutException.getCause()));
+        }
+        // e.g. a statement canceled by the query timeout derived from the deadline
+        Deadline deadline = DeadlineContext.get();
+        return nonNull(deadline) && deadline.isExpired();
+    }
+
+    private static boolean isDatabaseUnavailable(RuntimeException e) {
+        return e instanceof CannotCreateTransactionException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || nonNull(ExceptionUtils.throwableOfType(e, DeadlineExceededException.class));
+    }
+}
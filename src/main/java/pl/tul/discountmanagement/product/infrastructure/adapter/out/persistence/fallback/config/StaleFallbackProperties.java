@@ -0,0 +1,37 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.out.persistence.fallback.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import static pl.tul.discountmanagement.product.infrastructure.adapter.out.persistence.fallback.config.StaleFallbackProperties.STALE_FALLBACK_PREFIX;
+
+/**
+ * Properties of serving the last known products while the database is unavailable.
+ * Properties are configured in the {@code application.yml} files under 'stale-fallback' entry.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = STALE_FALLBACK_PREFIX)
+@Configuration
+public class StaleFallbackProperties {
+
+    public static final String STALE_FALLBACK_PREFIX = "stale-fallback";
+    public static final String ENABLED_PROPERTY = "enabled";
+    public static final String ENABLED_PLACEHOLDER = "${" + STALE_FALLBACK_PREFIX + "." + ENABLED_PROPERTY + ":false}";
+
+    private boolean enabled = true;
+    /**
+     * Maximal number of the last known products kept in memory.
+     */
+    private int maxProducts = 100_000;
+    /**
+     * Number of consecutive failed database reads opening the circuit breaker.
+     */
+    private int failureThreshold = 5;
+    /**
+     * Duration after which the open circuit breaker lets a probe read through.
+     */
+    private long openDurationInMilliseconds = 10_000L;
+}
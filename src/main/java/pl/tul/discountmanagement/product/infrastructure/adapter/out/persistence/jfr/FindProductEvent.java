@@ -0,0 +1,42 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.out.persistence.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder event emitted for each product loaded by its identifier from the persistence layer.
+ */
+@Name(FindProductEvent.NAME)
+@Label("Find Product")
+@Description("Load of a product by its identifier from the persistence layer")
+@Category({"Discount Management", "Persistence"})
+@StackTrace(false)
+public class FindProductEvent extends Event {
+
+    public static final String NAME = "pl.tul.discountmanagement.FindProduct";
+
+    @Label("Product Id")
+    public String productId;
+
+    @Label("Found")
+    @Description("Whether the product was found")
+    public boolean found;
+
+    @Label("Product Cached")
+    @Description("Whether the product was present in the second-level cache before the load, in which case it was loaded"
+            + " without querying the product table")
+    public boolean productCached;
+
+    @Label("Discounts Collection Cached")
+    @Description("Whether the quantity-based discounts collection of the product was present in the second-level cache before"
+            + " the load, which does not mean the product was loaded without querying the database")
+    public boolean discountsCollectionCached;
+
+    @Label("Tier Count")
+    @Description("Number of quantity-based discounts assigned to the product")
+    public int tierCount;
+}
@@ -0,0 +1,18 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.out.persistence.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+import pl.tul.discountmanagement.product.domain.model.ProductChange;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.persistence.entity.ProductChangeJpaEntity;
+
+/**
+ * Mapper responsible for converting between product change JPA entities and domain models.
+ * The sequence number of a change in the feed is its feed position, which follows the commit order.
+ */
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface ProductChangeJpaEntityMapper {
+
+    @Mapping(target = "sequenceNumber", source = "feedPosition")
+    ProductChange entityToDomain(ProductChangeJpaEntity entity);
+}
@@ -0,0 +1,72 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.out.persistence.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.persistence.entity.ProductChangeJpaEntity;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Spring Data JPA repository for product change feed persistence.
+ */
+@Repository
+public interface ProductChangeJpaRepository extends JpaRepository<ProductChangeJpaEntity, Long> {
+
+    @Query(value = """
+            SELECT sequence_number, product_id, changed_at, feed_position
+            FROM product_change
+            WHERE feed_position > :since
+            ORDER BY feed_position
+            LIMIT :limit""", nativeQuery = true)
+    List<ProductChangeJpaEntity> findChangesSince(@Param("since") long since, @Param("limit") int limit);
+
+    @Query(value = "SELECT COALESCE(MAX(feed_position), 0) FROM product_change", nativeQuery = true)
+    long findLastFeedPosition();
+
+    @Query(value = "SELECT pg_try_advisory_xact_lock(hashtext('product_change_publication'))", nativeQuery = true)
+    boolean tryLockPublication();
+
+    @Modifying
+    @Query(value = """
+            UPDATE product_change
+            SET feed_position = published.feed_position
+            FROM (
+                SELECT sequence_number, nextval('product_change_feed_position_seq') AS feed_position
+                FROM product_change
+                WHERE feed_position IS NULL
+                ORDER BY sequence_number
+                LIMIT :batchSize) published
+            WHERE product_change.sequence_number = published.sequence_number""", nativeQuery = true)
+    int publishChanges(@Param("batchSize") int batchSize);
+
+    @Modifying
+    @Query(value = """
+            DELETE FROM product_change
+            WHERE sequence_number IN (
+                SELECT superseded.sequence_number
+                FROM product_change superseded
+                WHERE superseded.feed_position IS NOT NULL
+                  AND EXISTS (
+                    SELECT 1 FROM product_change newer
+                    WHERE newer.product_id = superseded.product_id AND newer.feed_position > superseded.feed_position)
+                ORDER BY superseded.feed_position
+                LIMIT :batchSize)""", nativeQuery = true)
+    int deleteSupersededChanges(@Param("batchSize") int batchSize);
+
+    @Modifying
+    @Query(value = """
+            DELETE FROM product_change
+            WHERE sequence_number IN (
+                SELECT deleted.sequence_number
+                FROM product_change deleted
+                WHERE deleted.feed_position IS NOT NULL
+                  AND deleted.changed_at < :changedBefore
+                  AND NOT EXISTS (SELECT 1 FROM product WHERE product.id = deleted.product_id)
+                ORDER BY deleted.feed_position
+                LIMIT :batchSize)""", nativeQuery = true)
+    int deleteChangesOfDeletedProducts(@Param("changedBefore") Instant changedBefore, @Param("batchSize") int batchSize);
+}
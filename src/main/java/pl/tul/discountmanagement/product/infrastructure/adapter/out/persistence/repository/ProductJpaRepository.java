@@ -1,14 +1,40 @@
 package pl.tul.discountmanagement.product.infrastructure.adapter.out.persistence.repository;
 
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import pl.tul.discountmanagement.product.infrastructure.adapter.out.persistence.entity.ProductJpaEntity;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
+import static org.hibernate.jpa.SpecHints.HINT_SPEC_CACHE_RETRIEVE_MODE;
+
 /**
  * Spring Data JPA repository for product persistence.
  */
 @Repository
 public interface ProductJpaRepository extends JpaRepository<ProductJpaEntity, UUID> {
+
+    @Query("SELECT p.id FROM product p ORDER BY p.id")
+    List<UUID> findIds(Pageable pageable);
+
+    @Query("SELECT p.id FROM product p WHERE p.id > :afterId ORDER BY p.id")
+    List<UUID> findIdsAfter(@Param("afterId") UUID afterId, Pageable pageable);
+
+    /**
+     * Find products by their identifiers, reading them together with their quantity-based discounts from the database
+     * rather than the second-level cache.
+     *
+     * @param ids the product identifiers.
+     * @return the found products.
+     */
+    @Query("SELECT p FROM product p WHERE p.id IN :ids")
+    @QueryHints(@QueryHint(name = HINT_SPEC_CACHE_RETRIEVE_MODE, value = "BYPASS"))
+    List<ProductJpaEntity> findAllByIdBypassingCache(@Param("ids") Collection<UUID> ids);
 }
@@ -0,0 +1,44 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.out.tracking;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.tracking.config.HeavyHitterProperties;
+
+import static org.apache.commons.lang3.BooleanUtils.TRUE;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.out.tracking.config.HeavyHitterProperties.DECAY_INTERVAL_PLACEHOLDER;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.out.tracking.config.HeavyHitterProperties.ENABLED_PROPERTY;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.out.tracking.config.HeavyHitterProperties.HEAVY_HITTERS_PREFIX;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.out.tracking.config.HeavyHitterProperties.SNAPSHOT_INTERVAL_PLACEHOLDER;
+
+/**
+ * Periodically decays the tracked product and quantity counts and, when enabled, writes their snapshot to a local file.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = HEAVY_HITTERS_PREFIX, name = ENABLED_PROPERTY, havingValue = TRUE)
+public class HeavyHitterScheduler {
+
+    private final HeavyHitterTrackingAdapter heavyHitterTrackingAdapter;
+    private final HeavyHitterSnapshotStore heavyHitterSnapshotStore;
+    private final HeavyHitterProperties heavyHitterProperties;
+
+    /**
+     * Decay the tracked counts.
+     */
+    @Scheduled(fixedRateString = DECAY_INTERVAL_PLACEHOLDER, initialDelayString = DECAY_INTERVAL_PLACEHOLDER)
+    public void decay() {
+        heavyHitterTrackingAdapter.decay();
+    }
+
+    /**
+     * Write the snapshot of the tracked products and quantities to the configured file.
+     */
+    @Scheduled(fixedDelayString = SNAPSHOT_INTERVAL_PLACEHOLDER, initialDelayString = SNAPSHOT_INTERVAL_PLACEHOLDER)
+    public void writeSnapshot() {
+        if (heavyHitterProperties.isSnapshotEnabled()) {
+            heavyHitterSnapshotStore.write(heavyHitterTrackingAdapter.getSnapshot());
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.out.tracking;
+
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.tracking.sketch.HeavyHitter;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Snapshot of the most frequently requested products and quantities.
+ *
+ * @param takenAt moment the snapshot was taken.
+ * @param products the most frequently looked up products, most frequent first.
+ * @param quantities the most frequently requested quantities in price calculations, most frequent first.
+ */
+public record HeavyHitterSnapshot(Instant takenAt, List<HeavyHitter<UUID>> products, List<HeavyHitter<Integer>> quantities) {
+}
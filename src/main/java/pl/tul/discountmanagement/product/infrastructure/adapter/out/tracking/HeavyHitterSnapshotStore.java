@@ -0,0 +1,86 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.out.tracking;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import pl.tul.discountmanagement.product.application.port.out.tracking.HotProductsPort;
+import pl.tul.discountmanagement.product.domain.model.HotProducts;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.tracking.config.HeavyHitterProperties;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.tracking.sketch.HeavyHitter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * Store of the hot products snapshot in a local file, implementing the hot products port with the snapshot read from it.
+ * The snapshot is written to a temporary file first and then moved in place, so readers never observe a partial file.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HeavyHitterSnapshotStore implements HotProductsPort {
+
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    private static final String SNAPSHOT_WRITE_FAILED_MSG = "Failed to write hot products snapshot to '{}'.";
+    private static final String SNAPSHOT_READ_FAILED_MSG = "Failed to read hot products snapshot from '{}'.";
+
+    private final HeavyHitterProperties heavyHitterProperties;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Write given snapshot to the configured file.
+     *
+     * @param snapshot the snapshot.
+     */
+    public void write(HeavyHitterSnapshot snapshot) {
+        Path snapshotPath = getSnapshotPath();
+        try {
+            Path parent = snapshotPath.getParent();
+            if (nonNull(parent)) {
+                Files.createDirectories(parent);
+            }
+            Path temporaryPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + TEMPORARY_FILE_SUFFIX);
+            objectMapper.writeValue(temporaryPath.toFile(), snapshot);
+            Files.move(temporaryPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.error(SNAPSHOT_WRITE_FAILED_MSG, snapshotPath, e);
+        }
+    }
+
+    /**
+     * Read the snapshot from the configured file, e.g. the one written by the previous application run.
+     *
+     * @return the snapshot, or empty when the file does not exist or cannot be read.
+     */
+    public Optional<HeavyHitterSnapshot> read() {
+        Path snapshotPath = getSnapshotPath();
+        if (!Files.isRegularFile(snapshotPath)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(snapshotPath.toFile(), HeavyHitterSnapshot.class));
+        } catch (IOException e) {
+            log.warn(SNAPSHOT_READ_FAILED_MSG, snapshotPath, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<HotProducts> findRecordedHotProducts() {
+        return read().map(snapshot -> new HotProducts(snapshot.products().stream().map(HeavyHitter::key).toList(),
+                snapshot.quantities().stream().map(HeavyHitter::key).toList()));
+    }
+
+    private Path getSnapshotPath() {
+        return Path.of(heavyHitterProperties.getSnapshotPath()).toAbsolutePath();
+    }
+}
@@ -0,0 +1,72 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.out.tracking;
+
+import org.springframework.stereotype.Component;
+import pl.tul.discountmanagement.product.application.port.out.tracking.ProductLookupTrackingPort;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.tracking.config.HeavyHitterProperties;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.tracking.sketch.CountMinSketch;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.tracking.sketch.HeavyHitterTracker;
+import pl.tul.discountmanagement.shared.infrastructure.tracking.LookupTrackingContext;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Adapter implementing the product lookup tracking port with Count-Min sketch backed heavy-hitter trackers.
+ * Tracks the most frequently requested product ids and the most frequently requested quantities in fixed memory.
+ * Lookups of the threads with suppressed tracking (see {@link LookupTrackingContext}) are ignored.
+ */
+@Component
+public class HeavyHitterTrackingAdapter implements ProductLookupTrackingPort {
+
+    private final boolean enabled;
+    private final HeavyHitterTracker<UUID> productTracker;
+    private final HeavyHitterTracker<Integer> quantityTracker;
+
+    public HeavyHitterTrackingAdapter(HeavyHitterProperties properties) {
+        this.enabled = properties.isEnabled();
+        this.productTracker = new HeavyHitterTracker<>(properties.getSketchDepth(), properties.getSketchWidth(),
+                properties.getTopProductCount(),
+                productId -> CountMinSketch.hash(productId.getMostSignificantBits() ^ CountMinSketch.hash(productId.getLeastSignificantBits())));
+        this.quantityTracker = new HeavyHitterTracker<>(properties.getSketchDepth(), properties.getSketchWidth(),
+                properties.getTopQuantityCount(), quantity -> CountMinSketch.hash(quantity));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordProductLookup(UUID productId) {
+        if (enabled && !LookupTrackingContext.isSuppressed()) {
+            productTracker.record(productId);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordPriceCalculation(UUID productId, int productQuantity) {
+        if (enabled && !LookupTrackingContext.isSuppressed()) {
+            productTracker.record(productId);
+            // boxes the quantity only when it is admitted to the tracked quantities
+            quantityTracker.record(productQuantity, Integer::valueOf);
+        }
+    }
+
+    /**
+     * Return the most frequently requested products and quantities.
+     *
+     * @return the snapshot of the tracked products and quantities.
+     */
+    public HeavyHitterSnapshot getSnapshot() {
+        return new HeavyHitterSnapshot(Instant.now(), productTracker.getHeavyHitters(), quantityTracker.getHeavyHitters());
+    }
+
+    /**
+     * Decay the tracked counts, so that the trackers reflect recent traffic.
+     */
+    public void decay() {
+        productTracker.decay();
+        quantityTracker.decay();
+    }
+}
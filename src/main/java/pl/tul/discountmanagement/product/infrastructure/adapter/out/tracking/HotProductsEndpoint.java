@@ -0,0 +1,35 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.out.tracking;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import static org.apache.commons.lang3.BooleanUtils.TRUE;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.out.tracking.config.HeavyHitterProperties.ENABLED_PROPERTY;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.out.tracking.config.HeavyHitterProperties.HEAVY_HITTERS_PREFIX;
+
+/**
+ * Actuator endpoint exposing the most frequently requested products and quantities under '/actuator/hotproducts'.
+ */
+@Component
+@Endpoint(id = HotProductsEndpoint.ENDPOINT_ID)
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = HEAVY_HITTERS_PREFIX, name = ENABLED_PROPERTY, havingValue = TRUE)
+public class HotProductsEndpoint {
+
+    public static final String ENDPOINT_ID = "hotproducts";
+
+    private final HeavyHitterTrackingAdapter heavyHitterTrackingAdapter;
+
+    /**
+     * Return the most frequently requested products and quantities.
+     *
+     * @return the snapshot of the tracked products and quantities.
+     */
+    @ReadOperation
+    public HeavyHitterSnapshot hotProducts() {
+        return heavyHitterTrackingAdapter.getSnapshot();
+    }
+}
@@ -0,0 +1,34 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.out.tracking.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import static pl.tul.discountmanagement.product.infrastructure.adapter.out.tracking.config.HeavyHitterProperties.HEAVY_HITTERS_PREFIX;
+
+/**
+ * Properties of the hot products and quantities tracking.
+ * Properties are configured in the {@code application.yml} files under 'heavy-hitters' entry.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = HEAVY_HITTERS_PREFIX)
+@Configuration
+public class HeavyHitterProperties {
+
+    public static final String HEAVY_HITTERS_PREFIX = "heavy-hitters";
+    public static final String ENABLED_PROPERTY = "enabled";
+    public static final String DECAY_INTERVAL_PLACEHOLDER = "${" + HEAVY_HITTERS_PREFIX + ".decay-interval-in-milliseconds:60000}";
+    public static final String SNAPSHOT_INTERVAL_PLACEHOLDER = "${" + HEAVY_HITTERS_PREFIX + ".snapshot-interval-in-milliseconds:60000}";
+
+    private boolean enabled = true;
+    private int sketchDepth = 4;
+    private int sketchWidth = 4096;
+    private int topProductCount = 100;
+    private int topQuantityCount = 20;
+    private long decayIntervalInMilliseconds = 60000L;
+    private boolean snapshotEnabled = false;
+    private long snapshotIntervalInMilliseconds = 60000L;
+    private String snapshotPath = "heavy-hitters.json";
+}
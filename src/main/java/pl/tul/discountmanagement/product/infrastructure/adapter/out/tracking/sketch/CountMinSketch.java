@@ -0,0 +1,83 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.out.tracking.sketch;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free Count-Min sketch estimating the frequencies of hashed keys in a fixed amount of memory.
+ * Each of the 'depth' rows holds 'width' counters, an increment touches one counter per row and the estimate is the minimum
+ * of those counters. The estimate never undercounts, while the overcount is bounded by roughly 'e / width' of all the
+ * increments with probability '1 - exp(-depth)'.
+ */
+public class CountMinSketch {
+
+    private static final String INVALID_DIMENSIONS_MSG = "Sketch depth must be positive and width must be a power of two, got depth '%d' and width '%d'.";
+
+    private final int depth;
+    private final int width;
+    private final AtomicLongArray counters;
+
+    public CountMinSketch(int depth, int width) {
+        if (depth <= 0 || width <= 0 || Integer.bitCount(width) != 1) {
+            throw new IllegalArgumentException(INVALID_DIMENSIONS_MSG.formatted(depth, width));
+        }
+        this.depth = depth;
+        this.width = width;
+        this.counters = new AtomicLongArray(depth * width);
+    }
+
+    /**
+     * Increment the counters of given hash.
+     *
+     * @param hash the 64-bit hash of a key.
+     * @return the frequency estimate of the key, including this increment.
+     */
+    public long increment(long hash) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.incrementAndGet(index(hash, row)));
+        }
+        return estimate;
+    }
+
+    /**
+     * Return the frequency estimate of given hash.
+     *
+     * @param hash the 64-bit hash of a key.
+     * @return the frequency estimate of the key.
+     */
+    public long estimate(long hash) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.get(index(hash, row)));
+        }
+        return estimate;
+    }
+
+    /**
+     * Halve all the counters, so that the estimates reflect recent increments rather than the whole history.
+     * Concurrent increments are not lost, although they may be halved as well.
+     */
+    public void halve() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.getAndUpdate(i, counter -> counter >>> 1);
+        }
+    }
+
+    /**
+     * Mix the bits of given value, so that similar values result in unrelated hashes (SplitMix64 finalizer).
+     *
+     * @param value the value.
+     * @return the 64-bit hash.
+     */
+    public static long hash(long value) {
+        long mixed = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        mixed = (mixed ^ (mixed >>> 27)) * 0x94D049BB133111EBL;
+        return mixed ^ (mixed >>> 31);
+    }
+
+    private int index(long hash, int row) {
+        // double hashing: the row hashes are derived from the two halves of the 64-bit hash
+        int column = ((int) hash + row * ((int) (hash >>> 32) | 1)) & (width - 1);
+        return row * width + column;
+    }
+}
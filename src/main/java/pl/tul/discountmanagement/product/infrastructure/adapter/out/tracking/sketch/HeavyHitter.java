@@ -0,0 +1,11 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.out.tracking.sketch;
+
+/**
+ * A frequently observed key together with its estimated, decayed count.
+ *
+ * @param key the key.
+ * @param estimatedCount the estimated count.
+ * @param <K> the key type.
+ */
+public record HeavyHitter<K>(K key, long estimatedCount) {
+}
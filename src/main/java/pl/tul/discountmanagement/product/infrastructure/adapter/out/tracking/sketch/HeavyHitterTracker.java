@@ -0,0 +1,132 @@
+package pl.tul.discountmanagement.product.infrastructure.adapter.out.tracking.sketch;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
+import java.util.function.ToLongFunction;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Lock-free tracker of the top-K most frequent keys, backed by a {@link CountMinSketch}.
+ * Every observation increments the sketch, and keys whose estimate exceeds the smallest tracked count replace the least
+ * frequent tracked key (Space-Saving admission). Memory usage is fixed by the sketch dimensions and 'K', no matter how many
+ * distinct keys are observed. Updates racing with each other may be lost, which only affects the accuracy of the estimates.
+ *
+ * @param <K> the key type.
+ */
+public class HeavyHitterTracker<K> {
+
+    private final CountMinSketch sketch;
+    private final AtomicReferenceArray<HeavyHitter<K>> heavyHitters;
+    private final ToLongFunction<K> hashFunction;
+    private volatile long admissionThreshold;
+
+    public HeavyHitterTracker(int sketchDepth, int sketchWidth, int capacity, ToLongFunction<K> hashFunction) {
+        this.sketch = new CountMinSketch(sketchDepth, sketchWidth);
+        this.heavyHitters = new AtomicReferenceArray<>(capacity);
+        this.hashFunction = hashFunction;
+    }
+
+    /**
+     * Record an observation of given key.
+     *
+     * @param key the key.
+     */
+    public void record(K key) {
+        long estimate = sketch.increment(hashFunction.applyAsLong(key));
+        if (estimate > admissionThreshold) {
+            admit(key, estimate);
+        }
+    }
+
+    /**
+     * Record an observation of given int key, creating the tracked key only when it is admitted, so that a stream
+     * of primitive keys is recorded without boxing them. The key is hashed with {@link CountMinSketch#hash}, the same way
+     * as by a tracker created with it as the hash function.
+     *
+     * @param key         the key.
+     * @param keyFunction function creating the tracked key of the int key.
+     */
+    public void record(int key, IntFunction<K> keyFunction) {
+        long estimate = sketch.increment(CountMinSketch.hash(key));
+        if (estimate > admissionThreshold) {
+            admit(keyFunction.apply(key), estimate);
+        }
+    }
+
+    /**
+     * Return the tracked keys ordered by their estimated counts, most frequent first.
+     *
+     * @return the tracked keys.
+     */
+    public List<HeavyHitter<K>> getHeavyHitters() {
+        Map<K, HeavyHitter<K>> heavyHittersByKey = new HashMap<>();
+        for (int i = 0; i < heavyHitters.length(); i++) {
+            HeavyHitter<K> heavyHitter = heavyHitters.get(i);
+            if (!isNull(heavyHitter)) {
+                heavyHittersByKey.merge(heavyHitter.key(), heavyHitter,
+                        (first, second) -> first.estimatedCount() >= second.estimatedCount() ? first : second);
+            }
+        }
+        List<HeavyHitter<K>> sortedHeavyHitters = new ArrayList<>(heavyHittersByKey.values());
+        sortedHeavyHitters.sort(Comparator.comparingLong(HeavyHitter<K>::estimatedCount).reversed());
+        return sortedHeavyHitters;
+    }
+
+    /**
+     * Halve the sketch counters and the tracked counts, so that the tracker reflects recent observations.
+     * Keys whose count drops to zero stop being tracked, and the admission threshold drops to the smallest tracked count,
+     * or to zero once a slot is free, so that new keys are admitted to the freed slots right away.
+     */
+    public void decay() {
+        sketch.halve();
+        long minCount = Long.MAX_VALUE;
+        for (int i = 0; i < heavyHitters.length(); i++) {
+            HeavyHitter<K> heavyHitter = heavyHitters.get(i);
+            long decayedCount = isNull(heavyHitter) ? 0 : heavyHitter.estimatedCount() >>> 1;
+            if (!isNull(heavyHitter)) {
+                heavyHitters.compareAndSet(i, heavyHitter, decayedCount > 0 ? new HeavyHitter<>(heavyHitter.key(), decayedCount) : null);
+            }
+            minCount = Math.min(minCount, decayedCount);
+        }
+        admissionThreshold = heavyHitters.length() == 0 ? 0 : minCount;
+    }
+
+    private void admit(K key, long estimate) {
+        int minIndex = -1;
+        HeavyHitter<K> minHeavyHitter = null;
+        long minCount = Long.MAX_VALUE;
+        for (int i = 0; i < heavyHitters.length(); i++) {
+            HeavyHitter<K> heavyHitter = heavyHitters.get(i);
+            if (isNull(heavyHitter)) {
+                if (minCount > 0) {
+                    minIndex = i;
+                    minHeavyHitter = null;
+                    minCount = 0;
+                }
+                continue;
+            }
+            if (heavyHitter.key().equals(key)) {
+                if (estimate > heavyHitter.estimatedCount()) {
+                    heavyHitters.compareAndSet(i, heavyHitter, new HeavyHitter<>(key, estimate));
+                }
+                return;
+            }
+            if (heavyHitter.estimatedCount() < minCount) {
+                minIndex = i;
+                minHeavyHitter = heavyHitter;
+                minCount = heavyHitter.estimatedCount();
+            }
+        }
+        if (minIndex >= 0 && estimate > minCount
+                && heavyHitters.compareAndSet(minIndex, minHeavyHitter, new HeavyHitter<>(key, estimate))) {
+            // the table is full from now on, so only keys more frequent than the evicted one are worth a scan
+            admissionThreshold = minCount;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package pl.tul.discountmanagement.shared.infrastructure.circuit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free circuit breaker guarding calls to a resource which may become unavailable, e.g. the database.
+ * The breaker opens after the given number of consecutive failed calls and rejects the calls instantly while open,
+ * so a dead resource is not hammered with calls that are bound to fail. Once the open duration elapses, the breaker becomes
+ * half-open and lets a single probe call through - the probe closes the breaker on success and opens it again on failure.
+ * The state is exposed as the 'circuit.breaker.state' metric (0 - closed, 1 - open, 2 - half-open) and the rejected calls
+ * are counted in the 'circuit.breaker.rejected' metric, both tagged with the breaker name.
+ */
+public class CircuitBreaker {
+
+    private static final String STATE_METRIC = "circuit.breaker.state";
+    private static final String REJECTED_METRIC = "circuit.breaker.rejected";
+    private static final String BREAKER_TAG = "breaker";
+    private static final String INVALID_FAILURE_THRESHOLD_MSG = "Failure threshold must be positive, was: %d";
+
+    /**
+     * State of the breaker.
+     */
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openDurationInNanoseconds;
+    private final AtomicReference<Transition> transition;
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final Counter rejectedCounter;
+
+    /**
+     * Create a closed breaker.
+     *
+     * @param name                       name of the breaker, used as the metrics tag.
+     * @param failureThreshold           number of consecutive failed calls opening the breaker.
+     * @param openDurationInMilliseconds duration after which an open breaker lets a probe call through.
+     * @param meterRegistry              the meter registry.
+     */
+    public CircuitBreaker(String name, int failureThreshold, long openDurationInMilliseconds, MeterRegistry meterRegistry) {
+        if (failureThreshold <= 0) {
+            throw new IllegalArgumentException(INVALID_FAILURE_THRESHOLD_MSG.formatted(failureThreshold));
+        }
+        this.failureThreshold = failureThreshold;
+        this.openDurationInNanoseconds = TimeUnit.MILLISECONDS.toNanos(openDurationInMilliseconds);
+        this.transition = new AtomicReference<>(new Transition(State.CLOSED, 0L));
+        this.rejectedCounter = meterRegistry.counter(REJECTED_METRIC, BREAKER_TAG, name);
+        Gauge.builder(STATE_METRIC, this, breaker -> breaker.getState().ordinal())
+                .tag(BREAKER_TAG, name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Try to start a call, never blocks.
+     *
+     * @param nowInNanoseconds the current {@link System#nanoTime()}.
+     * @return true if the call may proceed and must be followed by {@link #onSuccess()}, {@link #onFailure(long)}
+     * or {@link #onIgnored(long)},
+     * false if the breaker is open (or half-open with the probe in flight) and the call must be rejected.
+     */
+    public boolean tryAcquirePermission(long nowInNanoseconds) {
+        while (true) {
+            Transition current = transition.get();
+            if (current.state() == State.CLOSED) {
+                return true;
+            }
+            if (current.state() == State.HALF_OPEN || nowInNanoseconds - current.at() < openDurationInNanoseconds) {
+                rejectedCounter.increment();
+                return false;
+            }
+            // the open duration elapsed, the thread which wins the transition to half-open becomes the probe
+            if (transition.compareAndSet(current, new Transition(State.HALF_OPEN, nowInNanoseconds))) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Record a successful call, closing the breaker if the call was the probe.
+     */
+    public void onSuccess() {
+        consecutiveFailures.set(0);
+        Transition current = transition.get();
+        if (current.state() == State.HALF_OPEN) {
+            transition.compareAndSet(current, new Transition(State.CLOSED, 0L));
+        }
+    }
+
+    /**
+     * Record a failed call, opening the breaker if the call was the probe or the failure threshold is reached.
+     *
+     * @param nowInNanoseconds the current {@link System#nanoTime()}.
+     */
+    public void onFailure(long nowInNanoseconds) {
+        Transition current = transition.get();
+        if (current.state() == State.HALF_OPEN
+                || (current.state() == State.CLOSED && consecutiveFailures.incrementAndGet() >= failureThreshold)) {
+            if (transition.compareAndSet(current, new Transition(State.OPEN, nowInNanoseconds))) {
+                consecutiveFailures.set(0);
+            }
+        }
+    }
+
+    /**
+     * Record a call the outcome of which says nothing about the resource, e.g. a call abandoned by its caller.
+     * Consecutive failures are neither reset nor increased. If the call was the probe, the breaker becomes open with the open
+     * duration already elapsed, so the next call becomes the probe.
+     *
+     * @param nowInNanoseconds the current {@link System#nanoTime()}.
+     */
+    public void onIgnored(long nowInNanoseconds) {
+        Transition current = transition.get();
+        if (current.state() == State.HALF_OPEN) {
+            transition.compareAndSet(current, new Transition(State.OPEN, nowInNanoseconds - openDurationInNanoseconds));
+        }
+    }
+
+    /**
+     * Return the current state of the breaker.
+     *
+     * @return the state.
+     */
+    public State getState() {
+        return transition.get().state();
+    }
+
+    /**
+     * Return the number of seconds after which an open breaker lets a probe call through.
+     *
+     * @param nowInNanoseconds the current {@link System#nanoTime()}.
+     * @return the number of seconds, 0 if the breaker is not open.
+     */
+    public long getRetryAfterInSeconds(long nowInNanoseconds) {
+        Transition current = transition.get();
+        if (current.state() != State.OPEN) {
+            return 0L;
+        }
+        long remainingInNanoseconds = Math.max(0L, current.at() + openDurationInNanoseconds - nowInNanoseconds);
+        return TimeUnit.NANOSECONDS.toSeconds(remainingInNanoseconds + TimeUnit.SECONDS.toNanos(1) - 1);
+    }
+
+    /**
+     * State of the breaker together with the moment it was entered, swapped atomically as a whole.
+     */
+    private record Transition(State state, long at) {
+    }
+}
@@ -0,0 +1,34 @@
+package pl.tul.discountmanagement.shared.infrastructure.circuit;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * {@link ResponseStatusException} indicating that the call was rejected, as the circuit breaker guarding the resource is open
+ * and there is no fallback value to serve.
+ * Results in the '503 Service Unavailable' response with the 'Retry-After' header.
+ */
+public class CircuitBreakerOpenException extends ResponseStatusException {
+    private static final String MESSAGE = "Service temporarily unavailable, retry later";
+
+    private final long retryAfterInSeconds;
+
+    public CircuitBreakerOpenException(long retryAfterInSeconds) {
+        super(HttpStatus.SERVICE_UNAVAILABLE, MESSAGE);
+        this.retryAfterInSeconds = retryAfterInSeconds;
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterInSeconds));
+        return headers;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        // calls are rejected instantly while the breaker is open, so the rejection has to be cheap
+        return this;
+    }
+}
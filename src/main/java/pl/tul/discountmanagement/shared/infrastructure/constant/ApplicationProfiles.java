@@ -10,4 +10,6 @@ import lombok.NoArgsConstructor;
 public final class ApplicationProfiles {
     public static final String DEV_MODE_PROFILE = "dev";
     public static final String INTEGRATION_TEST_PROFILE = "integration-test";
+    public static final String LOAD_TEST_PROFILE = "load-test";
+    public static final String MIGRATION_PROFILE = "migration";
 }
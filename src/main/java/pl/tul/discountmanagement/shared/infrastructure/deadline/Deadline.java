@@ -0,0 +1,40 @@
+package pl.tul.discountmanagement.shared.infrastructure.deadline;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Point in time by which the request has to be handled, expressed in {@link System#nanoTime()} units,
+ * so that it is not affected by wall-clock adjustments.
+ *
+ * @param expiresAtInNanoseconds value of {@link System#nanoTime()} at which the deadline expires.
+ */
+public record Deadline(long expiresAtInNanoseconds) {
+
+    /**
+     * Create a deadline expiring after given time budget.
+     *
+     * @param timeoutInMilliseconds the time budget.
+     * @return the deadline.
+     */
+    public static Deadline after(long timeoutInMilliseconds) {
+        return new Deadline(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutInMilliseconds));
+    }
+
+    /**
+     * Return the time left until the deadline expires.
+     *
+     * @return the time left in milliseconds, zero or negative if the deadline has already expired.
+     */
+    public long getRemainingMilliseconds() {
+        return TimeUnit.NANOSECONDS.toMillis(expiresAtInNanoseconds - System.nanoTime());
+    }
+
+    /**
+     * Return boolean indicating whether the deadline has already expired.
+     *
+     * @return boolean indicating whether the deadline has already expired.
+     */
+    public boolean isExpired() {
+        return expiresAtInNanoseconds - System.nanoTime() <= 0;
+    }
+}
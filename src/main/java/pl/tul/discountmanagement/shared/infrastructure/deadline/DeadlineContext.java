@@ -0,0 +1,42 @@
+package pl.tul.discountmanagement.shared.infrastructure.deadline;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * Holder of the {@link Deadline} of the request handled by the current thread.
+ * The deadline is set when the request arrives and read wherever the request may wait - e.g. when acquiring a database
+ * connection or executing a statement - so the waits never outlast the time the client is willing to wait.
+ */
+public final class DeadlineContext {
+
+    private static final ThreadLocal<Deadline> CURRENT_DEADLINE = new ThreadLocal<>();
+
+    private DeadlineContext() {
+    }
+
+    /**
+     * Return the deadline of the request handled by the current thread.
+     *
+     * @return the deadline or null if the current thread does not handle a request with a deadline.
+     */
+    @Nullable
+    public static Deadline get() {
+        return CURRENT_DEADLINE.get();
+    }
+
+    /**
+     * Set the deadline of the request handled by the current thread.
+     *
+     * @param deadline the deadline.
+     */
+    public static void set(Deadline deadline) {
+        CURRENT_DEADLINE.set(deadline);
+    }
+
+    /**
+     * Clear the deadline once the current thread finished handling the request.
+     */
+    public static void clear() {
+        CURRENT_DEADLINE.remove();
+    }
+}
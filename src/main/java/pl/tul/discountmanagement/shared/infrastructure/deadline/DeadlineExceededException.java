@@ -0,0 +1,20 @@
+package pl.tul.discountmanagement.shared.infrastructure.deadline;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * {@link ResponseStatusException} indicating that the deadline of the request expired before the request was handled.
+ * Results in the '504 Gateway Timeout' response.
+ */
+public class DeadlineExceededException extends ResponseStatusException {
+    private static final String MESSAGE = "Request deadline exceeded";
+
+    public DeadlineExceededException() {
+        super(HttpStatus.GATEWAY_TIMEOUT, MESSAGE);
+    }
+
+    public DeadlineExceededException(Throwable cause) {
+        super(HttpStatus.GATEWAY_TIMEOUT, MESSAGE, cause);
+    }
+}
@@ -0,0 +1,31 @@
+package pl.tul.discountmanagement.shared.infrastructure.deadline;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Metrics of the expired request deadlines.
+ * Expirations are counted in the 'request.deadline.expired' metric, tagged with the stage at which the expiration was detected.
+ */
+public final class DeadlineMetrics {
+
+    public static final String ARRIVAL_STAGE = "arrival";
+    public static final String CONNECTION_STAGE = "connection";
+    public static final String QUERY_STAGE = "query";
+    private static final String EXPIRED_METRIC = "request.deadline.expired";
+    private static final String STAGE_TAG = "stage";
+
+    private DeadlineMetrics() {
+    }
+
+    /**
+     * Return the counter of the deadlines expired at given stage.
+     *
+     * @param meterRegistry the meter registry.
+     * @param stage         the stage at which the expiration is detected.
+     * @return the counter.
+     */
+    public static Counter expiredCounter(MeterRegistry meterRegistry, String stage) {
+        return meterRegistry.counter(EXPIRED_METRIC, STAGE_TAG, stage);
+    }
+}
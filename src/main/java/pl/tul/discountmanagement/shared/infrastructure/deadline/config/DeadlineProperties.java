@@ -0,0 +1,36 @@
+package pl.tul.discountmanagement.shared.infrastructure.deadline.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import static pl.tul.discountmanagement.shared.infrastructure.deadline.config.DeadlineProperties.REQUEST_DEADLINE_PREFIX;
+
+/**
+ * Properties of the request deadline propagation.
+ * Properties are configured in the {@code application.yml} files under 'request-deadline' entry.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = REQUEST_DEADLINE_PREFIX)
+@Configuration
+public class DeadlineProperties {
+
+    public static final String REQUEST_DEADLINE_PREFIX = "request-deadline";
+    public static final String ENABLED_PROPERTY = "enabled";
+
+    private boolean enabled = true;
+    /**
+     * Name of the header carrying the time budget of the request in milliseconds.
+     */
+    private String headerName = "X-Request-Timeout";
+    /**
+     * Time budget of the requests without the header.
+     */
+    private long defaultTimeoutInMilliseconds = 5000L;
+    /**
+     * Upper bound of the time budget requested via the header.
+     */
+    private long maxTimeoutInMilliseconds = 30000L;
+}
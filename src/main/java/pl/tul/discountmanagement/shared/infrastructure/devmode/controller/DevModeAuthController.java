@@ -37,7 +37,7 @@ public class DevModeAuthController {
      * Handler for reading JSON Web Key Set to validate incoming JWT tokens.
      */
     @GetMapping(value = JWKS_URL, produces = MediaType.APPLICATION_JSON_VALUE)
-    public String getJwks() {
+    public String getJwks() throws JOSEException {
         return devModeAuthService.getJwksResponse();
     }
 
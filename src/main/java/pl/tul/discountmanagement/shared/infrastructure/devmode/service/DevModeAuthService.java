@@ -11,7 +11,6 @@ import com.nimbusds.jose.jwk.RSAKey;
 import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
-import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.security.oauth2.resource.OAuth2ResourceServerProperties;
@@ -25,17 +24,21 @@ import java.util.Date;
 import java.util.Map;
 import java.util.Set;
 
+import static java.util.Objects.isNull;
 import static org.apache.commons.lang3.BooleanUtils.TRUE;
 import static pl.tul.discountmanagement.shared.infrastructure.devmode.config.DevModeProperties.DEV_MODE_PREFIX;
 import static pl.tul.discountmanagement.shared.infrastructure.devmode.config.DevModeProperties.MOCK_AUTH_ENABLED_PROPERTY;
 import static pl.tul.discountmanagement.shared.infrastructure.security.constant.Permissions.READ_PRICE_PERMISSION;
 import static pl.tul.discountmanagement.shared.infrastructure.security.constant.Permissions.READ_PRODUCT_PERMISSION;
+import static pl.tul.discountmanagement.shared.infrastructure.security.constant.Permissions.WRITE_PRODUCT_PERMISSION;
 import static pl.tul.discountmanagement.shared.infrastructure.security.constant.TokenStructure.*;
 
 /**
  * Class serving as mocked authorization server service to be used when the dev-mode is enabled.
  * Class is injected into Spring application context if and only if 'dev-mode.mock-auth-enabled' property is set to 'true'.
  * Resulting JWT token structure can be configured via {@link DevModeProperties}.
+ * The RSA key pair is generated on the first token or JSON Web Key Set request rather than during the application startup,
+ * as generating the key is one of the most expensive steps of the dev-mode startup.
  */
 @ConditionalOnProperty(prefix = DEV_MODE_PREFIX, name = MOCK_AUTH_ENABLED_PROPERTY, havingValue = TRUE)
 @Service
@@ -49,18 +52,25 @@ public class DevModeAuthService {
     private final OAuth2ResourceServerProperties oAuth2ResourceServerProperties;
     private final DevModeProperties devModeProperties;
 
-    private RSAKey rsaKey;
-    private String publicJwksJson;
+    private final Object rsaKeyLock = new Object();
+    private volatile RSAKey rsaKey;
 
-    @PostConstruct
-    private void generateRsaKeyPair() throws JOSEException {
-        rsaKey = new RSAKeyGenerator(2048)
-                .keyUse(KeyUse.SIGNATURE)
-                .algorithm(new Algorithm(SIGNING_ALGORITHM))
-                .keyID(RSA_KEY_ID)
-                .generate();
-        RSAKey rsaPublicJWK = rsaKey.toPublicJWK();
-        publicJwksJson = rsaPublicJWK.toJSONString();
+    private RSAKey getRsaKey() throws JOSEException {
+        RSAKey currentRsaKey = rsaKey;
+        if (isNull(currentRsaKey)) {
+            synchronized (rsaKeyLock) {
+                currentRsaKey = rsaKey;
+                if (isNull(currentRsaKey)) {
+                    currentRsaKey = new RSAKeyGenerator(2048)
+                            .keyUse(KeyUse.SIGNATURE)
+                            .algorithm(new Algorithm(SIGNING_ALGORITHM))
+                            .keyID(RSA_KEY_ID)
+                            .generate();
+                    rsaKey = currentRsaKey;
+                }
+            }
+        }
+        return currentRsaKey;
     }
 
     /**
@@ -81,21 +91,23 @@ public class DevModeAuthService {
      * Return JSON Web Key Set to validate incoming JWT tokens.
      *
      * @return JSON Web Key Set to validate incoming JWT tokens.
+     * @throws JOSEException in case of RSA key pair generation failure.
      */
-    public String getJwksResponse() {
-        return JWKS_RESPONSE_FORMAT.formatted(publicJwksJson);
+    public String getJwksResponse() throws JOSEException {
+        return JWKS_RESPONSE_FORMAT.formatted(getRsaKey().toPublicJWK().toJSONString());
     }
 
     private String generateToken() throws JOSEException {
         Instant expiration = Instant.now().plus(devModeProperties.getMockAuthTokenTimeoutInSeconds(), ChronoUnit.SECONDS);
-        RSASSASigner signer = new RSASSASigner(rsaKey);
+        RSAKey signingKey = getRsaKey();
+        RSASSASigner signer = new RSASSASigner(signingKey);
         JWTClaimsSet.Builder claimsBuilder = new JWTClaimsSet.Builder()
                 .expirationTime(Date.from(expiration))
                 .issuer(oAuth2ResourceServerProperties.getJwt().getIssuerUri());
         Map<String, Object> claims = getClaims();
         claims.forEach(claimsBuilder::claim);
         SignedJWT signedJWT = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256)
-                .keyID(rsaKey.getKeyID()).type(new JOSEObjectType(TOKEN_TYPE)).build(), claimsBuilder.build());
+                .keyID(signingKey.getKeyID()).type(new JOSEObjectType(TOKEN_TYPE)).build(), claimsBuilder.build());
         signedJWT.sign(signer);
         return signedJWT.serialize();
     }
@@ -103,7 +115,7 @@ public class DevModeAuthService {
     private Map<String, Object> getClaims() {
         return Map.of(
                 USER_ID_CLAIM, devModeProperties.getMockAuthUserId(),
-                SCOPES_CLAIM, Set.of(READ_PRODUCT_PERMISSION, READ_PRICE_PERMISSION)
+                SCOPES_CLAIM, Set.of(READ_PRODUCT_PERMISSION, READ_PRICE_PERMISSION, WRITE_PRODUCT_PERMISSION)
         );
     }
 }
@@ -0,0 +1,127 @@
+package pl.tul.discountmanagement.shared.infrastructure.limit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Adaptive concurrency limiter using the additive-increase/multiplicative-decrease (AIMD) algorithm.
+ * The limit grows by one while the calls are fast and the limit is actually used (at least half of it is in flight),
+ * and is multiplied by the backoff ratio whenever a call fails due to overload or takes longer than the timeout.
+ * Calls over the limit are rejected instantly instead of queueing on the protected resource.
+ * The limit, the number of calls in flight and the number of rejected calls are exposed as 'concurrency.limit',
+ * 'concurrency.inflight' and 'concurrency.limit.rejected' metrics, tagged with the limiter name.
+ */
+public class AimdConcurrencyLimiter {
+
+    private static final String LIMIT_METRIC = "concurrency.limit";
+    private static final String INFLIGHT_METRIC = "concurrency.inflight";
+    private static final String REJECTED_METRIC = "concurrency.limit.rejected";
+    private static final String LIMITER_TAG = "limiter";
+    private static final String INVALID_LIMITS_MSG = "Limits must satisfy 0 < min (%d) <= initial (%d) <= max (%d).";
+    private static final String INVALID_BACKOFF_RATIO_MSG = "Backoff ratio must be in range (0, 1), was: %s";
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long timeoutInNanoseconds;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final Counter rejectedCounter;
+    private volatile int limit;
+
+    /**
+     * Create a limiter.
+     *
+     * @param name                  name of the limiter, used as the metrics tag.
+     * @param initialLimit          the initial limit.
+     * @param minLimit              the lower bound of the limit.
+     * @param maxLimit              the upper bound of the limit.
+     * @param backoffRatio          ratio the limit is multiplied by on overload.
+     * @param timeoutInMilliseconds duration after which a call is considered a sign of overload.
+     * @param meterRegistry         the meter registry.
+     */
+    public AimdConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit, double backoffRatio,
+                                  long timeoutInMilliseconds, MeterRegistry meterRegistry) {
+        if (minLimit <= 0 || initialLimit < minLimit || maxLimit < initialLimit) {
+            throw new IllegalArgumentException(INVALID_LIMITS_MSG.formatted(minLimit, initialLimit, maxLimit));
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException(INVALID_BACKOFF_RATIO_MSG.formatted(backoffRatio));
+        }
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.timeoutInNanoseconds = TimeUnit.MILLISECONDS.toNanos(timeoutInMilliseconds);
+        this.rejectedCounter = meterRegistry.counter(REJECTED_METRIC, LIMITER_TAG, name);
+        Gauge.builder(LIMIT_METRIC, this, AimdConcurrencyLimiter::getLimit)
+                .tag(LIMITER_TAG, name)
+                .register(meterRegistry);
+        Gauge.builder(INFLIGHT_METRIC, this, AimdConcurrencyLimiter::getInflight)
+                .tag(LIMITER_TAG, name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Try to start a call, never blocks.
+     *
+     * @return true if the call may proceed and must be followed by {@link #release(long, boolean)}, false if the limit
+     * is reached and the call must be rejected.
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inflight.get();
+            if (current >= limit) {
+                rejectedCounter.increment();
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Finish the call started by a successful {@link #tryAcquire()} and adjust the limit.
+     *
+     * @param durationInNanoseconds duration of the call.
+     * @param dropped               whether the call failed due to overload, e.g. timed out.
+     */
+    public void release(long durationInNanoseconds, boolean dropped) {
+        int inflightBeforeRelease = inflight.getAndDecrement();
+        if (dropped || durationInNanoseconds > timeoutInNanoseconds) {
+            decreaseLimit();
+        } else if (inflightBeforeRelease * 2 >= limit) {
+            increaseLimit();
+        }
+    }
+
+    /**
+     * Return the current limit.
+     *
+     * @return the current limit.
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Return the number of calls in flight.
+     *
+     * @return the number of calls in flight.
+     */
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    private synchronized void decreaseLimit() {
+        limit = Math.max(minLimit, (int) (limit * backoffRatio));
+    }
+
+    private synchronized void increaseLimit() {
+        limit = Math.min(maxLimit, limit + 1);
+    }
+}
@@ -0,0 +1,33 @@
+package pl.tul.discountmanagement.shared.infrastructure.limit;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * {@link ResponseStatusException} indicating that the request was shed, as the concurrency limit was reached.
+ * Results in the '503 Service Unavailable' response with the 'Retry-After' header.
+ */
+public class ConcurrencyLimitExceededException extends ResponseStatusException {
+    private static final String MESSAGE = "Concurrency limit exceeded, retry later";
+
+    private final long retryAfterInSeconds;
+
+    public ConcurrencyLimitExceededException(long retryAfterInSeconds) {
+        super(HttpStatus.SERVICE_UNAVAILABLE, MESSAGE);
+        this.retryAfterInSeconds = retryAfterInSeconds;
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterInSeconds));
+        return headers;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        // requests are shed under overload, so the rejection has to be cheap - the stack trace carries no information anyway
+        return this;
+    }
+}
@@ -0,0 +1,142 @@
+package pl.tul.discountmanagement.shared.infrastructure.logging.async;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.zalando.logbook.HttpLogWriter;
+import org.zalando.logbook.Precorrelation;
+import pl.tul.discountmanagement.shared.infrastructure.logging.config.HttpLoggingProperties;
+import pl.tul.discountmanagement.shared.infrastructure.logging.config.LogbookWriter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.apache.commons.lang3.BooleanUtils.TRUE;
+import static pl.tul.discountmanagement.shared.infrastructure.logging.config.HttpLoggingProperties.ASYNC_ENABLED_PROPERTY;
+import static pl.tul.discountmanagement.shared.infrastructure.logging.config.HttpLoggingProperties.HTTP_LOGGING_PREFIX;
+
+/**
+ * Writes HTTP exchanges on a dedicated background thread, so the request threads never wait for the log I/O.
+ * Exchanges are handed over through a bounded {@link MpscRingBuffer} - when the writer falls behind and the buffer is full,
+ * exchanges are dropped and counted in the 'http.logging.dropped' metric instead of slowing the requests down.
+ * Exchanges remaining in the buffer are written when the application is stopped - the writer is stopped only after the web
+ * server finished its graceful shutdown, so the exchanges of the requests completed during the shutdown are written as well.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = HTTP_LOGGING_PREFIX, name = ASYNC_ENABLED_PROPERTY, havingValue = TRUE)
+public class AsyncHttpLogWriter implements SmartLifecycle {
+
+    private static final String WRITER_THREAD_NAME = "http-log-writer";
+    private static final String DROPPED_METRIC = "http.logging.dropped";
+    private static final String SAMPLED_OUT_METRIC = "http.logging.sampled.out";
+    private static final long STOP_TIMEOUT_IN_MILLISECONDS = 5000L;
+    private static final String WRITE_FAILED_MSG = "Writing HTTP exchange failed.";
+
+    private final HttpLogWriter httpLogWriter = new LogbookWriter();
+    private final MpscRingBuffer<HttpLogRecord> buffer;
+    private final long idlePollIntervalInNanoseconds;
+    private final Counter droppedCounter;
+    private final Counter sampledOutCounter;
+    private volatile boolean running;
+    @Nullable
+    private Thread writerThread;
+
+    public AsyncHttpLogWriter(HttpLoggingProperties httpLoggingProperties, MeterRegistry meterRegistry) {
+        this.buffer = new MpscRingBuffer<>(httpLoggingProperties.getBufferCapacity());
+        this.idlePollIntervalInNanoseconds = TimeUnit.MILLISECONDS.toNanos(httpLoggingProperties.getIdlePollIntervalInMilliseconds());
+        this.droppedCounter = meterRegistry.counter(DROPPED_METRIC);
+        this.sampledOutCounter = meterRegistry.counter(SAMPLED_OUT_METRIC);
+    }
+
+    /**
+     * Return boolean indicating whether the exchanges are logged at all.
+     *
+     * @return boolean indicating whether the exchanges are logged at all.
+     */
+    public boolean isActive() {
+        return httpLogWriter.isActive();
+    }
+
+    /**
+     * Hand the exchange over to the writer thread, without waiting.
+     *
+     * @param httpLogRecord the formatted exchange.
+     */
+    public void offer(HttpLogRecord httpLogRecord) {
+        if (!buffer.offer(httpLogRecord)) {
+            droppedCounter.increment();
+        }
+    }
+
+    /**
+     * Count an exchange which was not logged due to sampling.
+     */
+    public void recordSampledOut() {
+        sampledOutCounter.increment();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::drain, WRITER_THREAD_NAME);
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (nonNull(writerThread)) {
+            LockSupport.unpark(writerThread);
+            try {
+                writerThread.join(STOP_TIMEOUT_IN_MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            writerThread = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // stopped after the in-flight requests are completed by the graceful shutdown, but before the web server itself
+        return WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 1;
+    }
+
+    private void drain() {
+        while (true) {
+            HttpLogRecord httpLogRecord = buffer.poll();
+            if (isNull(httpLogRecord)) {
+                if (!running) {
+                    return;
+                }
+                LockSupport.parkNanos(idlePollIntervalInNanoseconds);
+                continue;
+            }
+            write(httpLogRecord);
+        }
+    }
+
+    private void write(HttpLogRecord httpLogRecord) {
+        try {
+            httpLogWriter.write((Precorrelation) httpLogRecord.correlation(), httpLogRecord.request());
+            httpLogWriter.write(httpLogRecord.correlation(), httpLogRecord.response());
+        } catch (IOException | RuntimeException e) {
+            log.warn(WRITE_FAILED_MSG, e);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package pl.tul.discountmanagement.shared.infrastructure.logging.async;
+
+import org.zalando.logbook.Correlation;
+
+/**
+ * Formatted HTTP exchange waiting to be written by {@link AsyncHttpLogWriter}.
+ *
+ * @param correlation correlation of the request and the response.
+ * @param request the formatted request.
+ * @param response the formatted response.
+ */
+public record HttpLogRecord(Correlation correlation, String request, String response) {
+}
@@ -0,0 +1,98 @@
+package pl.tul.discountmanagement.shared.infrastructure.logging.async;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free ring buffer for many producers and a single consumer.
+ * Each slot carries a sequence number telling whether it is free for the producer of the given position or holds
+ * an element published for the consumer, so producers only compete for the tail position with a CAS and never wait
+ * for each other nor for the consumer - {@link #offer(Object)} fails instantly when the buffer is full.
+ *
+ * @param <E> type of the elements.
+ */
+public class MpscRingBuffer<E> {
+
+    private static final String INVALID_CAPACITY_MSG = "Capacity must be positive, was: %d";
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private long head;
+
+    /**
+     * Create a ring buffer.
+     *
+     * @param requestedCapacity minimal capacity, rounded up to a power of two.
+     */
+    public MpscRingBuffer(int requestedCapacity) {
+        if (requestedCapacity <= 0) {
+            throw new IllegalArgumentException(INVALID_CAPACITY_MSG.formatted(requestedCapacity));
+        }
+        capacity = requestedCapacity == 1 ? 1 : Integer.highestOneBit(requestedCapacity - 1) << 1;
+        mask = capacity - 1;
+        elements = new AtomicReferenceArray<>(capacity);
+        sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Add an element to the buffer, may be called by many threads concurrently.
+     *
+     * @param element the element.
+     * @return false if the buffer is full and the element was not added, true otherwise.
+     */
+    public boolean offer(E element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements.lazySet(index, element);
+                    // publishes the element to the consumer
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                // the slot still holds an element from the previous lap
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Remove the oldest element from the buffer, must be called by a single thread only.
+     *
+     * @return the oldest element or null if the buffer is empty.
+     */
+    public E poll() {
+        int index = (int) head & mask;
+        if (sequences.get(index) != head + 1) {
+            return null;
+        }
+        E element = elements.get(index);
+        elements.lazySet(index, null);
+        // releases the slot for the producers of the next lap
+        sequences.set(index, head + capacity);
+        head++;
+        return element;
+    }
+
+    /**
+     * Return the capacity of the buffer.
+     *
+     * @return the capacity of the buffer.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,55 @@
+package pl.tul.discountmanagement.shared.infrastructure.logging.async;
+
+import lombok.RequiredArgsConstructor;
+import org.zalando.logbook.Correlation;
+import org.zalando.logbook.HttpLogFormatter;
+import org.zalando.logbook.HttpRequest;
+import org.zalando.logbook.HttpResponse;
+import org.zalando.logbook.Precorrelation;
+import org.zalando.logbook.Sink;
+import pl.tul.discountmanagement.shared.infrastructure.logging.config.HttpLoggingProperties;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Logbook {@link Sink} sampling the exchanges and handing them over to {@link AsyncHttpLogWriter}.
+ * The request is logged together with the response, once it is known whether the exchange is sampled: erroneous
+ * (status 400 and above) and slow exchanges are always logged, while the successful ones are logged with the configured
+ * probability. Only the sampled exchanges are formatted, which is the only work left on the request thread.
+ */
+@RequiredArgsConstructor
+public class SamplingAsyncSink implements Sink {
+
+    private static final int MIN_ERROR_STATUS = 400;
+
+    private final HttpLogFormatter httpLogFormatter;
+    private final AsyncHttpLogWriter asyncHttpLogWriter;
+    private final HttpLoggingProperties httpLoggingProperties;
+
+    @Override
+    public boolean isActive() {
+        return asyncHttpLogWriter.isActive();
+    }
+
+    @Override
+    public void write(Precorrelation precorrelation, HttpRequest request) {
+        // the request is written together with the response, once the sampling decision can be made
+    }
+
+    @Override
+    public void write(Correlation correlation, HttpRequest request, HttpResponse response) throws IOException {
+        if (!isSampled(correlation, response)) {
+            asyncHttpLogWriter.recordSampledOut();
+            return;
+        }
+        asyncHttpLogWriter.offer(new HttpLogRecord(correlation, httpLogFormatter.format(correlation, request),
+                httpLogFormatter.format(correlation, response)));
+    }
+
+    private boolean isSampled(Correlation correlation, HttpResponse response) {
+        return response.getStatus() >= MIN_ERROR_STATUS
+                || correlation.getDuration().toMillis() >= httpLoggingProperties.getSlowRequestThresholdInMilliseconds()
+                || ThreadLocalRandom.current().nextDouble() < httpLoggingProperties.getSuccessSampleRate();
+    }
+}
@@ -0,0 +1,38 @@
+package pl.tul.discountmanagement.shared.infrastructure.logging.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import static pl.tul.discountmanagement.shared.infrastructure.logging.config.HttpLoggingProperties.HTTP_LOGGING_PREFIX;
+
+/**
+ * Properties of the HTTP exchange logging.
+ * Properties are configured in the {@code application.yml} files under 'http-logging' entry.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = HTTP_LOGGING_PREFIX)
+@Configuration
+public class HttpLoggingProperties {
+
+    public static final String HTTP_LOGGING_PREFIX = "http-logging";
+    public static final String ASYNC_ENABLED_PROPERTY = "async-enabled";
+
+    /**
+     * Whether exchanges are sampled and written by a background thread instead of the request thread.
+     */
+    private boolean asyncEnabled = false;
+    /**
+     * Capacity of the buffer of exchanges waiting to be written, rounded up to a power of two.
+     * Exchanges arriving while the buffer is full are dropped.
+     */
+    private int bufferCapacity = 8192;
+    /**
+     * Ratio of the successful and fast exchanges being logged. Erroneous and slow exchanges are always logged.
+     */
+    private double successSampleRate = 0.1;
+    private long slowRequestThresholdInMilliseconds = 1000L;
+    private long idlePollIntervalInMilliseconds = 5L;
+}
@@ -1,16 +1,25 @@
 package pl.tul.discountmanagement.shared.infrastructure.logging.config;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpStatus;
+import org.zalando.logbook.HttpLogFormatter;
 import org.zalando.logbook.Logbook;
+import org.zalando.logbook.Sink;
 import org.zalando.logbook.Strategy;
 import org.zalando.logbook.core.BodyOnlyIfStatusAtLeastStrategy;
+import org.zalando.logbook.core.Conditions;
 import org.zalando.logbook.core.DefaultSink;
 import org.zalando.logbook.core.DefaultStrategy;
 import org.zalando.logbook.core.HeaderFilters;
 import org.zalando.logbook.json.JsonHttpLogFormatter;
+import pl.tul.discountmanagement.shared.infrastructure.logging.async.AsyncHttpLogWriter;
+import pl.tul.discountmanagement.shared.infrastructure.logging.async.SamplingAsyncSink;
+
+import static java.util.Objects.nonNull;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.constant.ApiUrls.IMPORT_ENDPOINT_V1;
 
 /**
  * Configuration class for Logbook library.
@@ -18,25 +27,36 @@ import org.zalando.logbook.json.JsonHttpLogFormatter;
 @Configuration
 @Slf4j
 public class LogbookConfig {
+
+    private static final String SUBDIRECTORIES_PATTERN = "/**";
+
     /**
      * Return {@link Logbook} instance that logs incoming requests and produced responses.
      * If log profile is set 'DEBUG' or 'TRACE', the logbook will log all the data.
      * Otherwise, body responses are included only for erroneous responses, and requests do not contain authorization
-     * header values.
+     * header values. Bulk import requests are not logged, as their bodies are meant to be streamed.
+     * When 'http-logging.async-enabled' property is set to 'true', exchanges are sampled and written by a background thread,
+     * see {@link SamplingAsyncSink}. Otherwise, they are written synchronously on the request thread.
      *
+     * @param httpLoggingProperties properties of the HTTP exchange logging.
+     * @param asyncHttpLogWriter writer of the exchanges, available if the asynchronous logging is enabled.
      * @return {@link Logbook} instance that logs incoming requests and produced responses.
      */
     @Bean
-    public Logbook logbook() {
+    public Logbook logbook(HttpLoggingProperties httpLoggingProperties, ObjectProvider<AsyncHttpLogWriter> asyncHttpLogWriter) {
         Strategy strategy = new BodyOnlyIfStatusAtLeastStrategy(HttpStatus.BAD_REQUEST.value());
         if (log.isDebugEnabled() || log.isTraceEnabled()) {
             strategy = new DefaultStrategy();
         }
+        HttpLogFormatter httpLogFormatter = new JsonHttpLogFormatter();
+        AsyncHttpLogWriter writer = asyncHttpLogWriter.getIfAvailable();
+        Sink sink = nonNull(writer)
+                ? new SamplingAsyncSink(httpLogFormatter, writer, httpLoggingProperties)
+                : new DefaultSink(httpLogFormatter, new LogbookWriter());
         return Logbook.builder()
+                .condition(Conditions.exclude(Conditions.requestTo(IMPORT_ENDPOINT_V1 + SUBDIRECTORIES_PATTERN)))
                 .headerFilter(HeaderFilters.authorization())
-                .sink(new DefaultSink(
-                        new JsonHttpLogFormatter(),
-                        new LogbookWriter()))
+                .sink(sink)
                 .strategy(strategy)
                 .build();
     }
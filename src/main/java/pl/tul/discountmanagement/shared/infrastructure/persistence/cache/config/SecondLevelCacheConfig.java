@@ -0,0 +1,66 @@
+package pl.tul.discountmanagement.shared.infrastructure.persistence.cache.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import pl.tul.discountmanagement.shared.infrastructure.persistence.cache.metrics.SecondLevelCacheMetrics;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.isNull;
+import static org.apache.commons.lang3.BooleanUtils.TRUE;
+
+/**
+ * Configuration of the JCache (Caffeine) backed Hibernate second-level cache.
+ * Cache regions are created upfront with sizing defined in {@link SecondLevelCacheProperties}, so Hibernate uses them
+ * instead of creating unbounded ones. Region metrics are published when Hibernate statistics are enabled, which they are
+ * by default.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class SecondLevelCacheConfig {
+
+    public static final String GENERATE_STATISTICS_PROPERTY = "spring.jpa.properties.hibernate.generate_statistics";
+
+    private final SecondLevelCacheProperties secondLevelCacheProperties;
+
+    @Bean
+    public CacheManager secondLevelCacheManager() {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+        secondLevelCacheProperties.getRegions().forEach((regionName, region) -> {
+            if (isNull(cacheManager.getCache(regionName))) {
+                cacheManager.createCache(regionName, buildRegionConfiguration(region));
+            }
+        });
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheHibernatePropertiesCustomizer(CacheManager secondLevelCacheManager) {
+        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = GENERATE_STATISTICS_PROPERTY, havingValue = TRUE)
+    public SecondLevelCacheMetrics secondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        return new SecondLevelCacheMetrics(entityManagerFactory.unwrap(SessionFactory.class).getStatistics(),
+                secondLevelCacheProperties.getRegions().keySet());
+    }
+
+    private CaffeineConfiguration<Object, Object> buildRegionConfiguration(SecondLevelCacheProperties.Region region) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(region.getMaximumSize()));
+        configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(region.getExpireAfterWriteInSeconds())));
+        return configuration;
+    }
+}
@@ -0,0 +1,36 @@
+package pl.tul.discountmanagement.shared.infrastructure.persistence.cache.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static pl.tul.discountmanagement.shared.infrastructure.persistence.cache.config.SecondLevelCacheProperties.SECOND_LEVEL_CACHE_PREFIX;
+
+/**
+ * Properties of the Hibernate second-level cache regions.
+ * Properties are configured in the {@code application.yml} files under 'second-level-cache' entry.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = SECOND_LEVEL_CACHE_PREFIX)
+@Configuration
+public class SecondLevelCacheProperties {
+
+    public static final String SECOND_LEVEL_CACHE_PREFIX = "second-level-cache";
+
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+    /**
+     * Sizing of a single cache region.
+     */
+    @Getter
+    @Setter
+    public static class Region {
+        private long maximumSize = 1000L;
+        private long expireAfterWriteInSeconds = 3600L;
+    }
+}
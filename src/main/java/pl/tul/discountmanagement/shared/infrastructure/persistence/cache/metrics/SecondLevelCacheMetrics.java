@@ -0,0 +1,61 @@
+package pl.tul.discountmanagement.shared.infrastructure.persistence.cache.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import java.util.Set;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * {@link MeterBinder} publishing hit, miss and put counts of the Hibernate second-level cache regions.
+ * Requires 'hibernate.generate_statistics' property to be enabled.
+ */
+public class SecondLevelCacheMetrics implements MeterBinder {
+
+    private static final String REQUESTS_METRIC = "hibernate.second.level.cache.requests";
+    private static final String PUTS_METRIC = "hibernate.second.level.cache.puts";
+    private static final String SIZE_METRIC = "hibernate.second.level.cache.size";
+    private static final String REGION_TAG = "region";
+    private static final String RESULT_TAG = "result";
+    private static final String HIT_RESULT = "hit";
+    private static final String MISS_RESULT = "miss";
+
+    private final Statistics statistics;
+    private final Set<String> regionNames;
+
+    public SecondLevelCacheMetrics(Statistics statistics, Set<String> regionNames) {
+        this.statistics = statistics;
+        this.regionNames = Set.copyOf(regionNames);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String regionName : regionNames) {
+            registerCounter(registry, REQUESTS_METRIC, regionName, HIT_RESULT, CacheRegionStatistics::getHitCount);
+            registerCounter(registry, REQUESTS_METRIC, regionName, MISS_RESULT, CacheRegionStatistics::getMissCount);
+            FunctionCounter.builder(PUTS_METRIC, statistics, stats -> regionStatistic(stats, regionName, CacheRegionStatistics::getPutCount))
+                    .tag(REGION_TAG, regionName)
+                    .register(registry);
+            Gauge.builder(SIZE_METRIC, statistics, stats -> regionStatistic(stats, regionName, CacheRegionStatistics::getElementCountInMemory))
+                    .tag(REGION_TAG, regionName)
+                    .register(registry);
+        }
+    }
+
+    private void registerCounter(MeterRegistry registry, String name, String regionName, String result,
+                                 ToDoubleFunction<CacheRegionStatistics> statistic) {
+        FunctionCounter.builder(name, statistics, stats -> regionStatistic(stats, regionName, statistic))
+                .tag(REGION_TAG, regionName)
+                .tag(RESULT_TAG, result)
+                .register(registry);
+    }
+
+    private double regionStatistic(Statistics stats, String regionName, ToDoubleFunction<CacheRegionStatistics> statistic) {
+        CacheRegionStatistics regionStatistics = stats.getDomainDataRegionStatistics(regionName);
+        return statistic.applyAsDouble(regionStatistics);
+    }
+}
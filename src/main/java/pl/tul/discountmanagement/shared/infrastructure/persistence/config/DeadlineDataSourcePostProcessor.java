@@ -0,0 +1,52 @@
+package pl.tul.discountmanagement.shared.infrastructure.persistence.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import pl.tul.discountmanagement.shared.infrastructure.persistence.deadline.DeadlineDataSource;
+import pl.tul.discountmanagement.shared.infrastructure.persistence.listener.DeadlineQueryListener;
+
+import javax.sql.DataSource;
+
+import static org.apache.commons.lang3.BooleanUtils.TRUE;
+import static pl.tul.discountmanagement.shared.infrastructure.deadline.config.DeadlineProperties.ENABLED_PROPERTY;
+import static pl.tul.discountmanagement.shared.infrastructure.deadline.config.DeadlineProperties.REQUEST_DEADLINE_PREFIX;
+
+/**
+ * {@link BeanPostProcessor} wrapping application {@link DataSource} beans with {@link DeadlineDataSource}, bounding
+ * the connection acquisition with the request deadline, and with a proxy applying the request deadline as the query timeout
+ * of each statement via {@link DeadlineQueryListener}. Runs before {@link SlowQueryLogDataSourcePostProcessor}, so that
+ * it still sees the connection pool itself.
+ * Class is injected into Spring application context if and only if 'request-deadline.enabled' property is set to 'true'.
+ */
+@ConditionalOnProperty(prefix = REQUEST_DEADLINE_PREFIX, name = ENABLED_PROPERTY, havingValue = TRUE)
+@Component
+@RequiredArgsConstructor
+public class DeadlineDataSourcePostProcessor implements BeanPostProcessor, Ordered {
+
+    private static final String PROXY_DATA_SOURCE_NAME_FORMAT = "deadline-%s";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource dataSource)) {
+            return bean;
+        }
+        MeterRegistry registry = meterRegistry.getObject();
+        return ProxyDataSourceBuilder.create(new DeadlineDataSource(dataSource, registry))
+                .name(PROXY_DATA_SOURCE_NAME_FORMAT.formatted(beanName))
+                .listener(new DeadlineQueryListener(registry))
+                .build();
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE - 1;
+    }
+}
@@ -0,0 +1,63 @@
+package pl.tul.discountmanagement.shared.infrastructure.persistence.config;
+
+import lombok.RequiredArgsConstructor;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import pl.tul.discountmanagement.shared.infrastructure.persistence.listener.SlowQueryExplainer;
+import pl.tul.discountmanagement.shared.infrastructure.persistence.listener.SlowQueryListener;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.apache.commons.lang3.BooleanUtils.TRUE;
+import static pl.tul.discountmanagement.shared.infrastructure.persistence.config.SlowQueryLogProperties.ENABLED_PROPERTY;
+import static pl.tul.discountmanagement.shared.infrastructure.persistence.config.SlowQueryLogProperties.SLOW_QUERY_LOG_PREFIX;
+
+/**
+ * {@link BeanPostProcessor} wrapping application {@link DataSource} beans with a proxy measuring the execution time
+ * of each statement and reporting the ones slower than the configured threshold to {@link SlowQueryListener}.
+ * Class is injected into Spring application context if and only if 'slow-query-log.enabled' property is set to 'true'.
+ */
+@ConditionalOnProperty(prefix = SLOW_QUERY_LOG_PREFIX, name = ENABLED_PROPERTY, havingValue = TRUE)
+@Component
+@RequiredArgsConstructor
+public class SlowQueryLogDataSourcePostProcessor implements BeanPostProcessor, Ordered, DisposableBean {
+
+    private static final String PROXY_DATA_SOURCE_NAME_FORMAT = "slow-query-log-%s";
+
+    private final ObjectProvider<SlowQueryLogProperties> slowQueryLogProperties;
+    private final List<SlowQueryExplainer> slowQueryExplainers = new ArrayList<>();
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource dataSource)) {
+            return bean;
+        }
+        SlowQueryLogProperties properties = slowQueryLogProperties.getObject();
+        SlowQueryExplainer slowQueryExplainer = null;
+        if (properties.isExplainEnabled()) {
+            slowQueryExplainer = new SlowQueryExplainer(dataSource, properties.getExplainQueueCapacity());
+            slowQueryExplainers.add(slowQueryExplainer);
+        }
+        return ProxyDataSourceBuilder.create(dataSource)
+                .name(PROXY_DATA_SOURCE_NAME_FORMAT.formatted(beanName))
+                .listener(new SlowQueryListener(properties, slowQueryExplainer))
+                .build();
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+
+    @Override
+    public void destroy() {
+        slowQueryExplainers.forEach(SlowQueryExplainer::shutdown);
+    }
+}
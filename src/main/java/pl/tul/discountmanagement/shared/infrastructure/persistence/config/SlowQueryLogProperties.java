@@ -0,0 +1,28 @@
+package pl.tul.discountmanagement.shared.infrastructure.persistence.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import static pl.tul.discountmanagement.shared.infrastructure.persistence.config.SlowQueryLogProperties.SLOW_QUERY_LOG_PREFIX;
+
+/**
+ * Properties of the slow query log.
+ * Properties are configured in the {@code application.yml} files under 'slow-query-log' entry.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = SLOW_QUERY_LOG_PREFIX)
+@Configuration
+public class SlowQueryLogProperties {
+
+    public static final String SLOW_QUERY_LOG_PREFIX = "slow-query-log";
+    public static final String ENABLED_PROPERTY = "enabled";
+
+    private boolean enabled = false;
+    private long thresholdInMilliseconds = 200L;
+    private boolean explainEnabled = false;
+    private double explainSampleRate = 0.05;
+    private int explainQueueCapacity = 16;
+}
@@ -0,0 +1,60 @@
+package pl.tul.discountmanagement.shared.infrastructure.persistence.deadline;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.pool.HikariPool;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import pl.tul.discountmanagement.shared.infrastructure.deadline.Deadline;
+import pl.tul.discountmanagement.shared.infrastructure.deadline.DeadlineContext;
+import pl.tul.discountmanagement.shared.infrastructure.deadline.DeadlineExceededException;
+import pl.tul.discountmanagement.shared.infrastructure.deadline.DeadlineMetrics;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import static java.util.Objects.isNull;
+
+/**
+ * {@link DataSource} acquiring connections within the {@link Deadline} of the current request.
+ * Requests whose deadline has already expired do not get a connection at all. When the target is a Hikari connection pool,
+ * a request waits for a free connection only for the time left until its deadline (or the pool's connection timeout,
+ * whichever is shorter), so requests piling up behind a slow database release their threads as soon as their clients give up.
+ * Connections acquired outside of requests, e.g. by scheduled jobs, are not affected.
+ */
+public class DeadlineDataSource extends DelegatingDataSource {
+
+    private final Counter expiredCounter;
+
+    public DeadlineDataSource(DataSource targetDataSource, MeterRegistry meterRegistry) {
+        super(targetDataSource);
+        this.expiredCounter = DeadlineMetrics.expiredCounter(meterRegistry, DeadlineMetrics.CONNECTION_STAGE);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Deadline deadline = DeadlineContext.get();
+        if (isNull(deadline)) {
+            return super.getConnection();
+        }
+        long remainingMilliseconds = deadline.getRemainingMilliseconds();
+        if (remainingMilliseconds <= 0) {
+            expiredCounter.increment();
+            throw new DeadlineExceededException();
+        }
+        if (!(obtainTargetDataSource() instanceof HikariDataSource hikariDataSource)
+                || !(hikariDataSource.getHikariPoolMXBean() instanceof HikariPool hikariPool)
+                || remainingMilliseconds >= hikariDataSource.getConnectionTimeout()) {
+            // the pool is not started yet or the pool's own timeout is the shorter one
+            return super.getConnection();
+        }
+        try {
+            return hikariPool.getConnection(remainingMilliseconds);
+        } catch (SQLTransientConnectionException e) {
+            expiredCounter.increment();
+            throw new DeadlineExceededException(e);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package pl.tul.discountmanagement.shared.infrastructure.persistence.listener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import pl.tul.discountmanagement.shared.infrastructure.deadline.Deadline;
+import pl.tul.discountmanagement.shared.infrastructure.deadline.DeadlineContext;
+import pl.tul.discountmanagement.shared.infrastructure.deadline.DeadlineExceededException;
+import pl.tul.discountmanagement.shared.infrastructure.deadline.DeadlineMetrics;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Datasource-proxy listener applying the time left until the {@link Deadline} of the current request as the JDBC query
+ * timeout of each executed statement. JDBC query timeouts have a granularity of seconds, so the remaining time is rounded up.
+ * Statements of requests whose deadline has already expired are not executed at all.
+ */
+@Slf4j
+public class DeadlineQueryListener implements QueryExecutionListener {
+
+    private static final String QUERY_CANCELED_SQL_STATE = "57014";
+    private static final long MILLISECONDS_IN_SECOND = 1000L;
+    private static final String SETTING_QUERY_TIMEOUT_FAILED_MSG = "Setting query timeout failed.";
+
+    private final Counter expiredCounter;
+
+    public DeadlineQueryListener(MeterRegistry meterRegistry) {
+        this.expiredCounter = DeadlineMetrics.expiredCounter(meterRegistry, DeadlineMetrics.QUERY_STAGE);
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Deadline deadline = DeadlineContext.get();
+        if (isNull(deadline)) {
+            return;
+        }
+        long remainingMilliseconds = deadline.getRemainingMilliseconds();
+        if (remainingMilliseconds <= 0) {
+            expiredCounter.increment();
+            throw new DeadlineExceededException();
+        }
+        int timeoutInSeconds = (int) Math.min(Integer.MAX_VALUE,
+                (remainingMilliseconds + MILLISECONDS_IN_SECOND - 1) / MILLISECONDS_IN_SECOND);
+        try {
+            execInfo.getStatement().setQueryTimeout(timeoutInSeconds);
+        } catch (SQLException e) {
+            log.debug(SETTING_QUERY_TIMEOUT_FAILED_MSG, e);
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (nonNull(DeadlineContext.get()) && execInfo.getThrowable() instanceof SQLException sqlException
+                && QUERY_CANCELED_SQL_STATE.equals(sqlException.getSQLState())) {
+            expiredCounter.increment();
+        }
+    }
+}
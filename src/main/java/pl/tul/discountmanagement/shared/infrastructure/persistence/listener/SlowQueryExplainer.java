@@ -0,0 +1,78 @@
+package pl.tul.discountmanagement.shared.infrastructure.persistence.listener;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Captures 'EXPLAIN (ANALYZE, BUFFERS)' output for slow statements reported by {@link SlowQueryListener}.
+ * Plans are captured asynchronously on a single background thread, using a separate connection of the not proxied
+ * {@link DataSource}, so neither the request thread nor the slow query log are affected. When the bounded queue of
+ * pending statements is full, new statements are discarded.
+ * Note that 'EXPLAIN ANALYZE' executes the statement, therefore only SELECT statements should be passed here.
+ */
+@Slf4j
+public class SlowQueryExplainer {
+
+    private static final String THREAD_NAME_PREFIX = "slow-query-explain-";
+    private static final String EXPLAIN_PREFIX = "EXPLAIN (ANALYZE, BUFFERS) ";
+    private static final String EXPLAIN_MSG = "Execution plan of slow query: {}{}";
+    private static final String EXPLAIN_ERROR_MSG = "Unable to capture execution plan of slow query: {}";
+
+    private final DataSource dataSource;
+    private final ThreadPoolExecutor executor;
+
+    public SlowQueryExplainer(DataSource dataSource, int queueCapacity) {
+        this.dataSource = dataSource;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(THREAD_NAME_PREFIX);
+        threadFactory.setDaemon(true);
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    /**
+     * Schedule capturing the execution plan of a given statement executed with a given set of bind parameters.
+     *
+     * @param query      the statement to be explained.
+     * @param parameters bind parameters the statement was executed with.
+     */
+    public void explain(String query, List<ParameterSetOperation> parameters) {
+        executor.execute(() -> captureExecutionPlan(query, parameters));
+    }
+
+    /**
+     * Stop capturing execution plans and discard the pending statements.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void captureExecutionPlan(String query, List<ParameterSetOperation> parameters) {
+        StringBuilder plan = new StringBuilder();
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(EXPLAIN_PREFIX + query)) {
+            connection.setReadOnly(true);
+            for (ParameterSetOperation parameter : parameters) {
+                parameter.getMethod().invoke(statement, parameter.getArgs());
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    plan.append(System.lineSeparator()).append(resultSet.getString(1));
+                }
+            }
+        } catch (Exception e) {
+            log.warn(EXPLAIN_ERROR_MSG, query, e);
+            return;
+        }
+        log.warn(EXPLAIN_MSG, query, plan);
+    }
+}
@@ -0,0 +1,95 @@
+package pl.tul.discountmanagement.shared.infrastructure.persistence.listener;
+
+import jakarta.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import pl.tul.discountmanagement.shared.infrastructure.persistence.config.SlowQueryLogProperties;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * datasource-proxy {@link QueryExecutionListener} logging statements which execution time exceeds the configured threshold.
+ * Only the shape of bind parameters (their positions and types) is logged, the values are never included.
+ * A sampled subset of slow SELECT statements is passed to {@link SlowQueryExplainer} to capture its execution plan.
+ */
+@Slf4j
+public class SlowQueryListener implements QueryExecutionListener {
+
+    private static final String SLOW_QUERY_MSG = "Slow query executed in '{}' ms (threshold '{}' ms, success '{}'), bind parameters {}: {}";
+    private static final String SELECT_KEYWORD = "select";
+    private static final String NULL_PARAMETER_TYPE = "NULL";
+    private static final String SET_NULL_METHOD = "setNull";
+
+    private final long thresholdInMilliseconds;
+    private final double explainSampleRate;
+    @Nullable
+    private final SlowQueryExplainer slowQueryExplainer;
+
+    public SlowQueryListener(SlowQueryLogProperties properties, @Nullable SlowQueryExplainer slowQueryExplainer) {
+        this.thresholdInMilliseconds = properties.getThresholdInMilliseconds();
+        this.explainSampleRate = properties.getExplainSampleRate();
+        this.slowQueryExplainer = slowQueryExplainer;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (execInfo.getElapsedTime() < thresholdInMilliseconds || !log.isWarnEnabled()) {
+            return;
+        }
+        for (QueryInfo queryInfo : queryInfoList) {
+            log.warn(SLOW_QUERY_MSG, execInfo.getElapsedTime(), thresholdInMilliseconds, execInfo.isSuccess(),
+                    describeParameterShape(queryInfo), queryInfo.getQuery());
+            if (shouldExplain(queryInfo)) {
+                slowQueryExplainer.explain(queryInfo.getQuery(), firstParameterSet(queryInfo));
+            }
+        }
+    }
+
+    private boolean shouldExplain(QueryInfo queryInfo) {
+        return nonNull(slowQueryExplainer)
+                && queryInfo.getQuery().stripLeading().toLowerCase(Locale.ROOT).startsWith(SELECT_KEYWORD)
+                && ThreadLocalRandom.current().nextDouble() < explainSampleRate;
+    }
+
+    private List<ParameterSetOperation> firstParameterSet(QueryInfo queryInfo) {
+        List<List<ParameterSetOperation>> parametersList = queryInfo.getParametersList();
+        return parametersList.isEmpty() ? List.of() : parametersList.get(0);
+    }
+
+    private String describeParameterShape(QueryInfo queryInfo) {
+        StringBuilder shape = new StringBuilder();
+        for (List<ParameterSetOperation> parameterSet : queryInfo.getParametersList()) {
+            shape.append('[');
+            for (int i = 0; i < parameterSet.size(); i++) {
+                if (i > 0) {
+                    shape.append(", ");
+                }
+                appendParameterShape(shape, parameterSet.get(i));
+            }
+            shape.append(']');
+        }
+        return shape.toString();
+    }
+
+    private void appendParameterShape(StringBuilder shape, ParameterSetOperation operation) {
+        Object[] args = operation.getArgs();
+        shape.append(args[0]).append(':');
+        if (SET_NULL_METHOD.equals(operation.getMethod().getName()) || args.length < 2 || isNull(args[1])) {
+            shape.append(NULL_PARAMETER_TYPE);
+            return;
+        }
+        shape.append(args[1].getClass().getSimpleName());
+    }
+}
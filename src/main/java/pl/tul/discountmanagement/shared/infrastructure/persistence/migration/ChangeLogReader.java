@@ -0,0 +1,123 @@
+package pl.tul.discountmanagement.shared.infrastructure.persistence.migration;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import static java.util.Objects.isNull;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+/**
+ * Lightweight reader of the Liquibase XML change log, listing the change sets expected to be applied to the database
+ * without initializing Liquibase itself. Supports the subset of the change log format used by the application:
+ * 'include' elements (optionally relative to the including change log) and 'changeSet' elements, both with an optional
+ * comma-separated list of contexts. Any other way of including change logs is rejected, so that the expected schema version
+ * is never silently underestimated.
+ */
+public final class ChangeLogReader {
+
+    private static final String CLASSPATH_PREFIX = "classpath:";
+    private static final String INCLUDE_ELEMENT = "include";
+    private static final String INCLUDE_ALL_ELEMENT = "includeAll";
+    private static final String CHANGE_SET_ELEMENT = "changeSet";
+    private static final String FILE_ATTRIBUTE = "file";
+    private static final String RELATIVE_TO_CHANGELOG_FILE_ATTRIBUTE = "relativeToChangelogFile";
+    private static final String CONTEXT_ATTRIBUTE = "context";
+    private static final String CONTEXT_FILTER_ATTRIBUTE = "contextFilter";
+    private static final String ID_ATTRIBUTE = "id";
+    private static final String AUTHOR_ATTRIBUTE = "author";
+    private static final String CONTEXT_SEPARATOR = ",";
+    private static final String PATH_SEPARATOR = "/";
+    private static final String CHANGE_LOG_NOT_FOUND_MSG = "Change log '%s' not found on the classpath";
+    private static final String CHANGE_LOG_UNREADABLE_MSG = "Change log '%s' cannot be read";
+    private static final String UNSUPPORTED_ELEMENT_MSG = "Element '%s' of change log '%s' is not supported by the schema version verification";
+    private static final String UNSUPPORTED_CONTEXT_MSG = "Context expression '%s' of change log '%s' is not supported by the schema version verification";
+
+    private ChangeLogReader() {
+    }
+
+    /**
+     * Read the change sets of given change log and of all the change logs it includes, in the execution order.
+     *
+     * @param changeLog classpath location of the master change log, optionally prefixed with 'classpath:'.
+     * @param contexts active Liquibase contexts, all the change sets are returned when empty.
+     * @return identifiers of the change sets applied by Liquibase for given contexts.
+     */
+    public static List<ChangeSetId> readChangeSets(String changeLog, Collection<String> contexts) {
+        List<ChangeSetId> changeSets = new ArrayList<>();
+        readChangeLog(changeLog.startsWith(CLASSPATH_PREFIX) ? changeLog.substring(CLASSPATH_PREFIX.length()) : changeLog,
+                contexts, changeSets);
+        return changeSets;
+    }
+
+    private static void readChangeLog(String path, Collection<String> contexts, List<ChangeSetId> changeSets) {
+        try (InputStream inputStream = ChangeLogReader.class.getClassLoader().getResourceAsStream(path)) {
+            if (isNull(inputStream)) {
+                throw new IllegalStateException(CHANGE_LOG_NOT_FOUND_MSG.formatted(path));
+            }
+            XMLStreamReader reader = XMLInputFactory.newFactory().createXMLStreamReader(inputStream);
+            try {
+                while (reader.hasNext()) {
+                    if (reader.next() == XMLStreamConstants.START_ELEMENT) {
+                        readElement(reader, path, contexts, changeSets);
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (IOException | XMLStreamException e) {
+            throw new IllegalStateException(CHANGE_LOG_UNREADABLE_MSG.formatted(path), e);
+        }
+    }
+
+    private static void readElement(XMLStreamReader reader, String path, Collection<String> contexts, List<ChangeSetId> changeSets) {
+        switch (reader.getLocalName()) {
+            case INCLUDE_ELEMENT -> {
+                if (isActive(reader, path, contexts)) {
+                    String file = reader.getAttributeValue(null, FILE_ATTRIBUTE);
+                    boolean relative = Boolean.parseBoolean(reader.getAttributeValue(null, RELATIVE_TO_CHANGELOG_FILE_ATTRIBUTE));
+                    readChangeLog(relative ? resolveRelative(path, file) : file, contexts, changeSets);
+                }
+            }
+            case CHANGE_SET_ELEMENT -> {
+                if (isActive(reader, path, contexts)) {
+                    changeSets.add(new ChangeSetId(reader.getAttributeValue(null, ID_ATTRIBUTE),
+                            reader.getAttributeValue(null, AUTHOR_ATTRIBUTE)));
+                }
+            }
+            case INCLUDE_ALL_ELEMENT -> throw new IllegalStateException(UNSUPPORTED_ELEMENT_MSG.formatted(reader.getLocalName(), path));
+            default -> {
+                // change set content and other elements do not affect the list of change sets
+            }
+        }
+    }
+
+    private static boolean isActive(XMLStreamReader reader, String path, Collection<String> contexts) {
+        String expression = reader.getAttributeValue(null, CONTEXT_ATTRIBUTE);
+        if (isBlank(expression)) {
+            expression = reader.getAttributeValue(null, CONTEXT_FILTER_ATTRIBUTE);
+        }
+        if (isBlank(expression) || contexts.isEmpty()) {
+            return true;
+        }
+        List<String> elementContexts = Arrays.stream(expression.split(CONTEXT_SEPARATOR)).map(String::trim).toList();
+        for (String elementContext : elementContexts) {
+            if (elementContext.contains(" ") || elementContext.startsWith("!")) {
+                throw new IllegalStateException(UNSUPPORTED_CONTEXT_MSG.formatted(expression, path));
+            }
+        }
+        return elementContexts.stream().anyMatch(contexts::contains);
+    }
+
+    private static String resolveRelative(String path, String file) {
+        int separatorIndex = path.lastIndexOf(PATH_SEPARATOR);
+        return separatorIndex < 0 ? file : path.substring(0, separatorIndex + 1) + file;
+    }
+}
@@ -0,0 +1,15 @@
+package pl.tul.discountmanagement.shared.infrastructure.persistence.migration;
+
+/**
+ * Identifier of a Liquibase change set.
+ *
+ * @param id the change set id.
+ * @param author the change set author.
+ */
+public record ChangeSetId(String id, String author) {
+
+    @Override
+    public String toString() {
+        return id + "::" + author;
+    }
+}
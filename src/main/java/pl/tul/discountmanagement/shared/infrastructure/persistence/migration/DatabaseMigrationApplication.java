@@ -0,0 +1,31 @@
+package pl.tul.discountmanagement.shared.infrastructure.persistence.migration;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.liquibase.LiquibaseAutoConfiguration;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import static pl.tul.discountmanagement.shared.infrastructure.constant.ApplicationProfiles.MIGRATION_PROFILE;
+
+/**
+ * One-shot database migration, applying the Liquibase change sets and exiting. Meant to be run once per deployment
+ * (e.g. as a job preceding the rollout), so that the serving instances do not run Liquibase and do not compete for
+ * the change log lock - they only verify the schema version with {@link SchemaVersionVerifier}.
+ * Only the data source and Liquibase are configured, the rest of the application is not started.
+ * The class is active in the 'migration' profile only, so it is not picked up by the serving application.
+ */
+@Configuration(proxyBeanMethods = false)
+@Profile(MIGRATION_PROFILE)
+@ImportAutoConfiguration({DataSourceAutoConfiguration.class, LiquibaseAutoConfiguration.class})
+public class DatabaseMigrationApplication {
+
+    public static void main(String[] args) {
+        SpringApplication application = new SpringApplication(DatabaseMigrationApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        application.setAdditionalProfiles(MIGRATION_PROFILE);
+        System.exit(SpringApplication.exit(application.run(args)));
+    }
+}
@@ -0,0 +1,72 @@
+package pl.tul.discountmanagement.shared.infrastructure.persistence.migration;
+
+import liquibase.integration.spring.SpringLiquibase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import pl.tul.discountmanagement.shared.infrastructure.persistence.migration.config.SchemaVersionProperties;
+
+import javax.sql.DataSource;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Verifier of the database schema version, used by the serving instances instead of running Liquibase on startup.
+ * Change sets expected by the application are read from the change log by {@link ChangeLogReader}, and compared with
+ * the change sets recorded in the Liquibase 'databasechangelog' table, which takes a single query and no lock.
+ * The startup fails when any of the expected change sets is missing - the database has to be migrated first with
+ * {@link DatabaseMigrationApplication}. Change sets unknown to the application are allowed, so that the instances of
+ * the previous version keep working once the database is migrated for the next one.
+ * Registered as database initializer by {@link SchemaVersionVerifierDetector}, so the verification precedes the
+ * initialization of the beans depending on the database schema (e.g. the JPA entity manager factory). When Liquibase
+ * is enabled in the same application (e.g. in the integration tests), the verification follows the migration.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SchemaVersionVerifier implements InitializingBean {
+
+    private static final String APPLIED_CHANGE_SETS_QUERY = "SELECT id, author FROM databasechangelog";
+    private static final String SCHEMA_NOT_MIGRATED_MSG = "Database schema is not migrated, run the database migration first";
+    private static final String SCHEMA_OUTDATED_MSG = "Database schema is outdated, missing change sets: %s. Run the database migration first";
+    private static final String SCHEMA_VERIFIED_MSG = "Database schema is up to date, '{}' expected change set(s) applied";
+    private static final String VERIFICATION_DISABLED_MSG = "Database schema version verification is disabled";
+
+    private final DataSource dataSource;
+    private final SchemaVersionProperties schemaVersionProperties;
+    private final ObjectProvider<SpringLiquibase> springLiquibase;
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!schemaVersionProperties.isVerificationEnabled()) {
+            log.info(VERIFICATION_DISABLED_MSG);
+            return;
+        }
+        // the change sets are applied while initializing the Liquibase bean, if any
+        springLiquibase.getIfAvailable();
+        List<ChangeSetId> expectedChangeSets = ChangeLogReader.readChangeSets(schemaVersionProperties.getChangeLog(),
+                schemaVersionProperties.getContexts());
+        Set<ChangeSetId> appliedChangeSets = getAppliedChangeSets();
+        List<ChangeSetId> missingChangeSets = expectedChangeSets.stream()
+                .filter(changeSet -> !appliedChangeSets.contains(changeSet))
+                .toList();
+        if (!missingChangeSets.isEmpty()) {
+            throw new IllegalStateException(SCHEMA_OUTDATED_MSG.formatted(missingChangeSets));
+        }
+        log.info(SCHEMA_VERIFIED_MSG, expectedChangeSets.size());
+    }
+
+    private Set<ChangeSetId> getAppliedChangeSets() {
+        try {
+            return new HashSet<>(new JdbcTemplate(dataSource).query(APPLIED_CHANGE_SETS_QUERY,
+                    (resultSet, rowNum) -> new ChangeSetId(resultSet.getString(1), resultSet.getString(2))));
+        } catch (BadSqlGrammarException e) {
+            throw new IllegalStateException(SCHEMA_NOT_MIGRATED_MSG, e);
+        }
+    }
+}
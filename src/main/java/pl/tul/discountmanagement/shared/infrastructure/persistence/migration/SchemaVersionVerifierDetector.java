@@ -0,0 +1,18 @@
+package pl.tul.discountmanagement.shared.infrastructure.persistence.migration;
+
+import org.springframework.boot.sql.init.dependency.AbstractBeansOfTypeDatabaseInitializerDetector;
+
+import java.util.Set;
+
+/**
+ * Detector marking {@link SchemaVersionVerifier} as database initializer, so that the beans depending on the database
+ * initialization are created only after the schema version is verified.
+ * Registered in {@code META-INF/spring.factories}.
+ */
+public class SchemaVersionVerifierDetector extends AbstractBeansOfTypeDatabaseInitializerDetector {
+
+    @Override
+    protected Set<Class<?>> getDatabaseInitializerBeanTypes() {
+        return Set.of(SchemaVersionVerifier.class);
+    }
+}
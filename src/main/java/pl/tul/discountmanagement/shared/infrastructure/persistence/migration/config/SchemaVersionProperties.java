@@ -0,0 +1,31 @@
+package pl.tul.discountmanagement.shared.infrastructure.persistence.migration.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+import static pl.tul.discountmanagement.shared.infrastructure.persistence.migration.config.SchemaVersionProperties.SCHEMA_VERSION_PREFIX;
+
+/**
+ * Properties of the database schema version verification performed by the serving instances on startup.
+ * Properties are configured in the {@code application.yml} files under 'schema-version' entry.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = SCHEMA_VERSION_PREFIX)
+@Configuration
+public class SchemaVersionProperties {
+
+    public static final String SCHEMA_VERSION_PREFIX = "schema-version";
+
+    /**
+     * Whether the schema version is verified. Checked at runtime rather than via bean condition, so that it can be disabled
+     * in applications built in the AOT mode as well (e.g. in the class data sharing training run).
+     */
+    private boolean verificationEnabled = true;
+    private String changeLog;
+    private List<String> contexts = List.of();
+}
@@ -0,0 +1,104 @@
+package pl.tul.discountmanagement.shared.infrastructure.persistence.routing.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import pl.tul.discountmanagement.shared.infrastructure.persistence.deadline.DeadlineDataSource;
+import pl.tul.discountmanagement.shared.infrastructure.persistence.routing.datasource.ReplicaDataSourcePools;
+import pl.tul.discountmanagement.shared.infrastructure.persistence.routing.datasource.ReplicaRoutingDataSource;
+import pl.tul.discountmanagement.shared.infrastructure.persistence.routing.health.ReplicaHealthChecker;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.apache.commons.lang3.BooleanUtils.TRUE;
+import static pl.tul.discountmanagement.shared.infrastructure.persistence.routing.config.ReplicaRoutingProperties.ENABLED_PROPERTY;
+import static pl.tul.discountmanagement.shared.infrastructure.persistence.routing.config.ReplicaRoutingProperties.REPLICA_ROUTING_PREFIX;
+
+/**
+ * Configuration of the {@link DataSource} routing read-only transactions to read replicas.
+ * Replaces the auto-configured {@link DataSource}, primary database connection is configured via the standard
+ * 'spring.datasource' properties, read replicas via {@link ReplicaRoutingProperties}.
+ * Configuration is applied if and only if 'replica-routing.enabled' property is set to 'true'.
+ */
+@ConditionalOnProperty(prefix = REPLICA_ROUTING_PREFIX, name = ENABLED_PROPERTY, havingValue = TRUE)
+@Configuration
+@RequiredArgsConstructor
+public class ReplicaRoutingConfig {
+
+    private static final String HIKARI_PROPERTIES_PREFIX = "spring.datasource.hikari";
+    private static final String REPLICA_POOL_NAME_FORMAT = "replica-%s";
+
+    private final ReplicaRoutingProperties replicaRoutingProperties;
+
+    @Bean
+    public ReplicaDataSourcePools replicaDataSourcePools(DataSourceProperties dataSourceProperties, Environment environment,
+                                                         MeterRegistry meterRegistry) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        Binder.get(environment).bind(HIKARI_PROPERTIES_PREFIX, Bindable.ofInstance(primary));
+        primary.setPoolName(ReplicaRoutingDataSource.PRIMARY_KEY);
+        primary.setMetricRegistry(meterRegistry);
+        Map<String, HikariDataSource> replicas = new LinkedHashMap<>();
+        for (ReplicaRoutingProperties.Replica replicaProperties : replicaRoutingProperties.getReplicas()) {
+            HikariDataSource replica = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(dataSourceProperties.determineDriverClassName())
+                    .url(replicaProperties.getUrl())
+                    .username(replicaProperties.getUsername())
+                    .password(replicaProperties.getPassword())
+                    .build();
+            String replicaName = REPLICA_POOL_NAME_FORMAT.formatted(replicaProperties.getName());
+            replica.setPoolName(replicaName);
+            replica.setReadOnly(true);
+            replica.setMaximumPoolSize(replicaProperties.getMaximumPoolSize());
+            replica.setMetricRegistry(meterRegistry);
+            replicas.put(replicaName, replica);
+        }
+        return new ReplicaDataSourcePools(primary, replicas);
+    }
+
+    @Bean
+    public ReplicaHealthChecker replicaHealthChecker(ReplicaDataSourcePools replicaDataSourcePools, MeterRegistry meterRegistry) {
+        return new ReplicaHealthChecker(replicaDataSourcePools.replicas(),
+                replicaRoutingProperties.getMaxReplicationLagInSeconds(),
+                replicaRoutingProperties.getHealthCheckTimeoutInSeconds(),
+                meterRegistry);
+    }
+
+    /**
+     * Produces the application {@link DataSource} routing read-only transactions to read replicas.
+     * Each pool is wrapped with {@link DeadlineDataSource}, as only the pool the connection is routed to can bound
+     * the connection acquisition with the request deadline.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaDataSourcePools replicaDataSourcePools, ReplicaHealthChecker replicaHealthChecker,
+                                 MeterRegistry meterRegistry) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicaDataSourcePools.replicas().forEach((replicaName, replica) ->
+                replicas.put(replicaName, new DeadlineDataSource(replica, meterRegistry)));
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(
+                new DeadlineDataSource(replicaDataSourcePools.primary(), meterRegistry), replicas, replicaHealthChecker,
+                meterRegistry);
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy();
+        dataSource.setTargetDataSource(routingDataSource);
+        dataSource.setDefaultAutoCommit(true);
+        dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        dataSource.afterPropertiesSet();
+        return dataSource;
+    }
+}
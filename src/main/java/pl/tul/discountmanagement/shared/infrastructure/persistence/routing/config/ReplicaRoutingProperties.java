@@ -0,0 +1,45 @@
+package pl.tul.discountmanagement.shared.infrastructure.persistence.routing.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static pl.tul.discountmanagement.shared.infrastructure.persistence.routing.config.ReplicaRoutingProperties.REPLICA_ROUTING_PREFIX;
+
+/**
+ * Properties of the read-replica routing.
+ * Properties are configured in the {@code application.yml} files under 'replica-routing' entry.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = REPLICA_ROUTING_PREFIX)
+@Configuration
+public class ReplicaRoutingProperties {
+
+    public static final String REPLICA_ROUTING_PREFIX = "replica-routing";
+    public static final String ENABLED_PROPERTY = "enabled";
+    public static final String HEALTH_CHECK_INTERVAL_PLACEHOLDER = "${" + REPLICA_ROUTING_PREFIX + ".health-check-interval-in-milliseconds:5000}";
+
+    private boolean enabled = false;
+    private long maxReplicationLagInSeconds = 5L;
+    private long healthCheckIntervalInMilliseconds = 5000L;
+    private int healthCheckTimeoutInSeconds = 2;
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * Connection properties of a single read replica.
+     */
+    @Getter
+    @Setter
+    public static class Replica {
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
@@ -0,0 +1,21 @@
+package pl.tul.discountmanagement.shared.infrastructure.persistence.routing.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import java.util.Map;
+
+/**
+ * Holder of the connection pools of the primary database and its read replicas.
+ * Closing the holder closes all the pools.
+ *
+ * @param primary  connection pool of the primary database.
+ * @param replicas connection pools of the read replicas, keyed by replica name.
+ */
+public record ReplicaDataSourcePools(HikariDataSource primary, Map<String, HikariDataSource> replicas) implements AutoCloseable {
+
+    @Override
+    public void close() {
+        replicas.values().forEach(HikariDataSource::close);
+        primary.close();
+    }
+}
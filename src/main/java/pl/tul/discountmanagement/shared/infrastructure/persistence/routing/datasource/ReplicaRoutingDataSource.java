@@ -0,0 +1,63 @@
+package pl.tul.discountmanagement.shared.infrastructure.persistence.routing.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import pl.tul.discountmanagement.shared.infrastructure.persistence.routing.health.ReplicaHealthChecker;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Objects.isNull;
+
+/**
+ * {@link AbstractRoutingDataSource} sending read-only transactions to one of the healthy read replicas (round-robin)
+ * and all the other work to the primary database. When no replica is healthy or lags behind the primary too much,
+ * read-only transactions fall back to the primary database.
+ * The read-only flag of the transaction is known only after the transaction has started, so the routing data source
+ * has to be wrapped with {@link LazyConnectionDataSourceProxy}, deferring fetching the actual connection until
+ * the first statement is executed.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY_KEY = "primary";
+    private static final String ROUTED_CONNECTIONS_METRIC = "datasource.routing.connections";
+    private static final String REPLICA_FALLBACKS_METRIC = "datasource.routing.replica.fallbacks";
+    private static final String TARGET_TAG = "target";
+
+    private final ReplicaHealthChecker replicaHealthChecker;
+    private final Map<String, Counter> routedConnectionCounters = new HashMap<>();
+    private final Counter replicaFallbackCounter;
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, ? extends DataSource> replicas,
+                                    ReplicaHealthChecker replicaHealthChecker, MeterRegistry meterRegistry) {
+        this.replicaHealthChecker = replicaHealthChecker;
+        Map<Object, Object> targetDataSources = new HashMap<>(replicas);
+        targetDataSources.put(PRIMARY_KEY, primary);
+        targetDataSources.keySet().forEach(key -> routedConnectionCounters.put((String) key,
+                meterRegistry.counter(ROUTED_CONNECTIONS_METRIC, TARGET_TAG, (String) key)));
+        this.replicaFallbackCounter = meterRegistry.counter(REPLICA_FALLBACKS_METRIC);
+        setTargetDataSources(targetDataSources);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String key = PRIMARY_KEY;
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            String replica = replicaHealthChecker.nextHealthyReplica();
+            if (isNull(replica)) {
+                replicaFallbackCounter.increment();
+            } else {
+                key = replica;
+            }
+        }
+        routedConnectionCounters.get(key).increment();
+        return key;
+    }
+}
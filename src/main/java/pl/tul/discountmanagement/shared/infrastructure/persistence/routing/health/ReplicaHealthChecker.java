@@ -0,0 +1,138 @@
+package pl.tul.discountmanagement.shared.infrastructure.persistence.routing.health;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static pl.tul.discountmanagement.shared.infrastructure.persistence.routing.config.ReplicaRoutingProperties.HEALTH_CHECK_INTERVAL_PLACEHOLDER;
+
+/**
+ * Periodically verifies that read replicas are reachable and that their replication lag does not exceed the
+ * configured limit. Replicas failing the check are excluded from routing until they pass it again.
+ * A database which is not in recovery (e.g. a primary used as a local stand-in for a replica) is reported with no lag.
+ */
+@Slf4j
+public class ReplicaHealthChecker {
+
+    private static final String REPLICATION_LAG_QUERY = """
+            SELECT CASE
+                       WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE COALESCE(EXTRACT(EPOCH FROM (now() - pg_last_xact_replay_timestamp())), 0)
+                   END""";
+    private static final String REPLICA_HEALTHY_METRIC = "datasource.replica.healthy";
+    private static final String REPLICA_LAG_METRIC = "datasource.replica.lag";
+    private static final String REPLICA_TAG = "replica";
+    private static final String SECONDS_UNIT = "seconds";
+    private static final String REPLICA_UNHEALTHY_MSG = "Replica '{}' excluded from routing, replication lag is '{}' s.";
+    private static final String REPLICA_UNREACHABLE_MSG = "Replica '{}' excluded from routing, health check failed.";
+    private static final String REPLICA_HEALTHY_MSG = "Replica '{}' included in routing, replication lag is '{}' s.";
+
+    private final List<ReplicaState> replicaStates = new ArrayList<>();
+    private final AtomicInteger roundRobinCounter = new AtomicInteger();
+    private final long maxReplicationLagInSeconds;
+    private final int healthCheckTimeoutInSeconds;
+    private volatile List<String> healthyReplicas = List.of();
+
+    public ReplicaHealthChecker(Map<String, ? extends DataSource> replicas, long maxReplicationLagInSeconds,
+                                int healthCheckTimeoutInSeconds, MeterRegistry meterRegistry) {
+        this.maxReplicationLagInSeconds = maxReplicationLagInSeconds;
+        this.healthCheckTimeoutInSeconds = healthCheckTimeoutInSeconds;
+        replicas.forEach((name, dataSource) -> {
+            ReplicaState replicaState = new ReplicaState(name, dataSource);
+            replicaStates.add(replicaState);
+            Gauge.builder(REPLICA_HEALTHY_METRIC, replicaState, state -> state.healthy ? 1 : 0)
+                    .tag(REPLICA_TAG, name)
+                    .register(meterRegistry);
+            Gauge.builder(REPLICA_LAG_METRIC, replicaState, state -> state.lagInSeconds)
+                    .tag(REPLICA_TAG, name)
+                    .baseUnit(SECONDS_UNIT)
+                    .register(meterRegistry);
+        });
+    }
+
+    /**
+     * Return the name of the next healthy replica in a round-robin manner.
+     *
+     * @return the name of the next healthy replica or null when there is no healthy replica.
+     */
+    @Nullable
+    public String nextHealthyReplica() {
+        List<String> replicas = healthyReplicas;
+        if (replicas.isEmpty()) {
+            return null;
+        }
+        return replicas.get(Math.floorMod(roundRobinCounter.getAndIncrement(), replicas.size()));
+    }
+
+    /**
+     * Verify the health and replication lag of all the replicas.
+     */
+    @Scheduled(fixedDelayString = HEALTH_CHECK_INTERVAL_PLACEHOLDER)
+    public void checkReplicas() {
+        List<String> replicas = new ArrayList<>();
+        for (ReplicaState replicaState : replicaStates) {
+            boolean wasHealthy = replicaState.healthy;
+            checkReplica(replicaState);
+            if (replicaState.healthy) {
+                replicas.add(replicaState.name);
+            }
+            logHealthChange(replicaState, wasHealthy);
+        }
+        healthyReplicas = List.copyOf(replicas);
+    }
+
+    private void checkReplica(ReplicaState replicaState) {
+        try (Connection connection = replicaState.dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(REPLICATION_LAG_QUERY)) {
+            statement.setQueryTimeout(healthCheckTimeoutInSeconds);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                replicaState.lagInSeconds = resultSet.getDouble(1);
+                replicaState.healthy = replicaState.lagInSeconds <= maxReplicationLagInSeconds;
+                replicaState.reachable = true;
+            }
+        } catch (SQLException e) {
+            log.debug(REPLICA_UNREACHABLE_MSG, replicaState.name, e);
+            replicaState.healthy = false;
+            replicaState.reachable = false;
+        }
+    }
+
+    private void logHealthChange(ReplicaState replicaState, boolean wasHealthy) {
+        if (wasHealthy == replicaState.healthy) {
+            return;
+        }
+        if (replicaState.healthy) {
+            log.info(REPLICA_HEALTHY_MSG, replicaState.name, replicaState.lagInSeconds);
+        } else if (replicaState.reachable) {
+            log.warn(REPLICA_UNHEALTHY_MSG, replicaState.name, replicaState.lagInSeconds);
+        } else {
+            log.warn(REPLICA_UNREACHABLE_MSG, replicaState.name);
+        }
+    }
+
+    private static class ReplicaState {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy;
+        private volatile boolean reachable;
+        private volatile double lagInSeconds;
+
+        private ReplicaState(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package pl.tul.discountmanagement.shared.infrastructure.ratelimit;
+
+/**
+ * Result of consuming a token from a {@link TokenBucket}.
+ *
+ * @param allowed                   whether the token was consumed and the request may proceed.
+ * @param limit                     capacity of the bucket.
+ * @param remaining                 tokens left in the bucket.
+ * @param resetInSeconds            time until the bucket is full again.
+ * @param retryAfterInSeconds       time until a token is available, zero if the request was allowed.
+ */
+public record RateLimitDecision(boolean allowed, long limit, long remaining, long resetInSeconds, long retryAfterInSeconds) {
+}
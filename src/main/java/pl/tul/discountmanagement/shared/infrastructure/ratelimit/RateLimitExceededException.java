@@ -0,0 +1,33 @@
+package pl.tul.discountmanagement.shared.infrastructure.ratelimit;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * {@link ResponseStatusException} indicating that the user exceeded the rate limit of the permission.
+ * Results in the '429 Too Many Requests' response with the 'Retry-After' and 'RateLimit-*' headers.
+ */
+public class RateLimitExceededException extends ResponseStatusException {
+    private static final String MESSAGE = "Rate limit of '%s' permission exceeded";
+
+    private final transient RateLimitDecision decision;
+
+    public RateLimitExceededException(String permission, RateLimitDecision decision) {
+        super(HttpStatus.TOO_MANY_REQUESTS, MESSAGE.formatted(permission));
+        this.decision = decision;
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        HttpHeaders headers = RateLimitHeaders.toHeaders(decision);
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(decision.retryAfterInSeconds()));
+        return headers;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        // rejections are frequent while a user floods the service and the stack trace carries no information
+        return this;
+    }
+}
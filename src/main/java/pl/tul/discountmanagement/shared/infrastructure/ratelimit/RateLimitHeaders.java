@@ -0,0 +1,42 @@
+package pl.tul.discountmanagement.shared.infrastructure.ratelimit;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * 'RateLimit-*' response headers describing the state of the rate limit of the user.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RateLimitHeaders {
+    public static final String LIMIT_HEADER = "RateLimit-Limit";
+    public static final String REMAINING_HEADER = "RateLimit-Remaining";
+    public static final String RESET_HEADER = "RateLimit-Reset";
+
+    /**
+     * Set the headers on the response.
+     *
+     * @param response the HTTP response.
+     * @param decision the rate limit decision.
+     */
+    public static void apply(HttpServletResponse response, RateLimitDecision decision) {
+        response.setHeader(LIMIT_HEADER, String.valueOf(decision.limit()));
+        response.setHeader(REMAINING_HEADER, String.valueOf(decision.remaining()));
+        response.setHeader(RESET_HEADER, String.valueOf(decision.resetInSeconds()));
+    }
+
+    /**
+     * Return the headers as {@link HttpHeaders}.
+     *
+     * @param decision the rate limit decision.
+     * @return the headers.
+     */
+    public static HttpHeaders toHeaders(RateLimitDecision decision) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(LIMIT_HEADER, String.valueOf(decision.limit()));
+        headers.set(REMAINING_HEADER, String.valueOf(decision.remaining()));
+        headers.set(RESET_HEADER, String.valueOf(decision.resetInSeconds()));
+        return headers;
+    }
+}
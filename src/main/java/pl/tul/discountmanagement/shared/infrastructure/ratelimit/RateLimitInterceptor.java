@@ -0,0 +1,45 @@
+package pl.tul.discountmanagement.shared.infrastructure.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import pl.tul.discountmanagement.shared.infrastructure.security.dto.UserDetailsDTO;
+
+import static java.util.Objects.isNull;
+
+/**
+ * {@link HandlerInterceptor} applying the per-user rate limits to the handler methods annotated with {@link RateLimited}.
+ * The user is identified by the user id claim of the JWT token. Limited responses carry the 'RateLimit-*' headers,
+ * requests over the limit are rejected with {@link RateLimitExceededException}.
+ */
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private final UserRateLimiter userRateLimiter;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        RateLimited rateLimited = handlerMethod.getMethodAnnotation(RateLimited.class);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (isNull(rateLimited) || isNull(authentication)
+                || !(authentication.getPrincipal() instanceof UserDetailsDTO userDetailsDTO)) {
+            return true;
+        }
+        RateLimitDecision decision = userRateLimiter.tryConsume(userDetailsDTO.userId(), rateLimited.permission());
+        if (isNull(decision)) {
+            return true;
+        }
+        if (!decision.allowed()) {
+            throw new RateLimitExceededException(rateLimited.permission(), decision);
+        }
+        RateLimitHeaders.apply(response, decision);
+        return true;
+    }
+}
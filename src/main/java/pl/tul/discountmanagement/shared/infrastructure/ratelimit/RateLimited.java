@@ -0,0 +1,24 @@
+package pl.tul.discountmanagement.shared.infrastructure.ratelimit;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a handler method as rate limited per user, with the limit configured for the given permission
+ * in the tier of the user.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimited {
+
+    /**
+     * Return the permission the limit of which applies to the handler method.
+     *
+     * @return the permission.
+     */
+    String permission();
+}
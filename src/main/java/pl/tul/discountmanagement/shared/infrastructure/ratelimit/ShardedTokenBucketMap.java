@@ -0,0 +1,120 @@
+package pl.tul.discountmanagement.shared.infrastructure.ratelimit;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * Bounded map of the {@link TokenBucket}s of users, split into independent shards by the user id, so that the lookups,
+ * the insertions and the evictions of different users do not contend on a single structure.
+ * Buckets which are full again carry no state, so they are evicted periodically via {@link #evictFullBuckets(long)} and when
+ * a shard reaches its capacity. If a shard is still full of non-full buckets, arbitrary buckets are evicted - their users
+ * get a fresh bucket, which errs on the side of letting requests through.
+ */
+public class ShardedTokenBucketMap {
+
+    private static final String INVALID_SHARD_COUNT_MSG = "Shard count must be positive, was: %d";
+
+    private final Shard[] shards;
+    private final int mask;
+    private final int maxBucketsPerShard;
+
+    /**
+     * Create a map.
+     *
+     * @param requestedShardCount minimal number of shards, rounded up to a power of two.
+     * @param maxBucketsPerShard  maximal number of buckets kept per shard.
+     */
+    public ShardedTokenBucketMap(int requestedShardCount, int maxBucketsPerShard) {
+        if (requestedShardCount <= 0) {
+            throw new IllegalArgumentException(INVALID_SHARD_COUNT_MSG.formatted(requestedShardCount));
+        }
+        int shardCount = requestedShardCount == 1 ? 1 : Integer.highestOneBit(requestedShardCount - 1) << 1;
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard();
+        }
+        this.mask = shardCount - 1;
+        this.maxBucketsPerShard = maxBucketsPerShard;
+    }
+
+    /**
+     * Return the bucket of the user, creating it if there is none.
+     *
+     * @param userId                the user identifier.
+     * @param capacity              capacity of a created bucket.
+     * @param refillTokensPerSecond refill rate of a created bucket.
+     * @param nowInNanoseconds      the current {@link System#nanoTime()}.
+     * @return the bucket of the user.
+     */
+    public TokenBucket getOrCreate(UUID userId, long capacity, double refillTokensPerSecond, long nowInNanoseconds) {
+        Shard shard = shards[spread(userId) & mask];
+        TokenBucket bucket = shard.buckets.get(userId);
+        if (nonNull(bucket)) {
+            return bucket;
+        }
+        if (shard.buckets.size() >= maxBucketsPerShard) {
+            shard.makeRoom(maxBucketsPerShard, nowInNanoseconds);
+        }
+        TokenBucket createdBucket = new TokenBucket(capacity, refillTokensPerSecond, nowInNanoseconds);
+        bucket = shard.buckets.putIfAbsent(userId, createdBucket);
+        return nonNull(bucket) ? bucket : createdBucket;
+    }
+
+    /**
+     * Evict the buckets which are full again.
+     *
+     * @param nowInNanoseconds the current {@link System#nanoTime()}.
+     */
+    public void evictFullBuckets(long nowInNanoseconds) {
+        for (Shard shard : shards) {
+            shard.buckets.values().removeIf(bucket -> bucket.isFull(nowInNanoseconds));
+        }
+    }
+
+    /**
+     * Return the number of buckets in all the shards.
+     *
+     * @return the number of buckets.
+     */
+    public long size() {
+        long size = 0;
+        for (Shard shard : shards) {
+            size += shard.buckets.size();
+        }
+        return size;
+    }
+
+    private static int spread(UUID userId) {
+        long hash = userId.getMostSignificantBits() ^ userId.getLeastSignificantBits();
+        int spreadHash = (int) (hash ^ (hash >>> 32));
+        return spreadHash ^ (spreadHash >>> 16);
+    }
+
+    private static final class Shard {
+
+        private final Map<UUID, TokenBucket> buckets = new ConcurrentHashMap<>();
+        private final AtomicBoolean evicting = new AtomicBoolean();
+
+        private void makeRoom(int maxBuckets, long nowInNanoseconds) {
+            // a single thread evicts at a time, the others insert meanwhile and may exceed the capacity slightly
+            if (!evicting.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                buckets.values().removeIf(bucket -> bucket.isFull(nowInNanoseconds));
+                Iterator<TokenBucket> iterator = buckets.values().iterator();
+                while (buckets.size() >= maxBuckets && iterator.hasNext()) {
+                    iterator.next();
+                    iterator.remove();
+                }
+            } finally {
+                evicting.set(false);
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package pl.tul.discountmanagement.shared.infrastructure.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket.
+ * Instead of a token count and a refill timestamp, which would have to be updated together, the whole state is a single
+ * point in time at which the bucket becomes full again - each consumed token moves it one refill interval ahead, and the bucket
+ * holds {@code capacity - (fullAt - now) / interval} tokens at any moment. Consuming a token is therefore a single CAS,
+ * and a bucket which is full again carries no state at all, so it can be dropped and recreated without changing the outcome.
+ */
+public class TokenBucket {
+
+    private static final long NANOSECONDS_IN_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final String INVALID_CAPACITY_MSG = "Capacity must be positive, was: %d";
+    private static final String INVALID_REFILL_RATE_MSG = "Refill rate must be positive, was: %s";
+
+    private final long capacity;
+    private final long refillIntervalInNanoseconds;
+    private final long burstInNanoseconds;
+    private final AtomicLong fullAt;
+
+    /**
+     * Create a full bucket.
+     *
+     * @param capacity              maximal number of tokens.
+     * @param refillTokensPerSecond number of tokens added per second.
+     * @param nowInNanoseconds      the current {@link System#nanoTime()}.
+     * @throws IllegalArgumentException if the capacity or the refill rate is not positive.
+     */
+    public TokenBucket(long capacity, double refillTokensPerSecond, long nowInNanoseconds) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException(INVALID_CAPACITY_MSG.formatted(capacity));
+        }
+        // also rejects NaN, which would make the refill interval zero
+        if (!(refillTokensPerSecond > 0)) {
+            throw new IllegalArgumentException(INVALID_REFILL_RATE_MSG.formatted(refillTokensPerSecond));
+        }
+        this.capacity = capacity;
+        this.refillIntervalInNanoseconds = Math.max(1L, (long) (NANOSECONDS_IN_SECOND / refillTokensPerSecond));
+        this.burstInNanoseconds = capacity * refillIntervalInNanoseconds;
+        this.fullAt = new AtomicLong(nowInNanoseconds);
+    }
+
+    /**
+     * Try to consume a token, never blocks.
+     *
+     * @param nowInNanoseconds the current {@link System#nanoTime()}.
+     * @return the decision.
+     */
+    public RateLimitDecision tryConsume(long nowInNanoseconds) {
+        while (true) {
+            long currentFullAt = fullAt.get();
+            long base = currentFullAt - nowInNanoseconds > 0 ? currentFullAt : nowInNanoseconds;
+            long newFullAt = base + refillIntervalInNanoseconds;
+            if (newFullAt - nowInNanoseconds > burstInNanoseconds) {
+                return new RateLimitDecision(false, capacity, 0L, toSeconds(base - nowInNanoseconds),
+                        toSeconds(newFullAt - burstInNanoseconds - nowInNanoseconds));
+            }
+            if (fullAt.compareAndSet(currentFullAt, newFullAt)) {
+                long remaining = (burstInNanoseconds - (newFullAt - nowInNanoseconds)) / refillIntervalInNanoseconds;
+                return new RateLimitDecision(true, capacity, remaining, toSeconds(newFullAt - nowInNanoseconds), 0L);
+            }
+        }
+    }
+
+    /**
+     * Return boolean indicating whether the bucket is full, i.e. carries no state.
+     *
+     * @param nowInNanoseconds the current {@link System#nanoTime()}.
+     * @return boolean indicating whether the bucket is full.
+     */
+    public boolean isFull(long nowInNanoseconds) {
+        return fullAt.get() - nowInNanoseconds <= 0;
+    }
+
+    private static long toSeconds(long nanoseconds) {
+        return (nanoseconds + NANOSECONDS_IN_SECOND - 1) / NANOSECONDS_IN_SECOND;
+    }
+}
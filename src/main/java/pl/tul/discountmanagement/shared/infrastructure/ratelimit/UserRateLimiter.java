@@ -0,0 +1,101 @@
+package pl.tul.discountmanagement.shared.infrastructure.ratelimit;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.Nullable;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import pl.tul.discountmanagement.shared.infrastructure.ratelimit.config.RateLimitProperties;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Objects.isNull;
+import static org.apache.commons.lang3.BooleanUtils.TRUE;
+import static pl.tul.discountmanagement.shared.infrastructure.ratelimit.config.RateLimitProperties.ENABLED_PROPERTY;
+import static pl.tul.discountmanagement.shared.infrastructure.ratelimit.config.RateLimitProperties.EVICTION_INTERVAL_PLACEHOLDER;
+import static pl.tul.discountmanagement.shared.infrastructure.ratelimit.config.RateLimitProperties.RATE_LIMIT_PREFIX;
+
+/**
+ * Rate limiter keeping a {@link TokenBucket} per user and permission, with the bucket parameters taken from the tier of the user.
+ * Buckets of each permission are kept in a separate {@link ShardedTokenBucketMap}, and the buckets which refilled completely
+ * are evicted periodically. Rejected requests are counted in the 'rate.limit.rejected' metric, tagged with the permission,
+ * and the number of kept buckets is exposed as the 'rate.limit.buckets' metric.
+ * Class is injected into Spring application context if and only if 'rate-limit.enabled' property is set to 'true'.
+ */
+@Component
+@ConditionalOnProperty(prefix = RATE_LIMIT_PREFIX, name = ENABLED_PROPERTY, havingValue = TRUE)
+public class UserRateLimiter {
+
+    private static final String REJECTED_METRIC = "rate.limit.rejected";
+    private static final String BUCKETS_METRIC = "rate.limit.buckets";
+    private static final String PERMISSION_TAG = "permission";
+
+    private final RateLimitProperties rateLimitProperties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, ShardedTokenBucketMap> bucketsByPermission = new ConcurrentHashMap<>();
+
+    public UserRateLimiter(RateLimitProperties rateLimitProperties, MeterRegistry meterRegistry) {
+        this.rateLimitProperties = rateLimitProperties;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder(BUCKETS_METRIC, this, UserRateLimiter::getBucketCount)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Try to consume a token of the user for the permission, never blocks.
+     *
+     * @param userId     the user identifier.
+     * @param permission the permission.
+     * @return the decision or null if the permission is not limited in the tier of the user.
+     */
+    @Nullable
+    public RateLimitDecision tryConsume(UUID userId, String permission) {
+        RateLimitProperties.Limit limit = getLimit(userId, permission);
+        if (isNull(limit)) {
+            return null;
+        }
+        long now = System.nanoTime();
+        RateLimitDecision decision = bucketsByPermission
+                .computeIfAbsent(permission, key -> new ShardedTokenBucketMap(rateLimitProperties.getShardCount(),
+                        rateLimitProperties.getMaxBucketsPerShard()))
+                .getOrCreate(userId, limit.getCapacity(), limit.getRefillTokensPerSecond(), now)
+                .tryConsume(now);
+        if (!decision.allowed()) {
+            meterRegistry.counter(REJECTED_METRIC, PERMISSION_TAG, permission).increment();
+        }
+        return decision;
+    }
+
+    /**
+     * Evict the buckets which refilled completely, as they carry no state.
+     */
+    @Scheduled(fixedDelayString = EVICTION_INTERVAL_PLACEHOLDER, initialDelayString = EVICTION_INTERVAL_PLACEHOLDER)
+    public void evictFullBuckets() {
+        long now = System.nanoTime();
+        bucketsByPermission.values().forEach(buckets -> buckets.evictFullBuckets(now));
+    }
+
+    private long getBucketCount() {
+        return bucketsByPermission.values().stream()
+                .mapToLong(ShardedTokenBucketMap::size)
+                .sum();
+    }
+
+    @Nullable
+    private RateLimitProperties.Limit getLimit(UUID userId, String permission) {
+        String tier = rateLimitProperties.getUserTiers().getOrDefault(userId, rateLimitProperties.getDefaultTier());
+        Map<String, RateLimitProperties.Limit> limits = rateLimitProperties.getTiers().get(tier);
+        if (isNull(limits)) {
+            return null;
+        }
+        return limits.get(toPropertyKey(permission));
+    }
+
+    private static String toPropertyKey(String permission) {
+        return permission.toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+}
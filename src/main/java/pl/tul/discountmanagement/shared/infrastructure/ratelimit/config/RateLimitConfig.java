@@ -0,0 +1,39 @@
+package pl.tul.discountmanagement.shared.infrastructure.ratelimit.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import pl.tul.discountmanagement.shared.infrastructure.ratelimit.RateLimitInterceptor;
+import pl.tul.discountmanagement.shared.infrastructure.ratelimit.UserRateLimiter;
+
+import static org.apache.commons.lang3.BooleanUtils.TRUE;
+import static pl.tul.discountmanagement.shared.infrastructure.ratelimit.config.RateLimitProperties.ENABLED_PROPERTY;
+import static pl.tul.discountmanagement.shared.infrastructure.ratelimit.config.RateLimitProperties.RATE_LIMIT_PREFIX;
+
+/**
+ * Configuration registering {@link RateLimitInterceptor}.
+ * Configuration is applied if and only if 'rate-limit.enabled' property is set to 'true'.
+ */
+@ConditionalOnProperty(prefix = RATE_LIMIT_PREFIX, name = ENABLED_PROPERTY, havingValue = TRUE)
+@Configuration
+public class RateLimitConfig implements WebMvcConfigurer {
+
+    private final RateLimitInterceptor rateLimitInterceptor;
+
+    public RateLimitConfig(UserRateLimiter userRateLimiter) {
+        this.rateLimitInterceptor = new RateLimitInterceptor(userRateLimiter);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The rate limit is checked before the concurrency limit, so that a single user flooding the service is rejected
+     * without taking a share of the concurrency limit.
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(rateLimitInterceptor)
+                .order(Ordered.HIGHEST_PRECEDENCE);
+    }
+}
@@ -0,0 +1,76 @@
+package pl.tul.discountmanagement.shared.infrastructure.ratelimit.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static pl.tul.discountmanagement.shared.infrastructure.ratelimit.config.RateLimitProperties.RATE_LIMIT_PREFIX;
+
+/**
+ * Properties of the per-user rate limiting.
+ * Properties are configured in the {@code application.yml} files under 'rate-limit' entry
+ * and validated on startup, so that a misconfigured limit fails fast instead of breaking the token buckets.
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = RATE_LIMIT_PREFIX)
+@Configuration
+public class RateLimitProperties {
+
+    public static final String RATE_LIMIT_PREFIX = "rate-limit";
+    public static final String ENABLED_PROPERTY = "enabled";
+    public static final String EVICTION_INTERVAL_PLACEHOLDER = "${" + RATE_LIMIT_PREFIX + ".eviction-interval-in-milliseconds:60000}";
+
+    private boolean enabled = true;
+    /**
+     * Number of independent bucket maps, rounded up to a power of two. Users are spread over the shards by their id.
+     */
+    @Positive
+    private int shardCount = 64;
+    /**
+     * Maximal number of buckets kept per shard and permission.
+     */
+    @Positive
+    private int maxBucketsPerShard = 16384;
+    /**
+     * Interval of removing the buckets of users which have not used them long enough for the buckets to refill.
+     */
+    @Positive
+    private long evictionIntervalInMilliseconds = 60000L;
+    @NotBlank
+    private String defaultTier = "standard";
+    /**
+     * Rate limits of the permissions, keyed by tier name and permission name written in kebab case (e.g. 'read-price').
+     * Permissions without a limit in the tier of the user are not limited.
+     */
+    private Map<String, Map<String, @Valid Limit>> tiers = new HashMap<>();
+    /**
+     * Tiers of the users, users not listed here get the default tier.
+     */
+    private Map<UUID, String> userTiers = new HashMap<>();
+
+    /**
+     * Token bucket parameters.
+     */
+    @Getter
+    @Setter
+    public static class Limit {
+        /**
+         * Maximal number of requests made in a burst.
+         */
+        @Positive
+        private int capacity;
+        @Positive
+        private double refillTokensPerSecond;
+    }
+}
@@ -0,0 +1,13 @@
+package pl.tul.discountmanagement.shared.infrastructure.scheduling.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuration enabling execution of {@link org.springframework.scheduling.annotation.Scheduled} tasks.
+ * Size of the scheduler thread pool is configured via 'spring.task.scheduling.pool.size' property.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
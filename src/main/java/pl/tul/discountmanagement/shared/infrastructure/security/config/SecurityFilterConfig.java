@@ -35,7 +35,9 @@ public class SecurityFilterConfig {
     private final OAuth2ResourceServerProperties oAuth2ResourceServerProperties;
 
     private static final String SUBDIRECTORIES_PATTERN = "/**";
-    private static final String[] ALLOWED_URLS = {};
+    private static final String HEALTH_URL = "/actuator/health";
+    // liveness and readiness probes are sent without a token
+    private static final String[] ALLOWED_URLS = {HEALTH_URL, HEALTH_URL + SUBDIRECTORIES_PATTERN};
 
     @Bean
     public JwtDecoder jwtDecoder() {
@@ -9,6 +9,7 @@ import org.springframework.security.oauth2.server.resource.InvalidBearerTokenExc
 import org.springframework.stereotype.Component;
 import pl.tul.discountmanagement.shared.infrastructure.security.dto.AuthenticationTokenDTO;
 import pl.tul.discountmanagement.shared.infrastructure.security.dto.UserDetailsDTO;
+import pl.tul.discountmanagement.shared.infrastructure.security.jfr.TokenConversionEvent;
 
 import java.util.Collection;
 import java.util.Optional;
@@ -44,11 +45,22 @@ public class AuthenticationTokenConverter implements Converter<Jwt, Authenticati
      */
     @Override
     public AuthenticationTokenDTO convert(Jwt jwt) {
-        Set<SimpleGrantedAuthority> permissionAuthorities = extractPermissionAuthorities(jwt);
-        UserDetailsDTO userDetailsDTO = extractUserDetails(jwt);
-        AuthenticationTokenDTO authenticationTokenDTO = new AuthenticationTokenDTO(permissionAuthorities, jwt, userDetailsDTO);
-        authenticationTokenDTO.setAuthenticated(true);
-        return authenticationTokenDTO;
+        TokenConversionEvent event = new TokenConversionEvent();
+        event.begin();
+        try {
+            Set<SimpleGrantedAuthority> permissionAuthorities = extractPermissionAuthorities(jwt);
+            event.permissionCount = permissionAuthorities.size();
+            UserDetailsDTO userDetailsDTO = extractUserDetails(jwt);
+            AuthenticationTokenDTO authenticationTokenDTO = new AuthenticationTokenDTO(permissionAuthorities, jwt, userDetailsDTO);
+            authenticationTokenDTO.setAuthenticated(true);
+            event.succeeded = true;
+            return authenticationTokenDTO;
+        } finally {
+            if (event.shouldCommit()) {
+                event.userId = String.valueOf(jwt.getClaims().get(USER_ID_CLAIM));
+                event.commit();
+            }
+        }
     }
 
     private Set<SimpleGrantedAuthority> extractPermissionAuthorities(Jwt jwt) {
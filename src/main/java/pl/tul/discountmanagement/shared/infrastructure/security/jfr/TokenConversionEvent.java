@@ -0,0 +1,31 @@
+package pl.tul.discountmanagement.shared.infrastructure.security.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder event emitted for each conversion of a JWT token into the authentication token.
+ */
+@Name(TokenConversionEvent.NAME)
+@Label("Token Conversion")
+@Description("Conversion of a JWT token into the authentication token")
+@Category({"Discount Management", "Security"})
+@StackTrace(false)
+public class TokenConversionEvent extends Event {
+
+    public static final String NAME = "pl.tul.discountmanagement.TokenConversion";
+
+    @Label("User Id")
+    public String userId;
+
+    @Label("Permission Count")
+    public int permissionCount;
+
+    @Label("Succeeded")
+    @Description("Whether the token was converted successfully")
+    public boolean succeeded;
+}
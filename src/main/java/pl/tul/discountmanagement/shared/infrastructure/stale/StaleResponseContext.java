@@ -0,0 +1,55 @@
+package pl.tul.discountmanagement.shared.infrastructure.stale;
+
+import jakarta.annotation.Nullable;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Instant;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Marker of the requests served with stale data, e.g. with the last known value while the database is unavailable.
+ * The marker is kept in the attributes of the request handled by the current thread, so it never outlives the request,
+ * and is turned into the response headers by the web layer.
+ */
+public final class StaleResponseContext {
+
+    private static final String STALE_SINCE_ATTRIBUTE = StaleResponseContext.class.getName() + ".staleSince";
+
+    private StaleResponseContext() {
+    }
+
+    /**
+     * Mark the request handled by the current thread as served with stale data.
+     * Does nothing if the current thread does not handle a request, e.g. during the warm-up.
+     *
+     * @param staleSince the moment the served data was last known to be fresh.
+     */
+    public static void markStale(Instant staleSince) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (isNull(requestAttributes)) {
+            return;
+        }
+        Instant currentStaleSince = getStaleSince(requestAttributes);
+        if (isNull(currentStaleSince) || staleSince.isBefore(currentStaleSince)) {
+            requestAttributes.setAttribute(STALE_SINCE_ATTRIBUTE, staleSince, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    /**
+     * Return the moment the data served for the request handled by the current thread was last known to be fresh.
+     *
+     * @return the moment or null if the request is not served with stale data.
+     */
+    @Nullable
+    public static Instant getStaleSince() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        return isNull(requestAttributes) ? null : getStaleSince(requestAttributes);
+    }
+
+    @Nullable
+    private static Instant getStaleSince(RequestAttributes requestAttributes) {
+        return (Instant) requestAttributes.getAttribute(STALE_SINCE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    }
+}
@@ -0,0 +1,37 @@
+package pl.tul.discountmanagement.shared.infrastructure.tracking;
+
+/**
+ * Holder of the lookup tracking state of the current thread.
+ * Tracking is suppressed for the lookups which do not come from the clients, e.g. during the warm-up, so that they do not
+ * inflate the counts of the products they happen to request.
+ */
+public final class LookupTrackingContext {
+
+    private static final ThreadLocal<Boolean> SUPPRESSED = new ThreadLocal<>();
+
+    private LookupTrackingContext() {
+    }
+
+    /**
+     * Return whether the lookups of the current thread are excluded from tracking.
+     *
+     * @return true if tracking is suppressed for the current thread.
+     */
+    public static boolean isSuppressed() {
+        return Boolean.TRUE.equals(SUPPRESSED.get());
+    }
+
+    /**
+     * Exclude the lookups of the current thread from tracking.
+     */
+    public static void suppress() {
+        SUPPRESSED.set(Boolean.TRUE);
+    }
+
+    /**
+     * Include the lookups of the current thread in tracking again.
+     */
+    public static void clear() {
+        SUPPRESSED.remove();
+    }
+}
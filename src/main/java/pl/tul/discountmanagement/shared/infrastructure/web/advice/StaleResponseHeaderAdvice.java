@@ -0,0 +1,48 @@
+package pl.tul.discountmanagement.shared.infrastructure.web.advice;
+
+import jakarta.annotation.Nullable;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+import pl.tul.discountmanagement.shared.infrastructure.stale.StaleResponseContext;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static java.util.Objects.isNull;
+import static org.apache.commons.lang3.BooleanUtils.TRUE;
+
+/**
+ * The class of {@link ControllerAdvice} marking the responses served with stale data, see {@link StaleResponseContext}.
+ * Such responses carry the 'X-Stale' header and the 'Age' header with the number of seconds since the data was last known
+ * to be fresh, so the clients can tell a degraded response from a regular one.
+ */
+@ControllerAdvice
+public class StaleResponseHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String STALE_HEADER = "X-Stale";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(@Nullable Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        Instant staleSince = StaleResponseContext.getStaleSince();
+        if (isNull(staleSince)) {
+            return body;
+        }
+        long ageInSeconds = Math.max(0L, Duration.between(staleSince, Instant.now()).toSeconds());
+        response.getHeaders().set(STALE_HEADER, TRUE);
+        response.getHeaders().set(HttpHeaders.AGE, String.valueOf(ageInSeconds));
+        return body;
+    }
+}
@@ -0,0 +1,85 @@
+package pl.tul.discountmanagement.shared.infrastructure.web.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import pl.tul.discountmanagement.shared.infrastructure.deadline.Deadline;
+import pl.tul.discountmanagement.shared.infrastructure.deadline.DeadlineContext;
+import pl.tul.discountmanagement.shared.infrastructure.deadline.DeadlineMetrics;
+import pl.tul.discountmanagement.shared.infrastructure.deadline.config.DeadlineProperties;
+
+import java.io.IOException;
+
+import static java.util.Objects.isNull;
+import static org.apache.commons.lang3.BooleanUtils.TRUE;
+import static pl.tul.discountmanagement.shared.infrastructure.deadline.config.DeadlineProperties.ENABLED_PROPERTY;
+import static pl.tul.discountmanagement.shared.infrastructure.deadline.config.DeadlineProperties.REQUEST_DEADLINE_PREFIX;
+
+/**
+ * Filter setting the {@link Deadline} of each request in {@link DeadlineContext}.
+ * The time budget is read from the configured header (in milliseconds), capped with the configured maximum, and falls back
+ * to the default budget when the header is missing or malformed. Requests arriving with no budget left are rejected
+ * with the '504 Gateway Timeout' response without being handled, as the client has already given up on them.
+ * Only read ({@code GET}) requests get a deadline - writes, e.g. bulk imports, are not abandoned halfway.
+ * Class is injected into Spring application context if and only if 'request-deadline.enabled' property is set to 'true'.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = REQUEST_DEADLINE_PREFIX, name = ENABLED_PROPERTY, havingValue = TRUE)
+public class DeadlineFilter extends OncePerRequestFilter {
+
+    private static final String DEADLINE_EXPIRED_MSG = "Request deadline exceeded";
+    private static final String INVALID_TIMEOUT_MSG = "Invalid request timeout '{}', using the default one.";
+
+    private final DeadlineProperties deadlineProperties;
+    private final Counter expiredCounter;
+
+    public DeadlineFilter(DeadlineProperties deadlineProperties, MeterRegistry meterRegistry) {
+        this.deadlineProperties = deadlineProperties;
+        this.expiredCounter = DeadlineMetrics.expiredCounter(meterRegistry, DeadlineMetrics.ARRIVAL_STAGE);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long timeoutInMilliseconds = getTimeoutInMilliseconds(request);
+        if (timeoutInMilliseconds <= 0) {
+            expiredCounter.increment();
+            response.sendError(HttpStatus.GATEWAY_TIMEOUT.value(), DEADLINE_EXPIRED_MSG);
+            return;
+        }
+        DeadlineContext.set(Deadline.after(timeoutInMilliseconds));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            DeadlineContext.clear();
+        }
+    }
+
+    private long getTimeoutInMilliseconds(HttpServletRequest request) {
+        String timeout = request.getHeader(deadlineProperties.getHeaderName());
+        if (isNull(timeout)) {
+            return deadlineProperties.getDefaultTimeoutInMilliseconds();
+        }
+        try {
+            return Math.min(Long.parseLong(timeout.trim()), deadlineProperties.getMaxTimeoutInMilliseconds());
+        } catch (NumberFormatException e) {
+            log.debug(INVALID_TIMEOUT_MSG, timeout);
+            return deadlineProperties.getDefaultTimeoutInMilliseconds();
+        }
+    }
+}
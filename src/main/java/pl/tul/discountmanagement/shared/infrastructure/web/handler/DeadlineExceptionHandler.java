@@ -0,0 +1,62 @@
+package pl.tul.discountmanagement.shared.infrastructure.web.handler;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import pl.tul.discountmanagement.shared.infrastructure.deadline.DeadlineExceededException;
+
+import java.io.IOException;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * The class of {@link ControllerAdvice} responsible for database exceptions caused by expired request deadlines
+ * or an unavailable database. {@link DeadlineExceededException} thrown directly is handled as any other
+ * {@link org.springframework.web.server.ResponseStatusException}, this handler covers the cases in which it is wrapped,
+ * e.g. when it is thrown while a transaction is being started.
+ */
+@Slf4j
+@ControllerAdvice
+public class DeadlineExceptionHandler {
+
+    private static final String QUERY_TIMEOUT_MSG = "Query exceeded the request deadline";
+    private static final String DATABASE_UNAVAILABLE_MSG = "Database is unavailable";
+
+    /**
+     * Handler for {@link QueryTimeoutException}.
+     *
+     * @param ex       {@link QueryTimeoutException}
+     * @param response the HTTP response.
+     * @throws IOException when sending the response fails.
+     */
+    @ExceptionHandler
+    public void handleQueryTimeoutException(QueryTimeoutException ex, HttpServletResponse response) throws IOException {
+        log.warn(ex.getMessage());
+        response.sendError(HttpStatus.GATEWAY_TIMEOUT.value(), QUERY_TIMEOUT_MSG);
+    }
+
+    /**
+     * Handler for {@link CannotCreateTransactionException} and {@link DataAccessResourceFailureException}.
+     *
+     * @param ex       {@link CannotCreateTransactionException} or {@link DataAccessResourceFailureException}
+     * @param response the HTTP response.
+     * @throws IOException when sending the response fails.
+     */
+    @ExceptionHandler({CannotCreateTransactionException.class, DataAccessResourceFailureException.class})
+    public void handleConnectionFailure(RuntimeException ex, HttpServletResponse response) throws IOException {
+        DeadlineExceededException deadlineExceededException = ExceptionUtils.throwableOfType(ex, DeadlineExceededException.class);
+        if (nonNull(deadlineExceededException)) {
+            log.warn(deadlineExceededException.getMessage());
+            response.sendError(deadlineExceededException.getStatusCode().value(), deadlineExceededException.getReason());
+            return;
+        }
+        log.error(ex.getMessage(), ex);
+        response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), DATABASE_UNAVAILABLE_MSG);
+    }
+}
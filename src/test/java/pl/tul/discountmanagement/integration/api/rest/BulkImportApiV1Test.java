@@ -0,0 +1,208 @@
+package pl.tul.discountmanagement.integration.api.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.response.BulkImportResponseV1;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.constant.ApiUrls.IMPORT_ENDPOINT_V1;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.constant.ApiUrls.PRODUCTS_PATH_URL;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.constant.ApiUrls.TEXT_CSV_VALUE;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.constant.ApiUrls.TIER_ASSIGNMENTS_PATH_URL;
+import static pl.tul.discountmanagement.shared.infrastructure.constant.ApplicationProfiles.INTEGRATION_TEST_PROFILE;
+import static pl.tul.discountmanagement.shared.infrastructure.security.constant.Permissions.READ_PRODUCT_PERMISSION;
+import static pl.tul.discountmanagement.shared.infrastructure.security.constant.Permissions.WRITE_PRODUCT_PERMISSION;
+import static pl.tul.discountmanagement.util.constant.TestConstants.CURRENCY_ID;
+import static pl.tul.discountmanagement.util.constant.TestConstants.PERCENTAGE_BASED_DISCOUNT_ID;
+import static pl.tul.discountmanagement.util.constant.TestConstants.QUANTITY_BASED_DISCOUNT_ID_1;
+
+/**
+ * Test class for bulk import API V1.
+ * The chunk size is set to 2 rows in the integration test profile.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles(INTEGRATION_TEST_PROFILE)
+class BulkImportApiV1Test {
+
+    private static final String PRODUCTS_HEADER = "id,name,description,price,currency_id,percentage_based_discount_id\n";
+    private static final String TIER_ASSIGNMENTS_HEADER = "product_id,quantity_based_discount_id\n";
+    private static final String COUNT_PRODUCTS_QUERY = "SELECT count(*) FROM product WHERE id IN (?, ?, ?)";
+    private static final String FIND_PRODUCT_PRICE_QUERY = "SELECT price FROM product WHERE id = ?";
+    private static final String FIND_PRODUCT_DESCRIPTION_QUERY = "SELECT description FROM product WHERE id = ?";
+    private static final String COUNT_TIER_ASSIGNMENTS_QUERY = "SELECT count(*) FROM product_quantity_based_discount WHERE product_id = ?";
+    private static final String INSERT_PROGRESS_STATEMENT = "INSERT INTO bulk_import_progress (import_id, target, committed_rows) VALUES (?, 'PRODUCT', 2)";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Test purpose         - Verify if PUT /v1/import/{importId}/products endpoint
+     *                        upserts all the products in chunks.
+     * Test data            - CSV content with three products, one of them listed twice, endpoint url.
+     * Test expected result - All the products are upserted in two chunks, the last occurrence of the duplicated product wins.
+     * Test type            - Positive.
+     */
+    @Test
+    @WithMockUser(authorities = WRITE_PRODUCT_PERMISSION)
+    void importProducts_shouldUpsertAllProducts_whenContentIsValid() throws Exception {
+        // Given
+        UUID importId = UUID.randomUUID();
+        UUID firstProductId = UUID.randomUUID();
+        UUID secondProductId = UUID.randomUUID();
+        UUID thirdProductId = UUID.randomUUID();
+        String content = PRODUCTS_HEADER
+                + buildProductRow(firstProductId, "10.00")
+                + buildProductRow(secondProductId, "20.00")
+                + buildProductRow(thirdProductId, "30.00")
+                + buildProductRow(thirdProductId, "35.00");
+
+        // When
+        BulkImportResponseV1 response = importContent(importId, PRODUCTS_PATH_URL, content);
+
+        // Then
+        assertEquals(4, response.getImportedRows());
+        assertEquals(0, response.getSkippedRows());
+        assertEquals(2, response.getCommittedChunks());
+        assertEquals(3, jdbcTemplate.queryForObject(COUNT_PRODUCTS_QUERY, Long.class, firstProductId, secondProductId, thirdProductId));
+        assertEquals("35.00", jdbcTemplate.queryForObject(FIND_PRODUCT_PRICE_QUERY, String.class, thirdProductId));
+    }
+
+    /**
+     * Test purpose         - Verify if PUT /v1/import/{importId}/products endpoint
+     *                        skips the rows committed by a previous attempt of the same import.
+     * Test data            - CSV content with three products, import progress with two committed rows, endpoint url.
+     * Test expected result - Only the last product is imported.
+     * Test type            - Positive.
+     */
+    @Test
+    @WithMockUser(authorities = WRITE_PRODUCT_PERMISSION)
+    void importProducts_shouldResumeImport_whenRowsWereAlreadyCommitted() throws Exception {
+        // Given
+        UUID importId = UUID.randomUUID();
+        UUID firstProductId = UUID.randomUUID();
+        UUID secondProductId = UUID.randomUUID();
+        UUID thirdProductId = UUID.randomUUID();
+        jdbcTemplate.update(INSERT_PROGRESS_STATEMENT, importId);
+        String content = PRODUCTS_HEADER
+                + buildProductRow(firstProductId, "10.00")
+                + buildProductRow(secondProductId, "20.00")
+                + buildProductRow(thirdProductId, "30.00");
+
+        // When
+        BulkImportResponseV1 response = importContent(importId, PRODUCTS_PATH_URL, content);
+
+        // Then
+        assertEquals(1, response.getImportedRows());
+        assertEquals(2, response.getSkippedRows());
+        assertEquals(1, jdbcTemplate.queryForObject(COUNT_PRODUCTS_QUERY, Long.class, firstProductId, secondProductId, thirdProductId));
+    }
+
+    /**
+     * Test purpose         - Verify if PUT /v1/import/{importId}/products endpoint
+     *                        keeps the records with quoted multi-line fields intact.
+     * Test data            - CSV content with three products, the first one with a description spanning two lines, endpoint url.
+     * Test expected result - All the products are imported as three rows, the description keeps its line break.
+     * Test type            - Positive.
+     */
+    @Test
+    @WithMockUser(authorities = WRITE_PRODUCT_PERMISSION)
+    void importProducts_shouldKeepMultiLineDescription_whenQuotedFieldContainsLineBreak() throws Exception {
+        // Given
+        UUID importId = UUID.randomUUID();
+        UUID firstProductId = UUID.randomUUID();
+        UUID secondProductId = UUID.randomUUID();
+        UUID thirdProductId = UUID.randomUUID();
+        String content = PRODUCTS_HEADER
+                + firstProductId + ",Imported product,\"First line\nsecond line\",10.00," + CURRENCY_ID + "," + PERCENTAGE_BASED_DISCOUNT_ID + "\n"
+                + buildProductRow(secondProductId, "20.00")
+                + buildProductRow(thirdProductId, "30.00");
+
+        // When
+        BulkImportResponseV1 response = importContent(importId, PRODUCTS_PATH_URL, content);
+
+        // Then
+        assertEquals(3, response.getImportedRows());
+        assertEquals(2, response.getCommittedChunks());
+        assertEquals(3, jdbcTemplate.queryForObject(COUNT_PRODUCTS_QUERY, Long.class, firstProductId, secondProductId, thirdProductId));
+        assertEquals("First line\nsecond line", jdbcTemplate.queryForObject(FIND_PRODUCT_DESCRIPTION_QUERY, String.class, firstProductId));
+    }
+
+    /**
+     * Test purpose         - Verify if PUT /v1/import/{importId}/tier-assignments endpoint
+     *                        assigns quantity-based discounts to products idempotently.
+     * Test data            - imported product, CSV content with the same tier assignment listed twice, endpoint url.
+     * Test expected result - A single tier assignment is created.
+     * Test type            - Positive.
+     */
+    @Test
+    @WithMockUser(authorities = WRITE_PRODUCT_PERMISSION)
+    void importTierAssignments_shouldAssignDiscounts_whenContentIsValid() throws Exception {
+        // Given
+        UUID productId = UUID.randomUUID();
+        importContent(UUID.randomUUID(), PRODUCTS_PATH_URL, PRODUCTS_HEADER + buildProductRow(productId, "10.00"));
+        String assignment = productId + "," + QUANTITY_BASED_DISCOUNT_ID_1 + "\n";
+        String content = TIER_ASSIGNMENTS_HEADER + assignment + assignment;
+
+        // When
+        BulkImportResponseV1 response = importContent(UUID.randomUUID(), TIER_ASSIGNMENTS_PATH_URL, content);
+
+        // Then
+        assertEquals(2, response.getImportedRows());
+        assertEquals(1, jdbcTemplate.queryForObject(COUNT_TIER_ASSIGNMENTS_QUERY, Long.class, productId));
+    }
+
+    /**
+     * Test purpose         - Verify if PUT /v1/import/{importId}/products endpoint
+     *                        returns 403 error response when user has no write permission.
+     * Test data            - CSV content, endpoint url.
+     * Test expected result - 403 error response is returned.
+     * Test type            - Negative.
+     */
+    @Test
+    @WithMockUser(authorities = READ_PRODUCT_PERMISSION)
+    void importProducts_shouldReturnForbiddenResponse_whenNoPermission() throws Exception {
+        // Given
+        String url = IMPORT_ENDPOINT_V1 + "/" + UUID.randomUUID() + "/" + PRODUCTS_PATH_URL;
+
+        // When & Then
+        mockMvc.perform(MockMvcRequestBuilders.put(url)
+                        .contentType(TEXT_CSV_VALUE)
+                        .content(PRODUCTS_HEADER + buildProductRow(UUID.randomUUID(), "10.00"))
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isForbidden());
+    }
+
+    private BulkImportResponseV1 importContent(UUID importId, String path, String content) throws Exception {
+        MvcResult mvcResult = mockMvc.perform(MockMvcRequestBuilders.put(IMPORT_ENDPOINT_V1 + "/" + importId + "/" + path)
+                        .contentType(TEXT_CSV_VALUE)
+                        .content(content)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readValue(mvcResult.getResponse().getContentAsString(), BulkImportResponseV1.class);
+    }
+
+    private String buildProductRow(UUID productId, String price) {
+        return productId + ",Imported product,\"Imported, in bulk\"," + price + "," + CURRENCY_ID + "," + PERCENTAGE_BASED_DISCOUNT_ID + "\n";
+    }
+}
@@ -0,0 +1,67 @@
+package pl.tul.discountmanagement.integration.api.rest;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static pl.tul.discountmanagement.shared.infrastructure.constant.ApplicationProfiles.INTEGRATION_TEST_PROFILE;
+
+/**
+ * Test class for the health endpoints used as liveness and readiness probes.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles(INTEGRATION_TEST_PROFILE)
+class HealthEndpointTest {
+
+    private static final String LIVENESS_URL = "/actuator/health/liveness";
+    private static final String READINESS_URL = "/actuator/health/readiness";
+    private static final String HOT_PRODUCTS_URL = "/actuator/hotproducts";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    /**
+     * Test purpose         - Verify if GET /actuator/health/liveness endpoint is available without a token.
+     * Test data            - endpoint url, no authentication.
+     * Test expected result - 200 response is returned.
+     * Test type            - Positive.
+     */
+    @Test
+    void getLiveness_shouldReturnOkResponse_whenNotAuthenticated() throws Exception {
+        // When & Then
+        mockMvc.perform(MockMvcRequestBuilders.get(LIVENESS_URL))
+                .andExpect(status().isOk());
+    }
+
+    /**
+     * Test purpose         - Verify if GET /actuator/health/readiness endpoint is available without a token.
+     * Test data            - endpoint url, no authentication.
+     * Test expected result - 200 response is returned.
+     * Test type            - Positive.
+     */
+    @Test
+    void getReadiness_shouldReturnOkResponse_whenNotAuthenticated() throws Exception {
+        // When & Then
+        mockMvc.perform(MockMvcRequestBuilders.get(READINESS_URL))
+                .andExpect(status().isOk());
+    }
+
+    /**
+     * Test purpose         - Verify if the actuator endpoints other than health still require a token.
+     * Test data            - GET /actuator/hotproducts endpoint url, no authentication.
+     * Test expected result - 401 response is returned.
+     * Test type            - Negative.
+     */
+    @Test
+    void getHotProducts_shouldReturnUnauthorizedResponse_whenNotAuthenticated() throws Exception {
+        // When & Then
+        mockMvc.perform(MockMvcRequestBuilders.get(HOT_PRODUCTS_URL))
+                .andExpect(status().isUnauthorized());
+    }
+}
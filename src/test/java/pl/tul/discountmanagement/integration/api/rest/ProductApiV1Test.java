@@ -12,6 +12,9 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import pl.tul.discountmanagement.product.application.port.in.PublishProductChangesUseCase;
+import pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.response.ProductChangeResponseV1;
+import pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.response.ProductChangesResponseV1;
 import pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.response.ProductPriceResponseV1;
 import pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.response.ProductResponseV1;
 
@@ -19,9 +22,11 @@ import java.util.Map;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static pl.tul.discountmanagement.integration.sql.SqlStatementAssertions.assertStatementBudget;
 import static pl.tul.discountmanagement.util.constant.TestConstants.DETAIL_ERROR_ENTRY;
 import static pl.tul.discountmanagement.util.constant.TestConstants.INVALID_PRODUCT_ID_RESPONSE_MSG;
 import static pl.tul.discountmanagement.util.constant.TestConstants.INVALID_PRODUCT_QUANTITY_RESPONSE_MSG;
@@ -32,9 +37,12 @@ import static pl.tul.discountmanagement.util.constant.TestConstants.PRODUCT_NOT_
 import static pl.tul.discountmanagement.util.constant.TestConstants.QUANTITY_BASED_DISCOUNT_ID_1;
 import static pl.tul.discountmanagement.util.constant.TestConstants.QUANTITY_BASED_DISCOUNT_ID_2;
 import static pl.tul.discountmanagement.shared.infrastructure.constant.ApplicationProfiles.INTEGRATION_TEST_PROFILE;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.constant.ApiUrls.CHANGES_PATH_URL;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.constant.ApiUrls.LIMIT_REQUEST_PARAMETER;
 import static pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.constant.ApiUrls.PRICE_PATH_URL;
 import static pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.constant.ApiUrls.PRODUCT_ENDPOINT_V1;
 import static pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.constant.ApiUrls.PRODUCT_QUANTITY_REQUEST_PARAMETER;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.constant.ApiUrls.SINCE_REQUEST_PARAMETER;
 import static pl.tul.discountmanagement.shared.infrastructure.security.constant.Permissions.READ_PRICE_PERMISSION;
 import static pl.tul.discountmanagement.shared.infrastructure.security.constant.Permissions.READ_PRODUCT_PERMISSION;
 
@@ -46,12 +54,17 @@ import static pl.tul.discountmanagement.shared.infrastructure.security.constant.
 @ActiveProfiles(INTEGRATION_TEST_PROFILE)
 class ProductApiV1Test {
 
+    private static final int SINGLE_STATEMENT_BUDGET = 1;
+
     @Autowired
     private MockMvc mockMvc;
 
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private PublishProductChangesUseCase publishProductChangesUseCase;
+
     /**
      * Test purpose         - Verify if GET /v1/product/{productId} endpoint
      *                        returns {@link ProductResponseV1} with proper data.
@@ -415,4 +428,96 @@ class ProductApiV1Test {
                 .andExpect(status().isUnauthorized())
                 .andReturn();
     }
+
+    /**
+     * Test purpose         - Verify if GET /v1/product/{productId} endpoint
+     *                        issues at most one SQL statement to read product details.
+     * Test data            - endpoint url.
+     * Test expected result - Product details are read with at most one SQL statement.
+     * Test type            - Positive.
+     */
+    @Test
+    @WithMockUser(authorities = READ_PRODUCT_PERMISSION)
+    void getProductById_shouldIssueAtMostOneStatement_whenProductIsFound() throws Throwable {
+        // Given
+        String url = PRODUCT_ENDPOINT_V1 + "/" + PRODUCT_ID;
+
+        // When & Then
+        assertStatementBudget(SINGLE_STATEMENT_BUDGET, () -> mockMvc.perform(MockMvcRequestBuilders.get(url)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk()));
+    }
+
+    /**
+     * Test purpose         - Verify if GET /v1/product/{productId}/price?productQuantity={productQuantity} endpoint
+     *                        issues at most one SQL statement to calculate product price.
+     * Test data            - product quantity, endpoint url.
+     * Test expected result - Product price is calculated with at most one SQL statement.
+     * Test type            - Positive.
+     */
+    @Test
+    @WithMockUser(authorities = READ_PRICE_PERMISSION)
+    void calculatePrice_shouldIssueAtMostOneStatement_whenProductIsFound() throws Throwable {
+        // Given
+        int productQuantity = 3;
+        String url = PRODUCT_ENDPOINT_V1 + "/" + PRODUCT_ID + "/" + PRICE_PATH_URL + "?" + PRODUCT_QUANTITY_REQUEST_PARAMETER + "=" + productQuantity;
+
+        // When & Then
+        assertStatementBudget(SINGLE_STATEMENT_BUDGET, () -> mockMvc.perform(MockMvcRequestBuilders.get(url)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk()));
+    }
+
+    /**
+     * Test purpose         - Verify if GET /v1/product/changes?since={since} endpoint
+     *                        returns the changed products with their current snapshots.
+     * Test data            - sequence number preceding all the changes, published changes, endpoint url.
+     * Test expected result - An instance of {@link ProductChangesResponseV1} containing the integration test product is returned.
+     * Test type            - Positive.
+     */
+    @Test
+    @WithMockUser(authorities = READ_PRODUCT_PERMISSION)
+    void getProductChanges_shouldReturnOKResponse_whenProductsChanged() throws Exception {
+        // Given
+        String url = PRODUCT_ENDPOINT_V1 + "/" + CHANGES_PATH_URL + "?" + SINCE_REQUEST_PARAMETER + "=0";
+        publishProductChangesUseCase.publishProductChanges(Integer.MAX_VALUE);
+
+        // When
+        MvcResult mvcGetResult = mockMvc.perform(MockMvcRequestBuilders.get(url)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // Then
+        String body = mvcGetResult.getResponse().getContentAsString();
+        ProductChangesResponseV1 changesResponse = objectMapper.readValue(body, ProductChangesResponseV1.class);
+        ProductChangeResponseV1 productChange = changesResponse.getChanges()
+                .stream()
+                .filter(change -> change.getProductId().equals(PRODUCT_ID))
+                .findFirst()
+                .orElseThrow();
+        assertFalse(productChange.isDeleted());
+        assertEquals(PRODUCT_ID, productChange.getProduct().getId());
+        assertEquals(1, changesResponse.getChanges().stream().filter(change -> change.getProductId().equals(PRODUCT_ID)).count());
+        assertTrue(changesResponse.getLastSequenceNumber() >= productChange.getSequenceNumber());
+    }
+
+    /**
+     * Test purpose         - Verify if GET /v1/product/changes?since={since}&limit={limit} endpoint
+     *                        returns 400 error response when limit exceeds the maximal value.
+     * Test data            - limit exceeding the maximal value, endpoint url.
+     * Test expected result - 400 error response is returned.
+     * Test type            - Negative.
+     */
+    @Test
+    @WithMockUser(authorities = READ_PRODUCT_PERMISSION)
+    void getProductChanges_shouldReturnBadRequestResponse_whenLimitIsTooHigh() throws Exception {
+        // Given
+        String url = PRODUCT_ENDPOINT_V1 + "/" + CHANGES_PATH_URL + "?" + SINCE_REQUEST_PARAMETER + "=0&" + LIMIT_REQUEST_PARAMETER + "=100000";
+
+        // When & Then
+        mockMvc.perform(MockMvcRequestBuilders.get(url)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
 }
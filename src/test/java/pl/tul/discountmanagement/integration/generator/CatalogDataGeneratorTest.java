@@ -0,0 +1,167 @@
+package pl.tul.discountmanagement.integration.generator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.response.ProductResponseV1;
+import pl.tul.discountmanagement.util.generator.CatalogDataGenerator;
+import pl.tul.discountmanagement.util.generator.CatalogGeneratorSettings;
+import pl.tul.discountmanagement.util.generator.GeneratedCatalog;
+
+import javax.sql.DataSource;
+import java.io.StringWriter;
+import java.sql.Connection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.constant.ApiUrls.PRODUCT_ENDPOINT_V1;
+import static pl.tul.discountmanagement.shared.infrastructure.constant.ApplicationProfiles.INTEGRATION_TEST_PROFILE;
+import static pl.tul.discountmanagement.shared.infrastructure.security.constant.Permissions.READ_PRODUCT_PERMISSION;
+
+/**
+ * Test class for {@link CatalogDataGenerator}.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles(INTEGRATION_TEST_PROFILE)
+class CatalogDataGeneratorTest {
+
+    private static final String COUNT_GENERATED_PRODUCTS_QUERY =
+            "SELECT count(*) FROM product p JOIN currency c ON c.id = p.currency_id WHERE c.currency_code LIKE ?";
+    private static final String COUNT_GENERATED_TIER_ASSIGNMENTS_QUERY = """
+            SELECT count(*) FROM product_quantity_based_discount pq
+            JOIN product p ON p.id = pq.product_id
+            JOIN currency c ON c.id = p.currency_id
+            WHERE c.currency_code LIKE ?""";
+    private static final String COUNT_OPEN_ENDED_TIERS_QUERY =
+            "SELECT count(*) FROM quantity_based_discount WHERE upper_items_threshold IS NULL";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Test purpose         - Verify if the generator inserts a catalog of the requested size.
+     * Test data            - generator settings with a dedicated seed.
+     * Test expected result - Requested number of products, currencies and tiers, including open-ended ones, is inserted.
+     * Test type            - Positive.
+     */
+    @Test
+    void generate_shouldInsertCatalogOfRequestedSize() throws Exception {
+        // Given
+        CatalogGeneratorSettings settings = CatalogGeneratorSettings.builder()
+                .seed(1001L)
+                .productCount(500)
+                .currencyCount(3)
+                .quantityTierCount(40)
+                .build();
+
+        // When
+        GeneratedCatalog catalog;
+        try (Connection connection = dataSource.getConnection()) {
+            catalog = CatalogDataGenerator.generate(connection, settings);
+        }
+
+        // Then
+        String currencyCodePattern = "G1001-%";
+        assertEquals(500, catalog.productCount());
+        assertEquals(40, catalog.quantityTierCount());
+        assertEquals(500L, jdbcTemplate.queryForObject(COUNT_GENERATED_PRODUCTS_QUERY, Long.class, currencyCodePattern));
+        assertEquals(3L, jdbcTemplate.queryForObject("SELECT count(*) FROM currency WHERE currency_code LIKE ?", Long.class, currencyCodePattern));
+        assertEquals(catalog.tierAssignmentCount(),
+                jdbcTemplate.queryForObject(COUNT_GENERATED_TIER_ASSIGNMENTS_QUERY, Long.class, currencyCodePattern));
+        assertTrue(catalog.tierAssignmentCount() > 0);
+        assertTrue(jdbcTemplate.queryForObject(COUNT_OPEN_ENDED_TIERS_QUERY, Long.class) > 1);
+    }
+
+    /**
+     * Test purpose         - Verify if a generated product is served by GET /v1/product/{productId} endpoint.
+     * Test data            - generator settings with a dedicated seed, identifier of the first generated product.
+     * Test expected result - The generated product is returned with its generated currency.
+     * Test type            - Positive.
+     */
+    @Test
+    @WithMockUser(authorities = READ_PRODUCT_PERMISSION)
+    void generatedProduct_shouldBeReturnedByProductApi() throws Exception {
+        // Given
+        CatalogGeneratorSettings settings = CatalogGeneratorSettings.builder()
+                .seed(1002L)
+                .productCount(10)
+                .currencyCount(1)
+                .quantityTierCount(5)
+                .build();
+        GeneratedCatalog catalog;
+        try (Connection connection = dataSource.getConnection()) {
+            catalog = CatalogDataGenerator.generate(connection, settings);
+        }
+        UUID productId = catalog.productId(0);
+        String url = PRODUCT_ENDPOINT_V1 + "/" + productId;
+
+        // When
+        MvcResult mvcGetResult = mockMvc.perform(MockMvcRequestBuilders.get(url)
+                        .accept(MediaType.APPLICATION_JSON))
+                        .andExpect(status().isOk())
+                        .andReturn();
+
+        // Then
+        ProductResponseV1 productResponse = objectMapper.readValue(mvcGetResult.getResponse().getContentAsString(), ProductResponseV1.class);
+        assertEquals(productId, productResponse.getId());
+        assertEquals("G1002-000", productResponse.getCurrency());
+    }
+
+    /**
+     * Test purpose         - Verify if the generated data depends only on the generator settings.
+     * Test data            - two generator settings sharing a seed and one with a different seed.
+     * Test expected result - The same seed results in the same rows, a different seed results in different rows.
+     * Test type            - Positive.
+     */
+    @Test
+    void writeProducts_shouldBeDeterministicForSeed() throws Exception {
+        // Given
+        List<UUID> percentageDiscountIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+        CatalogGeneratorSettings settings = CatalogGeneratorSettings.builder().seed(7L).productCount(100).build();
+        CatalogGeneratorSettings otherSettings = CatalogGeneratorSettings.builder().seed(8L).productCount(100).build();
+
+        // When
+        String products = writeProducts(settings, percentageDiscountIds);
+        String repeatedProducts = writeProducts(settings, percentageDiscountIds);
+        String otherProducts = writeProducts(otherSettings, percentageDiscountIds);
+        StringWriter tiers = new StringWriter();
+        StringWriter repeatedTiers = new StringWriter();
+        CatalogDataGenerator.writeQuantityTiers(settings, Set.of(), tiers);
+        CatalogDataGenerator.writeQuantityTiers(settings, Set.of(), repeatedTiers);
+
+        // Then
+        assertEquals(products, repeatedProducts);
+        assertNotEquals(products, otherProducts);
+        assertEquals(tiers.toString(), repeatedTiers.toString());
+    }
+
+    private String writeProducts(CatalogGeneratorSettings settings, List<UUID> percentageDiscountIds) throws Exception {
+        StringWriter writer = new StringWriter();
+        CatalogDataGenerator.writeProducts(settings, percentageDiscountIds, writer);
+        return writer.toString();
+    }
+}
@@ -0,0 +1,109 @@
+package pl.tul.discountmanagement.integration.persistence;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import pl.tul.discountmanagement.product.application.dto.ProductChangeDTO;
+import pl.tul.discountmanagement.product.application.dto.ProductChangesDTO;
+import pl.tul.discountmanagement.product.application.port.in.GetProductChangesUseCase;
+import pl.tul.discountmanagement.product.application.port.in.PublishProductChangesUseCase;
+import pl.tul.discountmanagement.product.application.port.out.persistence.ProductPersistencePort;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.InMemoryCatalogPersistenceAdapter;
+
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doNothing;
+import static pl.tul.discountmanagement.shared.infrastructure.constant.ApplicationProfiles.INTEGRATION_TEST_PROFILE;
+import static pl.tul.discountmanagement.util.constant.TestConstants.PRODUCT_ID;
+
+/**
+ * Test class for the product change feed served while the in-memory catalog is enabled.
+ */
+@SpringBootTest(properties = "in-memory-catalog.enabled=true")
+@ActiveProfiles(INTEGRATION_TEST_PROFILE)
+class ProductChangeFeedCatalogTest {
+
+    private static final String INSERT_PRODUCT_COPY_SQL = """
+            INSERT INTO product (id, name, description, currency_id, percentage_based_discount_id, price)
+            SELECT ?, name, description, currency_id, percentage_based_discount_id, price FROM product WHERE id = ?""";
+    private static final String DELETE_PRODUCT_SQL = "DELETE FROM product WHERE id = ?";
+    private static final int CHANGES_LIMIT = 10000;
+    private static final long LOAD_TIMEOUT_IN_MILLISECONDS = 10000L;
+    private static final long LOAD_POLL_INTERVAL_IN_MILLISECONDS = 20L;
+
+    private final UUID insertedProductId = UUID.randomUUID();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private GetProductChangesUseCase getProductChangesUseCase;
+
+    @Autowired
+    private PublishProductChangesUseCase publishProductChangesUseCase;
+
+    @Autowired
+    private ProductPersistencePort productPersistencePort;
+
+    @MockitoSpyBean
+    private InMemoryCatalogPersistenceAdapter inMemoryCatalogPersistenceAdapter;
+
+    /**
+     * Remove the product inserted by the test.
+     */
+    @AfterEach
+    void deleteInsertedProduct() {
+        jdbcTemplate.update(DELETE_PRODUCT_SQL, insertedProductId);
+    }
+
+    /**
+     * Test purpose         - Verify if the change feed reports a product changed in the database as existing before
+     *                        the in-memory catalog catches up with the change.
+     * Test data            - loaded in-memory catalog not following the change notifications, product inserted directly
+     *                        in the database, published changes.
+     * Test expected result - The catalog does not contain the product, the change feed returns its change with the snapshot
+     *                        read from the database.
+     * Test type            - Positive.
+     */
+    @Test
+    void getProductChanges_shouldReturnProductSnapshot_whenCatalogHasNotCaughtUpWithChange() throws InterruptedException {
+        // Given
+        assertTrue(awaitCondition(() -> inMemoryCatalogPersistenceAdapter.getFootprint().isPresent()));
+        doNothing().when(inMemoryCatalogPersistenceAdapter).onProductChange(any());
+        jdbcTemplate.update(INSERT_PRODUCT_COPY_SQL, insertedProductId, PRODUCT_ID);
+        publishProductChangesUseCase.publishProductChanges(Integer.MAX_VALUE);
+
+        // When
+        ProductChangesDTO productChanges = getProductChangesUseCase.getProductChanges(0L, CHANGES_LIMIT);
+
+        // Then
+        ProductChangeDTO productChange = productChanges.getChanges()
+                .stream()
+                .filter(change -> change.getProductId().equals(insertedProductId))
+                .findFirst()
+                .orElseThrow();
+        assertTrue(productPersistencePort.findById(insertedProductId).isEmpty());
+        assertFalse(productChange.isDeleted());
+        assertEquals(insertedProductId, productChange.getProduct().getId());
+    }
+
+    private boolean awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + LOAD_TIMEOUT_IN_MILLISECONDS;
+        while (System.currentTimeMillis() < deadline) {
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+            Thread.sleep(LOAD_POLL_INTERVAL_IN_MILLISECONDS);
+        }
+        return condition.getAsBoolean();
+    }
+}
@@ -0,0 +1,97 @@
+package pl.tul.discountmanagement.integration.persistence;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import pl.tul.discountmanagement.product.application.port.in.PublishProductChangesUseCase;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static pl.tul.discountmanagement.shared.infrastructure.constant.ApplicationProfiles.INTEGRATION_TEST_PROFILE;
+import static pl.tul.discountmanagement.util.constant.TestConstants.PERCENTAGE_BASED_DISCOUNT_ID;
+import static pl.tul.discountmanagement.util.constant.TestConstants.PRODUCT_ID;
+
+/**
+ * Test class for the publication of the product change feed.
+ */
+@SpringBootTest
+@ActiveProfiles(INTEGRATION_TEST_PROFILE)
+class ProductChangeFeedPublicationTest {
+
+    private static final String UPDATE_PRODUCT_SQL = "UPDATE product SET name = name WHERE id = ?";
+    private static final String UPDATE_PERCENTAGE_BASED_DISCOUNT_SQL = "UPDATE percentage_based_discount SET percentage_rate = percentage_rate WHERE id = ?";
+    private static final String LAST_SEQUENCE_NUMBER_SQL = "SELECT max(sequence_number) FROM product_change";
+    private static final String FEED_POSITION_SQL = "SELECT feed_position FROM product_change WHERE sequence_number = ?";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PublishProductChangesUseCase publishProductChangesUseCase;
+
+    /**
+     * Test purpose         - Verify if concurrent product writes do not block each other and their changes are published
+     *                        in the order of their commits.
+     * Test data            - two concurrent transactions, the first one recording its change earlier but committing later.
+     * Test expected result - The change of the transaction committed first is published first, the change of the still
+     *                        running transaction is published only after its commit, with a higher feed position.
+     * Test type            - Positive.
+     */
+    @Test
+    void publishProductChanges_shouldFollowCommitOrder_whenTransactionsCommitOutOfSequenceOrder() throws SQLException {
+        try (Connection laterCommittedConnection = dataSource.getConnection();
+             Connection earlierCommittedConnection = dataSource.getConnection()) {
+            // Given
+            laterCommittedConnection.setAutoCommit(false);
+            earlierCommittedConnection.setAutoCommit(false);
+            long laterCommittedSequenceNumber = update(laterCommittedConnection, UPDATE_PRODUCT_SQL, PRODUCT_ID);
+            long earlierCommittedSequenceNumber = update(earlierCommittedConnection, UPDATE_PERCENTAGE_BASED_DISCOUNT_SQL,
+                    PERCENTAGE_BASED_DISCOUNT_ID);
+            earlierCommittedConnection.commit();
+
+            // When
+            publishProductChangesUseCase.publishProductChanges(Integer.MAX_VALUE);
+            Long laterCommittedPositionBeforeCommit = findFeedPosition(laterCommittedSequenceNumber);
+            laterCommittedConnection.commit();
+            publishProductChangesUseCase.publishProductChanges(Integer.MAX_VALUE);
+
+            // Then
+            Long earlierCommittedPosition = findFeedPosition(earlierCommittedSequenceNumber);
+            Long laterCommittedPosition = findFeedPosition(laterCommittedSequenceNumber);
+            assertTrue(laterCommittedSequenceNumber < earlierCommittedSequenceNumber);
+            assertNull(laterCommittedPositionBeforeCommit);
+            assertNotNull(earlierCommittedPosition);
+            assertNotNull(laterCommittedPosition);
+            assertTrue(laterCommittedPosition > earlierCommittedPosition);
+        }
+    }
+
+    private long update(Connection connection, String sql, UUID id) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setObject(1, id);
+            statement.executeUpdate();
+        }
+        try (PreparedStatement statement = connection.prepareStatement(LAST_SEQUENCE_NUMBER_SQL);
+             ResultSet resultSet = statement.executeQuery()) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private Long findFeedPosition(long sequenceNumber) {
+        return jdbcTemplate.queryForObject(FEED_POSITION_SQL, Long.class, sequenceNumber);
+    }
+}
@@ -0,0 +1,137 @@
+package pl.tul.discountmanagement.integration.persistence;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.persistence.entity.PercentageBasedDiscountJpaEntity;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.persistence.entity.ProductJpaEntity;
+
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.constant.ApiUrls.PRODUCT_ENDPOINT_V1;
+import static pl.tul.discountmanagement.shared.infrastructure.constant.ApplicationProfiles.INTEGRATION_TEST_PROFILE;
+import static pl.tul.discountmanagement.shared.infrastructure.security.constant.Permissions.READ_PRODUCT_PERMISSION;
+import static pl.tul.discountmanagement.util.constant.TestConstants.PERCENTAGE_BASED_DISCOUNT_ID;
+import static pl.tul.discountmanagement.util.constant.TestConstants.PRODUCT_ID;
+
+/**
+ * Test class for the cache invalidation driven by PostgreSQL product change notifications.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles(INTEGRATION_TEST_PROFILE)
+class ProductChangeNotificationTest {
+
+    private static final String QUANTITY_BASED_DISCOUNTS_ROLE = ProductJpaEntity.class.getName() + "." + ProductJpaEntity.QUANTITY_BASED_DISCOUNTS;
+    private static final long EVICTION_TIMEOUT_IN_MILLISECONDS = 5000L;
+    private static final long EVICTION_POLL_INTERVAL_IN_MILLISECONDS = 20L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Cache cache;
+
+    /**
+     * Setup second-level cache.
+     */
+    @BeforeEach
+    void setUpSecondLevelCache() {
+        cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+
+    /**
+     * Test purpose         - Verify if a modification of a percentage-based discount evicts it from the second-level cache.
+     * Test data            - cached product, percentage-based discount updated directly in the database.
+     * Test expected result - The percentage-based discount is evicted from the second-level cache.
+     * Test type            - Positive.
+     */
+    @Test
+    @WithMockUser(authorities = READ_PRODUCT_PERMISSION)
+    void percentageBasedDiscountUpdate_shouldEvictCachedDiscount() throws Exception {
+        // Given
+        loadProduct();
+        assertTrue(cache.containsEntity(PercentageBasedDiscountJpaEntity.class, PERCENTAGE_BASED_DISCOUNT_ID));
+
+        // When
+        jdbcTemplate.update("UPDATE percentage_based_discount SET percentage_rate = percentage_rate WHERE id = ?", PERCENTAGE_BASED_DISCOUNT_ID);
+
+        // Then
+        assertTrue(awaitCondition(() -> !cache.containsEntity(PercentageBasedDiscountJpaEntity.class, PERCENTAGE_BASED_DISCOUNT_ID)));
+    }
+
+    /**
+     * Test purpose         - Verify if a modification of quantity-based discount assignments evicts the cached assignments of the product.
+     * Test data            - cached product, quantity-based discount assignment updated directly in the database.
+     * Test expected result - The quantity-based discounts collection of the product is evicted from the second-level cache.
+     * Test type            - Positive.
+     */
+    @Test
+    @WithMockUser(authorities = READ_PRODUCT_PERMISSION)
+    void quantityBasedDiscountAssignmentUpdate_shouldEvictCachedAssignments() throws Exception {
+        // Given
+        loadProduct();
+        assertTrue(cache.containsCollection(QUANTITY_BASED_DISCOUNTS_ROLE, PRODUCT_ID));
+
+        // When
+        jdbcTemplate.update("UPDATE product_quantity_based_discount SET product_id = product_id WHERE product_id = ?", PRODUCT_ID);
+
+        // Then
+        assertTrue(awaitCondition(() -> !cache.containsCollection(QUANTITY_BASED_DISCOUNTS_ROLE, PRODUCT_ID)));
+    }
+
+    /**
+     * Test purpose         - Verify if a modification of a product evicts it from the second-level cache.
+     * Test data            - cached product, product updated directly in the database.
+     * Test expected result - The product is evicted from the second-level cache.
+     * Test type            - Positive.
+     */
+    @Test
+    @WithMockUser(authorities = READ_PRODUCT_PERMISSION)
+    void productUpdate_shouldEvictCachedProduct() throws Exception {
+        // Given
+        loadProduct();
+        assertTrue(cache.containsEntity(ProductJpaEntity.class, PRODUCT_ID));
+
+        // When
+        jdbcTemplate.update("UPDATE product SET name = name WHERE id = ?", PRODUCT_ID);
+
+        // Then
+        assertTrue(awaitCondition(() -> !cache.containsEntity(ProductJpaEntity.class, PRODUCT_ID)));
+    }
+
+    private void loadProduct() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get(PRODUCT_ENDPOINT_V1 + "/" + PRODUCT_ID)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+    }
+
+    private boolean awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + EVICTION_TIMEOUT_IN_MILLISECONDS;
+        while (System.currentTimeMillis() < deadline) {
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+            Thread.sleep(EVICTION_POLL_INTERVAL_IN_MILLISECONDS);
+        }
+        return condition.getAsBoolean();
+    }
+}
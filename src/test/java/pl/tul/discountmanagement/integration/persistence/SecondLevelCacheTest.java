@@ -0,0 +1,186 @@
+package pl.tul.discountmanagement.integration.persistence;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import pl.tul.discountmanagement.integration.sql.SqlStatementRecorder;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.persistence.ProductPersistenceAdapter;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.persistence.entity.ProductJpaEntity;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.constant.ApiUrls.PRODUCT_ENDPOINT_V1;
+import static pl.tul.discountmanagement.product.infrastructure.adapter.out.persistence.entity.CurrencyJpaEntity.CACHE_REGION;
+import static pl.tul.discountmanagement.shared.infrastructure.constant.ApplicationProfiles.INTEGRATION_TEST_PROFILE;
+import static pl.tul.discountmanagement.shared.infrastructure.security.constant.Permissions.READ_PRODUCT_PERMISSION;
+import static pl.tul.discountmanagement.util.constant.TestConstants.PRODUCT_ID;
+
+/**
+ * Test class for the Hibernate second-level cache of the products and their reference data.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles(INTEGRATION_TEST_PROFILE)
+class SecondLevelCacheTest {
+
+    private static final Pattern REFERENCE_TABLE_PATTERN = Pattern.compile(
+            "\\b(from|join)\\s+(currency|percentage_based_discount|quantity_based_discount|product_quantity_based_discount)\\b",
+            Pattern.CASE_INSENSITIVE);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ProductPersistenceAdapter productPersistenceAdapter;
+
+    @BeforeEach
+    void evictSecondLevelCache() {
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    /**
+     * Test purpose         - Verify if the product details are read with a single statement joining the reference data
+     *                        when the second-level cache is cold.
+     * Test data            - endpoint url, evicted second-level cache.
+     * Test expected result - The product is read with a single statement.
+     * Test type            - Positive.
+     */
+    @Test
+    @WithMockUser(authorities = READ_PRODUCT_PERMISSION)
+    void getProductById_shouldIssueSingleStatement_whenCacheIsCold() throws Throwable {
+        // Given
+        String url = PRODUCT_ENDPOINT_V1 + "/" + PRODUCT_ID;
+
+        // When
+        List<String> statements = recordStatements(() -> performGet(url));
+
+        // Then
+        assertEquals(1, statements.size(), String.join("\n", statements));
+    }
+
+    /**
+     * Test purpose         - Verify if the product details are served from the second-level cache once they were read.
+     * Test data            - endpoint url, evicted second-level cache.
+     * Test expected result - The first read issues a single statement, the repeated read does not query the database.
+     * Test type            - Positive.
+     */
+    @Test
+    @WithMockUser(authorities = READ_PRODUCT_PERMISSION)
+    void getProductById_shouldNotQueryDatabase_whenCacheIsWarm() throws Throwable {
+        // Given
+        String url = PRODUCT_ENDPOINT_V1 + "/" + PRODUCT_ID;
+
+        // When
+        List<String> coldReadStatements = recordStatements(() -> performGet(url));
+        List<String> warmReadStatements = recordStatements(() -> performGet(url));
+
+        // Then
+        assertEquals(1, coldReadStatements.size(), String.join("\n", coldReadStatements));
+        assertTrue(warmReadStatements.isEmpty(), String.join("\n", warmReadStatements));
+    }
+
+    /**
+     * Test purpose         - Verify if repeated single product reads are reported as second-level cache region hits.
+     * Test data            - product id, evicted second-level cache.
+     * Test expected result - The product region hit count grows with the repeated read.
+     * Test type            - Positive.
+     */
+    @Test
+    void findById_shouldReportCacheHits_whenProductIsReadRepeatedly() {
+        // Given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        productPersistenceAdapter.findById(PRODUCT_ID);
+        long hitCountBefore = statistics.getDomainDataRegionStatistics(ProductJpaEntity.CACHE_REGION).getHitCount();
+
+        // When
+        productPersistenceAdapter.findById(PRODUCT_ID);
+
+        // Then
+        long hitCountAfter = statistics.getDomainDataRegionStatistics(ProductJpaEntity.CACHE_REGION).getHitCount();
+        assertTrue(hitCountAfter > hitCountBefore);
+    }
+
+    /**
+     * Test purpose         - Verify if the reference data is read from the database only on the first batch load of products.
+     * Test data            - product id, evicted second-level cache.
+     * Test expected result - The first load queries the reference tables, the repeated load does not.
+     * Test type            - Positive.
+     */
+    @Test
+    void findAllByIds_shouldNotQueryReferenceTables_whenProductsAreLoadedRepeatedly() throws Throwable {
+        // Given
+        Set<UUID> productIds = Set.of(PRODUCT_ID);
+
+        // When
+        List<String> coldLoadStatements = recordStatements(() -> productPersistenceAdapter.findAllByIds(productIds));
+        List<String> warmLoadStatements = recordStatements(() -> productPersistenceAdapter.findAllByIds(productIds));
+
+        // Then
+        assertTrue(coldLoadStatements.stream().anyMatch(this::queriesReferenceTable));
+        assertTrue(warmLoadStatements.stream().noneMatch(this::queriesReferenceTable), String.join("\n", warmLoadStatements));
+        assertEquals(1, warmLoadStatements.size());
+    }
+
+    /**
+     * Test purpose         - Verify if repeated batch loads of products are reported as second-level cache region hits.
+     * Test data            - product id, evicted second-level cache.
+     * Test expected result - The currency region hit count grows with the repeated load.
+     * Test type            - Positive.
+     */
+    @Test
+    void findAllByIds_shouldReportCacheHits_whenProductsAreLoadedRepeatedly() {
+        // Given
+        Set<UUID> productIds = Set.of(PRODUCT_ID);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        productPersistenceAdapter.findAllByIds(productIds);
+        long hitCountBefore = statistics.getDomainDataRegionStatistics(CACHE_REGION).getHitCount();
+
+        // When
+        productPersistenceAdapter.findAllByIds(productIds);
+
+        // Then
+        long hitCountAfter = statistics.getDomainDataRegionStatistics(CACHE_REGION).getHitCount();
+        assertTrue(hitCountAfter > hitCountBefore);
+    }
+
+    private List<String> recordStatements(Executable action) throws Throwable {
+        SqlStatementRecorder.start();
+        List<String> statements;
+        try {
+            action.execute();
+        } finally {
+            statements = SqlStatementRecorder.stop();
+        }
+        return statements;
+    }
+
+    private void performGet(String url) throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get(url)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+    }
+
+    private boolean queriesReferenceTable(String statement) {
+        return REFERENCE_TABLE_PATTERN.matcher(statement).find();
+    }
+}
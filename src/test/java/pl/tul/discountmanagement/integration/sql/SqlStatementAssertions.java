@@ -0,0 +1,51 @@
+package pl.tul.discountmanagement.integration.sql;
+
+import org.junit.jupiter.api.function.Executable;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Assertions verifying the number of SQL statements issued while executing a given action.
+ * Relies on {@link SqlStatementRecorder} being registered as Hibernate statement inspector.
+ */
+public final class SqlStatementAssertions {
+
+    private static final String STATEMENT_BUDGET_EXCEEDED_MSG = "Expected at most %d SQL statement(s), but %d were issued:%n%s";
+    private static final String STATEMENT_FORMAT = "  %d. %s%n";
+
+    private SqlStatementAssertions() {
+    }
+
+    /**
+     * Execute given action and assert that it issued at most given number of SQL statements.
+     * On violation, the assertion fails with all the offending statements listed in the failure message.
+     *
+     * @param maxStatements maximal number of SQL statements the action is allowed to issue.
+     * @param action        the action to be executed.
+     * @return SQL statements issued by the action.
+     * @throws Throwable when the action itself fails.
+     */
+    public static List<String> assertStatementBudget(int maxStatements, Executable action) throws Throwable {
+        SqlStatementRecorder.start();
+        List<String> statements;
+        try {
+            action.execute();
+        } finally {
+            statements = SqlStatementRecorder.stop();
+        }
+        if (statements.size() > maxStatements) {
+            fail(STATEMENT_BUDGET_EXCEEDED_MSG.formatted(maxStatements, statements.size(), formatStatements(statements)));
+        }
+        return statements;
+    }
+
+    private static String formatStatements(List<String> statements) {
+        StringBuilder formattedStatements = new StringBuilder();
+        for (int i = 0; i < statements.size(); i++) {
+            formattedStatements.append(STATEMENT_FORMAT.formatted(i + 1, statements.get(i)));
+        }
+        return formattedStatements.toString();
+    }
+}
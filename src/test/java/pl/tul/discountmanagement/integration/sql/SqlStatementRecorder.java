@@ -0,0 +1,46 @@
+package pl.tul.discountmanagement.integration.sql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * Hibernate {@link StatementInspector} recording SQL statements prepared by the current thread.
+ * Registered in integration tests via 'hibernate.session_factory.statement_inspector' property.
+ * Statements are recorded only between {@link #start()} and {@link #stop()} calls, so background threads
+ * and unrelated test steps do not affect the recorded statements.
+ */
+public class SqlStatementRecorder implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> RECORDED_STATEMENTS = new ThreadLocal<>();
+
+    /**
+     * Start recording SQL statements issued by the current thread.
+     */
+    public static void start() {
+        RECORDED_STATEMENTS.set(new ArrayList<>());
+    }
+
+    /**
+     * Stop recording SQL statements issued by the current thread.
+     *
+     * @return SQL statements recorded since the last {@link #start()} call.
+     */
+    public static List<String> stop() {
+        List<String> statements = RECORDED_STATEMENTS.get();
+        RECORDED_STATEMENTS.remove();
+        return nonNull(statements) ? List.copyOf(statements) : List.of();
+    }
+
+    @Override
+    public String inspect(String sql) {
+        List<String> statements = RECORDED_STATEMENTS.get();
+        if (nonNull(statements)) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,134 @@
+package pl.tul.discountmanagement.unit.allocation;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.function.Executable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Objects.isNull;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Assertions verifying the number of bytes allocated per invocation of a given action.
+ * The action is warmed up first, so that the measured code is JIT-compiled, and then executed under JDK Flight Recorder
+ * with 'jdk.ObjectAllocationSample' events enabled. Each sample is weighted with the number of bytes the thread allocated
+ * since its previous sample, hence the sum of weights of the current thread's samples approximates its allocation.
+ * The first sample is skipped, as its weight covers allocations made before the recording started.
+ */
+public final class AllocationAssertions {
+
+    private static final String ALLOCATION_SAMPLE_EVENT = "jdk.ObjectAllocationSample";
+    private static final String ALLOCATION_SAMPLE_THROTTLE = "1000/ms";
+    private static final String WEIGHT_FIELD = "weight";
+    private static final String OBJECT_CLASS_FIELD = "objectClass";
+    private static final String UNKNOWN_SITE = "<unknown>";
+    private static final String[] RUNTIME_PACKAGES = {"java.", "javax.", "jdk.", "sun.", "com.sun.", "ch.qos.logback.", "org.slf4j."};
+    private static final int REPORTED_SITES = 10;
+    private static final String ALLOCATION_BUDGET_EXCEEDED_MSG =
+            "Expected at most %d allocated byte(s) per invocation, but %.1f were allocated. Top allocation sites:%n%s";
+    private static final String ALLOCATION_SITE_FORMAT = "  %.1f B/invocation - %s%n";
+
+    private AllocationAssertions() {
+    }
+
+    /**
+     * Warm up given action, execute it under JDK Flight Recorder and assert that it allocated at most given number of bytes
+     * per invocation. On violation, the assertion fails with the top allocation sites listed in the failure message.
+     *
+     * @param maxBytesPerInvocation maximal number of bytes a single invocation is allowed to allocate.
+     * @param warmUpInvocations     number of invocations executed before the measurement.
+     * @param measuredInvocations   number of measured invocations.
+     * @param action                the action to be executed.
+     * @return number of bytes allocated per invocation.
+     * @throws Throwable when the action itself fails.
+     */
+    public static double assertAllocationBudget(long maxBytesPerInvocation, int warmUpInvocations, int measuredInvocations,
+                                                Executable action) throws Throwable {
+        for (int i = 0; i < warmUpInvocations; i++) {
+            action.execute();
+        }
+        Path recordingFile = Files.createTempFile("allocation", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(ALLOCATION_SAMPLE_EVENT).with("throttle", ALLOCATION_SAMPLE_THROTTLE).withStackTrace();
+            recording.start();
+            for (int i = 0; i < measuredInvocations; i++) {
+                action.execute();
+            }
+            recording.stop();
+            recording.dump(recordingFile);
+            Map<String, Long> allocatedBytesBySite = readAllocatedBytesBySite(recordingFile, Thread.currentThread().getId());
+            long allocatedBytes = allocatedBytesBySite.values().stream().mapToLong(Long::longValue).sum();
+            double bytesPerInvocation = (double) allocatedBytes / measuredInvocations;
+            if (bytesPerInvocation > maxBytesPerInvocation) {
+                fail(ALLOCATION_BUDGET_EXCEEDED_MSG.formatted(maxBytesPerInvocation, bytesPerInvocation,
+                        formatSites(allocatedBytesBySite, measuredInvocations)));
+            }
+            return bytesPerInvocation;
+        } finally {
+            Files.deleteIfExists(recordingFile);
+        }
+    }
+
+    private static Map<String, Long> readAllocatedBytesBySite(Path recordingFile, long threadId) throws IOException {
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile).stream()
+                .filter(event -> isRecordedOnThread(event, threadId))
+                .sorted(Comparator.comparing(RecordedEvent::getStartTime))
+                .toList();
+        Map<String, Long> allocatedBytesBySite = new HashMap<>();
+        for (RecordedEvent event : events.subList(Math.min(1, events.size()), events.size())) {
+            allocatedBytesBySite.merge(describeSite(event), event.getLong(WEIGHT_FIELD), Long::sum);
+        }
+        return allocatedBytesBySite;
+    }
+
+    private static boolean isRecordedOnThread(RecordedEvent event, long threadId) {
+        RecordedThread thread = event.getThread();
+        return event.getEventType().getName().equals(ALLOCATION_SAMPLE_EVENT) && !isNull(thread) && thread.getJavaThreadId() == threadId;
+    }
+
+    private static String describeSite(RecordedEvent event) {
+        String objectClass = event.getClass(OBJECT_CLASS_FIELD).getName();
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (isNull(stackTrace)) {
+            return objectClass + " at " + UNKNOWN_SITE;
+        }
+        return stackTrace.getFrames().stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .filter(frame -> !isRuntimeFrame(frame))
+                .findFirst()
+                .map(frame -> objectClass + " at " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .orElse(objectClass + " at " + UNKNOWN_SITE);
+    }
+
+    private static boolean isRuntimeFrame(RecordedFrame frame) {
+        String className = frame.getMethod().getType().getName();
+        for (String runtimePackage : RUNTIME_PACKAGES) {
+            if (className.startsWith(runtimePackage)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String formatSites(Map<String, Long> allocatedBytesBySite, int measuredInvocations) {
+        StringBuilder formattedSites = new StringBuilder();
+        allocatedBytesBySite.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(REPORTED_SITES)
+                .forEach(site -> formattedSites.append(ALLOCATION_SITE_FORMAT.formatted(
+                        (double) site.getValue() / measuredInvocations, site.getKey())));
+        return formattedSites.toString();
+    }
+}
@@ -0,0 +1,169 @@
+package pl.tul.discountmanagement.unit.allocation;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.LoggerFactory;
+import pl.tul.discountmanagement.product.application.mapper.ProductDTOMapper;
+import pl.tul.discountmanagement.product.application.port.out.persistence.ProductPersistencePort;
+import pl.tul.discountmanagement.product.application.service.ProductApplicationService;
+import pl.tul.discountmanagement.product.domain.model.Product;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.audit.PriceAuditAdapter;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.audit.config.PriceAuditProperties;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.tracking.HeavyHitterTrackingAdapter;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.tracking.config.HeavyHitterProperties;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static pl.tul.discountmanagement.unit.allocation.AllocationAssertions.assertAllocationBudget;
+import static pl.tul.discountmanagement.unit.util.TestDataUtils.buildCurrency;
+import static pl.tul.discountmanagement.unit.util.TestDataUtils.buildPercentageBasedDiscount;
+import static pl.tul.discountmanagement.unit.util.TestDataUtils.buildProduct;
+import static pl.tul.discountmanagement.unit.util.TestDataUtils.buildQuantityBasedDiscount;
+
+/**
+ * Allocation budget test class for {@link ProductApplicationService}.
+ * The service is wired with an in-memory persistence port instead of a Mockito mock, as mocks record every invocation
+ * and would dominate the measured allocation. Info logging is disabled, as it is on the hot path of a tuned deployment,
+ * while the price audit is enabled and running, as recording an audit event must not allocate on the request thread.
+ */
+class ProductApplicationServiceAllocationTest {
+
+    private static final int WARM_UP_INVOCATIONS = 20_000;
+    private static final int MEASURED_INVOCATIONS = 50_000;
+    private static final long GET_PRODUCT_BYTES_PER_INVOCATION = 1536L;
+    private static final long CALCULATE_PRICE_BYTES_PER_INVOCATION = 1536L;
+
+    private static Level originalLevel;
+    private static Level originalAuditLevel;
+
+    @TempDir
+    Path auditDirectory;
+
+    private Product product;
+    private ProductApplicationService productService;
+    private PriceAuditAdapter priceAuditAdapter;
+    // keeps the results reachable, so that the JIT compiler cannot eliminate the measured allocations
+    private volatile Object result;
+
+    /**
+     * Setup logger.
+     */
+    @BeforeAll
+    static void setUpLogger() {
+        Logger logger = (Logger) LoggerFactory.getLogger(ProductApplicationService.class);
+        originalLevel = logger.getLevel();
+        logger.setLevel(Level.WARN);
+        Logger auditLogger = (Logger) LoggerFactory.getLogger(PriceAuditAdapter.PRICE_AUDIT_LOGGER);
+        originalAuditLevel = auditLogger.getLevel();
+        auditLogger.setLevel(Level.INFO);
+    }
+
+    /**
+     * Restore logger.
+     */
+    @AfterAll
+    static void restoreLogger() {
+        ((Logger) LoggerFactory.getLogger(ProductApplicationService.class)).setLevel(originalLevel);
+        ((Logger) LoggerFactory.getLogger(PriceAuditAdapter.PRICE_AUDIT_LOGGER)).setLevel(originalAuditLevel);
+    }
+
+    /**
+     * Setup product service.
+     */
+    @BeforeEach
+    void setUpProductService() {
+        product = buildProduct(UUID.fromString("11111111-1111-1111-1111-111111111111"), new BigDecimal("1000.00"),
+                buildCurrency("EUR", 2), buildPercentageBasedDiscount(10),
+                Set.of(buildQuantityBasedDiscount(15, 3, 5), buildQuantityBasedDiscount(20, 6, null)));
+        ProductPersistencePort productPersistencePort = new ProductPersistencePort() {
+            @Override
+            public Optional<Product> findById(UUID productId) {
+                return Optional.of(product);
+            }
+
+            @Override
+            public List<Product> findAllByIds(Collection<UUID> productIds) {
+                return List.of(product);
+            }
+
+            @Override
+            public List<UUID> findProductIds(int limit) {
+                return List.of(product.id());
+            }
+
+            @Override
+            public boolean isReadWithoutDatabase(UUID productId) {
+                return false;
+            }
+        };
+        PriceAuditProperties priceAuditProperties = new PriceAuditProperties();
+        priceAuditProperties.setFilePath(auditDirectory.resolve("price-audit.log").toString());
+        priceAuditAdapter = new PriceAuditAdapter(priceAuditProperties, new SimpleMeterRegistry());
+        priceAuditAdapter.start();
+        productService = new ProductApplicationService(productPersistencePort, new ProductDTOMapper() {
+        }, new HeavyHitterTrackingAdapter(new HeavyHitterProperties()), priceAuditAdapter);
+    }
+
+    /**
+     * Stop price audit.
+     */
+    @AfterEach
+    void stopPriceAudit() {
+        priceAuditAdapter.stop();
+    }
+
+    /**
+     * Test purpose         - Verify if {@link ProductApplicationService#getProductById(UUID)} stays within its allocation budget.
+     * Test data            - product with percentage-based and quantity-based discounts, warmed-up service.
+     * Test expected result - Bytes allocated per invocation do not exceed the budget.
+     * Test type            - Positive.
+     */
+    @Test
+    void getProductById_shouldStayWithinAllocationBudget() throws Throwable {
+        // Given
+        UUID productId = product.id();
+
+        // When
+        double bytesPerInvocation = assertAllocationBudget(GET_PRODUCT_BYTES_PER_INVOCATION, WARM_UP_INVOCATIONS,
+                MEASURED_INVOCATIONS, () -> result = productService.getProductById(productId));
+
+        // Then
+        assertTrue(bytesPerInvocation > 0);
+    }
+
+    /**
+     * Test purpose         - Verify if {@link ProductApplicationService#calculateProductPrice(UUID, int)} stays within
+     *                        its allocation budget.
+     * Test data            - product with percentage-based and quantity-based discounts, product quantity matching
+     *                        a quantity-based discount, warmed-up service.
+     * Test expected result - Bytes allocated per invocation do not exceed the budget.
+     * Test type            - Positive.
+     */
+    @Test
+    void calculateProductPrice_shouldStayWithinAllocationBudget() throws Throwable {
+        // Given
+        UUID productId = product.id();
+        int productQuantity = 3;
+
+        // When
+        double bytesPerInvocation = assertAllocationBudget(CALCULATE_PRICE_BYTES_PER_INVOCATION, WARM_UP_INVOCATIONS,
+                MEASURED_INVOCATIONS, () -> result = productService.calculateProductPrice(productId, productQuantity));
+
+        // Then
+        assertTrue(bytesPerInvocation > 0);
+    }
+}
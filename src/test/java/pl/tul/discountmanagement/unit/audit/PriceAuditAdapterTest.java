@@ -0,0 +1,220 @@
+package pl.tul.discountmanagement.unit.audit;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.LoggerFactory;
+import pl.tul.discountmanagement.product.domain.model.PercentageBasedDiscount;
+import pl.tul.discountmanagement.product.domain.model.QuantityBasedDiscount;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.audit.PriceAuditAdapter;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.audit.config.PriceAuditProperties;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static pl.tul.discountmanagement.unit.util.TestDataUtils.buildPercentageBasedDiscount;
+import static pl.tul.discountmanagement.unit.util.TestDataUtils.buildQuantityBasedDiscount;
+
+/**
+ * Test class for {@link PriceAuditAdapter}.
+ */
+class PriceAuditAdapterTest {
+
+    private static final UUID PRODUCT_ID = UUID.fromString("11111111-1111-1111-1111-111111111111");
+    private static final String AUDIT_FILE_NAME = "price-audit.log";
+    private static final String DROPPED_METRIC = "price.audit.dropped";
+
+    @TempDir
+    Path auditDirectory;
+
+    private Logger auditLogger;
+    private Level originalAuditLevel;
+    private MeterRegistry meterRegistry;
+    private PriceAuditAdapter priceAuditAdapter;
+
+    /**
+     * Setup price audit writing to a temporary directory.
+     */
+    @BeforeEach
+    void setUpPriceAudit() {
+        auditLogger = (Logger) LoggerFactory.getLogger(PriceAuditAdapter.PRICE_AUDIT_LOGGER);
+        originalAuditLevel = auditLogger.getLevel();
+        auditLogger.setLevel(Level.INFO);
+        PriceAuditProperties priceAuditProperties = new PriceAuditProperties();
+        priceAuditProperties.setFilePath(auditDirectory.resolve(AUDIT_FILE_NAME).toString());
+        meterRegistry = new SimpleMeterRegistry();
+        priceAuditAdapter = new PriceAuditAdapter(priceAuditProperties, meterRegistry);
+        priceAuditAdapter.start();
+    }
+
+    /**
+     * Stop price audit and restore logger.
+     */
+    @AfterEach
+    void stopPriceAudit() {
+        priceAuditAdapter.stop();
+        auditLogger.setLevel(originalAuditLevel);
+    }
+
+    /**
+     * Test purpose         - Verify if {@link PriceAuditAdapter#recordPriceCalculation} writes the recorded events
+     *                        to the audit file in the compact format.
+     * Test data            - two price calculations, with and without applied discounts.
+     * Test expected result - The audit file contains a line per event with the event fields, '-' standing for
+     *                        a discount which was not applied.
+     * Test type            - Positive.
+     */
+    @Test
+    void recordPriceCalculation_shouldWriteEventsToAuditFile_whenAuditLoggerIsEnabled() throws Exception {
+        // Given
+        PercentageBasedDiscount percentageBasedDiscount = buildPercentageBasedDiscount(10);
+        QuantityBasedDiscount quantityBasedDiscount = buildQuantityBasedDiscount(15, 3, 5);
+
+        // When
+        priceAuditAdapter.recordPriceCalculation(PRODUCT_ID, 3, percentageBasedDiscount, quantityBasedDiscount,
+                new BigDecimal("2250.00"), new BigDecimal("750.00"), "EUR");
+        priceAuditAdapter.recordPriceCalculation(PRODUCT_ID, 1, null, null,
+                new BigDecimal("1000.00"), new BigDecimal("1000.00"), "EUR");
+        priceAuditAdapter.stop();
+
+        // Then
+        List<String> lines = Files.readAllLines(auditDirectory.resolve(AUDIT_FILE_NAME));
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).endsWith("|%s|3|%s|%s|2250.00|750.00|EUR".formatted(PRODUCT_ID,
+                percentageBasedDiscount.getId(), quantityBasedDiscount.getId())));
+        assertTrue(lines.get(1).endsWith("|%s|1|-|-|1000.00|1000.00|EUR".formatted(PRODUCT_ID)));
+    }
+
+    /**
+     * Test purpose         - Verify if {@link PriceAuditAdapter#recordPriceCalculation} does not record events
+     *                        when the audit logger is not enabled for the INFO level.
+     * Test data            - price calculation, audit logger level set to WARN.
+     * Test expected result - No audit file is written.
+     * Test type            - Positive.
+     */
+    @Test
+    void recordPriceCalculation_shouldNotWriteEvents_whenAuditLoggerIsDisabled() {
+        // Given
+        auditLogger.setLevel(Level.WARN);
+
+        // When
+        priceAuditAdapter.recordPriceCalculation(PRODUCT_ID, 1, null, null,
+                new BigDecimal("1000.00"), new BigDecimal("1000.00"), "EUR");
+        priceAuditAdapter.stop();
+
+        // Then
+        assertFalse(Files.exists(auditDirectory.resolve(AUDIT_FILE_NAME)));
+    }
+
+    /**
+     * Test purpose         - Verify if {@link PriceAuditAdapter#recordPriceCalculation} counts the events recorded
+     *                        after the adapter was stopped as dropped.
+     * Test data            - price calculation recorded before and two price calculations recorded after the stop.
+     * Test expected result - Only the event recorded before the stop is written, the other two are counted as dropped.
+     * Test type            - Negative.
+     */
+    @Test
+    void recordPriceCalculation_shouldCountDroppedEvents_whenAdapterIsStopped() throws Exception {
+        // Given
+        priceAuditAdapter.recordPriceCalculation(PRODUCT_ID, 1, null, null,
+                new BigDecimal("1000.00"), new BigDecimal("1000.00"), "EUR");
+        priceAuditAdapter.stop();
+
+        // When
+        for (int productQuantity = 2; productQuantity <= 3; productQuantity++) {
+            priceAuditAdapter.recordPriceCalculation(PRODUCT_ID, productQuantity, null, null,
+                    new BigDecimal("1000.00"), new BigDecimal("1000.00"), "EUR");
+        }
+
+        // Then
+        assertEquals(1, Files.readAllLines(auditDirectory.resolve(AUDIT_FILE_NAME)).size());
+        assertEquals(2.0, meterRegistry.counter(DROPPED_METRIC).count());
+    }
+
+    /**
+     * Test purpose         - Verify if every event recorded while the adapter is stopping is either written or counted
+     *                        as dropped.
+     * Test data            - 4 threads recording 10 000 price calculations each, the adapter stopped meanwhile.
+     * Test expected result - The number of written lines and dropped events sums up to the number of recorded events.
+     * Test type            - Negative.
+     */
+    @Test
+    void recordPriceCalculation_shouldWriteOrCountEveryEvent_whenAdapterIsStoppedConcurrently() throws Exception {
+        // Given
+        int threadCount = 4;
+        int eventsPerThread = 10_000;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+        // When
+        List<Future<?>> recorders = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            recorders.add(executorService.submit(() -> {
+                for (int productQuantity = 1; productQuantity <= eventsPerThread; productQuantity++) {
+                    priceAuditAdapter.recordPriceCalculation(PRODUCT_ID, productQuantity, null, null,
+                            new BigDecimal("1000.00"), new BigDecimal("1000.00"), "EUR");
+                }
+            }));
+        }
+        Thread.sleep(5L);
+        priceAuditAdapter.stop();
+        for (Future<?> recorder : recorders) {
+            recorder.get();
+        }
+        executorService.shutdown();
+
+        // Then
+        Path auditFile = auditDirectory.resolve(AUDIT_FILE_NAME);
+        long writtenEvents = Files.exists(auditFile) ? Files.readAllLines(auditFile).size() : 0;
+        long droppedEvents = (long) meterRegistry.counter(DROPPED_METRIC).count();
+        assertEquals((long) threadCount * eventsPerThread, writtenEvents + droppedEvents);
+    }
+
+    /**
+     * Test purpose         - Verify if the audit file is rolled over once it exceeds the maximal size.
+     * Test data            - audit with maximal file size of zero megabytes and history of one file, three events.
+     * Test expected result - The current file and a single rolled over file exist, each containing one event.
+     * Test type            - Positive.
+     */
+    @Test
+    void recordPriceCalculation_shouldRollAuditFileOver_whenMaximalFileSizeIsExceeded() throws Exception {
+        // Given
+        priceAuditAdapter.stop();
+        PriceAuditProperties priceAuditProperties = new PriceAuditProperties();
+        priceAuditProperties.setFilePath(auditDirectory.resolve(AUDIT_FILE_NAME).toString());
+        priceAuditProperties.setMaxFileSizeInMegabytes(0L);
+        priceAuditProperties.setMaxHistory(1);
+        priceAuditAdapter = new PriceAuditAdapter(priceAuditProperties, new SimpleMeterRegistry());
+        priceAuditAdapter.start();
+
+        // When
+        for (int productQuantity = 1; productQuantity <= 3; productQuantity++) {
+            priceAuditAdapter.recordPriceCalculation(PRODUCT_ID, productQuantity, null, null,
+                    new BigDecimal("1000.00"), new BigDecimal("1000.00"), "EUR");
+        }
+        priceAuditAdapter.stop();
+
+        // Then
+        List<String> currentLines = Files.readAllLines(auditDirectory.resolve(AUDIT_FILE_NAME));
+        List<String> rolledLines = Files.readAllLines(auditDirectory.resolve(AUDIT_FILE_NAME + ".1"));
+        assertEquals(1, currentLines.size());
+        assertTrue(currentLines.get(0).contains("|3|"));
+        assertEquals(1, rolledLines.size());
+        assertTrue(rolledLines.get(0).contains("|2|"));
+        assertFalse(Files.exists(auditDirectory.resolve(AUDIT_FILE_NAME + ".2")));
+    }
+}
@@ -0,0 +1,211 @@
+package pl.tul.discountmanagement.unit.catalog;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import pl.tul.discountmanagement.product.domain.model.Currency;
+import pl.tul.discountmanagement.product.domain.model.Product;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.columnar.ColumnarProductCatalog;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.snapshot.CatalogSnapshotWriter;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.snapshot.InvalidCatalogSnapshotException;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.snapshot.MappedCatalogSnapshot;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static pl.tul.discountmanagement.unit.util.TestDataUtils.buildCurrency;
+import static pl.tul.discountmanagement.unit.util.TestDataUtils.buildPercentageBasedDiscount;
+import static pl.tul.discountmanagement.unit.util.TestDataUtils.buildProduct;
+import static pl.tul.discountmanagement.unit.util.TestDataUtils.buildQuantityBasedDiscount;
+
+/**
+ * Test class for {@link CatalogSnapshotWriter} and {@link MappedCatalogSnapshot}.
+ */
+class CatalogSnapshotTest {
+
+    private static final Instant CREATED_AT = Instant.parse("2024-01-01T00:00:00Z");
+    private static final long CHANGE_SEQUENCE_NUMBER = 42L;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int VERSION_OFFSET = 4;
+    private static final int HEADER_SIZE = 64;
+    // products of about 1 kB each, filling more than a 16 MB section
+    private static final int LARGE_CATALOG_SIZE = 20_000;
+    private static final String LONG_DESCRIPTION = "D".repeat(1000);
+
+    @TempDir
+    Path snapshotDirectory;
+
+    /**
+     * Test purpose         - Verify if {@link MappedCatalogSnapshot#forEach} reads back the products of the catalog written
+     *                        by {@link CatalogSnapshotWriter}.
+     * Test data            - Catalog of products in two currencies, with and without discounts.
+     * Test expected result - All the products are read back equal to the written ones, the product count, the creation
+     *                        moment and the change sequence number are read from the header.
+     * Test type            - Positive.
+     */
+    @Test
+    void forEach_shouldReturnWrittenProducts_whenSnapshotIsMapped() throws IOException {
+        // Given
+        Currency euro = buildCurrency("EUR", 2);
+        Currency yen = buildCurrency("JPY", 0);
+        List<Product> products = List.of(
+                buildProduct(UUID.randomUUID(), new BigDecimal("1000.50"), euro, buildPercentageBasedDiscount(10),
+                        Set.of(buildQuantityBasedDiscount(15, 3, 5), buildQuantityBasedDiscount(20, 6, null))),
+                buildProduct(UUID.randomUUID(), new BigDecimal("300"), yen, null, null),
+                buildProduct(UUID.randomUUID(), new BigDecimal("0.99"), euro, null, Set.of())
+        );
+        Path snapshotPath = writeSnapshot(products);
+
+        // When
+        Map<UUID, Product> readProducts = new HashMap<>();
+        try (MappedCatalogSnapshot snapshot = MappedCatalogSnapshot.open(snapshotPath)) {
+            snapshot.forEach(product -> readProducts.put(product.id(), product));
+
+            // Then
+            assertEquals(products.size(), snapshot.size());
+            assertEquals(1, snapshot.getSectionCount());
+            assertEquals(CREATED_AT, snapshot.getCreatedAt());
+            assertEquals(CHANGE_SEQUENCE_NUMBER, snapshot.getChangeSequenceNumber());
+        }
+        assertEquals(products.size(), readProducts.size());
+        for (Product product : products) {
+            assertEquals(product, readProducts.get(product.id()));
+        }
+    }
+
+    /**
+     * Test purpose         - Verify if {@link CatalogSnapshotWriter} splits a large catalog into sections mapped one by one.
+     * Test data            - Catalog of products with long descriptions, exceeding the size of a single section.
+     * Test expected result - The snapshot has more than one section and all the products are read back.
+     * Test type            - Positive.
+     */
+    @Test
+    void forEach_shouldReturnWrittenProducts_whenCatalogSpansSections() throws IOException {
+        // Given
+        Currency euro = buildCurrency("EUR", 2);
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < LARGE_CATALOG_SIZE; i++) {
+            products.add(Product.builder()
+                    .id(UUID.randomUUID())
+                    .name("NAME" + i)
+                    .description(LONG_DESCRIPTION)
+                    .price(BigDecimal.valueOf(i, 2))
+                    .currency(euro)
+                    .build());
+        }
+        Path snapshotPath = writeSnapshot(products);
+
+        // When
+        Map<UUID, Product> readProducts = new HashMap<>();
+        try (MappedCatalogSnapshot snapshot = MappedCatalogSnapshot.open(snapshotPath)) {
+            snapshot.forEach(product -> readProducts.put(product.id(), product));
+
+            // Then
+            assertTrue(snapshot.getSectionCount() > 1);
+            assertEquals(LARGE_CATALOG_SIZE, snapshot.size());
+        }
+        assertEquals(LARGE_CATALOG_SIZE, readProducts.size());
+        for (Product product : products) {
+            assertEquals(product, readProducts.get(product.id()));
+        }
+    }
+
+    /**
+     * Test purpose         - Verify if {@link MappedCatalogSnapshot} detects a corrupted section only when the section
+     *                        is read, not when the snapshot is opened.
+     * Test data            - Snapshot with a byte of its only section flipped.
+     * Test expected result - The snapshot is opened, reading its products throws {@link InvalidCatalogSnapshotException}
+     *                        reporting the section checksum mismatch before any product is read.
+     * Test type            - Negative.
+     */
+    @Test
+    void forEach_shouldThrowException_whenSectionChecksumDoesNotMatch() throws IOException {
+        // Given
+        Path snapshotPath = writeSnapshot(List.of(buildProduct(UUID.randomUUID(), BigDecimal.TEN, buildCurrency("EUR", 2), null, null)));
+        flipByte(snapshotPath, HEADER_SIZE);
+        List<Product> readProducts = new ArrayList<>();
+
+        // When
+        try (MappedCatalogSnapshot snapshot = MappedCatalogSnapshot.open(snapshotPath)) {
+            InvalidCatalogSnapshotException exception = assertThrows(InvalidCatalogSnapshotException.class,
+                    () -> snapshot.forEach(readProducts::add));
+
+            // Then
+            assertTrue(exception.getMessage().contains("section 0 checksum"));
+        }
+        assertTrue(readProducts.isEmpty());
+    }
+
+    /**
+     * Test purpose         - Verify if {@link MappedCatalogSnapshot#open(Path)} rejects a snapshot with a corrupted directory.
+     * Test data            - Snapshot with the last byte, a part of the directory, flipped.
+     * Test expected result - {@link InvalidCatalogSnapshotException} reporting the checksum mismatch is thrown.
+     * Test type            - Negative.
+     */
+    @Test
+    void open_shouldThrowException_whenDirectoryChecksumDoesNotMatch() throws IOException {
+        // Given
+        Path snapshotPath = writeSnapshot(List.of(buildProduct(UUID.randomUUID(), BigDecimal.TEN, buildCurrency("EUR", 2), null, null)));
+        flipByte(snapshotPath, Files.size(snapshotPath) - 1);
+
+        // When
+        InvalidCatalogSnapshotException exception = assertThrows(InvalidCatalogSnapshotException.class,
+                () -> MappedCatalogSnapshot.open(snapshotPath));
+
+        // Then
+        assertTrue(exception.getMessage().contains("checksum"));
+    }
+
+    /**
+     * Test purpose         - Verify if {@link MappedCatalogSnapshot#open(Path)} rejects a snapshot of another format version.
+     * Test data            - Snapshot of an empty catalog with the format version changed to 3.
+     * Test expected result - {@link InvalidCatalogSnapshotException} reporting the format version is thrown.
+     * Test type            - Negative.
+     */
+    @Test
+    void open_shouldThrowException_whenFormatVersionIsIncompatible() throws IOException {
+        // Given
+        Path snapshotPath = writeSnapshot(List.of());
+        try (RandomAccessFile file = new RandomAccessFile(snapshotPath.toFile(), "rw")) {
+            assertEquals(HEADER_SIZE, file.length());
+            file.seek(VERSION_OFFSET);
+            file.writeInt(3);
+        }
+
+        // When
+        InvalidCatalogSnapshotException exception = assertThrows(InvalidCatalogSnapshotException.class,
+                () -> MappedCatalogSnapshot.open(snapshotPath));
+
+        // Then
+        assertTrue(exception.getMessage().contains("format version 3"));
+    }
+
+    private Path writeSnapshot(List<Product> products) throws IOException {
+        ColumnarProductCatalog catalog = new ColumnarProductCatalog(INITIAL_CAPACITY);
+        products.forEach(catalog::upsert);
+        Path snapshotPath = snapshotDirectory.resolve("catalog.snapshot");
+        CatalogSnapshotWriter.write(snapshotPath, catalog, CHANGE_SEQUENCE_NUMBER, CREATED_AT);
+        return snapshotPath;
+    }
+
+    private void flipByte(Path snapshotPath, long position) throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(snapshotPath.toFile(), "rw")) {
+            file.seek(position);
+            int value = file.read();
+            file.seek(position);
+            file.write(value ^ 0xFF);
+        }
+    }
+}
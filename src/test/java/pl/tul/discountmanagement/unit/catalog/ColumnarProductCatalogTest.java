@@ -0,0 +1,191 @@
+package pl.tul.discountmanagement.unit.catalog;
+
+import org.junit.jupiter.api.Test;
+import pl.tul.discountmanagement.product.domain.model.Currency;
+import pl.tul.discountmanagement.product.domain.model.PercentageBasedDiscount;
+import pl.tul.discountmanagement.product.domain.model.Product;
+import pl.tul.discountmanagement.product.domain.model.QuantityBasedDiscount;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.CatalogFootprint;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.columnar.ColumnarProductCatalog;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static pl.tul.discountmanagement.unit.util.TestDataUtils.buildCurrency;
+import static pl.tul.discountmanagement.unit.util.TestDataUtils.buildPercentageBasedDiscount;
+import static pl.tul.discountmanagement.unit.util.TestDataUtils.buildProduct;
+import static pl.tul.discountmanagement.unit.util.TestDataUtils.buildQuantityBasedDiscount;
+
+/**
+ * Test class for {@link ColumnarProductCatalog}.
+ */
+class ColumnarProductCatalogTest {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int PRODUCT_COUNT = 100_000;
+    private static final long MAX_BYTES_PER_PRODUCT_WITHOUT_TEXT = 100L;
+
+    /**
+     * Test purpose         - Verify if {@link ColumnarProductCatalog#get(UUID)} materializes the upserted products.
+     * Test data            - Products in two currencies sharing their discounts, a product without discounts, a product with
+     *                        a price exceeding a long and an unknown product identifier.
+     * Test expected result - All the products are equal to the upserted ones, the discounts and the tier set are stored once,
+     *                        the unknown product is not found.
+     * Test type            - Positive.
+     */
+    @Test
+    void get_shouldReturnUpsertedProducts_whenDiscountsAreShared() {
+        // Given
+        Currency euro = buildCurrency("EUR", 2);
+        Currency yen = buildCurrency("JPY", 0);
+        Set<QuantityBasedDiscount> tiers = Set.of(buildQuantityBasedDiscount(15, 3, 5), buildQuantityBasedDiscount(20, 6, null));
+        List<Product> products = List.of(
+                buildProduct(UUID.randomUUID(), new BigDecimal("1000.50"), euro, buildPercentageBasedDiscount(10), tiers),
+                buildProduct(UUID.randomUUID(), new BigDecimal("300"), yen, null, tiers),
+                buildProduct(UUID.randomUUID(), new BigDecimal("0.99"), euro, null, null),
+                buildProduct(UUID.randomUUID(), new BigDecimal("123456789012345678901234567890.12"), euro, null, Set.of())
+        );
+        ColumnarProductCatalog catalog = new ColumnarProductCatalog(INITIAL_CAPACITY);
+
+        // When
+        products.forEach(catalog::upsert);
+
+        // Then
+        for (Product product : products) {
+            assertEquals(product, catalog.get(product.id()));
+        }
+        assertNull(catalog.get(UUID.randomUUID()));
+        CatalogFootprint footprint = catalog.getFootprint();
+        assertEquals(products.size(), footprint.productCount());
+        assertEquals(2, footprint.currencyCount());
+        assertEquals(1, footprint.percentageBasedDiscountCount());
+        assertEquals(2, footprint.quantityBasedDiscountCount());
+        assertEquals(2, footprint.tierSetCount());
+    }
+
+    /**
+     * Test purpose         - Verify if {@link ColumnarProductCatalog} keeps serving the remaining products while products
+     *                        are replaced and removed.
+     * Test data            - A catalog growing well beyond its initial capacity, every other product replaced and every third
+     *                        product removed.
+     * Test expected result - Replaced products are returned in the new version, removed products are not found,
+     *                        the others are returned unchanged.
+     * Test type            - Positive.
+     */
+    @Test
+    void get_shouldReturnCurrentProducts_whenProductsAreReplacedAndRemoved() {
+        // Given
+        Currency euro = buildCurrency("EUR", 2);
+        ColumnarProductCatalog catalog = new ColumnarProductCatalog(INITIAL_CAPACITY);
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            Product product = buildProduct(UUID.randomUUID(), BigDecimal.valueOf(i, 2), euro, null, null);
+            products.add(product);
+            catalog.upsert(product);
+        }
+
+        // When
+        for (int i = 0; i < products.size(); i++) {
+            if (i % 3 == 0) {
+                assertTrue(catalog.remove(products.get(i).id()));
+            } else if (i % 2 == 0) {
+                Product replacement = buildProduct(products.get(i).id(), BigDecimal.valueOf(-i, 2), euro,
+                        buildPercentageBasedDiscount(5), null);
+                products.set(i, replacement);
+                catalog.upsert(replacement);
+            }
+        }
+
+        // Then
+        for (int i = 0; i < products.size(); i++) {
+            Product product = products.get(i);
+            if (i % 3 == 0) {
+                assertNull(catalog.get(product.id()));
+                assertFalse(catalog.remove(product.id()));
+            } else {
+                assertEquals(product, catalog.get(product.id()));
+            }
+        }
+        assertEquals(products.size() - (products.size() + 2) / 3, catalog.size());
+    }
+
+    /**
+     * Test purpose         - Verify if {@link ColumnarProductCatalog#getFootprint()} reports a compact heap footprint.
+     * Test data            - 100 000 products sharing their currency and discounts.
+     * Test expected result - Apart from the text arena, the catalog takes less than 100 bytes per product.
+     * Test type            - Positive.
+     */
+    @Test
+    void getFootprint_shouldReportCompactFootprint_whenCatalogHoldsManyProducts() {
+        // Given
+        Currency euro = buildCurrency("EUR", 2);
+        PercentageBasedDiscount percentageBasedDiscount = buildPercentageBasedDiscount(10);
+        Set<QuantityBasedDiscount> tiers = Set.of(buildQuantityBasedDiscount(15, 3, 5), buildQuantityBasedDiscount(20, 6, null));
+        ColumnarProductCatalog catalog = new ColumnarProductCatalog(INITIAL_CAPACITY);
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            catalog.upsert(buildProduct(UUID.randomUUID(), BigDecimal.valueOf(i, 2), euro, percentageBasedDiscount, tiers));
+        }
+
+        // When
+        CatalogFootprint footprint = catalog.getFootprint();
+
+        // Then
+        assertEquals(PRODUCT_COUNT, footprint.productCount());
+        assertEquals(footprint.totalBytes() * 1_000_000L / PRODUCT_COUNT, footprint.bytesPerMillionProducts());
+        assertTrue((footprint.totalBytes() - footprint.textBytes()) / PRODUCT_COUNT < MAX_BYTES_PER_PRODUCT_WITHOUT_TEXT);
+    }
+
+    /**
+     * Test purpose         - Verify if {@link ColumnarProductCatalog#copy()} reclaims the memory of the removed and replaced products
+     *                        only once they take too much of it.
+     * Test data            - A catalog with a single product replaced, then with every third product removed and every
+     *                        other product replaced.
+     * Test expected result - The copy of the slightly changed catalog keeps the released texts, the copy of the heavily
+     *                        changed catalog is rebuilt with no released texts and fewer rows, and holds the current products.
+     * Test type            - Positive.
+     */
+    @Test
+    void copy_shouldRebuildCatalog_whenRemovedAndReplacedProductsTakeTooMuchMemory() {
+        // Given
+        Currency euro = buildCurrency("EUR", 2);
+        ColumnarProductCatalog catalog = new ColumnarProductCatalog(INITIAL_CAPACITY);
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            Product product = buildProduct(UUID.randomUUID(), BigDecimal.valueOf(i, 2), euro, null, null);
+            products.add(product);
+            catalog.upsert(product);
+        }
+        catalog.upsert(products.get(1));
+        ColumnarProductCatalog slightlyChangedCopy = catalog.copy();
+        for (int i = 0; i < products.size(); i++) {
+            if (i % 3 == 0) {
+                catalog.remove(products.get(i).id());
+            } else if (i % 2 == 0) {
+                catalog.upsert(products.get(i));
+            }
+        }
+        CatalogFootprint footprint = catalog.getFootprint();
+
+        // When
+        ColumnarProductCatalog rebuiltCopy = catalog.copy();
+
+        // Then
+        assertTrue(slightlyChangedCopy.getFootprint().releasedTextBytes() > 0L);
+        CatalogFootprint rebuiltFootprint = rebuiltCopy.getFootprint();
+        assertEquals(0L, rebuiltFootprint.releasedTextBytes());
+        assertTrue(rebuiltFootprint.textBytes() <= footprint.textBytes());
+        assertTrue(rebuiltFootprint.rowBytes() < footprint.rowBytes());
+        assertEquals(catalog.size(), rebuiltCopy.size());
+        for (int i = 0; i < products.size(); i++) {
+            Product product = products.get(i);
+            assertEquals(i % 3 == 0 ? null : product, rebuiltCopy.get(product.id()));
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package pl.tul.discountmanagement.unit.catalog;
+
+import org.junit.jupiter.api.Test;
+import pl.tul.discountmanagement.product.domain.model.Currency;
+import pl.tul.discountmanagement.product.domain.model.Product;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.CatalogClosedException;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.CopyOnWriteProductCatalog;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.columnar.ColumnarProductCatalog;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.offheap.OffHeapProductCatalog;
+
+import java.math.BigDecimal;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static pl.tul.discountmanagement.unit.util.TestDataUtils.buildCurrency;
+import static pl.tul.discountmanagement.unit.util.TestDataUtils.buildProduct;
+import static pl.tul.discountmanagement.unit.util.TestDataUtils.buildQuantityBasedDiscount;
+
+/**
+ * Test class for {@link CopyOnWriteProductCatalog}.
+ */
+class CopyOnWriteProductCatalogTest {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int COMPACTION_THRESHOLD = 2;
+    private static final int PRODUCTS_PER_PATCH = 64;
+
+    /**
+     * Test purpose         - Verify if {@link CopyOnWriteProductCatalog} patches changed products on top of its base
+     *                        without modifying the base.
+     * Test data            - A base catalog with two products, one of them updated and the other one removed, and a new product.
+     * Test expected result - The catalog returns the updated and the new product and not the removed one, while the base
+     *                        still returns the original products.
+     * Test type            - Positive.
+     */
+    @Test
+    void get_shouldReturnPatchedProducts_whenProductsChangeBelowCompactionThreshold() {
+        // Given
+        Currency euro = buildCurrency("EUR", 2);
+        Product updatedProduct = buildProduct(UUID.randomUUID(), new BigDecimal("10.00"), euro, null, null);
+        Product removedProduct = buildProduct(UUID.randomUUID(), new BigDecimal("20.00"), euro, null, null);
+        ColumnarProductCatalog base = new ColumnarProductCatalog(INITIAL_CAPACITY);
+        base.upsert(updatedProduct);
+        base.upsert(removedProduct);
+        CopyOnWriteProductCatalog catalog = new CopyOnWriteProductCatalog(base, Integer.MAX_VALUE);
+        Product newVersion = buildProduct(updatedProduct.id(), new BigDecimal("12.00"), euro, null,
+                Set.of(buildQuantityBasedDiscount(10, 2, null)));
+        Product newProduct = buildProduct(UUID.randomUUID(), new BigDecimal("30.00"), euro, null, null);
+
+        // When
+        catalog.upsert(newVersion);
+        catalog.remove(removedProduct.id());
+        catalog.upsert(newProduct);
+
+        // Then
+        assertEquals(newVersion, catalog.get(updatedProduct.id()));
+        assertNull(catalog.get(removedProduct.id()));
+        assertEquals(newProduct, catalog.get(newProduct.id()));
+        assertEquals(2, catalog.size());
+        assertEquals(3, catalog.getFootprint().patchCount());
+        assertEquals(updatedProduct, base.get(updatedProduct.id()));
+        assertEquals(removedProduct, base.get(removedProduct.id()));
+    }
+
+    /**
+     * Test purpose         - Verify if {@link CopyOnWriteProductCatalog} compacts the patches into a new base once they
+     *                        reach the compaction threshold, closing the previous base.
+     * Test data            - An off-heap base catalog with a single product and two new products reaching the threshold.
+     * Test expected result - All the products are returned with no patches left, the previous base is closed.
+     * Test type            - Positive.
+     */
+    @Test
+    void upsert_shouldCompactPatchesIntoNewBase_whenPatchesReachCompactionThreshold() {
+        // Given
+        Currency euro = buildCurrency("EUR", 2);
+        Product product = buildProduct(UUID.randomUUID(), new BigDecimal("10.00"), euro, null, null);
+        OffHeapProductCatalog base = new OffHeapProductCatalog(INITIAL_CAPACITY);
+        base.upsert(product);
+        CopyOnWriteProductCatalog catalog = new CopyOnWriteProductCatalog(base, COMPACTION_THRESHOLD);
+        Product firstNewProduct = buildProduct(UUID.randomUUID(), new BigDecimal("20.00"), euro, null, null);
+        Product secondNewProduct = buildProduct(UUID.randomUUID(), new BigDecimal("30.00"), euro, null, null);
+
+        // When
+        catalog.upsert(firstNewProduct);
+        catalog.upsert(secondNewProduct);
+
+        // Then
+        assertEquals(product, catalog.get(product.id()));
+        assertEquals(firstNewProduct, catalog.get(firstNewProduct.id()));
+        assertEquals(secondNewProduct, catalog.get(secondNewProduct.id()));
+        assertEquals(3, catalog.size());
+        assertEquals(0, catalog.getFootprint().patchCount());
+        assertThrows(CatalogClosedException.class, () -> base.get(product.id()));
+        catalog.close();
+    }
+
+    /**
+     * Test purpose         - Verify if {@link CopyOnWriteProductCatalog} keeps more patches before compacting them
+     *                        into a new base when its catalog is large, so that the base is not copied every few changes.
+     * Test data            - An off-heap base catalog with 20 patches worth of products and a compaction threshold of 2.
+     * Test expected result - The changes stay as patches until there are as many of them as the threshold scaled with
+     *                        the catalog size, then they are compacted into a new base.
+     * Test type            - Positive.
+     */
+    @Test
+    void upsert_shouldScaleCompactionThresholdWithSize_whenCatalogIsLarge() {
+        // Given
+        Currency euro = buildCurrency("EUR", 2);
+        int productCount = 20 * PRODUCTS_PER_PATCH;
+        OffHeapProductCatalog base = new OffHeapProductCatalog(productCount);
+        UUID baseProductId = UUID.randomUUID();
+        base.upsert(buildProduct(baseProductId, new BigDecimal("10.00"), euro, null, null));
+        for (int i = 1; i < productCount; i++) {
+            base.upsert(buildProduct(UUID.randomUUID(), new BigDecimal("10.00"), euro, null, null));
+        }
+        CopyOnWriteProductCatalog catalog = new CopyOnWriteProductCatalog(base, COMPACTION_THRESHOLD);
+
+        // When
+        for (int i = 0; i < 19; i++) {
+            catalog.upsert(buildProduct(UUID.randomUUID(), new BigDecimal("20.00"), euro, null, null));
+        }
+        int patchCountBelowThreshold = catalog.getFootprint().patchCount();
+        catalog.upsert(buildProduct(UUID.randomUUID(), new BigDecimal("20.00"), euro, null, null));
+
+        // Then
+        assertEquals(19, patchCountBelowThreshold);
+        assertEquals(0, catalog.getFootprint().patchCount());
+        assertEquals(productCount + 20, catalog.size());
+        assertThrows(CatalogClosedException.class, () -> base.get(baseProductId));
+        catalog.close();
+    }
+
+    /**
+     * Test purpose         - Verify if {@link CopyOnWriteProductCatalog} refuses a compaction threshold which is not positive.
+     * Test data            - Compaction threshold of 0.
+     * Test expected result - {@link IllegalArgumentException} is thrown.
+     * Test type            - Negative.
+     */
+    @Test
+    void constructor_shouldThrowException_whenCompactionThresholdIsNotPositive() {
+        // Given
+        ColumnarProductCatalog base = new ColumnarProductCatalog(INITIAL_CAPACITY);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> new CopyOnWriteProductCatalog(base, 0));
+    }
+}
@@ -0,0 +1,482 @@
+package pl.tul.discountmanagement.unit.catalog;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.CannotCreateTransactionException;
+import pl.tul.discountmanagement.product.application.port.out.persistence.ProductChangePersistencePort;
+import pl.tul.discountmanagement.product.domain.model.Product;
+import pl.tul.discountmanagement.product.domain.model.ProductChange;
+import pl.tul.discountmanagement.product.infrastructure.adapter.in.notification.config.ProductChangeNotificationProperties;
+import pl.tul.discountmanagement.product.infrastructure.adapter.in.notification.event.ProductChangeNotificationEvent;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.CatalogFootprint;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.InMemoryCatalogPersistenceAdapter;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.columnar.ColumnarProductCatalog;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.config.InMemoryCatalogProperties;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.snapshot.CatalogSnapshotWriter;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.snapshot.MappedCatalogSnapshot;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.persistence.ProductPersistenceAdapter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static pl.tul.discountmanagement.unit.util.TestDataUtils.buildCurrency;
+import static pl.tul.discountmanagement.unit.util.TestDataUtils.buildProduct;
+
+/**
+ * Test class for {@link InMemoryCatalogPersistenceAdapter}.
+ */
+@ExtendWith(MockitoExtension.class)
+class InMemoryCatalogPersistenceAdapterTest {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+    private static final long RETRY_DELAY_IN_MILLISECONDS = 1L;
+    private static final long AWAIT_TIMEOUT_IN_MILLISECONDS = 10_000L;
+    private static final int RELOAD_COUNT = 20;
+
+    @Mock
+    private ProductPersistenceAdapter productPersistenceAdapter;
+    @Mock
+    private ProductChangePersistencePort productChangePersistencePort;
+
+    @TempDir
+    Path snapshotDirectory;
+
+    private InMemoryCatalogProperties inMemoryCatalogProperties;
+    private InMemoryCatalogPersistenceAdapter adapter;
+
+    /**
+     * Setup adapter keeping the catalog on the heap, loading it in batches of 1000 products and retrying failed database
+     * reads after 1 ms, with the snapshot disabled.
+     */
+    @BeforeEach
+    void setUp() {
+        inMemoryCatalogProperties = new InMemoryCatalogProperties();
+        inMemoryCatalogProperties.setLoadBatchSize(LOAD_BATCH_SIZE);
+        inMemoryCatalogProperties.setRetryDelayInMilliseconds(RETRY_DELAY_IN_MILLISECONDS);
+        inMemoryCatalogProperties.setSnapshotPath(snapshotDirectory.resolve("catalog.snapshot").toString());
+        adapter = new InMemoryCatalogPersistenceAdapter(productPersistenceAdapter, productChangePersistencePort,
+                inMemoryCatalogProperties, new ProductChangeNotificationProperties(), new SimpleMeterRegistry());
+    }
+
+    /**
+     * Stop the updater thread of the adapter.
+     */
+    @AfterEach
+    void tearDown() {
+        adapter.stop();
+    }
+
+    /**
+     * Test purpose         - Verify if {@link InMemoryCatalogPersistenceAdapter} refuses to be created without the product
+     *                        change notifications, which the catalog follows the changes with.
+     * Test data            - Product change notifications disabled, then enabled.
+     * Test expected result - {@link IllegalStateException} is thrown while the notifications are disabled, the adapter
+     *                        is created once they are enabled.
+     * Test type            - Negative.
+     */
+    @Test
+    void constructor_shouldThrowException_whenProductChangeNotificationsAreDisabled() {
+        // Given
+        ProductChangeNotificationProperties productChangeNotificationProperties = new ProductChangeNotificationProperties();
+        productChangeNotificationProperties.setEnabled(false);
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> new InMemoryCatalogPersistenceAdapter(productPersistenceAdapter,
+                productChangePersistencePort, inMemoryCatalogProperties, productChangeNotificationProperties, new SimpleMeterRegistry()));
+        productChangeNotificationProperties.setEnabled(true);
+        assertDoesNotThrow(() -> new InMemoryCatalogPersistenceAdapter(productPersistenceAdapter,
+                productChangePersistencePort, inMemoryCatalogProperties, productChangeNotificationProperties, new SimpleMeterRegistry()));
+    }
+
+    /**
+     * Test purpose         - Verify if {@link InMemoryCatalogPersistenceAdapter} reads the products from the database
+     *                        until the catalog is loaded.
+     * Test data            - Adapter not started, product returned by the database.
+     * Test expected result - The product is read from the database, the reads are not reported as skipping the database
+     *                        and there is no catalog footprint.
+     * Test type            - Positive.
+     */
+    @Test
+    void findById_shouldReadFromDatabase_whenCatalogIsNotLoaded() {
+        // Given
+        Product product = buildProduct(UUID.randomUUID(), new BigDecimal("10.00"), buildCurrency("EUR", 2), null, null);
+        when(productPersistenceAdapter.findById(product.id())).thenReturn(Optional.of(product));
+        when(productPersistenceAdapter.findAllByIds(List.of(product.id()))).thenReturn(List.of(product));
+
+        // When
+        Optional<Product> foundProduct = adapter.findById(product.id());
+        List<Product> foundProducts = adapter.findAllByIds(List.of(product.id()));
+
+        // Then
+        assertEquals(product, foundProduct.orElseThrow());
+        assertEquals(List.of(product), foundProducts);
+        assertFalse(adapter.isReadWithoutDatabase(product.id()));
+        assertTrue(adapter.getFootprint().isEmpty());
+    }
+
+    /**
+     * Test purpose         - Verify if {@link InMemoryCatalogPersistenceAdapter} serves the products from the catalog
+     *                        once it is loaded.
+     * Test data            - Database holding two products, a read of both of them with a duplicate and an unknown product.
+     * Test expected result - The products are read from the catalog without querying the database, each once,
+     *                        and the reads are reported as skipping the database.
+     * Test type            - Positive.
+     */
+    @Test
+    void findById_shouldReadFromCatalog_whenCatalogIsLoaded() throws InterruptedException {
+        // Given
+        Product firstProduct = buildProduct(UUID.randomUUID(), new BigDecimal("10.00"), buildCurrency("EUR", 2), null, null);
+        Product secondProduct = buildProduct(UUID.randomUUID(), new BigDecimal("20.00"), buildCurrency("EUR", 2), null, null);
+        stubDatabase(List.of(firstProduct, secondProduct));
+        adapter.start();
+        awaitUntil(() -> adapter.getFootprint().isPresent());
+
+        // When
+        Optional<Product> foundProduct = adapter.findById(firstProduct.id());
+        List<Product> foundProducts = adapter.findAllByIds(List.of(firstProduct.id(), firstProduct.id(), UUID.randomUUID(),
+                secondProduct.id()));
+
+        // Then
+        assertEquals(firstProduct, foundProduct.orElseThrow());
+        assertEquals(List.of(firstProduct, secondProduct), foundProducts);
+        assertTrue(adapter.isReadWithoutDatabase(firstProduct.id()));
+        verify(productPersistenceAdapter, never()).findById(any());
+    }
+
+    /**
+     * Test purpose         - Verify if {@link InMemoryCatalogPersistenceAdapter#onProductChange} refreshes the changed
+     *                        products of the loaded catalog.
+     * Test data            - Catalog of two products, a notification of a change of both of them and of a new product,
+     *                        the database returning the first product updated, the new product and not the second product.
+     * Test expected result - The first product is updated, the new product is added and the second product is removed.
+     * Test type            - Positive.
+     */
+    @Test
+    void onProductChange_shouldUpsertAndRemoveProducts_whenProductsChange() throws InterruptedException {
+        // Given
+        Product firstProduct = buildProduct(UUID.randomUUID(), new BigDecimal("10.00"), buildCurrency("EUR", 2), null, null);
+        Product secondProduct = buildProduct(UUID.randomUUID(), new BigDecimal("20.00"), buildCurrency("EUR", 2), null, null);
+        Product updatedProduct = buildProduct(firstProduct.id(), new BigDecimal("12.00"), buildCurrency("EUR", 2), null, null);
+        Product newProduct = buildProduct(UUID.randomUUID(), new BigDecimal("30.00"), buildCurrency("EUR", 2), null, null);
+        stubDatabase(List.of(firstProduct, secondProduct));
+        Set<UUID> changedProductIds = Set.of(firstProduct.id(), secondProduct.id(), newProduct.id());
+        when(productPersistenceAdapter.findAllByIds(changedProductIds)).thenReturn(List.of(updatedProduct, newProduct));
+        adapter.start();
+        awaitUntil(() -> adapter.getFootprint().isPresent());
+
+        // When
+        adapter.onProductChange(new ProductChangeNotificationEvent("product", changedProductIds, false));
+
+        // Then
+        awaitUntil(() -> adapter.findById(secondProduct.id()).isEmpty());
+        assertEquals(updatedProduct, adapter.findById(firstProduct.id()).orElseThrow());
+        assertEquals(newProduct, adapter.findById(newProduct.id()).orElseThrow());
+        assertEquals(2, adapter.getFootprint().map(CatalogFootprint::productCount).orElseThrow());
+    }
+
+    /**
+     * Test purpose         - Verify if {@link InMemoryCatalogPersistenceAdapter#onProductChange} reloads the whole catalog
+     *                        when all the products change.
+     * Test data            - Catalog of a product, a notification of a change of all the products, the database returning
+     *                        the product updated on the second load.
+     * Test expected result - The catalog is loaded again and serves the updated product.
+     * Test type            - Positive.
+     */
+    @Test
+    void onProductChange_shouldReloadCatalog_whenAllProductsChange() throws InterruptedException {
+        // Given
+        Product product = buildProduct(UUID.randomUUID(), new BigDecimal("10.00"), buildCurrency("EUR", 2), null, null);
+        Product updatedProduct = buildProduct(product.id(), new BigDecimal("12.00"), buildCurrency("EUR", 2), null, null);
+        stubDatabase(List.of(product), List.of(updatedProduct));
+        adapter.start();
+        awaitUntil(() -> adapter.getFootprint().isPresent());
+
+        // When
+        adapter.onProductChange(new ProductChangeNotificationEvent("currency", Set.of(), true));
+
+        // Then
+        awaitUntil(() -> updatedProduct.equals(adapter.findById(product.id()).orElse(null)));
+        verify(productChangePersistencePort, times(2)).findLastSequenceNumber();
+    }
+
+    /**
+     * Test purpose         - Verify if {@link InMemoryCatalogPersistenceAdapter#onProductChange} reloads the whole catalog
+     *                        when the notifications may have been lost.
+     * Test data            - Catalog of a product, a notification without the source table, the database returning
+     *                        the product updated on the second load.
+     * Test expected result - The catalog is loaded again, not just the notified product, and serves the updated product.
+     * Test type            - Positive.
+     */
+    @Test
+    void onProductChange_shouldReloadCatalog_whenSourceTableIsUnknown() throws InterruptedException {
+        // Given
+        Product product = buildProduct(UUID.randomUUID(), new BigDecimal("10.00"), buildCurrency("EUR", 2), null, null);
+        Product updatedProduct = buildProduct(product.id(), new BigDecimal("12.00"), buildCurrency("EUR", 2), null, null);
+        stubDatabase(List.of(product), List.of(updatedProduct));
+        adapter.start();
+        awaitUntil(() -> adapter.getFootprint().isPresent());
+
+        // When
+        adapter.onProductChange(new ProductChangeNotificationEvent(null, Set.of(product.id()), false));
+
+        // Then
+        awaitUntil(() -> updatedProduct.equals(adapter.findById(product.id()).orElse(null)));
+        verify(productPersistenceAdapter, times(2)).findProductIdsAfter(null, LOAD_BATCH_SIZE);
+    }
+
+    /**
+     * Test purpose         - Verify if {@link InMemoryCatalogPersistenceAdapter} retries the database reads of the load
+     *                        failed while the database is unavailable.
+     * Test data            - Database failing to start a transaction once for each of the reads of the load.
+     * Test expected result - Each read is retried and the catalog is loaded.
+     * Test type            - Negative.
+     */
+    @Test
+    void start_shouldRetryDatabaseReads_whenDatabaseIsUnavailable() throws InterruptedException {
+        // Given
+        Product product = buildProduct(UUID.randomUUID(), new BigDecimal("10.00"), buildCurrency("EUR", 2), null, null);
+        CannotCreateTransactionException failure = new CannotCreateTransactionException("Connection refused");
+        when(productChangePersistencePort.findLastSequenceNumber()).thenThrow(failure).thenReturn(0L);
+        when(productPersistenceAdapter.findProductIdsAfter(null, LOAD_BATCH_SIZE)).thenThrow(failure).thenReturn(List.of(product.id()));
+        when(productPersistenceAdapter.findProductIdsAfter(product.id(), LOAD_BATCH_SIZE)).thenReturn(List.of());
+        when(productPersistenceAdapter.findAllByIds(List.of(product.id()))).thenThrow(failure).thenReturn(List.of(product));
+
+        // When
+        adapter.start();
+
+        // Then
+        awaitUntil(() -> adapter.getFootprint().isPresent());
+        assertEquals(product, adapter.findById(product.id()).orElseThrow());
+        verify(productChangePersistencePort, times(2)).findLastSequenceNumber();
+        verify(productPersistenceAdapter, times(2)).findProductIdsAfter(null, LOAD_BATCH_SIZE);
+        verify(productPersistenceAdapter, times(2)).findAllByIds(List.of(product.id()));
+    }
+
+    /**
+     * Test purpose         - Verify if {@link InMemoryCatalogPersistenceAdapter#stop()} interrupts the load waiting
+     *                        to retry a failed database read.
+     * Test data            - Database failing to start a transaction, retry delay of a minute.
+     * Test expected result - The adapter stops right away, the catalog is never loaded and the notifications received
+     *                        afterwards are ignored.
+     * Test type            - Negative.
+     */
+    @Test
+    void stop_shouldInterruptLoad_whenLoadWaitsForRetry() {
+        // Given
+        inMemoryCatalogProperties.setRetryDelayInMilliseconds(60_000L);
+        when(productChangePersistencePort.findLastSequenceNumber()).thenThrow(new CannotCreateTransactionException("Connection refused"));
+        adapter.start();
+        verify(productChangePersistencePort, timeout(AWAIT_TIMEOUT_IN_MILLISECONDS)).findLastSequenceNumber();
+
+        // When
+        assertTimeout(Duration.ofSeconds(1), adapter::stop);
+
+        // Then
+        assertFalse(adapter.isRunning());
+        adapter.onProductChange(ProductChangeNotificationEvent.fullFlush());
+        assertTrue(adapter.getFootprint().isEmpty());
+        verify(productPersistenceAdapter, never()).findProductIdsAfter(any(), anyInt());
+    }
+
+    /**
+     * Test purpose         - Verify if {@link InMemoryCatalogPersistenceAdapter#findById(UUID)} repeats the reads which
+     *                        picked a catalog replaced and closed meanwhile.
+     * Test data            - Off-heap catalog of a product reloaded repeatedly, while another thread keeps reading the product.
+     * Test expected result - Every read returns the product, none of them fails.
+     * Test type            - Positive.
+     */
+    @Test
+    void findById_shouldReadFromCurrentCatalog_whenReplacedCatalogIsClosed() throws InterruptedException {
+        // Given
+        inMemoryCatalogProperties.setStorage(InMemoryCatalogProperties.Storage.OFF_HEAP);
+        Product product = buildProduct(UUID.randomUUID(), new BigDecimal("10.00"), buildCurrency("EUR", 2), null, null);
+        stubDatabase(List.of(product));
+        adapter.start();
+        awaitUntil(() -> adapter.getFootprint().isPresent());
+        AtomicBoolean reading = new AtomicBoolean(true);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            try {
+                while (reading.get()) {
+                    assertEquals(product, adapter.findById(product.id()).orElseThrow());
+                }
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+        reader.setDaemon(true);
+        reader.start();
+
+        // When
+        for (int i = 0; i < RELOAD_COUNT; i++) {
+            adapter.onProductChange(ProductChangeNotificationEvent.fullFlush());
+            // the reload has started, so the next notification is not merged into it
+            verify(productChangePersistencePort, timeout(AWAIT_TIMEOUT_IN_MILLISECONDS).times(i + 2)).findLastSequenceNumber();
+        }
+        reading.set(false);
+        reader.join();
+
+        // Then
+        assertNull(failure.get());
+        assertEquals(product, adapter.findById(product.id()).orElseThrow());
+    }
+
+    /**
+     * Test purpose         - Verify if {@link InMemoryCatalogPersistenceAdapter} loads the catalog from the snapshot
+     *                        on startup and reconciles it with the changes published after the snapshot.
+     * Test data            - Snapshot of two products at change 5, changes 6 and 7 of the products published afterwards,
+     *                        the database returning the first product updated and not the second product.
+     * Test expected result - The catalog is loaded without reading all the products from the database, the first product
+     *                        is updated and the second product is removed.
+     * Test type            - Positive.
+     */
+    @Test
+    void start_shouldLoadCatalogFromSnapshot_whenSnapshotIsRecent() throws InterruptedException, IOException {
+        // Given
+        Product firstProduct = buildProduct(UUID.randomUUID(), new BigDecimal("10.00"), buildCurrency("EUR", 2), null, null);
+        Product secondProduct = buildProduct(UUID.randomUUID(), new BigDecimal("20.00"), buildCurrency("EUR", 2), null, null);
+        Product updatedProduct = buildProduct(firstProduct.id(), new BigDecimal("12.00"), buildCurrency("EUR", 2), null, null);
+        writeSnapshot(List.of(firstProduct, secondProduct), 5L, Instant.now());
+        inMemoryCatalogProperties.setSnapshotEnabled(true);
+        when(productChangePersistencePort.findChangesSince(5L, LOAD_BATCH_SIZE)).thenReturn(List.of(
+                new ProductChange(6L, firstProduct.id(), Instant.now()), new ProductChange(7L, secondProduct.id(), Instant.now())));
+        when(productChangePersistencePort.findChangedProducts(Set.of(firstProduct.id(), secondProduct.id())))
+                .thenReturn(List.of(updatedProduct));
+        when(productChangePersistencePort.findChangesSince(7L, LOAD_BATCH_SIZE)).thenReturn(List.of());
+
+        // When
+        adapter.start();
+
+        // Then
+        awaitUntil(() -> adapter.getFootprint().map(CatalogFootprint::productCount).orElse(0) == 1);
+        verify(productChangePersistencePort, timeout(AWAIT_TIMEOUT_IN_MILLISECONDS)).findChangesSince(7L, LOAD_BATCH_SIZE);
+        assertEquals(updatedProduct, adapter.findById(firstProduct.id()).orElseThrow());
+        assertTrue(adapter.findById(secondProduct.id()).isEmpty());
+        verify(productChangePersistencePort, never()).findLastSequenceNumber();
+        verify(productPersistenceAdapter, never()).findProductIdsAfter(any(), anyInt());
+    }
+
+    /**
+     * Test purpose         - Verify if {@link InMemoryCatalogPersistenceAdapter} ignores a snapshot older than the maximal
+     *                        age and loads the catalog from the database instead.
+     * Test data            - Snapshot of a product created two days ago with the maximal age of a day, database holding
+     *                        another product.
+     * Test expected result - The catalog holds just the product of the database and the change feed is not replayed.
+     * Test type            - Negative.
+     */
+    @Test
+    void start_shouldLoadCatalogFromDatabase_whenSnapshotIsOutdated() throws InterruptedException, IOException {
+        // Given
+        Product snapshotProduct = buildProduct(UUID.randomUUID(), new BigDecimal("10.00"), buildCurrency("EUR", 2), null, null);
+        Product product = buildProduct(UUID.randomUUID(), new BigDecimal("20.00"), buildCurrency("EUR", 2), null, null);
+        writeSnapshot(List.of(snapshotProduct), 5L, Instant.now().minus(2, ChronoUnit.DAYS));
+        inMemoryCatalogProperties.setSnapshotEnabled(true);
+        inMemoryCatalogProperties.setSnapshotMaxAgeInHours(24L);
+        stubDatabase(List.of(product));
+
+        // When
+        adapter.start();
+
+        // Then
+        awaitUntil(() -> adapter.getFootprint().isPresent());
+        assertEquals(product, adapter.findById(product.id()).orElseThrow());
+        assertTrue(adapter.findById(snapshotProduct.id()).isEmpty());
+        verify(productChangePersistencePort, never()).findChangesSince(anyLong(), anyInt());
+    }
+
+    /**
+     * Test purpose         - Verify if {@link InMemoryCatalogPersistenceAdapter#writeCatalogSnapshot()} writes the catalog
+     *                        brought up to date with the change feed.
+     * Test data            - Catalog of a product loaded at change 3, change 4 of a new product published afterwards.
+     * Test expected result - The new product is added to the catalog, the snapshot holds both products at change 4.
+     * Test type            - Positive.
+     */
+    @Test
+    void writeCatalogSnapshot_shouldWriteCatalog_whenCatalogCaughtUpWithChangeFeed() throws InterruptedException, IOException {
+        // Given
+        Product product = buildProduct(UUID.randomUUID(), new BigDecimal("10.00"), buildCurrency("EUR", 2), null, null);
+        Product newProduct = buildProduct(UUID.randomUUID(), new BigDecimal("20.00"), buildCurrency("EUR", 2), null, null);
+        inMemoryCatalogProperties.setSnapshotEnabled(true);
+        stubDatabase(List.of(product));
+        when(productChangePersistencePort.findLastSequenceNumber()).thenReturn(3L);
+        adapter.start();
+        awaitUntil(() -> adapter.getFootprint().isPresent());
+        when(productChangePersistencePort.findChangesSince(3L, LOAD_BATCH_SIZE))
+                .thenReturn(List.of(new ProductChange(4L, newProduct.id(), Instant.now())));
+        when(productChangePersistencePort.findChangedProducts(Set.of(newProduct.id()))).thenReturn(List.of(newProduct));
+        when(productChangePersistencePort.findChangesSince(4L, LOAD_BATCH_SIZE)).thenReturn(List.of());
+
+        // When
+        adapter.writeCatalogSnapshot();
+
+        // Then
+        assertEquals(newProduct, adapter.findById(newProduct.id()).orElseThrow());
+        Map<UUID, Product> snapshotProducts = new HashMap<>();
+        try (MappedCatalogSnapshot snapshot = MappedCatalogSnapshot.open(Path.of(inMemoryCatalogProperties.getSnapshotPath()))) {
+            snapshot.forEach(snapshotProduct -> snapshotProducts.put(snapshotProduct.id(), snapshotProduct));
+            assertEquals(4L, snapshot.getChangeSequenceNumber());
+        }
+        assertEquals(Map.of(product.id(), product, newProduct.id(), newProduct), snapshotProducts);
+    }
+
+    private void stubDatabase(List<Product> products) {
+        stubDatabase(products, products);
+    }
+
+    private void stubDatabase(List<Product> products, List<Product> reloadedProducts) {
+        List<UUID> productIds = products.stream().map(Product::id).toList();
+        when(productPersistenceAdapter.findProductIdsAfter(null, LOAD_BATCH_SIZE)).thenReturn(productIds);
+        when(productPersistenceAdapter.findProductIdsAfter(productIds.get(productIds.size() - 1), LOAD_BATCH_SIZE))
+                .thenReturn(List.of());
+        when(productPersistenceAdapter.findAllByIds(productIds)).thenReturn(products, reloadedProducts);
+    }
+
+    private void writeSnapshot(List<Product> products, long changeSequenceNumber, Instant createdAt) throws IOException {
+        ColumnarProductCatalog catalog = new ColumnarProductCatalog(products.size());
+        products.forEach(catalog::upsert);
+        CatalogSnapshotWriter.write(Path.of(inMemoryCatalogProperties.getSnapshotPath()), catalog, changeSequenceNumber, createdAt);
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(AWAIT_TIMEOUT_IN_MILLISECONDS);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Condition not met within the timeout.");
+            Thread.sleep(1L);
+        }
+    }
+}
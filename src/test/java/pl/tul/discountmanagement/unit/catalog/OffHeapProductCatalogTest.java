@@ -0,0 +1,312 @@
+package pl.tul.discountmanagement.unit.catalog;
+
+import org.junit.jupiter.api.Test;
+import pl.tul.discountmanagement.product.domain.model.Currency;
+import pl.tul.discountmanagement.product.domain.model.Product;
+import pl.tul.discountmanagement.product.domain.model.QuantityBasedDiscount;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.CatalogClosedException;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.CatalogFootprint;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.catalog.offheap.OffHeapProductCatalog;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static pl.tul.discountmanagement.unit.util.TestDataUtils.buildCurrency;
+import static pl.tul.discountmanagement.unit.util.TestDataUtils.buildPercentageBasedDiscount;
+import static pl.tul.discountmanagement.unit.util.TestDataUtils.buildProduct;
+import static pl.tul.discountmanagement.unit.util.TestDataUtils.buildQuantityBasedDiscount;
+
+/**
+ * Test class for {@link OffHeapProductCatalog}.
+ */
+class OffHeapProductCatalogTest {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int PRODUCT_COUNT = 10_000;
+    private static final String DIRECT_BUFFER_POOL = "direct";
+
+    /**
+     * Test purpose         - Verify if {@link OffHeapProductCatalog#get(UUID)} materializes the upserted products.
+     * Test data            - Products sharing their discounts, growing the catalog beyond its initial capacity, with every
+     *                        third product removed and a product with a price exceeding a long.
+     * Test expected result - The remaining products are equal to the upserted ones and share the same tier set,
+     *                        the removed products are not found, the records and the index are kept off the heap.
+     * Test type            - Positive.
+     */
+    @Test
+    void get_shouldReturnUpsertedProducts_whenCatalogGrows() {
+        // Given
+        Currency euro = buildCurrency("EUR", 2);
+        Set<QuantityBasedDiscount> tiers = Set.of(buildQuantityBasedDiscount(15, 3, 5), buildQuantityBasedDiscount(20, 6, null));
+        OffHeapProductCatalog catalog = new OffHeapProductCatalog(INITIAL_CAPACITY);
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            products.add(buildProduct(UUID.randomUUID(), BigDecimal.valueOf(i, 2), euro, buildPercentageBasedDiscount(10), tiers));
+        }
+        products.add(buildProduct(UUID.randomUUID(), new BigDecimal("123456789012345678901234567890.12"), euro, null, null));
+
+        // When
+        products.forEach(catalog::upsert);
+        for (int i = 0; i < products.size(); i += 3) {
+            assertTrue(catalog.remove(products.get(i).id()));
+        }
+
+        // Then
+        for (int i = 0; i < products.size(); i++) {
+            Product product = products.get(i);
+            if (i % 3 == 0) {
+                assertNull(catalog.get(product.id()));
+            } else {
+                assertEquals(product, catalog.get(product.id()));
+            }
+        }
+        assertSame(catalog.get(products.get(1).id()).quantityBasedDiscounts(), catalog.get(products.get(2).id()).quantityBasedDiscounts());
+        CatalogFootprint footprint = catalog.getFootprint();
+        assertEquals(products.size() - (products.size() + 2) / 3, footprint.productCount());
+        assertEquals(1, footprint.tierSetCount());
+        assertEquals(footprint.indexBytes() + footprint.rowBytes() + footprint.textBytes(), footprint.offHeapBytes());
+        catalog.close();
+    }
+
+    /**
+     * Test purpose         - Verify if {@link OffHeapProductCatalog#close()} frees the direct memory of the catalog right away,
+     *                        without waiting for the garbage collector.
+     * Test data            - A catalog grown beyond its initial capacity, closed.
+     * Test expected result - The direct memory in use drops by at least the off-heap footprint of the catalog.
+     * Test type            - Positive.
+     */
+    @Test
+    void close_shouldFreeDirectMemory_whenCatalogIsClosed() {
+        // Given
+        Currency euro = buildCurrency("EUR", 2);
+        OffHeapProductCatalog catalog = new OffHeapProductCatalog(INITIAL_CAPACITY);
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            catalog.upsert(buildProduct(UUID.randomUUID(), BigDecimal.valueOf(i, 2), euro, null, null));
+        }
+        long offHeapBytes = catalog.getFootprint().offHeapBytes();
+        long directMemoryUsedBeforeClose = getDirectMemoryUsed();
+
+        // When
+        catalog.close();
+
+        // Then
+        assertTrue(directMemoryUsedBeforeClose - getDirectMemoryUsed() >= offHeapBytes);
+    }
+
+    /**
+     * Test purpose         - Verify if {@link OffHeapProductCatalog#get(UUID)} fails once the catalog is closed.
+     * Test data            - A catalog with a single product, closed.
+     * Test expected result - {@link CatalogClosedException} is thrown instead of reading the released memory.
+     * Test type            - Negative.
+     */
+    @Test
+    void get_shouldThrowCatalogClosedException_whenCatalogIsClosed() {
+        // Given
+        Product product = buildProduct(UUID.randomUUID(), new BigDecimal("10.00"), buildCurrency("EUR", 2), null, null);
+        OffHeapProductCatalog catalog = new OffHeapProductCatalog(INITIAL_CAPACITY);
+        catalog.upsert(product);
+
+        // When
+        catalog.close();
+
+        // Then
+        assertThrows(CatalogClosedException.class, () -> catalog.get(product.id()));
+    }
+
+    /**
+     * Test purpose         - Verify if {@link OffHeapProductCatalog#copy()} reclaims the memory of the removed and replaced products
+     *                        only once they take too much of it.
+     * Test data            - A catalog with a single product replaced, then with every third product removed and every
+     *                        other product replaced.
+     * Test expected result - The copy of the slightly changed catalog keeps the released texts, the copy of the heavily
+     *                        changed catalog is rebuilt with no released texts and holds the current products.
+     * Test type            - Positive.
+     */
+    @Test
+    void copy_shouldRebuildCatalog_whenRemovedAndReplacedProductsTakeTooMuchMemory() {
+        // Given
+        Currency euro = buildCurrency("EUR", 2);
+        OffHeapProductCatalog catalog = new OffHeapProductCatalog(INITIAL_CAPACITY);
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            Product product = buildProduct(UUID.randomUUID(), BigDecimal.valueOf(i, 2), euro, null, null);
+            products.add(product);
+            catalog.upsert(product);
+        }
+        catalog.upsert(products.get(1));
+        OffHeapProductCatalog slightlyChangedCopy = catalog.copy();
+        for (int i = 0; i < products.size(); i++) {
+            if (i % 3 == 0) {
+                catalog.remove(products.get(i).id());
+            } else if (i % 2 == 0) {
+                catalog.upsert(products.get(i));
+            }
+        }
+        assertTrue(catalog.getFootprint().releasedTextBytes() > 0L);
+
+        // When
+        OffHeapProductCatalog rebuiltCopy = catalog.copy();
+
+        // Then
+        assertTrue(slightlyChangedCopy.getFootprint().releasedTextBytes() > 0L);
+        CatalogFootprint rebuiltFootprint = rebuiltCopy.getFootprint();
+        assertEquals(0L, rebuiltFootprint.releasedTextBytes());
+        assertEquals(catalog.size(), rebuiltCopy.size());
+        for (int i = 0; i < products.size(); i++) {
+            Product product = products.get(i);
+            assertEquals(i % 3 == 0 ? null : product, rebuiltCopy.get(product.id()));
+        }
+        catalog.close();
+        slightlyChangedCopy.close();
+        rebuiltCopy.close();
+    }
+
+    /**
+     * Test purpose         - Verify if {@link OffHeapProductCatalog#copy()} shares the records and texts with the copy until
+     *                        one of the catalogs changes them.
+     * Test data            - A catalog copied, with a product of the copy replaced and the source catalog closed afterwards.
+     * Test expected result - The copy takes just its hash index of direct memory, the source keeps the previous version of
+     *                        the replaced product while the copy returns the new one, and the copy keeps reading all
+     *                        the products once the source is closed.
+     * Test type            - Positive.
+     */
+    @Test
+    void copy_shouldShareRecordsAndTexts_whenCatalogIsCopied() {
+        // Given
+        Currency euro = buildCurrency("EUR", 2);
+        OffHeapProductCatalog catalog = new OffHeapProductCatalog(INITIAL_CAPACITY);
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            Product product = buildProduct(UUID.randomUUID(), BigDecimal.valueOf(i, 2), euro, null, null);
+            products.add(product);
+            catalog.upsert(product);
+        }
+        Product replacedProduct = products.get(0);
+        Product newProduct = buildProduct(replacedProduct.id(), new BigDecimal("99.99"), euro, null, null);
+        long directMemoryUsedBeforeCopy = getDirectMemoryUsed();
+
+        // When
+        OffHeapProductCatalog copy = catalog.copy();
+        long copiedBytes = getDirectMemoryUsed() - directMemoryUsedBeforeCopy;
+        copy.upsert(newProduct);
+
+        // Then
+        assertEquals(copy.getFootprint().indexBytes(), copiedBytes);
+        assertEquals(replacedProduct, catalog.get(replacedProduct.id()));
+        assertEquals(newProduct, copy.get(replacedProduct.id()));
+        catalog.close();
+        for (int i = 1; i < products.size(); i++) {
+            assertEquals(products.get(i), copy.get(products.get(i).id()));
+        }
+        assertEquals(newProduct, copy.get(replacedProduct.id()));
+        copy.close();
+    }
+
+    /**
+     * Test purpose         - Verify if {@link OffHeapProductCatalog#get(UUID)} returns whole products while they are written.
+     * Test data            - A reader thread looking up products while the catalog grows and the products are replaced
+     *                        with new versions, whose name matches the price.
+     * Test expected result - Every product read is either not found yet or a whole version, with the name matching the price.
+     * Test type            - Positive.
+     */
+    @Test
+    void get_shouldReturnWholeProducts_whenProductsAreWrittenConcurrently() throws InterruptedException {
+        // Given
+        Currency euro = buildCurrency("EUR", 2);
+        OffHeapProductCatalog catalog = new OffHeapProductCatalog(INITIAL_CAPACITY);
+        List<UUID> productIds = new ArrayList<>();
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            productIds.add(UUID.randomUUID());
+        }
+        AtomicBoolean writing = new AtomicBoolean(true);
+        AtomicReference<String> tornProduct = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            while (writing.get()) {
+                for (UUID productId : productIds) {
+                    Product product = catalog.get(productId);
+                    if (product != null && !product.name().equals(product.price().toPlainString())) {
+                        tornProduct.set(product.toString());
+                    }
+                }
+            }
+        });
+
+        // When
+        reader.start();
+        for (int version = 0; version < 3; version++) {
+            for (UUID productId : productIds) {
+                BigDecimal price = BigDecimal.valueOf(ThreadLocalRandom.current().nextLong(1_000_000L), 2);
+                catalog.upsert(Product.builder()
+                        .id(productId)
+                        .name(price.toPlainString())
+                        .price(price)
+                        .currency(euro)
+                        .build());
+            }
+        }
+        writing.set(false);
+        reader.join();
+
+        // Then
+        assertNull(tornProduct.get());
+        assertEquals(PRODUCT_COUNT, catalog.size());
+        catalog.close();
+    }
+
+    /**
+     * Test purpose         - Verify if {@link OffHeapProductCatalog#upsert(Product)} replaces only the tier sets holding
+     *                        a changed tier.
+     * Test data            - Three products with different tier sets, two of them sharing a tier, and a product upserted
+     *                        with a new version of the shared tier.
+     * Test expected result - Both tier sets holding the shared tier contain its new version, the third tier set is
+     *                        the very same object as before.
+     * Test type            - Positive.
+     */
+    @Test
+    void upsert_shouldReplaceOnlyTierSetsHoldingChangedTier_whenTierChanges() {
+        // Given
+        Currency euro = buildCurrency("EUR", 2);
+        QuantityBasedDiscount sharedTier = buildQuantityBasedDiscount(15, 3, 5);
+        Product firstProduct = buildProduct(UUID.randomUUID(), new BigDecimal("10.00"), euro, null,
+                Set.of(sharedTier, buildQuantityBasedDiscount(20, 6, null)));
+        Product secondProduct = buildProduct(UUID.randomUUID(), new BigDecimal("20.00"), euro, null,
+                Set.of(sharedTier, buildQuantityBasedDiscount(30, 6, null)));
+        Product thirdProduct = buildProduct(UUID.randomUUID(), new BigDecimal("30.00"), euro, null,
+                Set.of(buildQuantityBasedDiscount(5, 2, null)));
+        OffHeapProductCatalog catalog = new OffHeapProductCatalog(INITIAL_CAPACITY);
+        List.of(firstProduct, secondProduct, thirdProduct).forEach(catalog::upsert);
+        Set<QuantityBasedDiscount> thirdTierSet = catalog.get(thirdProduct.id()).quantityBasedDiscounts();
+        QuantityBasedDiscount changedTier = new QuantityBasedDiscount(sharedTier.getId(), 25, sharedTier.getLowerItemsThreshold(),
+                sharedTier.getUpperItemsThreshold());
+
+        // When
+        catalog.upsert(buildProduct(UUID.randomUUID(), new BigDecimal("40.00"), euro, null, Set.of(changedTier)));
+
+        // Then
+        assertTrue(catalog.get(firstProduct.id()).quantityBasedDiscounts().contains(changedTier));
+        assertTrue(catalog.get(secondProduct.id()).quantityBasedDiscounts().contains(changedTier));
+        assertSame(thirdTierSet, catalog.get(thirdProduct.id()).quantityBasedDiscounts());
+        catalog.close();
+    }
+
+    private static long getDirectMemoryUsed() {
+        return ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)
+                .stream()
+                .filter(bufferPool -> DIRECT_BUFFER_POOL.equals(bufferPool.getName()))
+                .mapToLong(BufferPoolMXBean::getMemoryUsed)
+                .sum();
+    }
+}
@@ -0,0 +1,141 @@
+package pl.tul.discountmanagement.unit.circuit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pl.tul.discountmanagement.shared.infrastructure.circuit.CircuitBreaker;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for {@link CircuitBreaker}.
+ */
+class CircuitBreakerTest {
+
+    private static final String BREAKER_NAME = "test";
+    private static final long START_IN_NANOSECONDS = 1_000L;
+    private static final long OPEN_DURATION_IN_NANOSECONDS = TimeUnit.SECONDS.toNanos(10);
+
+    private SimpleMeterRegistry meterRegistry;
+    private CircuitBreaker circuitBreaker;
+
+    /**
+     * Setup breaker with failure threshold of 3 and open duration of 10 seconds.
+     */
+    @BeforeEach
+    void setUpCircuitBreaker() {
+        meterRegistry = new SimpleMeterRegistry();
+        circuitBreaker = new CircuitBreaker(BREAKER_NAME, 3, 10_000L, meterRegistry);
+    }
+
+    /**
+     * Test purpose         - Verify if {@link CircuitBreaker} opens after the consecutive failures reach the threshold
+     *                        and rejects the calls while open.
+     * Test data            - Three consecutive failed calls.
+     * Test expected result - The breaker is open, the next call is rejected and counted in the rejection metric.
+     * Test type            - Negative.
+     */
+    @Test
+    void tryAcquirePermission_shouldRejectCall_whenFailureThresholdIsReached() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            assertTrue(circuitBreaker.tryAcquirePermission(START_IN_NANOSECONDS));
+            circuitBreaker.onFailure(START_IN_NANOSECONDS);
+        }
+
+        // When
+        boolean permitted = circuitBreaker.tryAcquirePermission(START_IN_NANOSECONDS + 1);
+
+        // Then
+        assertFalse(permitted);
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertEquals(10L, circuitBreaker.getRetryAfterInSeconds(START_IN_NANOSECONDS + 1));
+        assertEquals(1.0, meterRegistry.counter("circuit.breaker.rejected", "breaker", BREAKER_NAME).count());
+        assertEquals(1.0, meterRegistry.get("circuit.breaker.state").tag("breaker", BREAKER_NAME).gauge().value());
+    }
+
+    /**
+     * Test purpose         - Verify if {@link CircuitBreaker} does not open when the failures are interleaved with successes.
+     * Test data            - Two failed calls, a successful call and two failed calls.
+     * Test expected result - The breaker stays closed.
+     * Test type            - Positive.
+     */
+    @Test
+    void onFailure_shouldKeepBreakerClosed_whenFailuresAreNotConsecutive() {
+        // Given
+        circuitBreaker.onFailure(START_IN_NANOSECONDS);
+        circuitBreaker.onFailure(START_IN_NANOSECONDS);
+        circuitBreaker.onSuccess();
+
+        // When
+        circuitBreaker.onFailure(START_IN_NANOSECONDS);
+        circuitBreaker.onFailure(START_IN_NANOSECONDS);
+
+        // Then
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertTrue(circuitBreaker.tryAcquirePermission(START_IN_NANOSECONDS));
+    }
+
+    /**
+     * Test purpose         - Verify if {@link CircuitBreaker} lets a single probe call through once the open duration
+     *                        elapses, and closes or opens again depending on the probe outcome.
+     * Test data            - Open breaker, a failed probe after the open duration, a successful probe after another one.
+     * Test expected result - Only one call is let through per probe, the failed probe opens the breaker again,
+     *                        the successful one closes it.
+     * Test type            - Positive.
+     */
+    @Test
+    void tryAcquirePermission_shouldLetSingleProbeThrough_whenOpenDurationElapses() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            circuitBreaker.onFailure(START_IN_NANOSECONDS);
+        }
+        long firstProbeAt = START_IN_NANOSECONDS + OPEN_DURATION_IN_NANOSECONDS;
+        long secondProbeAt = firstProbeAt + OPEN_DURATION_IN_NANOSECONDS;
+
+        // When
+        assertTrue(circuitBreaker.tryAcquirePermission(firstProbeAt));
+        assertFalse(circuitBreaker.tryAcquirePermission(firstProbeAt));
+        assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        circuitBreaker.onFailure(firstProbeAt);
+        assertFalse(circuitBreaker.tryAcquirePermission(secondProbeAt - 1));
+        assertTrue(circuitBreaker.tryAcquirePermission(secondProbeAt));
+        circuitBreaker.onSuccess();
+
+        // Then
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertTrue(circuitBreaker.tryAcquirePermission(secondProbeAt));
+        assertTrue(circuitBreaker.tryAcquirePermission(secondProbeAt));
+    }
+
+    /**
+     * Test purpose         - Verify if {@link CircuitBreaker#onIgnored(long)} neither counts the call as a failure
+     *                        nor keeps the probe slot taken.
+     * Test data            - Closed breaker with two failures followed by an ignored call, open breaker whose probe is ignored.
+     * Test expected result - The ignored call does not open the breaker, the ignored probe lets the next call probe right away.
+     * Test type            - Positive.
+     */
+    @Test
+    void onIgnored_shouldNotAffectBreaker_whenCallOutcomeIsIgnored() {
+        // Given
+        circuitBreaker.onFailure(START_IN_NANOSECONDS);
+        circuitBreaker.onFailure(START_IN_NANOSECONDS);
+
+        // When
+        circuitBreaker.onIgnored(START_IN_NANOSECONDS);
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        circuitBreaker.onFailure(START_IN_NANOSECONDS);
+        long probeAt = START_IN_NANOSECONDS + OPEN_DURATION_IN_NANOSECONDS;
+        assertTrue(circuitBreaker.tryAcquirePermission(probeAt));
+        circuitBreaker.onIgnored(probeAt);
+
+        // Then
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertTrue(circuitBreaker.tryAcquirePermission(probeAt));
+        assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+    }
+}
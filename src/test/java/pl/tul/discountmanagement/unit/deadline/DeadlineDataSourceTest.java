@@ -0,0 +1,170 @@
+package pl.tul.discountmanagement.unit.deadline;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.pool.HikariPool;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pl.tul.discountmanagement.shared.infrastructure.deadline.Deadline;
+import pl.tul.discountmanagement.shared.infrastructure.deadline.DeadlineContext;
+import pl.tul.discountmanagement.shared.infrastructure.deadline.DeadlineExceededException;
+import pl.tul.discountmanagement.shared.infrastructure.persistence.deadline.DeadlineDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.longThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for {@link DeadlineDataSource}.
+ */
+class DeadlineDataSourceTest {
+
+    private static final String EXPIRED_METRIC = "request.deadline.expired";
+    private static final long CONNECTION_TIMEOUT_IN_MILLISECONDS = 30000L;
+
+    private SimpleMeterRegistry meterRegistry;
+    private HikariDataSource hikariDataSource;
+    private HikariPool hikariPool;
+    private Connection connection;
+
+    /**
+     * Setup started Hikari pool with the connection timeout of 30 seconds.
+     */
+    @BeforeEach
+    void setUpDataSource() {
+        meterRegistry = new SimpleMeterRegistry();
+        hikariDataSource = mock(HikariDataSource.class);
+        hikariPool = mock(HikariPool.class);
+        connection = mock(Connection.class);
+        when(hikariDataSource.getHikariPoolMXBean()).thenReturn(hikariPool);
+        when(hikariDataSource.getConnectionTimeout()).thenReturn(CONNECTION_TIMEOUT_IN_MILLISECONDS);
+    }
+
+    /**
+     * Clear the deadline of the current thread.
+     */
+    @AfterEach
+    void clearDeadline() {
+        DeadlineContext.clear();
+    }
+
+    /**
+     * Test purpose         - Verify if {@link DeadlineDataSource} acquires the connection as usual outside of requests.
+     * Test data            - no deadline set for the current thread.
+     * Test expected result - The connection is acquired from the target data source with its own timeout.
+     * Test type            - Positive.
+     */
+    @Test
+    void getConnection_shouldUseTargetDataSource_whenNoDeadlineIsSet() throws Exception {
+        // Given
+        DataSource targetDataSource = mock(DataSource.class);
+        when(targetDataSource.getConnection()).thenReturn(connection);
+        DeadlineDataSource deadlineDataSource = new DeadlineDataSource(targetDataSource, meterRegistry);
+
+        // When
+        Connection acquiredConnection = deadlineDataSource.getConnection();
+
+        // Then
+        assertSame(connection, acquiredConnection);
+    }
+
+    /**
+     * Test purpose         - Verify if {@link DeadlineDataSource} limits the wait for a pooled connection to the time
+     *                        left until the deadline.
+     * Test data            - deadline expiring in 2 seconds, pool connection timeout of 30 seconds.
+     * Test expected result - The connection is acquired from the pool with the timeout not exceeding 2 seconds.
+     * Test type            - Positive.
+     */
+    @Test
+    void getConnection_shouldWaitUntilDeadline_whenDeadlineIsShorterThanConnectionTimeout() throws Exception {
+        // Given
+        DeadlineContext.set(Deadline.after(2000L));
+        when(hikariPool.getConnection(anyLong())).thenReturn(connection);
+        DeadlineDataSource deadlineDataSource = new DeadlineDataSource(hikariDataSource, meterRegistry);
+
+        // When
+        Connection acquiredConnection = deadlineDataSource.getConnection();
+
+        // Then
+        assertSame(connection, acquiredConnection);
+        verify(hikariPool).getConnection(longThat(timeout -> timeout > 1000L && timeout <= 2000L));
+        verify(hikariDataSource, never()).getConnection();
+    }
+
+    /**
+     * Test purpose         - Verify if {@link DeadlineDataSource} keeps the pool's own timeout when it is the shorter one.
+     * Test data            - deadline expiring in 60 seconds, pool connection timeout of 30 seconds.
+     * Test expected result - The connection is acquired from the target data source with its own timeout.
+     * Test type            - Positive.
+     */
+    @Test
+    void getConnection_shouldUseConnectionTimeout_whenDeadlineIsLongerThanConnectionTimeout() throws Exception {
+        // Given
+        DeadlineContext.set(Deadline.after(60000L));
+        when(hikariDataSource.getConnection()).thenReturn(connection);
+        DeadlineDataSource deadlineDataSource = new DeadlineDataSource(hikariDataSource, meterRegistry);
+
+        // When
+        Connection acquiredConnection = deadlineDataSource.getConnection();
+
+        // Then
+        assertSame(connection, acquiredConnection);
+        verify(hikariPool, never()).getConnection(anyLong());
+    }
+
+    /**
+     * Test purpose         - Verify if {@link DeadlineDataSource} does not acquire a connection for a request whose
+     *                        deadline has already expired.
+     * Test data            - expired deadline.
+     * Test expected result - {@link DeadlineExceededException} is thrown, the pool is not used and the expiration is counted.
+     * Test type            - Negative.
+     */
+    @Test
+    void getConnection_shouldThrowDeadlineExceededException_whenDeadlineHasExpired() {
+        // Given
+        DeadlineContext.set(Deadline.after(0L));
+        DataSource targetDataSource = mock(DataSource.class);
+        DeadlineDataSource deadlineDataSource = new DeadlineDataSource(targetDataSource, meterRegistry);
+
+        // When & Then
+        assertThrows(DeadlineExceededException.class, deadlineDataSource::getConnection);
+        verifyNoInteractions(targetDataSource);
+        assertEquals(1.0, meterRegistry.counter(EXPIRED_METRIC, "stage", "connection").count());
+    }
+
+    /**
+     * Test purpose         - Verify if {@link DeadlineDataSource} reports the pool timeout within the deadline as an
+     *                        expired deadline.
+     * Test data            - deadline expiring in 2 seconds, pool timing out.
+     * Test expected result - {@link DeadlineExceededException} caused by the pool timeout is thrown and the expiration
+     *                        is counted.
+     * Test type            - Negative.
+     */
+    @Test
+    void getConnection_shouldThrowDeadlineExceededException_whenPoolTimesOut() throws Exception {
+        // Given
+        DeadlineContext.set(Deadline.after(2000L));
+        SQLTransientConnectionException timeout = new SQLTransientConnectionException("Connection is not available");
+        when(hikariPool.getConnection(anyLong())).thenThrow(timeout);
+        DeadlineDataSource deadlineDataSource = new DeadlineDataSource(hikariDataSource, meterRegistry);
+
+        // When
+        DeadlineExceededException exception = assertThrows(DeadlineExceededException.class, deadlineDataSource::getConnection);
+
+        // Then
+        assertSame(timeout, exception.getCause());
+        assertEquals(1.0, meterRegistry.counter(EXPIRED_METRIC, "stage", "connection").count());
+    }
+}
@@ -0,0 +1,92 @@
+package pl.tul.discountmanagement.unit.deadline;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.CannotCreateTransactionException;
+import pl.tul.discountmanagement.shared.infrastructure.deadline.DeadlineExceededException;
+import pl.tul.discountmanagement.shared.infrastructure.web.handler.DeadlineExceptionHandler;
+
+import java.sql.SQLTransientConnectionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Test class for {@link DeadlineExceptionHandler}.
+ */
+class DeadlineExceptionHandlerTest {
+
+    private DeadlineExceptionHandler deadlineExceptionHandler;
+    private MockHttpServletResponse response;
+
+    /**
+     * Setup handler and response.
+     */
+    @BeforeEach
+    void setUpHandler() {
+        deadlineExceptionHandler = new DeadlineExceptionHandler();
+        response = new MockHttpServletResponse();
+    }
+
+    /**
+     * Test purpose         - Verify if {@link DeadlineExceptionHandler} maps a query canceled by its timeout to
+     *                        '504 Gateway Timeout' response.
+     * Test data            - {@link QueryTimeoutException}.
+     * Test expected result - '504 Gateway Timeout' response with the query timeout message is sent.
+     * Test type            - Negative.
+     */
+    @Test
+    void handleQueryTimeoutException_shouldSendGatewayTimeout() throws Exception {
+        // When
+        deadlineExceptionHandler.handleQueryTimeoutException(new QueryTimeoutException("Query timed out"), response);
+
+        // Then
+        assertEquals(HttpStatus.GATEWAY_TIMEOUT.value(), response.getStatus());
+        assertEquals("Query exceeded the request deadline", response.getErrorMessage());
+    }
+
+    /**
+     * Test purpose         - Verify if {@link DeadlineExceptionHandler} maps an expired deadline wrapped in a transaction
+     *                        failure to '504 Gateway Timeout' response.
+     * Test data            - {@link CannotCreateTransactionException} caused by {@link DeadlineExceededException}.
+     * Test expected result - '504 Gateway Timeout' response with the deadline exceeded message is sent.
+     * Test type            - Negative.
+     */
+    @Test
+    void handleConnectionFailure_shouldSendGatewayTimeout_whenCausedByExpiredDeadline() throws Exception {
+        // Given
+        CannotCreateTransactionException exception = new CannotCreateTransactionException("Could not open JPA EntityManager",
+                new DeadlineExceededException(new SQLTransientConnectionException("Connection is not available")));
+
+        // When
+        deadlineExceptionHandler.handleConnectionFailure(exception, response);
+
+        // Then
+        assertEquals(HttpStatus.GATEWAY_TIMEOUT.value(), response.getStatus());
+        assertEquals("Request deadline exceeded", response.getErrorMessage());
+    }
+
+    /**
+     * Test purpose         - Verify if {@link DeadlineExceptionHandler} maps a connection failure unrelated to the
+     *                        deadline to '503 Service Unavailable' response.
+     * Test data            - {@link DataAccessResourceFailureException} without an expired deadline among its causes.
+     * Test expected result - '503 Service Unavailable' response with the database unavailable message is sent.
+     * Test type            - Negative.
+     */
+    @Test
+    void handleConnectionFailure_shouldSendServiceUnavailable_whenDatabaseIsUnavailable() throws Exception {
+        // Given
+        DataAccessResourceFailureException exception = new DataAccessResourceFailureException("Connection refused",
+                new SQLTransientConnectionException("Connection refused"));
+
+        // When
+        deadlineExceptionHandler.handleConnectionFailure(exception, response);
+
+        // Then
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), response.getStatus());
+        assertEquals("Database is unavailable", response.getErrorMessage());
+    }
+}
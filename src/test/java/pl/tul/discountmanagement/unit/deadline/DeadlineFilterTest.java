@@ -0,0 +1,115 @@
+package pl.tul.discountmanagement.unit.deadline;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import pl.tul.discountmanagement.shared.infrastructure.deadline.Deadline;
+import pl.tul.discountmanagement.shared.infrastructure.deadline.DeadlineContext;
+import pl.tul.discountmanagement.shared.infrastructure.deadline.config.DeadlineProperties;
+import pl.tul.discountmanagement.shared.infrastructure.web.filter.DeadlineFilter;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for {@link DeadlineFilter}.
+ */
+class DeadlineFilterTest {
+
+    private static final String TIMEOUT_HEADER = "X-Request-Timeout";
+    private static final String EXPIRED_METRIC = "request.deadline.expired";
+    private static final String PRODUCT_URI = "/v1/product/11111111-1111-1111-1111-111111111111";
+
+    private SimpleMeterRegistry meterRegistry;
+    private DeadlineFilter deadlineFilter;
+
+    /**
+     * Setup filter with the default budget of 5 seconds and the maximal budget of 30 seconds.
+     */
+    @BeforeEach
+    void setUpFilter() {
+        meterRegistry = new SimpleMeterRegistry();
+        deadlineFilter = new DeadlineFilter(new DeadlineProperties(), meterRegistry);
+    }
+
+    /**
+     * Test purpose         - Verify if {@link DeadlineFilter} sets the default deadline when the request has no timeout header,
+     *                        and clears it once the request is handled.
+     * Test data            - request without the timeout header.
+     * Test expected result - The deadline is set while the request is handled, within the default budget.
+     * Test type            - Positive.
+     */
+    @Test
+    void doFilter_shouldSetDefaultDeadline_whenTimeoutHeaderIsMissing() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest(HttpMethod.GET.name(), PRODUCT_URI);
+        AtomicReference<Deadline> deadline = new AtomicReference<>();
+        FilterChain filterChain = (filteredRequest, filteredResponse) -> deadline.set(DeadlineContext.get());
+
+        // When
+        deadlineFilter.doFilter(request, new MockHttpServletResponse(), filterChain);
+
+        // Then
+        assertNotNull(deadline.get());
+        assertTrue(deadline.get().getRemainingMilliseconds() <= 5000L);
+        assertTrue(deadline.get().getRemainingMilliseconds() > 4000L);
+        assertNull(DeadlineContext.get());
+    }
+
+    /**
+     * Test purpose         - Verify if {@link DeadlineFilter} caps the time budget requested via the timeout header.
+     * Test data            - request with the timeout header exceeding the maximal budget.
+     * Test expected result - The deadline is set within the maximal budget.
+     * Test type            - Positive.
+     */
+    @Test
+    void doFilter_shouldCapDeadline_whenTimeoutHeaderExceedsMaximalBudget() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest(HttpMethod.GET.name(), PRODUCT_URI);
+        request.addHeader(TIMEOUT_HEADER, "600000");
+        AtomicReference<Deadline> deadline = new AtomicReference<>();
+        FilterChain filterChain = (filteredRequest, filteredResponse) -> deadline.set(DeadlineContext.get());
+
+        // When
+        deadlineFilter.doFilter(request, new MockHttpServletResponse(), filterChain);
+
+        // Then
+        assertNotNull(deadline.get());
+        assertTrue(deadline.get().getRemainingMilliseconds() <= 30000L);
+    }
+
+    /**
+     * Test purpose         - Verify if {@link DeadlineFilter} rejects the request which arrives with no time budget left.
+     * Test data            - request with the timeout header set to zero.
+     * Test expected result - The request is not handled, '504 Gateway Timeout' response is returned and the expiration
+     *                        is counted.
+     * Test type            - Negative.
+     */
+    @Test
+    void doFilter_shouldRejectRequest_whenDeadlineHasAlreadyExpired() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest(HttpMethod.GET.name(), PRODUCT_URI);
+        request.addHeader(TIMEOUT_HEADER, "0");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<Boolean> handled = new AtomicReference<>(false);
+        FilterChain filterChain = (filteredRequest, filteredResponse) -> handled.set(true);
+
+        // When
+        deadlineFilter.doFilter(request, response, filterChain);
+
+        // Then
+        assertFalse(handled.get());
+        assertEquals(HttpStatus.GATEWAY_TIMEOUT.value(), response.getStatus());
+        assertEquals(1.0, meterRegistry.counter(EXPIRED_METRIC, "stage", "arrival").count());
+    }
+}
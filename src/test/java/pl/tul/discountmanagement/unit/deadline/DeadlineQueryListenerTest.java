@@ -0,0 +1,164 @@
+package pl.tul.discountmanagement.unit.deadline;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pl.tul.discountmanagement.shared.infrastructure.deadline.Deadline;
+import pl.tul.discountmanagement.shared.infrastructure.deadline.DeadlineContext;
+import pl.tul.discountmanagement.shared.infrastructure.deadline.DeadlineExceededException;
+import pl.tul.discountmanagement.shared.infrastructure.persistence.listener.DeadlineQueryListener;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Test class for {@link DeadlineQueryListener}.
+ */
+class DeadlineQueryListenerTest {
+
+    private static final String EXPIRED_METRIC = "request.deadline.expired";
+    private static final String QUERY_CANCELED_SQL_STATE = "57014";
+
+    private SimpleMeterRegistry meterRegistry;
+    private DeadlineQueryListener deadlineQueryListener;
+    private Statement statement;
+    private ExecutionInfo executionInfo;
+
+    /**
+     * Setup listener and statement execution.
+     */
+    @BeforeEach
+    void setUpListener() {
+        meterRegistry = new SimpleMeterRegistry();
+        deadlineQueryListener = new DeadlineQueryListener(meterRegistry);
+        statement = mock(Statement.class);
+        executionInfo = new ExecutionInfo();
+        executionInfo.setStatement(statement);
+    }
+
+    /**
+     * Clear the deadline of the current thread.
+     */
+    @AfterEach
+    void clearDeadline() {
+        DeadlineContext.clear();
+    }
+
+    /**
+     * Test purpose         - Verify if {@link DeadlineQueryListener} applies the time left until the deadline as the query
+     *                        timeout, rounded up to whole seconds.
+     * Test data            - deadline expiring in 2.5 seconds.
+     * Test expected result - The query timeout of 3 seconds is set.
+     * Test type            - Positive.
+     */
+    @Test
+    void beforeQuery_shouldSetQueryTimeoutRoundedUp_whenDeadlineIsSet() throws Exception {
+        // Given
+        DeadlineContext.set(Deadline.after(2500L));
+
+        // When
+        deadlineQueryListener.beforeQuery(executionInfo, List.of());
+
+        // Then
+        verify(statement).setQueryTimeout(3);
+    }
+
+    /**
+     * Test purpose         - Verify if {@link DeadlineQueryListener} sets the query timeout of at least one second when
+     *                        less than a second is left, as zero would disable the timeout.
+     * Test data            - deadline expiring in 100 milliseconds.
+     * Test expected result - The query timeout of 1 second is set.
+     * Test type            - Positive.
+     */
+    @Test
+    void beforeQuery_shouldSetOneSecondQueryTimeout_whenLessThanSecondIsLeft() throws Exception {
+        // Given
+        DeadlineContext.set(Deadline.after(100L));
+
+        // When
+        deadlineQueryListener.beforeQuery(executionInfo, List.of());
+
+        // Then
+        verify(statement).setQueryTimeout(1);
+    }
+
+    /**
+     * Test purpose         - Verify if {@link DeadlineQueryListener} leaves the statements executed outside of requests intact.
+     * Test data            - no deadline set for the current thread.
+     * Test expected result - No query timeout is set.
+     * Test type            - Positive.
+     */
+    @Test
+    void beforeQuery_shouldNotSetQueryTimeout_whenNoDeadlineIsSet() {
+        // When
+        deadlineQueryListener.beforeQuery(executionInfo, List.of());
+
+        // Then
+        verifyNoInteractions(statement);
+    }
+
+    /**
+     * Test purpose         - Verify if {@link DeadlineQueryListener} prevents the statement execution when the deadline
+     *                        has already expired.
+     * Test data            - expired deadline.
+     * Test expected result - {@link DeadlineExceededException} is thrown and the expiration is counted.
+     * Test type            - Negative.
+     */
+    @Test
+    void beforeQuery_shouldThrowDeadlineExceededException_whenDeadlineHasExpired() {
+        // Given
+        DeadlineContext.set(Deadline.after(0L));
+
+        // When & Then
+        assertThrows(DeadlineExceededException.class, () -> deadlineQueryListener.beforeQuery(executionInfo, List.of()));
+        verifyNoInteractions(statement);
+        assertEquals(1.0, meterRegistry.counter(EXPIRED_METRIC, "stage", "query").count());
+    }
+
+    /**
+     * Test purpose         - Verify if {@link DeadlineQueryListener} counts the statements canceled by the query timeout.
+     * Test data            - deadline, statement failed with the 'query_canceled' SQL state.
+     * Test expected result - The expiration is counted.
+     * Test type            - Negative.
+     */
+    @Test
+    void afterQuery_shouldCountExpiration_whenQueryWasCanceled() {
+        // Given
+        DeadlineContext.set(Deadline.after(2500L));
+        executionInfo.setThrowable(new SQLException("canceling statement due to user request", QUERY_CANCELED_SQL_STATE));
+
+        // When
+        deadlineQueryListener.afterQuery(executionInfo, List.of());
+
+        // Then
+        assertEquals(1.0, meterRegistry.counter(EXPIRED_METRIC, "stage", "query").count());
+    }
+
+    /**
+     * Test purpose         - Verify if {@link DeadlineQueryListener} does not count the statements failed for other reasons.
+     * Test data            - deadline, statement failed with a unique constraint violation.
+     * Test expected result - No expiration is counted.
+     * Test type            - Positive.
+     */
+    @Test
+    void afterQuery_shouldNotCountExpiration_whenQueryFailedForOtherReason() {
+        // Given
+        DeadlineContext.set(Deadline.after(2500L));
+        executionInfo.setThrowable(new SQLException("duplicate key value violates unique constraint", "23505"));
+
+        // When
+        deadlineQueryListener.afterQuery(executionInfo, List.of());
+
+        // Then
+        assertEquals(0.0, meterRegistry.counter(EXPIRED_METRIC, "stage", "query").count());
+    }
+}
@@ -0,0 +1,135 @@
+package pl.tul.discountmanagement.unit.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import pl.tul.discountmanagement.product.application.jfr.CalculateProductPriceEvent;
+import pl.tul.discountmanagement.product.application.jfr.GetProductEvent;
+import pl.tul.discountmanagement.product.application.mapper.ProductDTOMapper;
+import pl.tul.discountmanagement.product.application.port.out.audit.PriceAuditPort;
+import pl.tul.discountmanagement.product.application.port.out.persistence.ProductPersistencePort;
+import pl.tul.discountmanagement.product.application.port.out.tracking.ProductLookupTrackingPort;
+import pl.tul.discountmanagement.product.application.service.ProductApplicationService;
+import pl.tul.discountmanagement.product.domain.exception.ProductNotFoundException;
+import pl.tul.discountmanagement.product.domain.model.Product;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static pl.tul.discountmanagement.unit.util.TestDataUtils.buildCurrency;
+import static pl.tul.discountmanagement.unit.util.TestDataUtils.buildPercentageBasedDiscount;
+import static pl.tul.discountmanagement.unit.util.TestDataUtils.buildProduct;
+import static pl.tul.discountmanagement.unit.util.TestDataUtils.buildQuantityBasedDiscount;
+
+/**
+ * Test class for JDK Flight Recorder events emitted by {@link ProductApplicationService}.
+ */
+@ExtendWith(MockitoExtension.class)
+class ProductApplicationServiceEventTest {
+
+    @Mock
+    private ProductPersistencePort productPersistencePort;
+
+    @Spy
+    private ProductDTOMapper productDTOMapper;
+
+    @Mock
+    private ProductLookupTrackingPort productLookupTrackingPort;
+
+    @Mock
+    private PriceAuditPort priceAuditPort;
+
+    @InjectMocks
+    private ProductApplicationService productService;
+
+    /**
+     * Test purpose         - Verify if {@link ProductApplicationService#calculateProductPrice(UUID, int)}
+     *                        emits {@link CalculateProductPriceEvent} with proper data.
+     * Test data            - product with percentage-based and quantity-based discounts, product quantity.
+     * Test expected result - The event contains the product id, quantity, tier count and applied rates.
+     * Test type            - Positive.
+     */
+    @Test
+    void calculateProductPrice_shouldEmitEvent() throws Exception {
+        // Given
+        UUID productId = UUID.fromString("11111111-1111-1111-1111-111111111111");
+        Product product = buildProduct(productId, new BigDecimal("1000.00"), buildCurrency("EUR", 2),
+                buildPercentageBasedDiscount(10),
+                Set.of(buildQuantityBasedDiscount(15, 3, 5), buildQuantityBasedDiscount(20, 6, null)));
+        when(productPersistencePort.findById(eq(productId))).thenReturn(Optional.of(product));
+
+        // When
+        List<RecordedEvent> events = record(CalculateProductPriceEvent.NAME, () -> productService.calculateProductPrice(productId, 3));
+
+        // Then
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertEquals(productId.toString(), event.getString("productId"));
+        assertEquals(3, event.getInt("productQuantity"));
+        assertTrue(event.getBoolean("found"));
+        assertEquals(2, event.getInt("tierCount"));
+        assertEquals(10, event.getInt("percentageBasedRate"));
+        assertEquals(15, event.getInt("quantityBasedRate"));
+    }
+
+    /**
+     * Test purpose         - Verify if {@link ProductApplicationService#getProductById(UUID)}
+     *                        emits {@link GetProductEvent} when product is not found.
+     * Test data            - product id of a missing product.
+     * Test expected result - The event is emitted and marks the product as not found.
+     * Test type            - Negative.
+     */
+    @Test
+    void getProductById_shouldEmitEvent_whenProductIsNotFound() throws Exception {
+        // Given
+        UUID productId = UUID.fromString("22222222-2222-2222-2222-222222222222");
+        when(productPersistencePort.findById(eq(productId))).thenReturn(Optional.empty());
+
+        // When
+        List<RecordedEvent> events = record(GetProductEvent.NAME,
+                () -> assertThrows(ProductNotFoundException.class, () -> productService.getProductById(productId)));
+
+        // Then
+        assertEquals(1, events.size());
+        assertEquals(productId.toString(), events.get(0).getString("productId"));
+        assertFalse(events.get(0).getBoolean("found"));
+    }
+
+    private List<RecordedEvent> record(String eventName, RecordedAction action) throws Exception {
+        Path recordingFile = Files.createTempFile("events", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(eventName).withoutThreshold();
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(recordingFile);
+            return RecordingFile.readAllEvents(recordingFile).stream()
+                    .filter(event -> event.getEventType().getName().equals(eventName))
+                    .toList();
+        } finally {
+            Files.deleteIfExists(recordingFile);
+        }
+    }
+
+    @FunctionalInterface
+    private interface RecordedAction {
+        void run() throws Exception;
+    }
+}
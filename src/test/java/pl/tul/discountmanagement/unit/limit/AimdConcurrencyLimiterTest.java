@@ -0,0 +1,105 @@
+package pl.tul.discountmanagement.unit.limit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pl.tul.discountmanagement.shared.infrastructure.limit.AimdConcurrencyLimiter;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for {@link AimdConcurrencyLimiter}.
+ */
+class AimdConcurrencyLimiterTest {
+
+    private static final String LIMITER_NAME = "test";
+    private static final long FAST_CALL_IN_NANOSECONDS = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long SLOW_CALL_IN_NANOSECONDS = TimeUnit.MILLISECONDS.toNanos(1500);
+
+    private SimpleMeterRegistry meterRegistry;
+    private AimdConcurrencyLimiter limiter;
+
+    /**
+     * Setup limiter with initial limit of 4, limits between 2 and 5, backoff ratio of 0.5 and timeout of 1 second.
+     */
+    @BeforeEach
+    void setUpLimiter() {
+        meterRegistry = new SimpleMeterRegistry();
+        limiter = new AimdConcurrencyLimiter(LIMITER_NAME, 4, 2, 5, 0.5, 1000L, meterRegistry);
+    }
+
+    /**
+     * Test purpose         - Verify if {@link AimdConcurrencyLimiter#tryAcquire()} rejects calls over the limit.
+     * Test data            - five calls started with the limit of 4.
+     * Test expected result - The fifth call is rejected and counted in the rejection metric.
+     * Test type            - Negative.
+     */
+    @Test
+    void tryAcquire_shouldRejectCall_whenLimitIsReached() {
+        // Given
+        for (int i = 0; i < 4; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+
+        // When
+        boolean acquired = limiter.tryAcquire();
+
+        // Then
+        assertFalse(acquired);
+        assertEquals(4, limiter.getInflight());
+        assertEquals(1.0, meterRegistry.counter("concurrency.limit.rejected", "limiter", LIMITER_NAME).count());
+        assertEquals(4.0, meterRegistry.get("concurrency.limit").tag("limiter", LIMITER_NAME).gauge().value());
+    }
+
+    /**
+     * Test purpose         - Verify if {@link AimdConcurrencyLimiter#release(long, boolean)} increases the limit
+     *                        additively, up to the maximal limit, when the calls are fast and the limit is used.
+     * Test data            - repeatedly started and released fast calls with the whole limit in flight.
+     * Test expected result - The limit grows to the maximal limit of 5 and no further.
+     * Test type            - Positive.
+     */
+    @Test
+    void release_shouldIncreaseLimitUpToMaximum_whenCallsAreFastAndLimitIsUsed() {
+        // Given
+        for (int i = 0; i < 4; i++) {
+            limiter.tryAcquire();
+        }
+
+        // When
+        limiter.release(FAST_CALL_IN_NANOSECONDS, false);
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+        limiter.release(FAST_CALL_IN_NANOSECONDS, false);
+
+        // Then
+        assertEquals(5, limiter.getLimit());
+    }
+
+    /**
+     * Test purpose         - Verify if {@link AimdConcurrencyLimiter#release(long, boolean)} decreases the limit
+     *                        multiplicatively, down to the minimal limit, when calls are dropped or slow.
+     * Test data            - a dropped call and two slow calls.
+     * Test expected result - The limit is halved to 2 and does not fall below the minimal limit of 2.
+     * Test type            - Positive.
+     */
+    @Test
+    void release_shouldDecreaseLimitDownToMinimum_whenCallsAreDroppedOrSlow() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire();
+        }
+
+        // When
+        limiter.release(FAST_CALL_IN_NANOSECONDS, true);
+        limiter.release(SLOW_CALL_IN_NANOSECONDS, false);
+        limiter.release(SLOW_CALL_IN_NANOSECONDS, false);
+
+        // Then
+        assertEquals(2, limiter.getLimit());
+        assertEquals(0, limiter.getInflight());
+    }
+}
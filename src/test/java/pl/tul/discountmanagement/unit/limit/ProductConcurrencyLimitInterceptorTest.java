@@ -0,0 +1,176 @@
+package pl.tul.discountmanagement.unit.limit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.annotation.ResponseStatusExceptionResolver;
+import pl.tul.discountmanagement.product.application.port.in.GetProductUseCase;
+import pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.limit.ProductConcurrencyLimitInterceptor;
+import pl.tul.discountmanagement.shared.infrastructure.limit.AimdConcurrencyLimiter;
+import pl.tul.discountmanagement.shared.infrastructure.limit.ConcurrencyLimitExceededException;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for {@link ProductConcurrencyLimitInterceptor}.
+ */
+class ProductConcurrencyLimitInterceptorTest {
+
+    private static final UUID PRODUCT_ID = UUID.fromString("11111111-1111-1111-1111-111111111111");
+    private static final String PRODUCT_URI = "/v1/product/" + PRODUCT_ID;
+    private static final int INITIAL_LIMIT = 4;
+    private static final long RETRY_AFTER_IN_SECONDS = 2L;
+
+    private AimdConcurrencyLimiter limiter;
+    private GetProductUseCase getProductUseCase;
+    private ProductConcurrencyLimitInterceptor interceptor;
+
+    /**
+     * Setup interceptor with the limiter with initial limit of 4, limits between 1 and 8, backoff ratio of 0.5
+     * and timeout of 10 seconds.
+     */
+    @BeforeEach
+    void setUpInterceptor() {
+        limiter = new AimdConcurrencyLimiter("test", INITIAL_LIMIT, 1, 8, 0.5, 10000L, new SimpleMeterRegistry());
+        getProductUseCase = mock(GetProductUseCase.class);
+        interceptor = new ProductConcurrencyLimitInterceptor(limiter, getProductUseCase, RETRY_AFTER_IN_SECONDS);
+    }
+
+    /**
+     * Test purpose         - Verify if the read of a product served without querying the database bypasses the limit.
+     * Test data            - request of a product served without querying the database.
+     * Test expected result - The request proceeds without taking a permit and its completion does not change the limit.
+     * Test type            - Positive.
+     */
+    @Test
+    void preHandle_shouldNotTakePermit_whenProductIsReadWithoutDatabase() {
+        // Given
+        when(getProductUseCase.isProductReadWithoutDatabase(PRODUCT_ID)).thenReturn(true);
+        MockHttpServletRequest request = buildProductRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
+
+        // When
+        boolean proceeded = interceptor.preHandle(request, response, new Object());
+        int inflight = limiter.getInflight();
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        // Then
+        assertTrue(proceeded);
+        assertEquals(0, inflight);
+        assertEquals(INITIAL_LIMIT, limiter.getLimit());
+    }
+
+    /**
+     * Test purpose         - Verify if the read of a product querying the database takes a permit and returns it on completion.
+     * Test data            - request of a product querying the database, completed with '200 OK' response.
+     * Test expected result - A permit is taken while the request is handled and returned afterwards without decreasing the limit.
+     * Test type            - Positive.
+     */
+    @Test
+    void preHandle_shouldTakePermit_whenProductIsReadFromDatabase() {
+        // Given
+        MockHttpServletRequest request = buildProductRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        interceptor.preHandle(request, response, new Object());
+        int inflight = limiter.getInflight();
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        // Then
+        assertEquals(1, inflight);
+        assertEquals(0, limiter.getInflight());
+        assertEquals(INITIAL_LIMIT, limiter.getLimit());
+    }
+
+    /**
+     * Test purpose         - Verify if a request completed with a server error is reported to the limiter as a drop.
+     * Test data            - request of a product querying the database, completed with '504 Gateway Timeout' response.
+     * Test expected result - The permit is returned and the limit is decreased.
+     * Test type            - Negative.
+     */
+    @Test
+    void afterCompletion_shouldReportDrop_whenResponseIsServerError() {
+        // Given
+        MockHttpServletRequest request = buildProductRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(request, response, new Object());
+        response.setStatus(HttpStatus.GATEWAY_TIMEOUT.value());
+
+        // When
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        // Then
+        assertEquals(0, limiter.getInflight());
+        assertEquals(INITIAL_LIMIT / 2, limiter.getLimit());
+    }
+
+    /**
+     * Test purpose         - Verify if a request completed with an exception is reported to the limiter as a drop.
+     * Test data            - request of a product querying the database, completed with an exception.
+     * Test expected result - The permit is returned and the limit is decreased.
+     * Test type            - Negative.
+     */
+    @Test
+    void afterCompletion_shouldReportDrop_whenRequestFailedWithException() {
+        // Given
+        MockHttpServletRequest request = buildProductRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(request, response, new Object());
+
+        // When
+        interceptor.afterCompletion(request, response, new Object(), new IllegalStateException("Handler failed"));
+
+        // Then
+        assertEquals(0, limiter.getInflight());
+        assertEquals(INITIAL_LIMIT / 2, limiter.getLimit());
+    }
+
+    /**
+     * Test purpose         - Verify if a request over the limit is rejected with '503 Service Unavailable' response
+     *                        carrying the 'Retry-After' header.
+     * Test data            - limit of 4 taken by requests in flight, another request of a product querying the database.
+     * Test expected result - {@link ConcurrencyLimitExceededException} is thrown and resolved to '503 Service Unavailable'
+     *                        response with the 'Retry-After' header, the permits in flight are not changed.
+     * Test type            - Negative.
+     */
+    @Test
+    void preHandle_shouldRejectRequest_whenLimitIsReached() {
+        // Given
+        for (int i = 0; i < INITIAL_LIMIT; i++) {
+            interceptor.preHandle(buildProductRequest(), new MockHttpServletResponse(), new Object());
+        }
+        MockHttpServletRequest request = buildProductRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        ConcurrencyLimitExceededException exception = assertThrows(ConcurrencyLimitExceededException.class,
+                () -> interceptor.preHandle(request, response, new Object()));
+        new ResponseStatusExceptionResolver().resolveException(request, response, null, exception);
+
+        // Then
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), response.getStatus());
+        assertEquals(String.valueOf(RETRY_AFTER_IN_SECONDS), response.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals(INITIAL_LIMIT, limiter.getInflight());
+    }
+
+    private MockHttpServletRequest buildProductRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest(HttpMethod.GET.name(), PRODUCT_URI);
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("productId", PRODUCT_ID.toString()));
+        return request;
+    }
+}
@@ -0,0 +1,127 @@
+package pl.tul.discountmanagement.unit.logging;
+
+import org.junit.jupiter.api.Test;
+import pl.tul.discountmanagement.shared.infrastructure.logging.async.MpscRingBuffer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.nonNull;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for {@link MpscRingBuffer}.
+ */
+class MpscRingBufferTest {
+
+    private static final int PRODUCER_COUNT = 4;
+    private static final int ELEMENTS_PER_PRODUCER = 100_000;
+
+    /**
+     * Test purpose         - Verify if the requested capacity is rounded up to a power of two.
+     * Test data            - requested capacity of 1000.
+     * Test expected result - Capacity of 1024.
+     * Test type            - Positive.
+     */
+    @Test
+    void constructor_shouldRoundCapacityUpToPowerOfTwo_whenCapacityIsNotPowerOfTwo() {
+        // When
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(1000);
+
+        // Then
+        assertEquals(1024, buffer.getCapacity());
+    }
+
+    /**
+     * Test purpose         - Verify if elements are polled in the offer order and offers fail once the buffer is full.
+     * Test data            - buffer of capacity 4, filled over several laps.
+     * Test expected result - The fifth offer fails, elements are polled in FIFO order and the slots are reused afterwards.
+     * Test type            - Positive.
+     */
+    @Test
+    void offer_shouldRejectElement_whenBufferIsFull() {
+        // Given
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+
+        for (int lap = 0; lap < 3; lap++) {
+            // When
+            for (int i = 0; i < 4; i++) {
+                assertTrue(buffer.offer(lap * 10 + i));
+            }
+            boolean offeredToFullBuffer = buffer.offer(-1);
+
+            // Then
+            assertFalse(offeredToFullBuffer);
+            for (int i = 0; i < 4; i++) {
+                assertEquals(lap * 10 + i, buffer.poll());
+            }
+            assertNull(buffer.poll());
+        }
+    }
+
+    /**
+     * Test purpose         - Verify if every element offered by concurrent producers is polled exactly once.
+     * Test data            - 4 producers offering 100 000 distinct elements each, retrying when the buffer is full,
+     *                        and a single consumer.
+     * Test expected result - All the elements are polled exactly once, in the offer order of each producer.
+     * Test type            - Positive.
+     */
+    @Test
+    void poll_shouldReturnEveryElementOnce_whenProducersAreConcurrent() throws Exception {
+        // Given
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(256);
+        ExecutorService executor = Executors.newFixedThreadPool(PRODUCER_COUNT);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<?>> producers = new ArrayList<>();
+        for (int producer = 0; producer < PRODUCER_COUNT; producer++) {
+            int firstElement = producer * ELEMENTS_PER_PRODUCER;
+            producers.add(executor.submit(() -> {
+                startLatch.await();
+                for (int element = firstElement; element < firstElement + ELEMENTS_PER_PRODUCER; element++) {
+                    while (!buffer.offer(element)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        // When
+        startLatch.countDown();
+        BitSet polledElements = new BitSet(PRODUCER_COUNT * ELEMENTS_PER_PRODUCER);
+        int[] lastElementPerProducer = new int[PRODUCER_COUNT];
+        Arrays.fill(lastElementPerProducer, -1);
+        int polledCount = 0;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (polledCount < PRODUCER_COUNT * ELEMENTS_PER_PRODUCER && System.nanoTime() < deadline) {
+            Integer element = buffer.poll();
+            if (nonNull(element)) {
+                assertFalse(polledElements.get(element));
+                int producer = element / ELEMENTS_PER_PRODUCER;
+                assertTrue(element > lastElementPerProducer[producer]);
+                lastElementPerProducer[producer] = element;
+                polledElements.set(element);
+                polledCount++;
+            }
+        }
+        for (Future<?> producer : producers) {
+            producer.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        assertEquals(PRODUCER_COUNT * ELEMENTS_PER_PRODUCER, polledCount);
+        assertEquals(PRODUCER_COUNT * ELEMENTS_PER_PRODUCER, polledElements.cardinality());
+        assertNull(buffer.poll());
+    }
+}
@@ -0,0 +1,145 @@
+package pl.tul.discountmanagement.unit.logging;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.zalando.logbook.Correlation;
+import org.zalando.logbook.HttpLogFormatter;
+import org.zalando.logbook.HttpRequest;
+import org.zalando.logbook.HttpResponse;
+import org.zalando.logbook.Precorrelation;
+import pl.tul.discountmanagement.shared.infrastructure.logging.async.AsyncHttpLogWriter;
+import pl.tul.discountmanagement.shared.infrastructure.logging.async.HttpLogRecord;
+import pl.tul.discountmanagement.shared.infrastructure.logging.async.SamplingAsyncSink;
+import pl.tul.discountmanagement.shared.infrastructure.logging.config.HttpLoggingProperties;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for {@link SamplingAsyncSink}.
+ */
+@ExtendWith(MockitoExtension.class)
+class SamplingAsyncSinkTest {
+
+    private static final String FORMATTED_REQUEST = "request";
+    private static final String FORMATTED_RESPONSE = "response";
+    private static final Duration FAST_DURATION = Duration.ofMillis(5);
+    private static final Duration SLOW_DURATION = Duration.ofMillis(1500);
+
+    @Mock
+    private HttpLogFormatter httpLogFormatter;
+
+    @Mock
+    private AsyncHttpLogWriter asyncHttpLogWriter;
+
+    @Mock
+    private Correlation correlation;
+
+    @Mock
+    private HttpRequest request;
+
+    @Mock
+    private HttpResponse response;
+
+    private SamplingAsyncSink sink;
+
+    /**
+     * Setup sink logging none of the successful and fast exchanges.
+     */
+    @BeforeEach
+    void setUpSink() {
+        HttpLoggingProperties httpLoggingProperties = new HttpLoggingProperties();
+        httpLoggingProperties.setSuccessSampleRate(0.0);
+        httpLoggingProperties.setSlowRequestThresholdInMilliseconds(1000L);
+        sink = new SamplingAsyncSink(httpLogFormatter, asyncHttpLogWriter, httpLoggingProperties);
+    }
+
+    /**
+     * Test purpose         - Verify if {@link SamplingAsyncSink} drops the successful and fast exchanges not being sampled.
+     * Test data            - '200 OK' exchange taking 5 ms, sample rate of 0.
+     * Test expected result - The exchange is neither formatted nor handed over to the writer, it is counted as sampled out.
+     * Test type            - Positive.
+     */
+    @Test
+    void write_shouldSkipExchange_whenExchangeIsSuccessfulAndNotSampled() throws Exception {
+        // Given
+        when(response.getStatus()).thenReturn(200);
+        when(correlation.getDuration()).thenReturn(FAST_DURATION);
+
+        // When
+        sink.write(correlation, request, response);
+
+        // Then
+        verifyNoInteractions(httpLogFormatter);
+        verify(asyncHttpLogWriter, never()).offer(any());
+        verify(asyncHttpLogWriter).recordSampledOut();
+    }
+
+    /**
+     * Test purpose         - Verify if {@link SamplingAsyncSink} always logs the erroneous exchanges.
+     * Test data            - '500 Internal Server Error' exchange taking 5 ms, sample rate of 0.
+     * Test expected result - The formatted request and response are handed over to the writer.
+     * Test type            - Positive.
+     */
+    @Test
+    void write_shouldHandOverExchange_whenResponseIsErroneous() throws Exception {
+        // Given
+        when(response.getStatus()).thenReturn(500);
+        when(httpLogFormatter.format((Precorrelation) correlation, request)).thenReturn(FORMATTED_REQUEST);
+        when(httpLogFormatter.format(correlation, response)).thenReturn(FORMATTED_RESPONSE);
+
+        // When
+        sink.write(correlation, request, response);
+
+        // Then
+        ArgumentCaptor<HttpLogRecord> recordCaptor = ArgumentCaptor.forClass(HttpLogRecord.class);
+        verify(asyncHttpLogWriter).offer(recordCaptor.capture());
+        assertEquals(new HttpLogRecord(correlation, FORMATTED_REQUEST, FORMATTED_RESPONSE), recordCaptor.getValue());
+    }
+
+    /**
+     * Test purpose         - Verify if {@link SamplingAsyncSink} always logs the slow exchanges.
+     * Test data            - '200 OK' exchange taking 1500 ms, slow request threshold of 1000 ms, sample rate of 0.
+     * Test expected result - The formatted request and response are handed over to the writer.
+     * Test type            - Positive.
+     */
+    @Test
+    void write_shouldHandOverExchange_whenExchangeIsSlow() throws Exception {
+        // Given
+        when(response.getStatus()).thenReturn(200);
+        when(correlation.getDuration()).thenReturn(SLOW_DURATION);
+        when(httpLogFormatter.format((Precorrelation) correlation, request)).thenReturn(FORMATTED_REQUEST);
+        when(httpLogFormatter.format(correlation, response)).thenReturn(FORMATTED_RESPONSE);
+
+        // When
+        sink.write(correlation, request, response);
+
+        // Then
+        verify(asyncHttpLogWriter).offer(new HttpLogRecord(correlation, FORMATTED_REQUEST, FORMATTED_RESPONSE));
+    }
+
+    /**
+     * Test purpose         - Verify if {@link SamplingAsyncSink} defers writing the request until the response is known.
+     * Test data            - request without response.
+     * Test expected result - Nothing is formatted nor handed over to the writer.
+     * Test type            - Positive.
+     */
+    @Test
+    void write_shouldDeferRequest_whenResponseIsNotKnown() throws Exception {
+        // When
+        sink.write((Precorrelation) correlation, request);
+
+        // Then
+        verifyNoInteractions(httpLogFormatter, asyncHttpLogWriter);
+    }
+}
@@ -0,0 +1,79 @@
+package pl.tul.discountmanagement.unit.notification;
+
+import org.junit.jupiter.api.Test;
+import pl.tul.discountmanagement.product.infrastructure.adapter.in.notification.event.ProductChangeNotificationEvent;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static pl.tul.discountmanagement.util.constant.TestConstants.PRODUCT_ID;
+import static pl.tul.discountmanagement.util.constant.TestConstants.QUANTITY_BASED_DISCOUNT_ID_1;
+
+/**
+ * Test class for {@link ProductChangeNotificationEvent}.
+ */
+class ProductChangeNotificationEventTest {
+
+    private static final String PRODUCT_TABLE = "product";
+
+    /**
+     * Test purpose         - Verify if the notification payload with product ids is properly parsed.
+     * Test data            - payload with the table name and two product ids.
+     * Test expected result - The event contains the table name and both product ids.
+     * Test type            - Positive.
+     */
+    @Test
+    void fromPayload_shouldReturnProductIds_whenPayloadContainsProductIds() {
+        // Given
+        String payload = PRODUCT_TABLE + ":" + PRODUCT_ID + "," + QUANTITY_BASED_DISCOUNT_ID_1;
+
+        // When
+        ProductChangeNotificationEvent event = ProductChangeNotificationEvent.fromPayload(payload);
+
+        // Then
+        assertEquals(PRODUCT_TABLE, event.sourceTable());
+        assertEquals(Set.of(PRODUCT_ID, QUANTITY_BASED_DISCOUNT_ID_1), event.productIds());
+        assertFalse(event.allProducts());
+    }
+
+    /**
+     * Test purpose         - Verify if the notification payload with the wildcard is parsed as a change of all products.
+     * Test data            - payload with the table name and the wildcard.
+     * Test expected result - The event marks all the products as changed.
+     * Test type            - Positive.
+     */
+    @Test
+    void fromPayload_shouldReturnAllProducts_whenPayloadContainsWildcard() {
+        // Given
+        String payload = PRODUCT_TABLE + ":*";
+
+        // When
+        ProductChangeNotificationEvent event = ProductChangeNotificationEvent.fromPayload(payload);
+
+        // Then
+        assertEquals(PRODUCT_TABLE, event.sourceTable());
+        assertTrue(event.allProducts());
+    }
+
+    /**
+     * Test purpose         - Verify if a malformed notification payload results in a full flush.
+     * Test data            - payload without the table name.
+     * Test expected result - The full flush event is returned.
+     * Test type            - Negative.
+     */
+    @Test
+    void fromPayload_shouldReturnFullFlush_whenPayloadIsMalformed() {
+        // Given
+        String payload = PRODUCT_ID.toString();
+
+        // When
+        ProductChangeNotificationEvent event = ProductChangeNotificationEvent.fromPayload(payload);
+
+        // Then
+        assertNull(event.sourceTable());
+        assertTrue(event.allProducts());
+    }
+}
@@ -0,0 +1,76 @@
+package pl.tul.discountmanagement.unit.persistence;
+
+import org.junit.jupiter.api.Test;
+import pl.tul.discountmanagement.shared.infrastructure.persistence.migration.ChangeLogReader;
+import pl.tul.discountmanagement.shared.infrastructure.persistence.migration.ChangeSetId;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test class for {@link ChangeLogReader}.
+ */
+class ChangeLogReaderTest {
+
+    private static final String MASTER_CHANGE_LOG = "classpath:database/schema/master.xml";
+    private static final String MISSING_CHANGE_LOG = "classpath:database/schema/missing.xml";
+    private static final String MAIN_CONTEXT = "main";
+    private static final String INTEGRATION_TEST_CONTEXT = "integration-test";
+    private static final String AUTHOR = "Michal Kusmidrowicz";
+    private static final List<ChangeSetId> MAIN_CHANGE_SETS = List.of(
+            new ChangeSetId("initial-schema", AUTHOR),
+            new ChangeSetId("exemplary_data", AUTHOR),
+            new ChangeSetId("product-change-notifications", AUTHOR),
+            new ChangeSetId("product-change-feed", AUTHOR),
+            new ChangeSetId("bulk-import-progress", AUTHOR)
+    );
+    private static final ChangeSetId INTEGRATION_TEST_CHANGE_SET = new ChangeSetId("integration_test_data", AUTHOR);
+
+    /**
+     * Test purpose         - Verify if {@link ChangeLogReader#readChangeSets} returns the change sets of the 'main' context.
+     * Test data            - master change log, 'main' context.
+     * Test expected result - Change sets of the included change logs are returned in the execution order,
+     *                        the change log included for the 'integration-test' context is skipped.
+     * Test type            - Positive.
+     */
+    @Test
+    void readChangeSets_shouldSkipOtherContexts_whenMainContextIsActive() {
+        // When
+        List<ChangeSetId> changeSets = ChangeLogReader.readChangeSets(MASTER_CHANGE_LOG, List.of(MAIN_CONTEXT));
+
+        // Then
+        assertEquals(MAIN_CHANGE_SETS, changeSets);
+    }
+
+    /**
+     * Test purpose         - Verify if {@link ChangeLogReader#readChangeSets} returns the change sets of all the active contexts.
+     * Test data            - master change log, 'main' and 'integration-test' contexts.
+     * Test expected result - Change sets of all the included change logs are returned in the execution order.
+     * Test type            - Positive.
+     */
+    @Test
+    void readChangeSets_shouldReturnAllChangeSets_whenIntegrationTestContextsAreActive() {
+        // When
+        List<ChangeSetId> changeSets = ChangeLogReader.readChangeSets(MASTER_CHANGE_LOG,
+                List.of(MAIN_CONTEXT, INTEGRATION_TEST_CONTEXT));
+
+        // Then
+        assertEquals(MAIN_CHANGE_SETS.size() + 1, changeSets.size());
+        assertEquals(MAIN_CHANGE_SETS, changeSets.subList(0, MAIN_CHANGE_SETS.size()));
+        assertEquals(INTEGRATION_TEST_CHANGE_SET, changeSets.get(MAIN_CHANGE_SETS.size()));
+    }
+
+    /**
+     * Test purpose         - Verify if {@link ChangeLogReader#readChangeSets} fails when the change log does not exist.
+     * Test data            - location of a missing change log.
+     * Test expected result - IllegalStateException is thrown.
+     * Test type            - Negative.
+     */
+    @Test
+    void readChangeSets_shouldThrowException_whenChangeLogIsMissing() {
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> ChangeLogReader.readChangeSets(MISSING_CHANGE_LOG, List.of(MAIN_CONTEXT)));
+    }
+}
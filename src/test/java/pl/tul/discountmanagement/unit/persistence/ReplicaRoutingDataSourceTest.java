@@ -0,0 +1,132 @@
+package pl.tul.discountmanagement.unit.persistence;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import pl.tul.discountmanagement.shared.infrastructure.persistence.routing.datasource.ReplicaRoutingDataSource;
+import pl.tul.discountmanagement.shared.infrastructure.persistence.routing.health.ReplicaHealthChecker;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for {@link ReplicaRoutingDataSource}.
+ */
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    private static final String REPLICA_NAME = "replica-1";
+    private static final String REPLICA_FALLBACKS_METRIC = "datasource.routing.replica.fallbacks";
+
+    @Mock
+    private DataSource primaryDataSource;
+
+    @Mock
+    private DataSource replicaDataSource;
+
+    @Mock
+    private ReplicaHealthChecker replicaHealthChecker;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReplicaRoutingDataSource routingDataSource;
+
+    /**
+     * Setup routing data source.
+     */
+    @BeforeEach
+    void setUpRoutingDataSource() {
+        meterRegistry = new SimpleMeterRegistry();
+        routingDataSource = new ReplicaRoutingDataSource(primaryDataSource, Map.of(REPLICA_NAME, replicaDataSource),
+                replicaHealthChecker, meterRegistry);
+    }
+
+    /**
+     * Clear transaction read-only flag.
+     */
+    @AfterEach
+    void clearTransactionReadOnlyFlag() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    /**
+     * Test purpose         - Verify if {@link ReplicaRoutingDataSource#getConnection()}
+     *                        returns connection to the primary database when transaction is not read-only.
+     * Test data            - primary and replica data sources.
+     * Test expected result - Connection to the primary database is returned.
+     * Test type            - Positive.
+     */
+    @Test
+    void getConnection_shouldRouteToPrimary_whenTransactionIsNotReadOnly() throws Exception {
+        // Given
+        Connection primaryConnection = mock(Connection.class);
+        when(primaryDataSource.getConnection()).thenReturn(primaryConnection);
+
+        // When
+        Connection connection = routingDataSource.getConnection();
+
+        // Then
+        assertSame(primaryConnection, connection);
+        verify(replicaHealthChecker, never()).nextHealthyReplica();
+        verify(replicaDataSource, never()).getConnection();
+    }
+
+    /**
+     * Test purpose         - Verify if {@link ReplicaRoutingDataSource#getConnection()}
+     *                        returns connection to the replica when transaction is read-only and replica is healthy.
+     * Test data            - primary and replica data sources.
+     * Test expected result - Connection to the replica is returned.
+     * Test type            - Positive.
+     */
+    @Test
+    void getConnection_shouldRouteToReplica_whenTransactionIsReadOnlyAndReplicaIsHealthy() throws Exception {
+        // Given
+        Connection replicaConnection = mock(Connection.class);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replicaHealthChecker.nextHealthyReplica()).thenReturn(REPLICA_NAME);
+        when(replicaDataSource.getConnection()).thenReturn(replicaConnection);
+
+        // When
+        Connection connection = routingDataSource.getConnection();
+
+        // Then
+        assertSame(replicaConnection, connection);
+        verify(primaryDataSource, never()).getConnection();
+    }
+
+    /**
+     * Test purpose         - Verify if {@link ReplicaRoutingDataSource#getConnection()}
+     *                        falls back to the primary database when transaction is read-only and no replica is healthy.
+     * Test data            - primary and replica data sources.
+     * Test expected result - Connection to the primary database is returned and the fallback is counted.
+     * Test type            - Positive.
+     */
+    @Test
+    void getConnection_shouldFallBackToPrimary_whenTransactionIsReadOnlyAndNoReplicaIsHealthy() throws Exception {
+        // Given
+        Connection primaryConnection = mock(Connection.class);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replicaHealthChecker.nextHealthyReplica()).thenReturn(null);
+        when(primaryDataSource.getConnection()).thenReturn(primaryConnection);
+
+        // When
+        Connection connection = routingDataSource.getConnection();
+
+        // Then
+        assertSame(primaryConnection, connection);
+        verify(replicaDataSource, never()).getConnection();
+        assertEquals(1.0, meterRegistry.counter(REPLICA_FALLBACKS_METRIC).count());
+    }
+}
@@ -0,0 +1,220 @@
+package pl.tul.discountmanagement.unit.persistence;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import pl.tul.discountmanagement.product.domain.model.Product;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.persistence.ProductPersistenceAdapter;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.persistence.fallback.StaleFallbackProductPersistenceAdapter;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.persistence.fallback.config.StaleFallbackProperties;
+import pl.tul.discountmanagement.shared.infrastructure.circuit.CircuitBreakerOpenException;
+import pl.tul.discountmanagement.shared.infrastructure.deadline.Deadline;
+import pl.tul.discountmanagement.shared.infrastructure.deadline.DeadlineContext;
+import pl.tul.discountmanagement.shared.infrastructure.deadline.DeadlineExceededException;
+import pl.tul.discountmanagement.shared.infrastructure.stale.StaleResponseContext;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static pl.tul.discountmanagement.unit.util.TestDataUtils.buildCurrency;
+import static pl.tul.discountmanagement.unit.util.TestDataUtils.buildProduct;
+
+/**
+ * Test class for {@link StaleFallbackProductPersistenceAdapter}.
+ */
+@ExtendWith(MockitoExtension.class)
+class StaleFallbackProductPersistenceAdapterTest {
+
+    private static final String STALE_SERVED_METRIC = "product.stale.served";
+
+    @Mock
+    private ProductPersistenceAdapter productPersistenceAdapter;
+
+    private SimpleMeterRegistry meterRegistry;
+    private StaleFallbackProductPersistenceAdapter adapter;
+
+    /**
+     * Setup adapter with failure threshold of 2 and open duration of 10 seconds, bind a request to the current thread.
+     */
+    @BeforeEach
+    void setUpAdapter() {
+        StaleFallbackProperties properties = new StaleFallbackProperties();
+        properties.setFailureThreshold(2);
+        properties.setOpenDurationInMilliseconds(10_000L);
+        meterRegistry = new SimpleMeterRegistry();
+        adapter = new StaleFallbackProductPersistenceAdapter(productPersistenceAdapter, properties, meterRegistry);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    /**
+     * Unbind the request from the current thread.
+     */
+    @AfterEach
+    void resetRequestAttributes() {
+        RequestContextHolder.resetRequestAttributes();
+        DeadlineContext.clear();
+    }
+
+    /**
+     * Test purpose         - Verify if {@link StaleFallbackProductPersistenceAdapter#findById(UUID)} serves the last known
+     *                        product when the database is unavailable.
+     * Test data            - Product read successfully once, the next read failing to start a transaction.
+     * Test expected result - The last known product is returned, the request is marked as stale and the stale serve is counted.
+     * Test type            - Positive.
+     */
+    @Test
+    void findById_shouldReturnLastKnownProduct_whenDatabaseIsUnavailable() {
+        // Given
+        Product product = buildProduct(UUID.randomUUID(), new BigDecimal("10.00"), buildCurrency("EUR", 2), null, null);
+        when(productPersistenceAdapter.findById(product.id()))
+                .thenReturn(Optional.of(product))
+                .thenThrow(new CannotCreateTransactionException("Connection refused"));
+        adapter.findById(product.id());
+        assertNull(StaleResponseContext.getStaleSince());
+
+        // When
+        Optional<Product> staleProduct = adapter.findById(product.id());
+
+        // Then
+        assertSame(product, staleProduct.orElseThrow());
+        assertNotNull(StaleResponseContext.getStaleSince());
+        assertEquals(1.0, meterRegistry.counter(STALE_SERVED_METRIC, "reason", "failure").count());
+    }
+
+    /**
+     * Test purpose         - Verify if {@link StaleFallbackProductPersistenceAdapter#findById(UUID)} stops reading
+     *                        from the database once the circuit breaker opens.
+     * Test data            - Product read successfully once, two failed reads opening the breaker, reads of the known
+     *                        and an unknown product.
+     * Test expected result - The known product is served without reading the database, the unknown product read is
+     *                        rejected with {@link CircuitBreakerOpenException}.
+     * Test type            - Negative.
+     */
+    @Test
+    void findById_shouldNotReadDatabase_whenCircuitBreakerIsOpen() {
+        // Given
+        Product product = buildProduct(UUID.randomUUID(), new BigDecimal("10.00"), buildCurrency("EUR", 2), null, null);
+        UUID unknownProductId = UUID.randomUUID();
+        when(productPersistenceAdapter.findById(product.id()))
+                .thenReturn(Optional.of(product))
+                .thenThrow(new CannotCreateTransactionException("Connection refused"));
+        for (int i = 0; i < 3; i++) {
+            adapter.findById(product.id());
+        }
+
+        // When
+        Optional<Product> staleProduct = adapter.findById(product.id());
+
+        // Then
+        assertSame(product, staleProduct.orElseThrow());
+        assertThrows(CircuitBreakerOpenException.class, () -> adapter.findById(unknownProductId));
+        verify(productPersistenceAdapter, times(3)).findById(product.id());
+        assertEquals(1.0, meterRegistry.counter(STALE_SERVED_METRIC, "reason", "circuit-open").count());
+    }
+
+    /**
+     * Test purpose         - Verify if {@link StaleFallbackProductPersistenceAdapter#isReadWithoutDatabase(UUID)} reports
+     *                        the reads served without the database only while the circuit breaker is open.
+     * Test data            - Product read failing to start a transaction twice, opening the breaker.
+     * Test expected result - Reads go to the database before the breaker opens and skip it afterwards.
+     * Test type            - Positive.
+     */
+    @Test
+    void isReadWithoutDatabase_shouldReturnTrue_whenCircuitBreakerIsOpen() {
+        // Given
+        UUID productId = UUID.randomUUID();
+        when(productPersistenceAdapter.findById(productId)).thenThrow(new CannotCreateTransactionException("Connection refused"));
+        boolean readWithoutDatabaseBeforeFailures = adapter.isReadWithoutDatabase(productId);
+
+        // When
+        for (int i = 0; i < 2; i++) {
+            assertThrows(CannotCreateTransactionException.class, () -> adapter.findById(productId));
+        }
+
+        // Then
+        assertFalse(readWithoutDatabaseBeforeFailures);
+        assertTrue(adapter.isReadWithoutDatabase(productId));
+    }
+
+    /**
+     * Test purpose         - Verify if {@link StaleFallbackProductPersistenceAdapter#findById(UUID)} does not count
+     *                        the reads failed due to the expired deadline of the client towards opening the circuit breaker.
+     * Test data            - Request with an expired deadline, reads failing to get a connection and canceled by the query
+     *                        timeout more times than the failure threshold, followed by a read with no deadline.
+     * Test expected result - The failures are rethrown without serving stale products, the breaker stays closed and the
+     *                        next read reaches the database.
+     * Test type            - Negative.
+     */
+    @Test
+    void findById_shouldKeepCircuitBreakerClosed_whenClientDeadlineHasExpired() {
+        // Given
+        Product product = buildProduct(UUID.randomUUID(), new BigDecimal("10.00"), buildCurrency("EUR", 2), null, null);
+        when(productPersistenceAdapter.findById(product.id()))
+                .thenThrow(new CannotCreateTransactionException("Could not open JPA EntityManager", new DeadlineExceededException()))
+                .thenThrow(new QueryTimeoutException("Query canceled"))
+                .thenThrow(new CannotCreateTransactionException("Could not open JPA EntityManager", new DeadlineExceededException()))
+                .thenReturn(Optional.of(product));
+        DeadlineContext.set(Deadline.after(0L));
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            assertThrows(RuntimeException.class, () -> adapter.findById(product.id()));
+        }
+        DeadlineContext.clear();
+        Optional<Product> foundProduct = adapter.findById(product.id());
+
+        // Then
+        assertSame(product, foundProduct.orElseThrow());
+        verify(productPersistenceAdapter, times(4)).findById(product.id());
+        assertEquals(0.0, meterRegistry.counter(STALE_SERVED_METRIC, "reason", "failure").count());
+    }
+
+    /**
+     * Test purpose         - Verify if {@link StaleFallbackProductPersistenceAdapter#findById(UUID)} still counts
+     *                        the failures to connect to the database within the deadline.
+     * Test data            - Request with a deadline which has not expired, reads failing as the pool cannot connect
+     *                        to the database before the deadline.
+     * Test expected result - The breaker opens after the failure threshold and the next read does not reach the database.
+     * Test type            - Negative.
+     */
+    @Test
+    void findById_shouldOpenCircuitBreaker_whenConnectionFailsWithinDeadline() {
+        // Given
+        UUID productId = UUID.randomUUID();
+        SQLTransientConnectionException timeoutException = new SQLTransientConnectionException("Connection is not available",
+                new SQLException("Connection refused"));
+        when(productPersistenceAdapter.findById(productId))
+                .thenThrow(new CannotCreateTransactionException("Could not open JPA EntityManager",
+                        new DeadlineExceededException(timeoutException)));
+        DeadlineContext.set(Deadline.after(60_000L));
+        for (int i = 0; i < 2; i++) {
+            assertThrows(CannotCreateTransactionException.class, () -> adapter.findById(productId));
+        }
+
+        // When & Then
+        assertThrows(CircuitBreakerOpenException.class, () -> adapter.findById(productId));
+        verify(productPersistenceAdapter, times(2)).findById(productId);
+    }
+}
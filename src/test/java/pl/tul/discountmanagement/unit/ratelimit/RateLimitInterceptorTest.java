@@ -0,0 +1,163 @@
+package pl.tul.discountmanagement.unit.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.annotation.ResponseStatusExceptionResolver;
+import pl.tul.discountmanagement.shared.infrastructure.ratelimit.RateLimitExceededException;
+import pl.tul.discountmanagement.shared.infrastructure.ratelimit.RateLimitInterceptor;
+import pl.tul.discountmanagement.shared.infrastructure.ratelimit.RateLimited;
+import pl.tul.discountmanagement.shared.infrastructure.ratelimit.UserRateLimiter;
+import pl.tul.discountmanagement.shared.infrastructure.ratelimit.config.RateLimitProperties;
+import pl.tul.discountmanagement.shared.infrastructure.security.dto.UserDetailsDTO;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static pl.tul.discountmanagement.shared.infrastructure.ratelimit.RateLimitHeaders.LIMIT_HEADER;
+import static pl.tul.discountmanagement.shared.infrastructure.ratelimit.RateLimitHeaders.REMAINING_HEADER;
+import static pl.tul.discountmanagement.shared.infrastructure.ratelimit.RateLimitHeaders.RESET_HEADER;
+import static pl.tul.discountmanagement.shared.infrastructure.security.constant.Permissions.READ_PRICE_PERMISSION;
+
+/**
+ * Test class for {@link RateLimitInterceptor}.
+ */
+class RateLimitInterceptorTest {
+
+    private static final int CAPACITY = 2;
+    private static final UUID USER_ID = UUID.fromString("11111111-1111-1111-1111-111111111111");
+    private static final String PRICE_URI = "/v1/product/11111111-1111-1111-1111-111111111111/price";
+
+    private RateLimitInterceptor rateLimitInterceptor;
+    private HandlerMethod limitedHandler;
+    private HandlerMethod unlimitedHandler;
+
+    /**
+     * Setup interceptor with the default tier limiting 'read-price' permission to 2 requests refilled at 1 token per second,
+     * and authenticate the user.
+     */
+    @BeforeEach
+    void setUpInterceptor() throws Exception {
+        RateLimitProperties.Limit limit = new RateLimitProperties.Limit();
+        limit.setCapacity(CAPACITY);
+        limit.setRefillTokensPerSecond(1.0);
+        RateLimitProperties rateLimitProperties = new RateLimitProperties();
+        rateLimitProperties.setTiers(Map.of(rateLimitProperties.getDefaultTier(), Map.of("read-price", limit)));
+        rateLimitInterceptor = new RateLimitInterceptor(new UserRateLimiter(rateLimitProperties, new SimpleMeterRegistry()));
+        TestController controller = new TestController();
+        limitedHandler = new HandlerMethod(controller, TestController.class.getMethod("getPrice"));
+        unlimitedHandler = new HandlerMethod(controller, TestController.class.getMethod("getProduct"));
+        UserDetailsDTO userDetailsDTO = UserDetailsDTO.builder().userId(USER_ID).build();
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(userDetailsDTO, null, List.of()));
+    }
+
+    /**
+     * Clear the security context.
+     */
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    /**
+     * Test purpose         - Verify if {@link RateLimitInterceptor} lets the request within the limit through with the
+     *                        'RateLimit-*' headers.
+     * Test data            - first request of the user to the handler limited by 'READ_PRICE' permission.
+     * Test expected result - The request proceeds and the response carries the limit, remaining tokens and reset time.
+     * Test type            - Positive.
+     */
+    @Test
+    void preHandle_shouldSetRateLimitHeaders_whenRequestIsWithinLimit() {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        boolean proceeded = rateLimitInterceptor.preHandle(buildRequest(), response, limitedHandler);
+
+        // Then
+        assertTrue(proceeded);
+        assertEquals(String.valueOf(CAPACITY), response.getHeader(LIMIT_HEADER));
+        assertEquals(String.valueOf(CAPACITY - 1), response.getHeader(REMAINING_HEADER));
+        assertEquals("1", response.getHeader(RESET_HEADER));
+    }
+
+    /**
+     * Test purpose         - Verify if {@link RateLimitInterceptor} rejects the request over the limit with
+     *                        '429 Too Many Requests' response.
+     * Test data            - third request of the user to the handler limited to 2 requests.
+     * Test expected result - {@link RateLimitExceededException} is thrown and resolved to '429 Too Many Requests' response
+     *                        with the 'Retry-After' and 'RateLimit-*' headers.
+     * Test type            - Negative.
+     */
+    @Test
+    void preHandle_shouldRejectRequest_whenLimitIsExceeded() {
+        // Given
+        for (int i = 0; i < CAPACITY; i++) {
+            rateLimitInterceptor.preHandle(buildRequest(), new MockHttpServletResponse(), limitedHandler);
+        }
+        MockHttpServletRequest request = buildRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        RateLimitExceededException exception = assertThrows(RateLimitExceededException.class,
+                () -> rateLimitInterceptor.preHandle(request, response, limitedHandler));
+        new ResponseStatusExceptionResolver().resolveException(request, response, null, exception);
+
+        // Then
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), response.getStatus());
+        assertEquals("1", response.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals(String.valueOf(CAPACITY), response.getHeader(LIMIT_HEADER));
+        assertEquals("0", response.getHeader(REMAINING_HEADER));
+        assertEquals("2", response.getHeader(RESET_HEADER));
+    }
+
+    /**
+     * Test purpose         - Verify if {@link RateLimitInterceptor} does not limit the handlers without {@link RateLimited}.
+     * Test data            - request to the handler without the annotation.
+     * Test expected result - The request proceeds without the 'RateLimit-*' headers.
+     * Test type            - Positive.
+     */
+    @Test
+    void preHandle_shouldNotLimitRequest_whenHandlerIsNotAnnotated() {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        boolean proceeded = rateLimitInterceptor.preHandle(buildRequest(), response, unlimitedHandler);
+
+        // Then
+        assertTrue(proceeded);
+        assertNull(response.getHeader(LIMIT_HEADER));
+    }
+
+    private MockHttpServletRequest buildRequest() {
+        return new MockHttpServletRequest(HttpMethod.GET.name(), PRICE_URI);
+    }
+
+    /**
+     * Controller providing the handler methods.
+     */
+    static class TestController {
+
+        @RateLimited(permission = READ_PRICE_PERMISSION)
+        public void getPrice() {
+        }
+
+        public void getProduct() {
+        }
+    }
+}
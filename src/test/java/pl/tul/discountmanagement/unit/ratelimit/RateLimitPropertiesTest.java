@@ -0,0 +1,90 @@
+package pl.tul.discountmanagement.unit.ratelimit;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import pl.tul.discountmanagement.shared.infrastructure.ratelimit.config.RateLimitProperties;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for the validation of {@link RateLimitProperties}.
+ */
+class RateLimitPropertiesTest {
+
+    private static ValidatorFactory validatorFactory;
+    private static Validator validator;
+
+    /**
+     * Setup validator.
+     */
+    @BeforeAll
+    static void setUpValidator() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+    }
+
+    /**
+     * Close validator factory.
+     */
+    @AfterAll
+    static void closeValidator() {
+        validatorFactory.close();
+    }
+
+    /**
+     * Test purpose         - Verify if the properties with positive limits are valid.
+     * Test data            - tier with the capacity of 20 and the refill rate of 1 token per second.
+     * Test expected result - No constraint is violated.
+     * Test type            - Positive.
+     */
+    @Test
+    void validate_shouldNotReportViolations_whenLimitsArePositive() {
+        // Given
+        RateLimitProperties rateLimitProperties = buildProperties(20, 1.0);
+
+        // When
+        Set<ConstraintViolation<RateLimitProperties>> violations = validator.validate(rateLimitProperties);
+
+        // Then
+        assertTrue(violations.isEmpty());
+    }
+
+    /**
+     * Test purpose         - Verify if the limits which would break the token bucket arithmetic are rejected.
+     * Test data            - tier with the capacity of zero and the refill rate of zero tokens per second.
+     * Test expected result - Both constraints of the tier limit are violated.
+     * Test type            - Negative.
+     */
+    @Test
+    void validate_shouldReportViolations_whenLimitsAreNotPositive() {
+        // Given
+        RateLimitProperties rateLimitProperties = buildProperties(0, 0.0);
+
+        // When
+        Set<ConstraintViolation<RateLimitProperties>> violations = validator.validate(rateLimitProperties);
+
+        // Then
+        assertEquals(Set.of("capacity", "refillTokensPerSecond"), violations.stream()
+                .map(violation -> violation.getPropertyPath().toString().replaceAll(".*\\.", ""))
+                .collect(Collectors.toSet()));
+    }
+
+    private RateLimitProperties buildProperties(int capacity, double refillTokensPerSecond) {
+        RateLimitProperties.Limit limit = new RateLimitProperties.Limit();
+        limit.setCapacity(capacity);
+        limit.setRefillTokensPerSecond(refillTokensPerSecond);
+        RateLimitProperties rateLimitProperties = new RateLimitProperties();
+        rateLimitProperties.setTiers(Map.of(rateLimitProperties.getDefaultTier(), Map.of("write-product", limit)));
+        return rateLimitProperties;
+    }
+}
@@ -0,0 +1,125 @@
+package pl.tul.discountmanagement.unit.ratelimit;
+
+import org.junit.jupiter.api.Test;
+import pl.tul.discountmanagement.shared.infrastructure.ratelimit.RateLimitDecision;
+import pl.tul.discountmanagement.shared.infrastructure.ratelimit.ShardedTokenBucketMap;
+import pl.tul.discountmanagement.shared.infrastructure.ratelimit.TokenBucket;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for {@link TokenBucket} and {@link ShardedTokenBucketMap}.
+ */
+class TokenBucketTest {
+
+    private static final long CAPACITY = 3L;
+    private static final double REFILL_TOKENS_PER_SECOND = 1.0;
+    private static final long START_IN_NANOSECONDS = 1_000L;
+    private static final long SECOND_IN_NANOSECONDS = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * Test purpose         - Verify if {@link TokenBucket#tryConsume(long)} allows requests up to the capacity and rejects
+     *                        the next one with the time after which a token is available.
+     * Test data            - Four requests at the same moment with the bucket of 3 tokens refilled at 1 token per second.
+     * Test expected result - Three requests are allowed with the decreasing remaining tokens, the fourth one is rejected
+     *                        with retry after 1 second.
+     * Test type            - Negative.
+     */
+    @Test
+    void tryConsume_shouldRejectRequest_whenBucketIsEmpty() {
+        // Given
+        TokenBucket bucket = new TokenBucket(CAPACITY, REFILL_TOKENS_PER_SECOND, START_IN_NANOSECONDS);
+        for (long remaining = CAPACITY - 1; remaining >= 0; remaining--) {
+            RateLimitDecision decision = bucket.tryConsume(START_IN_NANOSECONDS);
+            assertTrue(decision.allowed());
+            assertEquals(remaining, decision.remaining());
+        }
+
+        // When
+        RateLimitDecision decision = bucket.tryConsume(START_IN_NANOSECONDS);
+
+        // Then
+        assertFalse(decision.allowed());
+        assertEquals(CAPACITY, decision.limit());
+        assertEquals(0L, decision.remaining());
+        assertEquals(3L, decision.resetInSeconds());
+        assertEquals(1L, decision.retryAfterInSeconds());
+    }
+
+    /**
+     * Test purpose         - Verify if {@link TokenBucket} refills the consumed tokens over time and becomes full again.
+     * Test data            - Empty bucket of 3 tokens refilled at 1 token per second, checked after 1 and 3 seconds.
+     * Test expected result - A request is allowed after 1 second, the bucket is full after further 3 seconds.
+     * Test type            - Positive.
+     */
+    @Test
+    void tryConsume_shouldAllowRequest_whenTokenIsRefilled() {
+        // Given
+        TokenBucket bucket = new TokenBucket(CAPACITY, REFILL_TOKENS_PER_SECOND, START_IN_NANOSECONDS);
+        for (int i = 0; i < CAPACITY; i++) {
+            bucket.tryConsume(START_IN_NANOSECONDS);
+        }
+        long afterSecond = START_IN_NANOSECONDS + SECOND_IN_NANOSECONDS;
+
+        // When
+        RateLimitDecision decision = bucket.tryConsume(afterSecond);
+
+        // Then
+        assertTrue(decision.allowed());
+        assertEquals(0L, decision.remaining());
+        assertFalse(bucket.isFull(afterSecond));
+        assertTrue(bucket.isFull(afterSecond + CAPACITY * SECOND_IN_NANOSECONDS));
+    }
+
+    /**
+     * Test purpose         - Verify if {@link ShardedTokenBucketMap} keeps the bucket of a user and evicts the buckets
+     *                        which are full again.
+     * Test data            - Two users, one of which consumed a token, buckets evicted after 2 seconds.
+     * Test expected result - The bucket of a user is reused, only the bucket with the consumed token is kept after eviction.
+     * Test type            - Positive.
+     */
+    @Test
+    void evictFullBuckets_shouldKeepOnlyNonFullBuckets_whenBucketsAreEvicted() {
+        // Given
+        ShardedTokenBucketMap buckets = new ShardedTokenBucketMap(4, 16);
+        UUID activeUserId = UUID.randomUUID();
+        UUID idleUserId = UUID.randomUUID();
+        TokenBucket activeBucket = buckets.getOrCreate(activeUserId, CAPACITY, REFILL_TOKENS_PER_SECOND, START_IN_NANOSECONDS);
+        TokenBucket idleBucket = buckets.getOrCreate(idleUserId, CAPACITY, REFILL_TOKENS_PER_SECOND, START_IN_NANOSECONDS);
+        for (int i = 0; i < CAPACITY; i++) {
+            activeBucket.tryConsume(START_IN_NANOSECONDS);
+        }
+        assertSame(activeBucket, buckets.getOrCreate(activeUserId, CAPACITY, REFILL_TOKENS_PER_SECOND, START_IN_NANOSECONDS));
+
+        // When
+        buckets.evictFullBuckets(START_IN_NANOSECONDS + 2 * SECOND_IN_NANOSECONDS);
+
+        // Then
+        assertEquals(1L, buckets.size());
+        assertSame(activeBucket, buckets.getOrCreate(activeUserId, CAPACITY, REFILL_TOKENS_PER_SECOND, START_IN_NANOSECONDS));
+        assertNotSame(idleBucket, buckets.getOrCreate(idleUserId, CAPACITY, REFILL_TOKENS_PER_SECOND, START_IN_NANOSECONDS));
+    }
+
+    /**
+     * Test purpose         - Verify if {@link TokenBucket} rejects the parameters which would break the refill arithmetic.
+     * Test data            - refill rates of zero, below zero and NaN, capacity of zero.
+     * Test expected result - {@link IllegalArgumentException} is thrown for each of them.
+     * Test type            - Negative.
+     */
+    @Test
+    void constructor_shouldThrowIllegalArgumentException_whenParametersAreNotPositive() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(CAPACITY, 0.0, START_IN_NANOSECONDS));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(CAPACITY, -1.0, START_IN_NANOSECONDS));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(CAPACITY, Double.NaN, START_IN_NANOSECONDS));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(0L, REFILL_TOKENS_PER_SECOND, START_IN_NANOSECONDS));
+    }
+}
@@ -0,0 +1,129 @@
+package pl.tul.discountmanagement.unit.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pl.tul.discountmanagement.shared.infrastructure.ratelimit.RateLimitDecision;
+import pl.tul.discountmanagement.shared.infrastructure.ratelimit.UserRateLimiter;
+import pl.tul.discountmanagement.shared.infrastructure.ratelimit.config.RateLimitProperties;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static pl.tul.discountmanagement.shared.infrastructure.security.constant.Permissions.READ_PRICE_PERMISSION;
+import static pl.tul.discountmanagement.shared.infrastructure.security.constant.Permissions.READ_PRODUCT_PERMISSION;
+import static pl.tul.discountmanagement.shared.infrastructure.security.constant.Permissions.WRITE_PRODUCT_PERMISSION;
+
+/**
+ * Test class for {@link UserRateLimiter}.
+ */
+class UserRateLimiterTest {
+
+    private static final String STANDARD_TIER = "standard";
+    private static final String PREMIUM_TIER = "premium";
+    private static final int STANDARD_CAPACITY = 2;
+    private static final int PREMIUM_CAPACITY = 5;
+    private static final String REJECTED_METRIC = "rate.limit.rejected";
+    private static final UUID STANDARD_USER_ID = UUID.fromString("11111111-1111-1111-1111-111111111111");
+    private static final UUID PREMIUM_USER_ID = UUID.fromString("22222222-2222-2222-2222-222222222222");
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserRateLimiter userRateLimiter;
+
+    /**
+     * Setup limiter with the standard tier limiting 'read-price' permission to 2 requests and the premium tier limiting
+     * it to 5 requests, both refilled at 1 token per second. 'read-product' permission is limited in no tier.
+     */
+    @BeforeEach
+    void setUpLimiter() {
+        meterRegistry = new SimpleMeterRegistry();
+        RateLimitProperties rateLimitProperties = new RateLimitProperties();
+        rateLimitProperties.setDefaultTier(STANDARD_TIER);
+        rateLimitProperties.setTiers(Map.of(
+                STANDARD_TIER, Map.of("read-price", buildLimit(STANDARD_CAPACITY), "write-product", buildLimit(STANDARD_CAPACITY)),
+                PREMIUM_TIER, Map.of("read-price", buildLimit(PREMIUM_CAPACITY))));
+        rateLimitProperties.setUserTiers(Map.of(PREMIUM_USER_ID, PREMIUM_TIER));
+        userRateLimiter = new UserRateLimiter(rateLimitProperties, meterRegistry);
+    }
+
+    /**
+     * Test purpose         - Verify if {@link UserRateLimiter#tryConsume} applies the limit of the tier of the user,
+     *                        looked up by the permission written in kebab case.
+     * Test data            - 'READ_PRICE' permission requested by a user of the default tier and a user of the premium tier.
+     * Test expected result - The decisions carry the capacities of the respective tiers.
+     * Test type            - Positive.
+     */
+    @Test
+    void tryConsume_shouldApplyLimitOfUserTier_whenPermissionIsLimited() {
+        // When
+        RateLimitDecision standardDecision = userRateLimiter.tryConsume(STANDARD_USER_ID, READ_PRICE_PERMISSION);
+        RateLimitDecision premiumDecision = userRateLimiter.tryConsume(PREMIUM_USER_ID, READ_PRICE_PERMISSION);
+
+        // Then
+        assertNotNull(standardDecision);
+        assertTrue(standardDecision.allowed());
+        assertEquals(STANDARD_CAPACITY, standardDecision.limit());
+        assertEquals(STANDARD_CAPACITY - 1, standardDecision.remaining());
+        assertNotNull(premiumDecision);
+        assertTrue(premiumDecision.allowed());
+        assertEquals(PREMIUM_CAPACITY, premiumDecision.limit());
+        assertEquals(PREMIUM_CAPACITY - 1, premiumDecision.remaining());
+    }
+
+    /**
+     * Test purpose         - Verify if {@link UserRateLimiter#tryConsume} does not limit the permissions without a limit
+     *                        in the tier of the user.
+     * Test data            - 'READ_PRODUCT' permission limited in no tier, 'WRITE_PRODUCT' permission limited only in the
+     *                        standard tier and requested by a premium user.
+     * Test expected result - No decision is returned.
+     * Test type            - Positive.
+     */
+    @Test
+    void tryConsume_shouldReturnNull_whenPermissionIsNotLimitedInUserTier() {
+        // When & Then
+        assertNull(userRateLimiter.tryConsume(STANDARD_USER_ID, READ_PRODUCT_PERMISSION));
+        assertNull(userRateLimiter.tryConsume(PREMIUM_USER_ID, WRITE_PRODUCT_PERMISSION));
+    }
+
+    /**
+     * Test purpose         - Verify if {@link UserRateLimiter#tryConsume} keeps separate buckets per user and permission.
+     * Test data            - 'READ_PRICE' bucket of a user exhausted, followed by requests of the same user for another
+     *                        permission and of another user for the same permission.
+     * Test expected result - Only the request over the exhausted bucket is rejected and counted in the rejection metric.
+     * Test type            - Negative.
+     */
+    @Test
+    void tryConsume_shouldRejectOnlyExhaustedBucket_whenUserExceedsLimit() {
+        // Given
+        for (int i = 0; i < STANDARD_CAPACITY; i++) {
+            userRateLimiter.tryConsume(STANDARD_USER_ID, READ_PRICE_PERMISSION);
+        }
+
+        // When
+        RateLimitDecision rejectedDecision = userRateLimiter.tryConsume(STANDARD_USER_ID, READ_PRICE_PERMISSION);
+        RateLimitDecision otherPermissionDecision = userRateLimiter.tryConsume(STANDARD_USER_ID, WRITE_PRODUCT_PERMISSION);
+        RateLimitDecision otherUserDecision = userRateLimiter.tryConsume(PREMIUM_USER_ID, READ_PRICE_PERMISSION);
+
+        // Then
+        assertNotNull(rejectedDecision);
+        assertFalse(rejectedDecision.allowed());
+        assertEquals(1L, rejectedDecision.retryAfterInSeconds());
+        assertNotNull(otherPermissionDecision);
+        assertTrue(otherPermissionDecision.allowed());
+        assertNotNull(otherUserDecision);
+        assertTrue(otherUserDecision.allowed());
+        assertEquals(1.0, meterRegistry.counter(REJECTED_METRIC, "permission", READ_PRICE_PERMISSION).count());
+    }
+
+    private RateLimitProperties.Limit buildLimit(int capacity) {
+        RateLimitProperties.Limit limit = new RateLimitProperties.Limit();
+        limit.setCapacity(capacity);
+        limit.setRefillTokensPerSecond(1.0);
+        return limit;
+    }
+}
@@ -0,0 +1,149 @@
+package pl.tul.discountmanagement.unit.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import pl.tul.discountmanagement.product.application.dto.BulkImportResultDTO;
+import pl.tul.discountmanagement.product.application.port.out.persistence.BulkImportPersistencePort;
+import pl.tul.discountmanagement.product.application.service.BulkImportApplicationService;
+import pl.tul.discountmanagement.product.domain.model.BulkImportTarget;
+
+import java.io.StringReader;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for {@link BulkImportApplicationService}.
+ */
+@ExtendWith(MockitoExtension.class)
+class BulkImportApplicationServiceTest {
+
+    private static final String CONTENT = "header\nrow-1\nrow-2\nrow-3\n";
+    private static final String MULTI_LINE_CONTENT = "id,description\n1,\"first\nline\"\n2,\"quoted \"\"\n\"\"\"\r\n3,last";
+
+    @Mock
+    private BulkImportPersistencePort bulkImportPersistencePort;
+
+    @InjectMocks
+    private BulkImportApplicationService bulkImportService;
+
+    /**
+     * Test purpose         - Verify if the CSV content is imported in chunks of the given size, without the header line.
+     * Test data            - CSV content with a header and three rows, chunk size of two rows.
+     * Test expected result - Two chunks are imported, each with the total number of committed rows.
+     * Test type            - Positive.
+     */
+    @Test
+    void importRecords_shouldImportContentInChunks_whenImportIsNew() throws Exception {
+        // Given
+        UUID importId = UUID.randomUUID();
+        when(bulkImportPersistencePort.findCommittedRows(importId, BulkImportTarget.PRODUCT)).thenReturn(0L);
+
+        // When
+        BulkImportResultDTO result = bulkImportService.importRecords(importId, BulkImportTarget.PRODUCT, new StringReader(CONTENT), 2);
+
+        // Then
+        verify(bulkImportPersistencePort).importChunk(importId, BulkImportTarget.PRODUCT, "row-1\nrow-2\n", 2L);
+        verify(bulkImportPersistencePort).importChunk(importId, BulkImportTarget.PRODUCT, "row-3\n", 3L);
+        assertEquals(3, result.getImportedRows());
+        assertEquals(0, result.getSkippedRows());
+        assertEquals(2, result.getCommittedChunks());
+    }
+
+    /**
+     * Test purpose         - Verify if the rows committed by a previous attempt are skipped.
+     * Test data            - CSV content with a header and three rows, two rows already committed.
+     * Test expected result - Only the last row is imported.
+     * Test type            - Positive.
+     */
+    @Test
+    void importRecords_shouldSkipCommittedRows_whenImportIsResumed() throws Exception {
+        // Given
+        UUID importId = UUID.randomUUID();
+        when(bulkImportPersistencePort.findCommittedRows(importId, BulkImportTarget.PRODUCT)).thenReturn(2L);
+
+        // When
+        BulkImportResultDTO result = bulkImportService.importRecords(importId, BulkImportTarget.PRODUCT, new StringReader(CONTENT), 2);
+
+        // Then
+        verify(bulkImportPersistencePort).importChunk(importId, BulkImportTarget.PRODUCT, "row-3\n", 3L);
+        assertEquals(1, result.getImportedRows());
+        assertEquals(2, result.getSkippedRows());
+    }
+
+    /**
+     * Test purpose         - Verify if nothing is imported when all the rows were already committed.
+     * Test data            - CSV content with a header and three rows, all the rows already committed.
+     * Test expected result - No chunk is imported.
+     * Test type            - Positive.
+     */
+    @Test
+    void importRecords_shouldImportNothing_whenImportIsCompleted() throws Exception {
+        // Given
+        UUID importId = UUID.randomUUID();
+        when(bulkImportPersistencePort.findCommittedRows(importId, BulkImportTarget.PRODUCT)).thenReturn(3L);
+
+        // When
+        BulkImportResultDTO result = bulkImportService.importRecords(importId, BulkImportTarget.PRODUCT, new StringReader(CONTENT), 2);
+
+        // Then
+        verify(bulkImportPersistencePort, never()).importChunk(eq(importId), eq(BulkImportTarget.PRODUCT), anyString(), anyLong());
+        assertEquals(0, result.getImportedRows());
+        assertEquals(3, result.getSkippedRows());
+    }
+
+    /**
+     * Test purpose         - Verify if a record with quoted fields containing line breaks is imported as a single row.
+     * Test data            - CSV content with a header and three records, two of them spanning multiple lines, chunk size of two rows.
+     * Test expected result - Two chunks are imported, the multi-line records are kept intact and counted as single rows.
+     * Test type            - Positive.
+     */
+    @Test
+    void importRecords_shouldKeepMultiLineRecordsIntact_whenQuotedFieldsContainLineBreaks() throws Exception {
+        // Given
+        UUID importId = UUID.randomUUID();
+        when(bulkImportPersistencePort.findCommittedRows(importId, BulkImportTarget.PRODUCT)).thenReturn(0L);
+
+        // When
+        BulkImportResultDTO result = bulkImportService.importRecords(importId, BulkImportTarget.PRODUCT,
+                new StringReader(MULTI_LINE_CONTENT), 2);
+
+        // Then
+        verify(bulkImportPersistencePort).importChunk(importId, BulkImportTarget.PRODUCT,
+                "1,\"first\nline\"\n2,\"quoted \"\"\n\"\"\"\n", 2L);
+        verify(bulkImportPersistencePort).importChunk(importId, BulkImportTarget.PRODUCT, "3,last\n", 3L);
+        assertEquals(3, result.getImportedRows());
+        assertEquals(2, result.getCommittedChunks());
+    }
+
+    /**
+     * Test purpose         - Verify if the committed rows are skipped as records rather than lines when the import is resumed.
+     * Test data            - CSV content with a header and three records spanning five lines, two records already committed.
+     * Test expected result - Only the last record is imported.
+     * Test type            - Positive.
+     */
+    @Test
+    void importRecords_shouldSkipCommittedRecords_whenImportWithMultiLineRecordsIsResumed() throws Exception {
+        // Given
+        UUID importId = UUID.randomUUID();
+        when(bulkImportPersistencePort.findCommittedRows(importId, BulkImportTarget.PRODUCT)).thenReturn(2L);
+
+        // When
+        BulkImportResultDTO result = bulkImportService.importRecords(importId, BulkImportTarget.PRODUCT,
+                new StringReader(MULTI_LINE_CONTENT), 2);
+
+        // Then
+        verify(bulkImportPersistencePort).importChunk(importId, BulkImportTarget.PRODUCT, "3,last\n", 3L);
+        assertEquals(1, result.getImportedRows());
+        assertEquals(2, result.getSkippedRows());
+    }
+}
@@ -0,0 +1,72 @@
+package pl.tul.discountmanagement.unit.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import pl.tul.discountmanagement.product.application.dto.HotProductsDTO;
+import pl.tul.discountmanagement.product.application.port.out.tracking.HotProductsPort;
+import pl.tul.discountmanagement.product.application.service.HotProductsApplicationService;
+import pl.tul.discountmanagement.product.domain.model.HotProducts;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for {@link HotProductsApplicationService}.
+ */
+@ExtendWith(MockitoExtension.class)
+class HotProductsApplicationServiceTest {
+
+    @Mock
+    private HotProductsPort hotProductsPort;
+
+    @InjectMocks
+    private HotProductsApplicationService hotProductsService;
+
+    /**
+     * Test purpose         - Verify if the recorded hot products are limited to the requested number and the quantities
+     *                        which cannot be priced are skipped.
+     * Test data            - three recorded hot products, quantities 5 and 0, limit of two products.
+     * Test expected result - The two most frequent products and the quantity 5 are returned.
+     * Test type            - Positive.
+     */
+    @Test
+    void getHotProducts_shouldReturnLimitedHotProducts_whenHotProductsAreRecorded() {
+        // Given
+        List<UUID> productIds = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        when(hotProductsPort.findRecordedHotProducts()).thenReturn(Optional.of(new HotProducts(productIds, List.of(5, 0))));
+
+        // When
+        HotProductsDTO hotProducts = hotProductsService.getHotProducts(2);
+
+        // Then
+        assertEquals(productIds.subList(0, 2), hotProducts.getProductIds());
+        assertEquals(List.of(5), hotProducts.getProductQuantities());
+    }
+
+    /**
+     * Test purpose         - Verify if no hot products are returned when none were recorded.
+     * Test data            - no recorded hot products.
+     * Test expected result - Empty products and quantities are returned.
+     * Test type            - Negative.
+     */
+    @Test
+    void getHotProducts_shouldReturnNoHotProducts_whenNoneAreRecorded() {
+        // Given
+        when(hotProductsPort.findRecordedHotProducts()).thenReturn(Optional.empty());
+
+        // When
+        HotProductsDTO hotProducts = hotProductsService.getHotProducts(2);
+
+        // Then
+        assertTrue(hotProducts.getProductIds().isEmpty());
+        assertTrue(hotProducts.getProductQuantities().isEmpty());
+    }
+}
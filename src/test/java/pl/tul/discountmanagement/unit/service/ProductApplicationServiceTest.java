@@ -15,7 +15,9 @@ import org.slf4j.LoggerFactory;
 import pl.tul.discountmanagement.product.application.dto.ProductDTO;
 import pl.tul.discountmanagement.product.application.dto.ProductPriceDTO;
 import pl.tul.discountmanagement.product.application.mapper.ProductDTOMapper;
+import pl.tul.discountmanagement.product.application.port.out.audit.PriceAuditPort;
 import pl.tul.discountmanagement.product.application.port.out.persistence.ProductPersistencePort;
+import pl.tul.discountmanagement.product.application.port.out.tracking.ProductLookupTrackingPort;
 import pl.tul.discountmanagement.product.application.service.ProductApplicationService;
 import pl.tul.discountmanagement.product.domain.exception.ProductNotFoundException;
 import pl.tul.discountmanagement.product.domain.model.Currency;
@@ -37,17 +39,15 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static pl.tul.discountmanagement.unit.util.TestDataUtils.buildCurrency;
 import static pl.tul.discountmanagement.unit.util.TestDataUtils.buildPercentageBasedDiscount;
 import static pl.tul.discountmanagement.unit.util.TestDataUtils.buildProduct;
 import static pl.tul.discountmanagement.unit.util.TestDataUtils.buildQuantityBasedDiscount;
 import static pl.tul.discountmanagement.util.constant.TestConstants.DISCOUNTS_SUM_EQUALS_TO_OR_MORE_THAN_100_PERCENT_LOG_MSG;
-import static pl.tul.discountmanagement.util.constant.TestConstants.MATCHING_PERCENTAGE_BASED_DISCOUNT_LOG_MSG;
-import static pl.tul.discountmanagement.util.constant.TestConstants.MATCHING_QUANTITY_BASED_DISCOUNT_LOG_MSG;
 import static pl.tul.discountmanagement.util.constant.TestConstants.PRODUCT_FOUND_LOG_MSG;
 import static pl.tul.discountmanagement.util.constant.TestConstants.PRODUCT_NOT_FOUND_LOG_MSG;
-import static pl.tul.discountmanagement.util.constant.TestConstants.PRODUCT_PRICE_CALCULATED_LOG_MSG;
 import static pl.tul.discountmanagement.util.constant.TestConstants.PRODUCT_QUANTITY_ERROR_LOG_MSG;
 
 /**
@@ -64,6 +64,12 @@ class ProductApplicationServiceTest {
     @Spy
     private ProductDTOMapper productDTOMapper;
 
+    @Mock
+    private ProductLookupTrackingPort productLookupTrackingPort;
+
+    @Mock
+    private PriceAuditPort priceAuditPort;
+
     @InjectMocks
     private ProductApplicationService productService;
 
@@ -298,6 +304,26 @@ class ProductApplicationServiceTest {
         assertTrue(memoryAppender.contains(PRODUCT_NOT_FOUND_LOG_MSG.formatted(productId), Level.ERROR));
     }
 
+    /**
+     * Test purpose         - Verify if {@link ProductApplicationService#isProductReadWithoutDatabase(UUID)}
+     *                        reports whether the persistence port reads the product without querying the database.
+     * Test data            - product id served by the persistence port without querying the database.
+     * Test expected result - true is returned.
+     * Test type            - Positive.
+     */
+    @Test
+    void isProductReadWithoutDatabase_shouldReturnTrue_whenPersistencePortReadsWithoutDatabase() {
+        // Given
+        UUID productId = UUID.fromString("11111111-1111-1111-1111-111111111111");
+        when(productPersistencePort.isReadWithoutDatabase(productId)).thenReturn(true);
+
+        // When
+        boolean readWithoutDatabase = productService.isProductReadWithoutDatabase(productId);
+
+        // Then
+        assertTrue(readWithoutDatabase);
+    }
+
     /**
      * Test purpose         - Verify if {@link ProductApplicationService#calculateProductPrice(UUID, int)}
      *                        returns {@link ProductPriceDTO} with proper data.
@@ -336,10 +362,8 @@ class ProductApplicationServiceTest {
         assertEquals("2250.00", productPriceDTO.getTotalPrice().toString());
         verify(productDTOMapper).toPriceDTO(eq(product), eq(percentageBasedDiscount),
                 eq(quantityBasedDiscountToBeApplied), eq(productQuantity), any(), any());
-        assertTrue(memoryAppender.contains(PRODUCT_FOUND_LOG_MSG.formatted(productId), Level.INFO));
-        assertTrue(memoryAppender.contains(MATCHING_PERCENTAGE_BASED_DISCOUNT_LOG_MSG.formatted(productId, 10), Level.INFO));
-        assertTrue(memoryAppender.contains(MATCHING_QUANTITY_BASED_DISCOUNT_LOG_MSG.formatted(productId, 15), Level.INFO));
-        assertTrue(memoryAppender.contains(PRODUCT_PRICE_CALCULATED_LOG_MSG.formatted(productId, productQuantity, "2250.00 EUR", "750.00 EUR"), Level.INFO));
+        verify(priceAuditPort).recordPriceCalculation(eq(productId), eq(productQuantity), eq(percentageBasedDiscount),
+                eq(quantityBasedDiscountToBeApplied), eq(new BigDecimal("2250.00")), eq(new BigDecimal("750.00")), eq("EUR"));
     }
 
     /**
@@ -379,9 +403,8 @@ class ProductApplicationServiceTest {
         assertEquals("900.00", productPriceDTO.getItemPrice().toString());
         assertEquals("900.00", productPriceDTO.getTotalPrice().toString());
         verify(productDTOMapper).toPriceDTO(eq(product), eq(percentageBasedDiscount), isNull(), eq(productQuantity), any(), any());
-        assertTrue(memoryAppender.contains(PRODUCT_FOUND_LOG_MSG.formatted(productId), Level.INFO));
-        assertTrue(memoryAppender.contains(MATCHING_PERCENTAGE_BASED_DISCOUNT_LOG_MSG.formatted(productId, 10), Level.INFO));
-        assertTrue(memoryAppender.contains(PRODUCT_PRICE_CALCULATED_LOG_MSG.formatted(productId, productQuantity, "900.00 EUR" ,"900.00 EUR"), Level.INFO));
+        verify(priceAuditPort).recordPriceCalculation(eq(productId), eq(productQuantity), eq(percentageBasedDiscount),
+                isNull(), eq(new BigDecimal("900.00")), eq(new BigDecimal("900.00")), eq("EUR"));
     }
 
     /**
@@ -420,9 +443,8 @@ class ProductApplicationServiceTest {
         assertEquals("850.00", productPriceDTO.getItemPrice().toString());
         assertEquals("2550.00", productPriceDTO.getTotalPrice().toString());
         verify(productDTOMapper).toPriceDTO(eq(product), isNull(), eq(quantityBasedDiscountToBeApplied), eq(productQuantity), any(), any());
-        assertTrue(memoryAppender.contains(PRODUCT_FOUND_LOG_MSG.formatted(productId), Level.INFO));
-        assertTrue(memoryAppender.contains(MATCHING_QUANTITY_BASED_DISCOUNT_LOG_MSG.formatted(productId, 15), Level.INFO));
-        assertTrue(memoryAppender.contains(PRODUCT_PRICE_CALCULATED_LOG_MSG.formatted(productId, productQuantity, "2550.00 EUR", "850.00 EUR"), Level.INFO));
+        verify(priceAuditPort).recordPriceCalculation(eq(productId), eq(productQuantity), isNull(),
+                eq(quantityBasedDiscountToBeApplied), eq(new BigDecimal("2550.00")), eq(new BigDecimal("850.00")), eq("EUR"));
     }
 
     /**
@@ -460,8 +482,8 @@ class ProductApplicationServiceTest {
         assertEquals("1000.00", productPriceDTO.getItemPrice().toString());
         assertEquals("1000.00", productPriceDTO.getTotalPrice().toString());
         verify(productDTOMapper).toPriceDTO(eq(product), isNull(), isNull(), eq(productQuantity), any(), any());
-        assertTrue(memoryAppender.contains(PRODUCT_FOUND_LOG_MSG.formatted(productId), Level.INFO));
-        assertTrue(memoryAppender.contains(PRODUCT_PRICE_CALCULATED_LOG_MSG.formatted(productId, productQuantity, "1000.00 EUR", "1000.00 EUR"), Level.INFO));
+        verify(priceAuditPort).recordPriceCalculation(eq(productId), eq(productQuantity), isNull(),
+                isNull(), eq(new BigDecimal("1000.00")), eq(new BigDecimal("1000.00")), eq("EUR"));
     }
 
     /**
@@ -495,8 +517,8 @@ class ProductApplicationServiceTest {
         assertEquals("1000.00", productPriceDTO.getItemPrice().toString());
         assertEquals("1000.00", productPriceDTO.getTotalPrice().toString());
         verify(productDTOMapper).toPriceDTO(eq(product), isNull(), isNull(), eq(productQuantity), any(), any());
-        assertTrue(memoryAppender.contains(PRODUCT_FOUND_LOG_MSG.formatted(productId), Level.INFO));
-        assertTrue(memoryAppender.contains(PRODUCT_PRICE_CALCULATED_LOG_MSG.formatted(productId, productQuantity, "1000.00 EUR", "1000.00 EUR"), Level.INFO));
+        verify(priceAuditPort).recordPriceCalculation(eq(productId), eq(productQuantity), isNull(),
+                isNull(), eq(new BigDecimal("1000.00")), eq(new BigDecimal("1000.00")), eq("EUR"));
     }
 
     /**
@@ -538,10 +560,8 @@ class ProductApplicationServiceTest {
         assertEquals("4900.00", productPriceDTO.getTotalPrice().toString());
         verify(productDTOMapper).toPriceDTO(eq(product), eq(percentageBasedDiscount),
                 eq(quantityBasedDiscountToBeApplied), eq(productQuantity), any(), any());
-        assertTrue(memoryAppender.contains(PRODUCT_FOUND_LOG_MSG.formatted(productId), Level.INFO));
-        assertTrue(memoryAppender.contains(MATCHING_PERCENTAGE_BASED_DISCOUNT_LOG_MSG.formatted(productId, 10), Level.INFO));
-        assertTrue(memoryAppender.contains(MATCHING_QUANTITY_BASED_DISCOUNT_LOG_MSG.formatted(productId, 20), Level.INFO));
-        assertTrue(memoryAppender.contains(PRODUCT_PRICE_CALCULATED_LOG_MSG.formatted(productId, productQuantity, "4900.00 EUR", "700.00 EUR"), Level.INFO));
+        verify(priceAuditPort).recordPriceCalculation(eq(productId), eq(productQuantity), eq(percentageBasedDiscount),
+                eq(quantityBasedDiscountToBeApplied), eq(new BigDecimal("4900.00")), eq(new BigDecimal("700.00")), eq("EUR"));
     }
 
     /**
@@ -584,10 +604,8 @@ class ProductApplicationServiceTest {
         assertEquals("2250.000", productPriceDTO.getTotalPrice().toString());
         verify(productDTOMapper).toPriceDTO(eq(product), eq(percentageBasedDiscount),
                 eq(quantityBasedDiscountToBeApplied), eq(productQuantity), any(), any());
-        assertTrue(memoryAppender.contains(PRODUCT_FOUND_LOG_MSG.formatted(productId), Level.INFO));
-        assertTrue(memoryAppender.contains(MATCHING_PERCENTAGE_BASED_DISCOUNT_LOG_MSG.formatted(productId, 10), Level.INFO));
-        assertTrue(memoryAppender.contains(MATCHING_QUANTITY_BASED_DISCOUNT_LOG_MSG.formatted(productId, 15), Level.INFO));
-        assertTrue(memoryAppender.contains(PRODUCT_PRICE_CALCULATED_LOG_MSG.formatted(productId, productQuantity, "2250.000 XXX", "750.000 XXX"), Level.INFO));
+        verify(priceAuditPort).recordPriceCalculation(eq(productId), eq(productQuantity), eq(percentageBasedDiscount),
+                eq(quantityBasedDiscountToBeApplied), eq(new BigDecimal("2250.000")), eq(new BigDecimal("750.000")), eq("XXX"));
     }
 
     /**
@@ -629,10 +647,8 @@ class ProductApplicationServiceTest {
         assertEquals("4900.00", productPriceDTO.getTotalPrice().toString());
         verify(productDTOMapper).toPriceDTO(eq(product), eq(percentageBasedDiscount),
                 eq(quantityBasedDiscountToBeApplied), eq(productQuantity), any(), any());
-        assertTrue(memoryAppender.contains(PRODUCT_FOUND_LOG_MSG.formatted(productId), Level.INFO));
-        assertTrue(memoryAppender.contains(MATCHING_PERCENTAGE_BASED_DISCOUNT_LOG_MSG.formatted(productId, 10), Level.INFO));
-        assertTrue(memoryAppender.contains(MATCHING_QUANTITY_BASED_DISCOUNT_LOG_MSG.formatted(productId, 20), Level.INFO));
-        assertTrue(memoryAppender.contains(PRODUCT_PRICE_CALCULATED_LOG_MSG.formatted(productId, productQuantity, "4900.00 EUR", "700.00 EUR"), Level.INFO));
+        verify(priceAuditPort).recordPriceCalculation(eq(productId), eq(productQuantity), eq(percentageBasedDiscount),
+                eq(quantityBasedDiscountToBeApplied), eq(new BigDecimal("4900.00")), eq(new BigDecimal("700.00")), eq("EUR"));
     }
 
     /**
@@ -674,11 +690,9 @@ class ProductApplicationServiceTest {
         assertEquals("0.00", productPriceDTO.getTotalPrice().toString());
         verify(productDTOMapper).toPriceDTO(eq(product), eq(percentageBasedDiscount),
                 eq(quantityBasedDiscountToBeApplied), eq(productQuantity), any(), any());
-        assertTrue(memoryAppender.contains(PRODUCT_FOUND_LOG_MSG.formatted(productId), Level.INFO));
-        assertTrue(memoryAppender.contains(MATCHING_PERCENTAGE_BASED_DISCOUNT_LOG_MSG.formatted(productId, 90), Level.INFO));
-        assertTrue(memoryAppender.contains(MATCHING_QUANTITY_BASED_DISCOUNT_LOG_MSG.formatted(productId, 15), Level.INFO));
         assertTrue(memoryAppender.contains(DISCOUNTS_SUM_EQUALS_TO_OR_MORE_THAN_100_PERCENT_LOG_MSG, Level.INFO));
-        assertTrue(memoryAppender.contains(PRODUCT_PRICE_CALCULATED_LOG_MSG.formatted(productId, productQuantity, "0.00 EUR", "0.00 EUR"), Level.INFO));
+        verify(priceAuditPort).recordPriceCalculation(eq(productId), eq(productQuantity), eq(percentageBasedDiscount),
+                eq(quantityBasedDiscountToBeApplied), eq(new BigDecimal("0.00")), eq(new BigDecimal("0.00")), eq("EUR"));
     }
 
     /**
@@ -698,6 +712,7 @@ class ProductApplicationServiceTest {
         // When & Then
         assertThrows(ProductNotFoundException.class, () -> productService.calculateProductPrice(productId, productQuantity));
         assertTrue(memoryAppender.contains(PRODUCT_NOT_FOUND_LOG_MSG.formatted(productId), Level.ERROR));
+        verifyNoInteractions(priceAuditPort);
     }
 
     /**
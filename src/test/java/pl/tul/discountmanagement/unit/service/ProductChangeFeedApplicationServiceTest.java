@@ -0,0 +1,151 @@
+package pl.tul.discountmanagement.unit.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import pl.tul.discountmanagement.product.application.dto.ProductChangeDTO;
+import pl.tul.discountmanagement.product.application.dto.ProductChangesDTO;
+import pl.tul.discountmanagement.product.application.mapper.ProductDTOMapper;
+import pl.tul.discountmanagement.product.application.port.out.persistence.ProductChangePersistencePort;
+import pl.tul.discountmanagement.product.application.service.ProductChangeFeedApplicationService;
+import pl.tul.discountmanagement.product.domain.model.Product;
+import pl.tul.discountmanagement.product.domain.model.ProductChange;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static pl.tul.discountmanagement.unit.util.TestDataUtils.buildCurrency;
+import static pl.tul.discountmanagement.unit.util.TestDataUtils.buildProduct;
+
+/**
+ * Test class for {@link ProductChangeFeedApplicationService}.
+ */
+@ExtendWith(MockitoExtension.class)
+class ProductChangeFeedApplicationServiceTest {
+
+    @Mock
+    private ProductChangePersistencePort productChangePersistencePort;
+
+    @Spy
+    private ProductDTOMapper productDTOMapper;
+
+    @InjectMocks
+    private ProductChangeFeedApplicationService productChangeFeedService;
+
+    /**
+     * Test purpose         - Verify if multiple changes of the same product are reported once, with the latest sequence number.
+     * Test data            - three changes of two products, both products existing.
+     * Test expected result - Two changes ordered by sequence number with product snapshots are returned.
+     * Test type            - Positive.
+     */
+    @Test
+    void getProductChanges_shouldReturnLatestChangePerProduct_whenProductChangedMultipleTimes() {
+        // Given
+        UUID firstProductId = UUID.randomUUID();
+        UUID secondProductId = UUID.randomUUID();
+        Product firstProduct = buildProduct(firstProductId, BigDecimal.TEN, buildCurrency("EUR", 2), null, Set.of());
+        Product secondProduct = buildProduct(secondProductId, BigDecimal.ONE, buildCurrency("EUR", 2), null, Set.of());
+        List<ProductChange> changes = List.of(
+                buildProductChange(11L, firstProductId),
+                buildProductChange(12L, secondProductId),
+                buildProductChange(13L, firstProductId));
+        when(productChangePersistencePort.findChangesSince(10L, 3)).thenReturn(changes);
+        when(productChangePersistencePort.findChangedProducts(any())).thenReturn(List.of(firstProduct, secondProduct));
+
+        // When
+        ProductChangesDTO productChanges = productChangeFeedService.getProductChanges(10L, 3);
+
+        // Then
+        List<ProductChangeDTO> changeDTOs = productChanges.getChanges();
+        assertEquals(2, changeDTOs.size());
+        assertEquals(12L, changeDTOs.get(0).getSequenceNumber());
+        assertEquals(secondProductId, changeDTOs.get(0).getProduct().getId());
+        assertEquals(13L, changeDTOs.get(1).getSequenceNumber());
+        assertEquals(firstProductId, changeDTOs.get(1).getProduct().getId());
+        assertEquals(13L, productChanges.getLastSequenceNumber());
+        assertTrue(productChanges.isHasMore());
+    }
+
+    /**
+     * Test purpose         - Verify if a change of a deleted product is reported without a snapshot.
+     * Test data            - single change of a product which no longer exists.
+     * Test expected result - The change is marked as deleted and contains no product snapshot.
+     * Test type            - Positive.
+     */
+    @Test
+    void getProductChanges_shouldReturnDeletedChange_whenProductNoLongerExists() {
+        // Given
+        UUID productId = UUID.randomUUID();
+        when(productChangePersistencePort.findChangesSince(0L, 100)).thenReturn(List.of(buildProductChange(1L, productId)));
+        when(productChangePersistencePort.findChangedProducts(any())).thenReturn(List.of());
+
+        // When
+        ProductChangesDTO productChanges = productChangeFeedService.getProductChanges(0L, 100);
+
+        // Then
+        ProductChangeDTO changeDTO = productChanges.getChanges().get(0);
+        assertTrue(changeDTO.isDeleted());
+        assertNull(changeDTO.getProduct());
+        assertEquals(productId, changeDTO.getProductId());
+        assertFalse(productChanges.isHasMore());
+    }
+
+    /**
+     * Test purpose         - Verify if the given sequence number is returned when there are no new changes.
+     * Test data            - no changes since the given sequence number.
+     * Test expected result - An empty page with the given sequence number is returned.
+     * Test type            - Positive.
+     */
+    @Test
+    void getProductChanges_shouldReturnGivenSequenceNumber_whenThereAreNoChanges() {
+        // Given
+        when(productChangePersistencePort.findChangesSince(42L, 100)).thenReturn(List.of());
+        when(productChangePersistencePort.findChangedProducts(any())).thenReturn(List.of());
+
+        // When
+        ProductChangesDTO productChanges = productChangeFeedService.getProductChanges(42L, 100);
+
+        // Then
+        assertTrue(productChanges.getChanges().isEmpty());
+        assertEquals(42L, productChanges.getLastSequenceNumber());
+        assertFalse(productChanges.isHasMore());
+    }
+
+    /**
+     * Test purpose         - Verify if the committed changes are published by the persistence port.
+     * Test data            - batch size, two committed changes waiting for the publication.
+     * Test expected result - The number of changes published by the persistence port is returned.
+     * Test type            - Positive.
+     */
+    @Test
+    void publishProductChanges_shouldReturnNumberOfPublishedChanges_whenChangesAreCommitted() {
+        // Given
+        when(productChangePersistencePort.publishChanges(100)).thenReturn(2);
+
+        // When
+        int publishedChanges = productChangeFeedService.publishProductChanges(100);
+
+        // Then
+        assertEquals(2, publishedChanges);
+    }
+
+    private ProductChange buildProductChange(long sequenceNumber, UUID productId) {
+        return ProductChange.builder()
+                .sequenceNumber(sequenceNumber)
+                .productId(productId)
+                .changedAt(Instant.now())
+                .build();
+    }
+}
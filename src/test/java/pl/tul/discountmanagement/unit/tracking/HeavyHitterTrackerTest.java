@@ -0,0 +1,121 @@
+package pl.tul.discountmanagement.unit.tracking;
+
+import org.junit.jupiter.api.Test;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.tracking.sketch.CountMinSketch;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.tracking.sketch.HeavyHitter;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.tracking.sketch.HeavyHitterTracker;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for {@link HeavyHitterTracker}.
+ */
+class HeavyHitterTrackerTest {
+
+    private static final int SKETCH_DEPTH = 4;
+    private static final int SKETCH_WIDTH = 1024;
+    private static final int CAPACITY = 5;
+
+    /**
+     * Test purpose         - Verify if the tracker finds the most frequent keys in a skewed stream with many distinct keys.
+     * Test data            - stream of 100 000 observations, where 5 keys make half of the traffic and the rest is spread
+     *                        over 50 000 distinct keys.
+     * Test expected result - The 5 hot keys are tracked, most frequent first, and their estimates are not undercounted.
+     * Test type            - Positive.
+     */
+    @Test
+    void record_shouldTrackHotKeys_whenStreamIsSkewed() {
+        // Given
+        HeavyHitterTracker<Long> tracker = new HeavyHitterTracker<>(SKETCH_DEPTH, SKETCH_WIDTH, CAPACITY, CountMinSketch::hash);
+        SplittableRandom random = new SplittableRandom(42L);
+
+        // When
+        for (int i = 0; i < 100_000; i++) {
+            if (random.nextBoolean()) {
+                // hot key 'k' gets a share proportional to 'k + 1'
+                tracker.record((long) weightedHotKey(random));
+            } else {
+                tracker.record(1_000L + random.nextInt(50_000));
+            }
+        }
+
+        // Then
+        List<HeavyHitter<Long>> heavyHitters = tracker.getHeavyHitters();
+        assertEquals(CAPACITY, heavyHitters.size());
+        assertEquals(List.of(4L, 3L, 2L, 1L, 0L), heavyHitters.stream().map(HeavyHitter::key).toList());
+        assertTrue(heavyHitters.get(0).estimatedCount() >= 50_000 * 5 / 15 * 9 / 10);
+    }
+
+    /**
+     * Test purpose         - Verify if decay lets recently hot keys replace keys which were hot in the past.
+     * Test data            - old hot keys observed before several decays, new hot keys observed afterwards.
+     * Test expected result - Only the new hot keys are tracked.
+     * Test type            - Positive.
+     */
+    @Test
+    void decay_shouldPreferRecentKeys() {
+        // Given
+        HeavyHitterTracker<Long> tracker = new HeavyHitterTracker<>(SKETCH_DEPTH, SKETCH_WIDTH, CAPACITY, CountMinSketch::hash);
+        IntStream.range(0, 1_000).forEach(i -> tracker.record((long) (i % CAPACITY)));
+
+        // When
+        IntStream.range(0, 10).forEach(i -> tracker.decay());
+        IntStream.range(0, 1_000).forEach(i -> tracker.record(100L + i % CAPACITY));
+
+        // Then
+        assertTrue(tracker.getHeavyHitters().stream().allMatch(heavyHitter -> heavyHitter.key() >= 100L));
+        assertEquals(CAPACITY, tracker.getHeavyHitters().size());
+    }
+
+    /**
+     * Test purpose         - Verify if int keys recorded without boxing are tracked, and if a key observed once is admitted
+     *                        right after decay frees the tracked slots.
+     * Test data            - 5 int keys observed 100 times each, decayed until their counts drop to zero, then a new key
+     *                        observed once.
+     * Test expected result - The 5 keys are tracked before the decay, only the new key afterwards.
+     * Test type            - Positive.
+     */
+    @Test
+    void decay_shouldAdmitNewKeys_whenDecayFreesSlots() {
+        // Given
+        HeavyHitterTracker<Integer> tracker = new HeavyHitterTracker<>(SKETCH_DEPTH, SKETCH_WIDTH, CAPACITY,
+                key -> CountMinSketch.hash(key));
+        IntStream.range(0, 100 * CAPACITY).forEach(i -> tracker.record(1_000 + i % CAPACITY, Integer::valueOf));
+        List<Integer> keysBeforeDecay = tracker.getHeavyHitters().stream().map(HeavyHitter::key).sorted().toList();
+
+        // When
+        IntStream.range(0, 7).forEach(i -> tracker.decay());
+        tracker.record(2_000, Integer::valueOf);
+
+        // Then
+        assertEquals(List.of(1_000, 1_001, 1_002, 1_003, 1_004), keysBeforeDecay);
+        assertEquals(List.of(2_000), tracker.getHeavyHitters().stream().map(HeavyHitter::key).toList());
+    }
+
+    /**
+     * Test purpose         - Verify if the sketch rejects dimensions which would break its indexing.
+     * Test data            - sketch width which is not a power of two.
+     * Test expected result - IllegalArgumentException is thrown.
+     * Test type            - Negative.
+     */
+    @Test
+    void countMinSketch_shouldThrowException_whenWidthIsNotPowerOfTwo() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> new CountMinSketch(SKETCH_DEPTH, 1000));
+    }
+
+    private static int weightedHotKey(SplittableRandom random) {
+        int ticket = random.nextInt(15);
+        int key = 0;
+        for (int threshold = 1; ticket >= threshold; threshold += key + 1) {
+            key++;
+        }
+        return key;
+    }
+}
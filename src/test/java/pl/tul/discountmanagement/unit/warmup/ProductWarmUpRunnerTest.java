@@ -0,0 +1,141 @@
+package pl.tul.discountmanagement.unit.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+import pl.tul.discountmanagement.product.application.dto.HotProductsDTO;
+import pl.tul.discountmanagement.product.application.port.in.CalculateProductPriceUseCase;
+import pl.tul.discountmanagement.product.application.port.in.GetHotProductsUseCase;
+import pl.tul.discountmanagement.product.application.port.in.GetProductUseCase;
+import pl.tul.discountmanagement.product.infrastructure.adapter.in.rest.mapper.ProductResponseMapper;
+import pl.tul.discountmanagement.product.infrastructure.adapter.in.warmup.ProductWarmUpRunner;
+import pl.tul.discountmanagement.product.infrastructure.adapter.in.warmup.config.ProductWarmUpProperties;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.tracking.HeavyHitterSnapshot;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.tracking.HeavyHitterTrackingAdapter;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.tracking.config.HeavyHitterProperties;
+import pl.tul.discountmanagement.product.infrastructure.adapter.out.tracking.sketch.HeavyHitter;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for {@link ProductWarmUpRunner}.
+ */
+@ExtendWith(MockitoExtension.class)
+class ProductWarmUpRunnerTest {
+
+    private static final UUID HOT_PRODUCT_ID = UUID.randomUUID();
+    private static final int HOT_PRODUCT_QUANTITY = 5;
+    private static final int ROUNDS = 3;
+
+    @Mock
+    private GetProductUseCase getProductUseCase;
+
+    @Mock
+    private CalculateProductPriceUseCase calculateProductPriceUseCase;
+
+    @Mock
+    private ProductResponseMapper productResponseMapper;
+
+    @Mock
+    private GetHotProductsUseCase getHotProductsUseCase;
+
+    private HeavyHitterTrackingAdapter trackingAdapter;
+    private ProductWarmUpRunner warmUpRunner;
+
+    @BeforeEach
+    void setUp() {
+        trackingAdapter = new HeavyHitterTrackingAdapter(new HeavyHitterProperties());
+        ProductWarmUpProperties warmUpProperties = new ProductWarmUpProperties();
+        warmUpProperties.setRounds(ROUNDS);
+        warmUpRunner = new ProductWarmUpRunner(getProductUseCase, calculateProductPriceUseCase, productResponseMapper,
+                getHotProductsUseCase, new ObjectMapper(), warmUpProperties);
+    }
+
+    /**
+     * Test purpose         - Verify if the warm-up loads and prices the products recorded as hot by the previous run.
+     * Test data            - hot products with a single product and a single quantity.
+     * Test expected result - The hot product is loaded and priced for the hot quantity in each round.
+     * Test type            - Positive.
+     */
+    @Test
+    void run_shouldWarmUpHotProducts_whenHotProductsAreRecorded() throws Exception {
+        // Given
+        when(getHotProductsUseCase.getHotProducts(anyInt())).thenReturn(buildHotProducts());
+
+        // When
+        warmUpRunner.run(new DefaultApplicationArguments());
+
+        // Then
+        verify(getProductUseCase, times(ROUNDS)).getProductById(HOT_PRODUCT_ID);
+        verify(calculateProductPriceUseCase, times(ROUNDS)).calculateProductPrice(HOT_PRODUCT_ID, HOT_PRODUCT_QUANTITY);
+    }
+
+    /**
+     * Test purpose         - Verify if the warm-up falls back to the first products of the catalog without recorded hot products.
+     * Test data            - no hot products, catalog with a single product, default product quantities.
+     * Test expected result - The catalog product is loaded in each round and priced for each default quantity.
+     * Test type            - Positive.
+     */
+    @Test
+    void run_shouldWarmUpCatalogProducts_whenNoHotProductsAreRecorded() throws Exception {
+        // Given
+        UUID productId = UUID.randomUUID();
+        when(getHotProductsUseCase.getHotProducts(anyInt())).thenReturn(new HotProductsDTO(List.of(), List.of()));
+        when(getProductUseCase.getProductIds(anyInt())).thenReturn(List.of(productId));
+
+        // When
+        warmUpRunner.run(new DefaultApplicationArguments());
+
+        // Then
+        verify(getProductUseCase, times(ROUNDS)).getProductById(productId);
+        verify(calculateProductPriceUseCase, times(ROUNDS * new ProductWarmUpProperties().getProductQuantities().size()))
+                .calculateProductPrice(any(), anyInt());
+    }
+
+    /**
+     * Test purpose         - Verify if the warm-up lookups are excluded from the hot products tracking.
+     * Test data            - hot products, use cases recording the lookups like the application service does.
+     * Test expected result - No product nor quantity is tracked after the warm-up, while a later lookup is tracked.
+     * Test type            - Positive.
+     */
+    @Test
+    void run_shouldNotTrackLookups_whenWarmingUp() throws Exception {
+        // Given
+        when(getHotProductsUseCase.getHotProducts(anyInt())).thenReturn(buildHotProducts());
+        when(getProductUseCase.getProductById(HOT_PRODUCT_ID)).thenAnswer(invocation -> {
+            trackingAdapter.recordProductLookup(HOT_PRODUCT_ID);
+            return null;
+        });
+        when(calculateProductPriceUseCase.calculateProductPrice(HOT_PRODUCT_ID, HOT_PRODUCT_QUANTITY)).thenAnswer(invocation -> {
+            trackingAdapter.recordPriceCalculation(HOT_PRODUCT_ID, HOT_PRODUCT_QUANTITY);
+            return null;
+        });
+
+        // When
+        warmUpRunner.run(new DefaultApplicationArguments());
+
+        // Then
+        HeavyHitterSnapshot snapshot = trackingAdapter.getSnapshot();
+        assertTrue(snapshot.products().isEmpty());
+        assertTrue(snapshot.quantities().isEmpty());
+        trackingAdapter.recordProductLookup(HOT_PRODUCT_ID);
+        assertEquals(List.of(HOT_PRODUCT_ID), trackingAdapter.getSnapshot().products().stream().map(HeavyHitter::key).toList());
+    }
+
+    private HotProductsDTO buildHotProducts() {
+        return new HotProductsDTO(List.of(HOT_PRODUCT_ID), List.of(HOT_PRODUCT_QUANTITY));
+    }
+}
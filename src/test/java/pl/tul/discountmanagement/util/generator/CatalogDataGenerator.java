@@ -0,0 +1,303 @@
+package pl.tul.discountmanagement.util.generator;
+
+import jakarta.annotation.Nullable;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Generator of a synthetic product catalog meant for performance tests and benchmarks.
+ * Currencies, quantity-based discounts, products and their tier assignments are streamed into the database with
+ * 'COPY FROM STDIN'. The generated data depends only on the settings (including the seed) and the percentage-based
+ * discounts already present in the database, so the same settings result in the same catalog on every run.
+ * Generated identifiers are unique per seed, hence a catalog can be generated only once per seed and database.
+ */
+public final class CatalogDataGenerator {
+
+    private static final long CURRENCY_SALT = 0x63757272656E6379L;
+    private static final long PERCENTAGE_DISCOUNT_SALT = 0x70657263656E7461L;
+    private static final long QUANTITY_TIER_SALT = 0x7175616E74697479L;
+    private static final long PRODUCT_SALT = 0x70726F6475637473L;
+    private static final long TIER_ASSIGNMENT_SALT = 0x61737369676E6D74L;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final int COPY_BUFFER_SIZE = 1 << 16;
+    private static final int MIN_PRICE_IN_CENTS = 100;
+    private static final int MAX_PRICE_IN_CENTS = 1_000_000;
+    private static final int FRACTION_DIGITS = 2;
+    private static final char SEPARATOR = ',';
+    private static final char LINE_SEPARATOR = '\n';
+
+    private static final String DISABLE_TRIGGERS_STATEMENT = "SET LOCAL session_replication_role = replica";
+    private static final String INSERT_PERCENTAGE_DISCOUNT_STATEMENT =
+            "INSERT INTO percentage_based_discount (id, percentage_rate) VALUES (?, ?) ON CONFLICT (percentage_rate) DO NOTHING";
+    private static final String FIND_PERCENTAGE_DISCOUNTS_QUERY =
+            "SELECT id FROM percentage_based_discount WHERE percentage_rate = ANY (?) ORDER BY percentage_rate";
+    private static final String FIND_QUANTITY_TIERS_QUERY =
+            "SELECT lower_items_threshold, upper_items_threshold, percentage_rate FROM quantity_based_discount";
+    private static final String COPY_CURRENCIES_STATEMENT = "COPY currency (id, currency_code, fraction_digits) FROM STDIN WITH (FORMAT csv)";
+    private static final String COPY_QUANTITY_TIERS_STATEMENT =
+            "COPY quantity_based_discount (id, percentage_rate, lower_items_threshold, upper_items_threshold) FROM STDIN WITH (FORMAT csv)";
+    private static final String COPY_PRODUCTS_STATEMENT =
+            "COPY product (id, name, description, price, currency_id, percentage_based_discount_id) FROM STDIN WITH (FORMAT csv)";
+    private static final String COPY_TIER_ASSIGNMENTS_STATEMENT =
+            "COPY product_quantity_based_discount (product_id, quantity_based_discount_id) FROM STDIN WITH (FORMAT csv)";
+
+    private CatalogDataGenerator() {
+    }
+
+    /**
+     * Generate the catalog within a single transaction on given connection.
+     *
+     * @param connection PostgreSQL connection.
+     * @param settings the catalog settings.
+     * @return the summary of the generated catalog.
+     * @throws SQLException when the data cannot be inserted.
+     * @throws IOException when the data cannot be streamed into the database.
+     */
+    public static GeneratedCatalog generate(Connection connection, CatalogGeneratorSettings settings) throws SQLException, IOException {
+        long startTime = System.currentTimeMillis();
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            if (settings.isTriggersDisabled()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute(DISABLE_TRIGGERS_STATEMENT);
+                }
+            }
+            List<UUID> percentageDiscountIds = ensurePercentageBasedDiscounts(connection, settings);
+            Set<TierKey> existingTiers = findExistingTiers(connection);
+            PGConnection pgConnection = connection.unwrap(PGConnection.class);
+            try (Writer writer = openCopy(pgConnection, COPY_CURRENCIES_STATEMENT)) {
+                writeCurrencies(settings, writer);
+            }
+            int quantityTierCount;
+            try (Writer writer = openCopy(pgConnection, COPY_QUANTITY_TIERS_STATEMENT)) {
+                quantityTierCount = writeQuantityTiers(settings, existingTiers, writer);
+            }
+            try (Writer writer = openCopy(pgConnection, COPY_PRODUCTS_STATEMENT)) {
+                writeProducts(settings, percentageDiscountIds, writer);
+            }
+            long tierAssignmentCount;
+            try (Writer writer = openCopy(pgConnection, COPY_TIER_ASSIGNMENTS_STATEMENT)) {
+                tierAssignmentCount = writeTierAssignments(settings, quantityTierCount, writer);
+            }
+            connection.commit();
+            return new GeneratedCatalog(settings.getSeed(), settings.getProductCount(), settings.getCurrencyCount(),
+                    quantityTierCount, tierAssignmentCount, System.currentTimeMillis() - startTime);
+        } catch (SQLException | IOException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    /**
+     * Return the identifier of the product with given index generated from given seed.
+     *
+     * @param seed the seed.
+     * @param index the product index.
+     * @return the product identifier.
+     */
+    public static UUID productId(long seed, long index) {
+        return deterministicId(seed, PRODUCT_SALT, index);
+    }
+
+    /**
+     * Write currency CSV rows with columns 'id,currency_code,fraction_digits'.
+     *
+     * @param settings the catalog settings.
+     * @param writer the CSV writer.
+     * @throws IOException when the rows cannot be written.
+     */
+    public static void writeCurrencies(CatalogGeneratorSettings settings, Writer writer) throws IOException {
+        for (int index = 0; index < settings.getCurrencyCount(); index++) {
+            writer.append(deterministicId(settings.getSeed(), CURRENCY_SALT, index).toString()).append(SEPARATOR)
+                    .append("G%d-%03d".formatted(settings.getSeed(), index)).append(SEPARATOR)
+                    .append(Integer.toString(FRACTION_DIGITS)).append(LINE_SEPARATOR);
+        }
+    }
+
+    /**
+     * Write quantity-based discount CSV rows with columns 'id,percentage_rate,lower_items_threshold,upper_items_threshold'.
+     * Tiers already present in the database are skipped, as the thresholds and rate must be unique.
+     *
+     * @param settings the catalog settings.
+     * @param existingTiers the tiers already present in the database.
+     * @param writer the CSV writer.
+     * @return the number of written tiers.
+     * @throws IOException when the rows cannot be written.
+     */
+    public static int writeQuantityTiers(CatalogGeneratorSettings settings, Set<TierKey> existingTiers, Writer writer) throws IOException {
+        SplittableRandom random = new SplittableRandom(mix(settings.getSeed() ^ QUANTITY_TIER_SALT));
+        Set<TierKey> tiers = new HashSet<>(existingTiers);
+        int index = 0;
+        int attempts = 0;
+        int maxAttempts = settings.getQuantityTierCount() * 10;
+        while (index < settings.getQuantityTierCount() && attempts++ < maxAttempts) {
+            int lowerItemsThreshold = 1 + random.nextInt(settings.getMaxLowerItemsThreshold());
+            Integer upperItemsThreshold = random.nextDouble() < settings.getOpenEndedTierRatio()
+                    ? null : lowerItemsThreshold + 1 + random.nextInt(settings.getMaxTierWidth());
+            int percentageRate = 1 + random.nextInt(settings.getMaxQuantityRate());
+            if (!tiers.add(new TierKey(lowerItemsThreshold, upperItemsThreshold, percentageRate))) {
+                continue;
+            }
+            writer.append(deterministicId(settings.getSeed(), QUANTITY_TIER_SALT, index).toString()).append(SEPARATOR)
+                    .append(Integer.toString(percentageRate)).append(SEPARATOR)
+                    .append(Integer.toString(lowerItemsThreshold)).append(SEPARATOR)
+                    .append(isNull(upperItemsThreshold) ? "" : upperItemsThreshold.toString()).append(LINE_SEPARATOR);
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Write product CSV rows with columns 'id,name,description,price,currency_id,percentage_based_discount_id'.
+     *
+     * @param settings the catalog settings.
+     * @param percentageDiscountIds identifiers of the percentage-based discounts to choose from.
+     * @param writer the CSV writer.
+     * @throws IOException when the rows cannot be written.
+     */
+    public static void writeProducts(CatalogGeneratorSettings settings, List<UUID> percentageDiscountIds, Writer writer) throws IOException {
+        SplittableRandom random = new SplittableRandom(mix(settings.getSeed() ^ PRODUCT_SALT));
+        for (int index = 0; index < settings.getProductCount(); index++) {
+            int priceInCents = random.nextInt(MIN_PRICE_IN_CENTS, MAX_PRICE_IN_CENTS);
+            UUID currencyId = deterministicId(settings.getSeed(), CURRENCY_SALT, random.nextInt(settings.getCurrencyCount()));
+            boolean discounted = !percentageDiscountIds.isEmpty() && random.nextDouble() < settings.getPercentageDiscountRatio();
+            UUID percentageDiscountId = discounted ? percentageDiscountIds.get(random.nextInt(percentageDiscountIds.size())) : null;
+            writer.append(productId(settings.getSeed(), index).toString()).append(SEPARATOR)
+                    .append("Generated product ").append(Integer.toString(index)).append(SEPARATOR)
+                    .append("Synthetic product generated from seed ").append(Long.toString(settings.getSeed())).append(SEPARATOR)
+                    .append(Integer.toString(priceInCents / 100)).append('.')
+                    .append("%02d".formatted(priceInCents % 100)).append(SEPARATOR)
+                    .append(currencyId.toString()).append(SEPARATOR)
+                    .append(isNull(percentageDiscountId) ? "" : percentageDiscountId.toString()).append(LINE_SEPARATOR);
+        }
+    }
+
+    /**
+     * Write tier assignment CSV rows with columns 'product_id,quantity_based_discount_id'.
+     * Each product gets a random number of distinct tiers, from zero up to the configured maximum.
+     *
+     * @param settings the catalog settings.
+     * @param quantityTierCount the number of generated tiers.
+     * @param writer the CSV writer.
+     * @return the number of written assignments.
+     * @throws IOException when the rows cannot be written.
+     */
+    public static long writeTierAssignments(CatalogGeneratorSettings settings, int quantityTierCount, Writer writer) throws IOException {
+        if (quantityTierCount == 0) {
+            return 0L;
+        }
+        SplittableRandom random = new SplittableRandom(mix(settings.getSeed() ^ TIER_ASSIGNMENT_SALT));
+        int maxTiersPerProduct = Math.min(settings.getMaxTiersPerProduct(), quantityTierCount);
+        int[] tierIndexes = new int[maxTiersPerProduct];
+        long assignmentCount = 0;
+        for (int index = 0; index < settings.getProductCount(); index++) {
+            int tierCount = random.nextInt(maxTiersPerProduct + 1);
+            String productId = productId(settings.getSeed(), index).toString();
+            for (int tier = 0; tier < tierCount; tier++) {
+                tierIndexes[tier] = nextDistinctTierIndex(random, quantityTierCount, tierIndexes, tier);
+                writer.append(productId).append(SEPARATOR)
+                        .append(deterministicId(settings.getSeed(), QUANTITY_TIER_SALT, tierIndexes[tier]).toString())
+                        .append(LINE_SEPARATOR);
+            }
+            assignmentCount += tierCount;
+        }
+        return assignmentCount;
+    }
+
+    private static int nextDistinctTierIndex(SplittableRandom random, int quantityTierCount, int[] chosenIndexes, int chosenCount) {
+        while (true) {
+            int candidate = random.nextInt(quantityTierCount);
+            boolean duplicate = false;
+            for (int i = 0; i < chosenCount && !duplicate; i++) {
+                duplicate = chosenIndexes[i] == candidate;
+            }
+            if (!duplicate) {
+                return candidate;
+            }
+        }
+    }
+
+    private static List<UUID> ensurePercentageBasedDiscounts(Connection connection, CatalogGeneratorSettings settings) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_PERCENTAGE_DISCOUNT_STATEMENT)) {
+            for (Integer percentageRate : settings.getPercentageRates()) {
+                statement.setObject(1, deterministicId(settings.getSeed(), PERCENTAGE_DISCOUNT_SALT, percentageRate));
+                statement.setInt(2, percentageRate);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+        List<UUID> percentageDiscountIds = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(FIND_PERCENTAGE_DISCOUNTS_QUERY)) {
+            Array percentageRates = connection.createArrayOf("int4", settings.getPercentageRates().toArray());
+            statement.setArray(1, percentageRates);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    percentageDiscountIds.add(resultSet.getObject(1, UUID.class));
+                }
+            }
+        }
+        return percentageDiscountIds;
+    }
+
+    private static Set<TierKey> findExistingTiers(Connection connection) throws SQLException {
+        Set<TierKey> tiers = new HashSet<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(FIND_QUANTITY_TIERS_QUERY)) {
+            while (resultSet.next()) {
+                tiers.add(new TierKey(resultSet.getInt(1), resultSet.getObject(2, Integer.class), resultSet.getInt(3)));
+            }
+        }
+        return tiers;
+    }
+
+    private static Writer openCopy(PGConnection connection, String copyStatement) throws SQLException {
+        return new BufferedWriter(new OutputStreamWriter(
+                new PGCopyOutputStream(connection, copyStatement, COPY_BUFFER_SIZE), StandardCharsets.UTF_8), COPY_BUFFER_SIZE);
+    }
+
+    private static UUID deterministicId(long seed, long salt, long index) {
+        long mostSignificantBits = mix(seed ^ salt ^ (index * GOLDEN_GAMMA));
+        long leastSignificantBits = mix(mostSignificantBits ^ salt);
+        return new UUID((mostSignificantBits & ~0xF000L) | 0x4000L,
+                (leastSignificantBits & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L);
+    }
+
+    private static long mix(long value) {
+        long mixed = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        mixed = (mixed ^ (mixed >>> 27)) * 0x94D049BB133111EBL;
+        return mixed ^ (mixed >>> 31);
+    }
+
+    /**
+     * Unique key of a quantity-based discount.
+     *
+     * @param lowerItemsThreshold the lower items threshold.
+     * @param upperItemsThreshold the upper items threshold, null for open-ended tiers.
+     * @param percentageRate the percentage rate.
+     */
+    public record TierKey(int lowerItemsThreshold, @Nullable Integer upperItemsThreshold, int percentageRate) {
+    }
+}
@@ -0,0 +1,59 @@
+package pl.tul.discountmanagement.util.generator;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Settings of the synthetic catalog generated by {@link CatalogDataGenerator}.
+ * The same settings, including the seed, always result in the same catalog.
+ */
+@Getter
+@Builder
+public class CatalogGeneratorSettings {
+
+    @Builder.Default
+    private final long seed = 42L;
+    @Builder.Default
+    private final int productCount = 10_000;
+    @Builder.Default
+    private final int currencyCount = 5;
+    /**
+     * Rates of the percentage-based discounts. Rates already present in the database are reused.
+     */
+    @Builder.Default
+    private final List<Integer> percentageRates = List.of(5, 10, 15, 20, 25, 30, 40, 50);
+    /**
+     * Ratio of products having a percentage-based discount.
+     */
+    @Builder.Default
+    private final double percentageDiscountRatio = 0.5;
+    /**
+     * Number of distinct quantity-based discounts (tiers) shared by the products.
+     */
+    @Builder.Default
+    private final int quantityTierCount = 500;
+    /**
+     * Maximal number of tiers assigned to a single product. Tiers of a product are drawn at random, so they may overlap.
+     */
+    @Builder.Default
+    private final int maxTiersPerProduct = 4;
+    /**
+     * Ratio of tiers without the upper items threshold.
+     */
+    @Builder.Default
+    private final double openEndedTierRatio = 0.25;
+    @Builder.Default
+    private final int maxLowerItemsThreshold = 50;
+    @Builder.Default
+    private final int maxTierWidth = 20;
+    @Builder.Default
+    private final int maxQuantityRate = 40;
+    /**
+     * Whether triggers (change notifications and change feed) are disabled while copying the data.
+     * Requires a superuser connection, as it sets 'session_replication_role' to 'replica'.
+     */
+    @Builder.Default
+    private final boolean triggersDisabled = true;
+}
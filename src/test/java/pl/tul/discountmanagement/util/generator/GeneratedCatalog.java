@@ -0,0 +1,27 @@
+package pl.tul.discountmanagement.util.generator;
+
+import java.util.UUID;
+
+/**
+ * Summary of the catalog generated by {@link CatalogDataGenerator}.
+ *
+ * @param seed the seed the catalog was generated from.
+ * @param productCount number of generated products.
+ * @param currencyCount number of generated currencies.
+ * @param quantityTierCount number of generated quantity-based discounts.
+ * @param tierAssignmentCount number of generated assignments of quantity-based discounts to products.
+ * @param durationInMilliseconds generation time.
+ */
+public record GeneratedCatalog(long seed, int productCount, int currencyCount, int quantityTierCount,
+                               long tierAssignmentCount, long durationInMilliseconds) {
+
+    /**
+     * Return the identifier of the product with given index.
+     *
+     * @param index the product index, from zero to product count exclusive.
+     * @return the product identifier.
+     */
+    public UUID productId(int index) {
+        return CatalogDataGenerator.productId(seed, index);
+    }
+}